@@ -0,0 +1,62 @@
+package com.util.collections.cache;
+
+/**
+ * Replays Zipf traces, with and without interleaved scans, against
+ * {@link LruCache} and {@link TinyLfuCache} and prints the hit ratios.
+ *
+ * <p>
+ * Hit ratio is a property of the policy, not of timing, so it is measured by
+ * plain replay rather than with JMH. Run it from the benchmark jar:
+ * </p>
+ * <pre>
+ * java -cp target/benchmarks.jar com.util.collections.cache.HitRatioSimulation
+ * </pre>
+ */
+public final class HitRatioSimulation {
+
+    private static final int ITEMS = 100_000;
+    private static final int REQUESTS = 2_000_000;
+
+    private HitRatioSimulation() {
+    }
+
+    public static void main(String[] args) {
+        Integer[] zipf = Zipf.trace(ITEMS, 0.9, REQUESTS, 42);
+        Integer[] scanning = withScans(zipf);
+        System.out.printf("%-12s %-10s %10s %10s%n", "trace", "size", "lru", "tinylfu");
+        for (int size : new int[]{1_000, 5_000, 20_000}) {
+            print("zipf-0.9", size, zipf);
+            print("zipf+scan", size, scanning);
+        }
+    }
+
+    /**
+     * Replaces every other block of 5,000 requests with a sequential scan over
+     * keys that never repeat.
+     */
+    private static Integer[] withScans(Integer[] trace) {
+        Integer[] result = trace.clone();
+        int next = ITEMS;
+        for (int block = 0; block < result.length / 5_000; block += 2) {
+            for (int i = block * 5_000; i < (block + 1) * 5_000; i++) {
+                result[i] = next++;
+            }
+        }
+        return result;
+    }
+
+    private static void print(String name, int size, Integer[] trace) {
+        LruCache<Integer, Integer> lru = new LruCache<>(size);
+        TinyLfuCache<Integer, Integer> tinyLfu = new TinyLfuCache<>(size);
+        for (Integer key : trace) {
+            if (lru.get(key) == null) {
+                lru.put(key, key);
+            }
+            if (tinyLfu.get(key) == null) {
+                tinyLfu.put(key, key);
+            }
+        }
+        System.out.printf("%-12s %-10d %9.2f%% %9.2f%%%n",
+                name, size, lru.hitRate() * 100, tinyLfu.hitRate() * 100);
+    }
+}
@@ -0,0 +1,91 @@
+package com.util.collections.cache;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the hit path of {@link LruCache} against an access-ordered
+ * {@link LinkedHashMap} bounded through {@code removeEldestEntry}.
+ *
+ * <p>
+ * Both caches are filled to capacity, so every {@code get} is a hit that
+ * relinks the entry as most recently used. {@code put*} replaces a random
+ * existing key with a new one, exercising insertion plus eviction.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LruCacheBenchmark {
+
+    private static final int MASK = (1 << 12) - 1;
+
+    @Param({"1000", "100000"})
+    int size;
+
+    private Integer[] keys;
+    private LruCache<Integer, Integer> lruCache;
+    private Map<Integer, Integer> linkedHashMap;
+    private int cursor;
+    private int nextKey;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        keys = new Integer[MASK + 1];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = random.nextInt(size);
+        }
+        int capacity = size;
+        lruCache = new LruCache<>(capacity);
+        linkedHashMap = new LinkedHashMap<>(capacity * 4 / 3 + 1, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, Integer> eldest) {
+                return size() > capacity;
+            }
+        };
+        for (int i = 0; i < size; i++) {
+            lruCache.put(i, i);
+            linkedHashMap.put(i, i);
+        }
+        nextKey = size;
+    }
+
+    @Benchmark
+    public Integer getLruCache() {
+        return lruCache.get(keys[cursor++ & MASK]);
+    }
+
+    @Benchmark
+    public Integer getLinkedHashMap() {
+        return linkedHashMap.get(keys[cursor++ & MASK]);
+    }
+
+    @Benchmark
+    public Integer putLruCache() {
+        return lruCache.put(nextKey++, 0);
+    }
+
+    @Benchmark
+    public Integer putLinkedHashMap() {
+        return linkedHashMap.put(nextKey++, 0);
+    }
+}
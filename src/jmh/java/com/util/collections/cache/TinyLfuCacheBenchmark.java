@@ -0,0 +1,80 @@
+package com.util.collections.cache;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput of a cache-aside loop ({@code get}, then {@code put}
+ * on a miss) over a Zipf trace for {@link TinyLfuCache} and {@link LruCache}.
+ *
+ * <p>
+ * Throughput includes the cost of misses, so a policy with a better hit ratio
+ * performs fewer inserts and evictions. Hit ratios themselves are reported by
+ * {@link HitRatioSimulation}.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TinyLfuCacheBenchmark {
+
+    private static final int MASK = (1 << 20) - 1;
+
+    @Param({"1000", "20000"})
+    int size;
+
+    private Integer[] trace;
+    private TinyLfuCache<Integer, Integer> tinyLfu;
+    private LruCache<Integer, Integer> lru;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        trace = Zipf.trace(100_000, 0.9, MASK + 1, 42);
+        tinyLfu = new TinyLfuCache<>(size);
+        lru = new LruCache<>(size);
+        for (Integer key : trace) {
+            if (tinyLfu.get(key) == null) {
+                tinyLfu.put(key, key);
+            }
+            if (lru.get(key) == null) {
+                lru.put(key, key);
+            }
+        }
+    }
+
+    @Benchmark
+    public Integer tinyLfu() {
+        Integer key = trace[cursor++ & MASK];
+        Integer value = tinyLfu.get(key);
+        if (value == null) {
+            tinyLfu.put(key, key);
+        }
+        return value;
+    }
+
+    @Benchmark
+    public Integer lru() {
+        Integer key = trace[cursor++ & MASK];
+        Integer value = lru.get(key);
+        if (value == null) {
+            lru.put(key, key);
+        }
+        return value;
+    }
+}
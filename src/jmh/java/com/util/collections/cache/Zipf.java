@@ -0,0 +1,49 @@
+package com.util.collections.cache;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Generates Zipf-distributed key traces for the cache benchmarks.
+ *
+ * <p>
+ * Rank {@code r} (1-based) is drawn with probability proportional to
+ * {@code 1 / r^exponent} by inverting the cumulative distribution with a
+ * binary search. Ranks are then mapped through a random permutation, so that
+ * popular keys are not also numerically adjacent.
+ * </p>
+ */
+final class Zipf {
+
+    private Zipf() {
+    }
+
+    /**
+     * Returns {@code length} keys in {@code [0, items)} following a Zipf distribution.
+     */
+    static Integer[] trace(int items, double exponent, int length, long seed) {
+        double[] cdf = new double[items];
+        double sum = 0;
+        for (int r = 0; r < items; r++) {
+            sum += 1.0 / Math.pow(r + 1, exponent);
+            cdf[r] = sum;
+        }
+        int[] permutation = new int[items];
+        for (int i = 0; i < items; i++) {
+            permutation[i] = i;
+        }
+        Random random = new Random(seed);
+        for (int i = items - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int t = permutation[i];
+            permutation[i] = permutation[j];
+            permutation[j] = t;
+        }
+        Integer[] keys = new Integer[length];
+        for (int i = 0; i < length; i++) {
+            int rank = Arrays.binarySearch(cdf, random.nextDouble() * sum);
+            keys[i] = permutation[rank >= 0 ? rank : Math.min(-rank - 1, items - 1)];
+        }
+        return keys;
+    }
+}
@@ -0,0 +1,141 @@
+package com.util.collections.concurrent;
+
+import com.util.collections.map.Map;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.TreeMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link ConcurrentSkipListMap} against the JDK's
+ * {@link java.util.concurrent.ConcurrentSkipListMap} and a {@link TreeMap}
+ * guarded by a single monitor, for a timestamp-index workload.
+ *
+ * <p>
+ * Each operation is either a read, a floor lookup followed by a short range
+ * scan of up to {@value #SCAN_LENGTH} keys, or a write, a put of a random key
+ * followed by the removal of another one so that the size stays stable.
+ * {@code readPercent} controls the share of reads. Run with {@code -t <threads>}
+ * to vary contention, or use {@link ConcurrentSkipListScalability} to sweep
+ * 1 to 64 threads.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class ConcurrentSkipListMapBenchmark {
+
+    static final int SCAN_LENGTH = 16;
+
+    @Param({"90", "50"})
+    int readPercent;
+
+    @Param({"100000"})
+    int size;
+
+    private ConcurrentSkipListMap<Long, Long> skipList;
+    private java.util.concurrent.ConcurrentSkipListMap<Long, Long> jdkSkipList;
+    private TreeMap<Long, Long> locked;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        skipList = new ConcurrentSkipListMap<>();
+        jdkSkipList = new java.util.concurrent.ConcurrentSkipListMap<>();
+        locked = new TreeMap<>();
+        for (long i = 0; i < size; i++) {
+            long key = i * 2;
+            skipList.put(key, key);
+            jdkSkipList.put(key, key);
+            locked.put(key, key);
+        }
+    }
+
+    private long randomKey() {
+        return ThreadLocalRandom.current().nextLong(2L * size);
+    }
+
+    private boolean isRead() {
+        return ThreadLocalRandom.current().nextInt(100) < readPercent;
+    }
+
+    @Benchmark
+    public long skipList() {
+        long key = randomKey();
+        if (isRead()) {
+            Map.Entry<Long, Long> floor = skipList.floorEntry(key);
+            long sum = 0;
+            int n = 0;
+            for (Map.Entry<Long, Long> e : skipList.range(floor == null ? key : floor.getKey(), true, null, false)) {
+                sum += e.getValue();
+                if (++n == SCAN_LENGTH) {
+                    break;
+                }
+            }
+            return sum;
+        }
+        skipList.put(key, key);
+        skipList.remove(randomKey());
+        return 0;
+    }
+
+    @Benchmark
+    public long jdkSkipList() {
+        long key = randomKey();
+        if (isRead()) {
+            Long floor = jdkSkipList.floorKey(key);
+            long sum = 0;
+            int n = 0;
+            for (Long v : jdkSkipList.tailMap(floor == null ? key : floor, true).values()) {
+                sum += v;
+                if (++n == SCAN_LENGTH) {
+                    break;
+                }
+            }
+            return sum;
+        }
+        jdkSkipList.put(key, key);
+        jdkSkipList.remove(randomKey());
+        return 0;
+    }
+
+    @Benchmark
+    public long lockedTreeMap() {
+        long key = randomKey();
+        if (isRead()) {
+            synchronized (locked) {
+                Long floor = locked.floorKey(key);
+                long sum = 0;
+                int n = 0;
+                for (Long v : locked.tailMap(floor == null ? key : floor, true).values()) {
+                    sum += v;
+                    if (++n == SCAN_LENGTH) {
+                        break;
+                    }
+                }
+                return sum;
+            }
+        }
+        synchronized (locked) {
+            locked.put(key, key);
+            locked.remove(randomKey());
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,54 @@
+package com.util.collections.concurrent;
+
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import java.util.Collection;
+
+/**
+ * Runs {@link ConcurrentSkipListMapBenchmark} at 1, 2, 4, ..., 64 threads and
+ * prints one throughput row per thread count.
+ *
+ * <p>
+ * JMH fixes the thread count per run, so the sweep is driven through its
+ * runner API. Run it from the benchmark jar on a machine with enough cores for
+ * the upper rows to be meaningful:
+ * </p>
+ * <pre>
+ * java -cp target/benchmarks.jar com.util.collections.concurrent.ConcurrentSkipListScalability
+ * </pre>
+ */
+public final class ConcurrentSkipListScalability {
+
+    private static final int[] THREADS = {1, 2, 4, 8, 16, 32, 64};
+
+    private ConcurrentSkipListScalability() {
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        System.out.printf("%-8s %-12s %-16s %14s%n", "threads", "readPercent", "benchmark", "ops/ms");
+        for (int threads : THREADS) {
+            Options options = new OptionsBuilder()
+                    .include(ConcurrentSkipListMapBenchmark.class.getSimpleName())
+                    .threads(threads)
+                    .warmupIterations(2)
+                    .warmupTime(TimeValue.seconds(1))
+                    .measurementIterations(3)
+                    .measurementTime(TimeValue.seconds(1))
+                    .verbosity(org.openjdk.jmh.runner.options.VerboseMode.SILENT)
+                    .build();
+            Collection<RunResult> results = new Runner(options).run();
+            for (RunResult result : results) {
+                System.out.printf("%-8d %-12s %-16s %14.1f%n",
+                        threads,
+                        result.getParams().getParam("readPercent"),
+                        result.getParams().getBenchmark().replaceAll(".*\\.", ""),
+                        result.getPrimaryResult().getScore());
+            }
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.util.collections.list;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link CopyOnWriteList} against a {@link LinkedList} guarded by a
+ * single monitor for a registry-style workload: every operation is either a
+ * full traversal (an "event dispatch") or a single add/remove pair.
+ *
+ * <p>
+ * {@code readPercent} controls the share of traversals. Run with
+ * {@code -t <threads>} to vary contention.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class CopyOnWriteListBenchmark {
+
+    @Param({"50", "90", "99", "100"})
+    int readPercent;
+
+    @Param({"16", "256"})
+    int size;
+
+    private CopyOnWriteList<Integer> copyOnWrite;
+    private LinkedList<Integer> locked;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        copyOnWrite = new CopyOnWriteList<>();
+        locked = new LinkedList<>();
+        for (int i = 0; i < size; i++) {
+            copyOnWrite.add(i);
+            locked.add(i);
+        }
+    }
+
+    @Benchmark
+    public long copyOnWrite() {
+        if (ThreadLocalRandom.current().nextInt(100) < readPercent) {
+            long sum = 0;
+            for (int v : copyOnWrite) {
+                sum += v;
+            }
+            return sum;
+        }
+        copyOnWrite.add(-1);
+        copyOnWrite.remove(-1);
+        return 0;
+    }
+
+    @Benchmark
+    public long lockedLinkedList() {
+        if (ThreadLocalRandom.current().nextInt(100) < readPercent) {
+            long sum = 0;
+            synchronized (locked) {
+                for (int v : locked) {
+                    sum += v;
+                }
+            }
+            return sum;
+        }
+        synchronized (locked) {
+            locked.add(-1);
+            locked.remove(-1);
+        }
+        return 0;
+    }
+}
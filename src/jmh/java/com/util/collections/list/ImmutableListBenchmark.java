@@ -0,0 +1,73 @@
+package com.util.collections.list;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares reads on a {@link LinkedList} with reads on the {@link ImmutableList}
+ * produced by {@link LinkedList#toImmutable()} from the same contents.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ImmutableListBenchmark {
+
+    @Param({"100000"})
+    int size;
+
+    private LinkedList<Integer> linked;
+    private ImmutableList<Integer> frozen;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        linked = new LinkedList<>(false);
+        for (int i = 0; i < size; i++) {
+            linked.add(i);
+        }
+        frozen = linked.toImmutable();
+    }
+
+    @Benchmark
+    public long iterateLinked() {
+        return sum(linked);
+    }
+
+    @Benchmark
+    public long iterateFrozen() {
+        return sum(frozen);
+    }
+
+    @Benchmark
+    public Integer randomGetLinked() {
+        return linked.get(ThreadLocalRandom.current().nextInt(size));
+    }
+
+    @Benchmark
+    public Integer randomGetFrozen() {
+        return frozen.get(ThreadLocalRandom.current().nextInt(size));
+    }
+
+    private static long sum(List<Integer> list) {
+        long sum = 0;
+        for (Integer v : list) {
+            sum += v;
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,120 @@
+package com.util.collections.list;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link IndexLinkedList} with the node-based {@link LinkedList} on a
+ * full traversal and on FIFO churn.
+ *
+ * <p>
+ * The {@code shuffled} variant first rotates random elements to the front of
+ * the index-linked list, which scatters successive slots across the arrays,
+ * and {@code compacted} restores list order with {@link IndexLinkedList#compact()}.
+ * Run with {@code -prof gc} to compare allocation per churn step: the
+ * index-linked list recycles slots and should report zero bytes.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IndexLinkedListBenchmark {
+
+    @Param({"100000"})
+    int size;
+
+    private LinkedList<Integer> nodes;
+    private IndexLinkedList<Integer> slots;
+    private IndexLinkedList<Integer> shuffled;
+    private IndexLinkedList<Integer> compacted;
+    private Integer churnValue;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        nodes = new LinkedList<>(false);
+        slots = new IndexLinkedList<>(false);
+        for (int i = 0; i < size; i++) {
+            nodes.add(i);
+            slots.add(i);
+        }
+        shuffled = shuffledList();
+        compacted = shuffledList();
+        compacted.compact();
+        churnValue = -1;
+    }
+
+    private IndexLinkedList<Integer> shuffledList() {
+        IndexLinkedList<Integer> list = new IndexLinkedList<>(false, true, size);
+        int[] slotOf = new int[size];
+        for (int i = 0; i < size; i++) {
+            slotOf[i] = list.addLast(i);
+        }
+        Random random = new Random(49);
+        for (int i = 0; i < size; i++) {
+            list.moveToFront(slotOf[random.nextInt(size)]);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public long traverseNodes() {
+        return sum(nodes);
+    }
+
+    @Benchmark
+    public long traverseSlots() {
+        return sum(slots);
+    }
+
+    @Benchmark
+    public long traverseShuffledSlots() {
+        return sum(shuffled);
+    }
+
+    @Benchmark
+    public long traverseCompactedSlots() {
+        return sum(compacted);
+    }
+
+    private static long sum(List<Integer> list) {
+        long sum = 0;
+        for (Integer v : list) {
+            sum += v;
+        }
+        return sum;
+    }
+
+    /**
+     * Removes the head and appends a value, keeping the size constant.
+     */
+    @Benchmark
+    public Integer churnNodes() {
+        Integer head = nodes.get(0);
+        nodes.removeRange(0, 1);
+        nodes.add(churnValue);
+        return head;
+    }
+
+    @Benchmark
+    public Integer churnSlots() {
+        Integer head = slots.removeAfter(IndexLinkedList.NIL);
+        slots.addLast(churnValue);
+        return head;
+    }
+}
@@ -0,0 +1,88 @@
+package com.util.collections.list;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares external iteration over a {@link LinkedList} ({@code for (T v : list)})
+ * with the internal iteration methods that walk the nodes directly.
+ *
+ * <p>
+ * Run with {@code -prof gc}. The small size makes the per-call iterator
+ * allocation visible in {@code gc.alloc.rate.norm} when escape analysis does
+ * not remove it. The internal variants, and {@code contains}, which
+ * {@link LinkedList} overrides with a walk over its nodes, should report
+ * approximately zero bytes per operation.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LinkedListIterationBenchmark {
+
+    @Param({"16", "10000"})
+    int size;
+
+    private LinkedList<Integer> list;
+    private Integer missing;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        list = new LinkedList<>(false);
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+        }
+        missing = -1;
+    }
+
+    @Benchmark
+    public void externalLoop(Blackhole blackhole) {
+        for (Integer v : list) {
+            blackhole.consume(v);
+        }
+    }
+
+    @Benchmark
+    public void forEach(Blackhole blackhole) {
+        list.forEach(blackhole::consume);
+    }
+
+    @Benchmark
+    public Integer externalMax() {
+        Integer max = Integer.MIN_VALUE;
+        for (Integer v : list) {
+            max = v > max ? v : max;
+        }
+        return max;
+    }
+
+    /**
+     * Keeps the accumulator boxed but never creates a new box, so the
+     * measurement reflects the traversal rather than {@code Long} boxing.
+     */
+    @Benchmark
+    public Integer foldMax() {
+        return list.fold(Integer.MIN_VALUE, (max, v) -> v > max ? v : max);
+    }
+
+    @Benchmark
+    public boolean containsMissing() {
+        return list.contains(missing);
+    }
+}
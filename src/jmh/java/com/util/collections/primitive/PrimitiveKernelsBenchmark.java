@@ -0,0 +1,108 @@
+package com.util.collections.primitive;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the scalar kernels against {@link PrimitiveKernels#INSTANCE}.
+ *
+ * <p>
+ * Build with {@code mvn -P benchmarks,vector package} so that the vector
+ * kernels are compiled in; the forked JVM adds the incubator module itself.
+ * Without the {@code vector} profile both variants run the scalar loops.
+ * The searched value is absent, so {@code indexOf} scans the whole array.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+public class PrimitiveKernelsBenchmark {
+
+    private static final PrimitiveKernels SCALAR = new ScalarKernels();
+    private static final PrimitiveKernels ACTIVE = PrimitiveKernels.INSTANCE;
+
+    @Param({"1000", "100000"})
+    int size;
+
+    private int[] ints;
+    private long[] longs;
+    private int[] out;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        ints = new int[size];
+        longs = new long[size];
+        out = new int[size];
+        for (int i = 0; i < size; i++) {
+            ints[i] = random.nextInt(1_000_000);
+            longs[i] = ints[i];
+        }
+    }
+
+    @Benchmark
+    public int indexOfIntScalar() {
+        return SCALAR.indexOf(ints, 0, size, -1);
+    }
+
+    @Benchmark
+    public int indexOfIntVector() {
+        return ACTIVE.indexOf(ints, 0, size, -1);
+    }
+
+    @Benchmark
+    public long indexOfLongScalar() {
+        return SCALAR.indexOf(longs, 0, size, -1L);
+    }
+
+    @Benchmark
+    public long indexOfLongVector() {
+        return ACTIVE.indexOf(longs, 0, size, -1L);
+    }
+
+    @Benchmark
+    public long sumIntScalar() {
+        return SCALAR.sum(ints, size);
+    }
+
+    @Benchmark
+    public long sumIntVector() {
+        return ACTIVE.sum(ints, size);
+    }
+
+    @Benchmark
+    public int maxIntScalar() {
+        return SCALAR.max(ints, size);
+    }
+
+    @Benchmark
+    public int maxIntVector() {
+        return ACTIVE.max(ints, size);
+    }
+
+    @Benchmark
+    public int filterRangeIntScalar() {
+        return SCALAR.filterRange(ints, size, 250_000, 750_000, out);
+    }
+
+    @Benchmark
+    public int filterRangeIntVector() {
+        return ACTIVE.filterRange(ints, size, 250_000, 750_000, out);
+    }
+}
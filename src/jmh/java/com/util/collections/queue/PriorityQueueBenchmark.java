@@ -0,0 +1,93 @@
+package com.util.collections.queue;
+
+import com.util.collections.list.LinkedList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link PriorityQueue} against the sorted-{@link LinkedList} approach,
+ * where each insertion scans for its slot and calls {@code add(val, index)}.
+ *
+ * <p>
+ * Each invocation offers {@code size} random keys and then polls them all.
+ * {@code heapify} measures bulk construction from an existing collection.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PriorityQueueBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    int size;
+
+    private Integer[] keys;
+    private LinkedList<Integer> source;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        keys = new Integer[size];
+        source = new LinkedList<>();
+        for (int i = 0; i < size; i++) {
+            keys[i] = random.nextInt();
+            source.add(keys[i]);
+        }
+    }
+
+    @Benchmark
+    public long binaryHeap() {
+        PriorityQueue<Integer> queue = new PriorityQueue<>();
+        for (Integer key : keys) {
+            queue.offer(key);
+        }
+        long sum = 0;
+        while (!queue.isEmpty()) {
+            sum += queue.poll();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long sortedLinkedList() {
+        LinkedList<Integer> list = new LinkedList<>(false);
+        for (Integer key : keys) {
+            int index = 0;
+            for (Integer v : list) {
+                if (v >= key) {
+                    break;
+                }
+                index++;
+            }
+            list.add(key, index);
+        }
+        long sum = 0;
+        while (!list.isEmpty()) {
+            Integer head = list.get(0);
+            list.remove(head);
+            sum += head;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public PriorityQueue<Integer> heapify() {
+        return new PriorityQueue<>(source);
+    }
+}
@@ -0,0 +1,124 @@
+package com.util.collections.set;
+
+import com.util.collections.list.LinkedList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares membership tests and intersections on {@link RoaringIntSet} against
+ * a {@link LinkedList} of boxed IDs and a {@link HashSet}.
+ *
+ * <p>
+ * {@code sparse} spreads the IDs over the whole {@code int} range, so most
+ * chunks hold a single array entry; {@code dense} packs them into a range twice
+ * their count, so every chunk is a bitmap. Memory footprints are printed by
+ * {@link RoaringIntSetFootprint}.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RoaringIntSetBenchmark {
+
+    private static final int PROBES = 1_000;
+
+    @Param({"100000"})
+    int size;
+
+    @Param({"sparse", "dense"})
+    String distribution;
+
+    private RoaringIntSet roaring;
+    private RoaringIntSet otherRoaring;
+    private LinkedList<Integer> list;
+    private Set<Integer> hashSet;
+    private Set<Integer> otherHashSet;
+    private int[] probes;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        int[] values = RoaringIntSetFootprint.values(distribution, size, random);
+        int[] otherValues = RoaringIntSetFootprint.values(distribution, size, random);
+        roaring = RoaringIntSet.of(values);
+        otherRoaring = RoaringIntSet.of(otherValues);
+        list = new LinkedList<>(false);
+        hashSet = new HashSet<>();
+        otherHashSet = new HashSet<>();
+        for (int v : values) {
+            list.add(v);
+            hashSet.add(v);
+        }
+        for (int v : otherValues) {
+            otherHashSet.add(v);
+        }
+        probes = new int[PROBES];
+        for (int i = 0; i < PROBES; i++) {
+            probes[i] = i % 2 == 0 ? values[random.nextInt(values.length)] : otherValues[random.nextInt(otherValues.length)];
+        }
+    }
+
+    @Benchmark
+    public int containsRoaring() {
+        int hits = 0;
+        for (int probe : probes) {
+            if (roaring.contains(probe)) {
+                hits++;
+            }
+        }
+        return hits;
+    }
+
+    @Benchmark
+    public int containsHashSet() {
+        int hits = 0;
+        for (int probe : probes) {
+            if (hashSet.contains(probe)) {
+                hits++;
+            }
+        }
+        return hits;
+    }
+
+    /** Only the first 10 probes: a linear scan per probe makes the full set too slow to time. */
+    @Benchmark
+    public int containsLinkedList() {
+        int hits = 0;
+        for (int i = 0; i < 10; i++) {
+            if (list.contains(probes[i])) {
+                hits++;
+            }
+        }
+        return hits;
+    }
+
+    @Benchmark
+    public long andRoaring() {
+        return roaring.and(otherRoaring).cardinality();
+    }
+
+    @Benchmark
+    public int andHashSet() {
+        Set<Integer> result = new HashSet<>(hashSet);
+        result.retainAll(otherHashSet);
+        return result.size();
+    }
+}
@@ -0,0 +1,62 @@
+package com.util.collections.set;
+
+import java.util.Random;
+
+/**
+ * Prints the encoded size of {@link RoaringIntSet} for sparse, dense and
+ * consecutive ID distributions next to the footprint of the same IDs held as
+ * a {@code LinkedList<Integer>}.
+ *
+ * <p>
+ * Footprint is a property of the encoding, not of timing, so it is reported by
+ * a plain program rather than with JMH. Run it from the benchmark jar:
+ * </p>
+ * <pre>
+ * java -cp target/benchmarks.jar com.util.collections.set.RoaringIntSetFootprint
+ * </pre>
+ */
+public final class RoaringIntSetFootprint {
+
+    /** A list node (header plus three references) and a boxed Integer, with compressed oops. */
+    private static final int LINKED_LIST_BYTES_PER_ID = 24 + 16;
+
+    private RoaringIntSetFootprint() {
+    }
+
+    public static void main(String[] args) {
+        int size = 1_000_000;
+        System.out.printf("%-12s %14s %14s %14s%n", "distribution", "linkedlist", "roaring", "roaring+runs");
+        for (String distribution : new String[]{"sparse", "dense", "runs"}) {
+            RoaringIntSet set = RoaringIntSet.of(values(distribution, size, new Random(42)));
+            long plain = set.sizeInBytes();
+            set.runOptimize();
+            System.out.printf("%-12s %14d %14d %14d%n",
+                    distribution, (long) size * LINKED_LIST_BYTES_PER_ID, plain, set.sizeInBytes());
+        }
+    }
+
+    /**
+     * Generates {@code size} IDs: uniformly over the {@code int} range
+     * ({@code sparse}), uniformly over {@code [0, 2 * size)} ({@code dense}), or
+     * as ranges of 1,000 consecutive IDs with gaps of 1,000 ({@code runs}).
+     */
+    static int[] values(String distribution, int size, Random random) {
+        int[] values = new int[size];
+        for (int i = 0; i < size; i++) {
+            switch (distribution) {
+                case "sparse":
+                    values[i] = random.nextInt();
+                    break;
+                case "dense":
+                    values[i] = random.nextInt(2 * size);
+                    break;
+                case "runs":
+                    values[i] = (i / 1_000) * 2_000 + i % 1_000;
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown distribution: " + distribution);
+            }
+        }
+        return values;
+    }
+}
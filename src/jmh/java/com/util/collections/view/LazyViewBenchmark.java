@@ -0,0 +1,91 @@
+package com.util.collections.view;
+
+import com.util.collections.list.LinkedList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares a map/filter/take pipeline evaluated stage by stage into
+ * intermediate {@link LinkedList}s against the same pipeline fused through
+ * {@link LazyView}.
+ *
+ * <p>
+ * Run with {@code -prof gc}: {@code gc.alloc.rate.norm} of the eager variant
+ * grows with every stage, while the lazy variant allocates only the nodes of
+ * the final list plus a constant number of stage and sink objects.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LazyViewBenchmark {
+
+    @Param({"10000"})
+    int size;
+
+    private LinkedList<Integer> source;
+    private int limit;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        source = new LinkedList<>(false);
+        for (int i = 0; i < size; i++) {
+            source.add(i);
+        }
+        limit = size / 10;
+    }
+
+    @Benchmark
+    public LinkedList<Integer> eager() {
+        LinkedList<Integer> mapped = new LinkedList<>(true);
+        for (Integer v : source) {
+            mapped.add(v * 3);
+        }
+        LinkedList<Integer> filtered = new LinkedList<>(true);
+        for (Integer v : mapped) {
+            if ((v & 1) == 0) {
+                filtered.add(v);
+            }
+        }
+        LinkedList<Integer> taken = new LinkedList<>(true);
+        for (Integer v : filtered) {
+            if (taken.size() == limit) {
+                break;
+            }
+            taken.add(v);
+        }
+        return taken;
+    }
+
+    @Benchmark
+    public LinkedList<Integer> lazy() {
+        return LazyView.of(source)
+                .map(v -> v * 3)
+                .filter(v -> (v & 1) == 0)
+                .take(limit)
+                .toList();
+    }
+
+    @Benchmark
+    public long lazyReduce() {
+        return LazyView.of(source)
+                .map(v -> v * 3)
+                .filter(v -> (v & 1) == 0)
+                .reduce(0, Integer::sum);
+    }
+}
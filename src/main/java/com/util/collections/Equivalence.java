@@ -0,0 +1,83 @@
+package com.util.collections;
+
+import java.util.function.Function;
+
+/**
+ * A strategy that decides when two elements are the same, together with a
+ * hash function consistent with that decision.
+ *
+ * <p><strong>Purpose:</strong>
+ * Collections normally compare elements with {@link Object#equals(Object)}.
+ * When {@code equals} is expensive, or a weaker notion of sameness such as
+ * reference identity or a key field is correct for the caller, an
+ * {@code Equivalence} passed at construction replaces it for every lookup
+ * the collection performs.
+ *
+ * <p><strong>Contract:</strong>
+ * {@link #equivalent(Object, Object)} must be reflexive, symmetric and
+ * transitive, and equivalent elements must have equal {@link #hash(Object)}
+ * values. Neither method is ever called with {@code null}: collections treat
+ * {@code null} as equivalent only to itself.
+ *
+ * <p><strong>Fast Paths:</strong>
+ * The instances returned by {@link #equality()} and {@link #identity()} are
+ * singletons. Collections test for them by reference and inline the
+ * comparison instead of making an interface call, so both cost the same as
+ * hard-coded {@code equals} or {@code ==} comparisons.
+ *
+ * @param <T> the type of elements compared
+ */
+public interface Equivalence<T> {
+
+    /**
+     * @return {@code true} if {@code a} and {@code b} are the same under this equivalence
+     */
+    boolean equivalent(T a, T b);
+
+    /**
+     * @return a hash code consistent with {@link #equivalent(Object, Object)}
+     */
+    int hash(T t);
+
+    /**
+     * Returns the equivalence defined by {@link Object#equals(Object)} and
+     * {@link Object#hashCode()}; the default of every collection.
+     */
+    @SuppressWarnings("unchecked")
+    static <T> Equivalence<T> equality() {
+        return (Equivalence<T>) StandardEquivalence.EQUALITY;
+    }
+
+    /**
+     * Returns the equivalence defined by reference identity and
+     * {@link System#identityHashCode(Object)}.
+     */
+    @SuppressWarnings("unchecked")
+    static <T> Equivalence<T> identity() {
+        return (Equivalence<T>) StandardEquivalence.IDENTITY;
+    }
+
+    /**
+     * Returns an equivalence that compares elements by the {@code equals} and
+     * {@code hashCode} of a key extracted from each of them.
+     *
+     * @param key extracts a non-{@code null} key from an element
+     * @throws IllegalArgumentException if {@code key} is {@code null}
+     */
+    static <T, K> Equivalence<T> onKey(Function<? super T, ? extends K> key) {
+        if (key == null) {
+            throw new IllegalArgumentException("key must not be null");
+        }
+        return new Equivalence<>() {
+            @Override
+            public boolean equivalent(T a, T b) {
+                return key.apply(a).equals(key.apply(b));
+            }
+
+            @Override
+            public int hash(T t) {
+                return key.apply(t).hashCode();
+            }
+        };
+    }
+}
@@ -0,0 +1,33 @@
+package com.util.collections;
+
+/**
+ * The two built-in equivalences. Kept package-private so that they can only be
+ * obtained through {@link Equivalence#equality()} and {@link Equivalence#identity()},
+ * which is what makes the reference tests in the collections sound.
+ */
+enum StandardEquivalence implements Equivalence<Object> {
+
+    EQUALITY {
+        @Override
+        public boolean equivalent(Object a, Object b) {
+            return a.equals(b);
+        }
+
+        @Override
+        public int hash(Object o) {
+            return o.hashCode();
+        }
+    },
+
+    IDENTITY {
+        @Override
+        public boolean equivalent(Object a, Object b) {
+            return a == b;
+        }
+
+        @Override
+        public int hash(Object o) {
+            return System.identityHashCode(o);
+        }
+    }
+}
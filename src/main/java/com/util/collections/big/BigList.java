@@ -0,0 +1,318 @@
+package com.util.collections.big;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.StreamSupport;
+
+/**
+ * A growable list addressed by {@code long} indices, able to hold more than
+ * {@link Integer#MAX_VALUE} elements.
+ *
+ * <p><strong>Design Overview:</strong>
+ * Elements are stored in fixed-size chunks of {@code 2^chunkShift} slots. An
+ * index splits into a chunk number ({@code index >>> chunkShift}) and an offset
+ * within the chunk ({@code index & chunkMask}), so positional access is two
+ * array loads with no search. Growth allocates one new chunk at a time and only
+ * copies the small array of chunk references, never the elements.
+ *
+ * <p><strong>Structural Invariants:</strong>
+ * <ul>
+ *   <li>Chunks {@code [0, chunkCount)} are allocated and all have length {@code 2^chunkShift}</li>
+ *   <li>Elements occupy positions {@code [0, size)}; slots beyond {@code size} are {@code null}</li>
+ * </ul>
+ *
+ * <p><strong>Performance Characteristics:</strong>
+ * <ul>
+ *   <li>{@code get}, {@code set}, {@code removeLast}: O(1)</li>
+ *   <li>{@code add}: O(1), plus an occasional O(size / chunkSize) copy of chunk references</li>
+ *   <li>Memory: one reference per element plus one array header per chunk</li>
+ * </ul>
+ *
+ * <p><strong>Parallel Iteration:</strong>
+ * {@link #spliterator()} splits only at chunk boundaries, so every parallel task
+ * scans whole arrays. {@link #parallelForEach(Consumer)} runs an action over
+ * those splits on the common fork-join pool.
+ *
+ * <p><strong>Null Handling Policy:</strong>
+ * Whether {@code null} elements are permitted is fixed at construction.
+ *
+ * <p><strong>Thread Safety:</strong>
+ * This class is <strong>not thread-safe</strong>. Parallel iteration is safe
+ * as long as the list is not modified concurrently.
+ *
+ * @param <T> the type of elements maintained by this list
+ */
+public class BigList<T> implements Iterable<T> {
+
+    /** 2^16 slots: 256 KiB of references per chunk with compressed oops. */
+    static final int DEFAULT_CHUNK_SHIFT = 16;
+
+    private final boolean isNullable;
+    private final int chunkShift;
+    private final int chunkMask;
+
+    private Object[][] chunks = new Object[0][];
+    private int chunkCount;
+    private long size;
+
+    public BigList() {
+        this(true);
+    }
+
+    public BigList(boolean isNullable) {
+        this(isNullable, DEFAULT_CHUNK_SHIFT);
+    }
+
+    /**
+     * Creates an empty list with chunks of {@code 2^chunkShift} slots. Exposed to
+     * the package so that tests can cross chunk boundaries with few elements.
+     */
+    BigList(boolean isNullable, int chunkShift) {
+        if (chunkShift < 1 || chunkShift > 30) {
+            throw new IllegalArgumentException("chunkShift must be in [1, 30]: " + chunkShift);
+        }
+        this.isNullable = isNullable;
+        this.chunkShift = chunkShift;
+        this.chunkMask = (1 << chunkShift) - 1;
+    }
+
+    //==================== Mutation ==============================================================//
+
+    /**
+     * Appends {@code val} to the end of this list.
+     *
+     * @param val the element to append
+     * @throws IllegalArgumentException if {@code val} is {@code null} and nulls are not permitted
+     */
+    public void add(T val) {
+        checkNullAllowed(val);
+        int chunk = (int) (size >>> chunkShift);
+        if (chunk == chunkCount) {
+            addChunk();
+        }
+        chunks[chunk][(int) size & chunkMask] = val;
+        size++;
+    }
+
+    /**
+     * Replaces the element at {@code index}.
+     *
+     * @param index the position in {@code [0, size())}
+     * @param val   the new element
+     * @return the element previously at {@code index}
+     * @throws IndexOutOfBoundsException if {@code index} is out of range
+     * @throws IllegalArgumentException if {@code val} is {@code null} and nulls are not permitted
+     */
+    public T set(long index, T val) {
+        checkNullAllowed(val);
+        checkIndex(index);
+        Object[] chunk = chunks[(int) (index >>> chunkShift)];
+        int offset = (int) index & chunkMask;
+        @SuppressWarnings("unchecked")
+        T oldValue = (T) chunk[offset];
+        chunk[offset] = val;
+        return oldValue;
+    }
+
+    /**
+     * Removes and returns the last element. A chunk left empty is released.
+     *
+     * @return the removed element
+     * @throws NoSuchElementException if the list is empty
+     */
+    public T removeLast() {
+        if (size == 0) {
+            throw new NoSuchElementException("List is empty");
+        }
+        long index = --size;
+        Object[] chunk = chunks[(int) (index >>> chunkShift)];
+        int offset = (int) index & chunkMask;
+        @SuppressWarnings("unchecked")
+        T oldValue = (T) chunk[offset];
+        chunk[offset] = null; // Help GC
+        if (offset == 0) {
+            chunks[--chunkCount] = null;
+        }
+        return oldValue;
+    }
+
+    /**
+     * Removes all elements and releases every chunk.
+     */
+    public void clear() {
+        chunks = new Object[0][];
+        chunkCount = 0;
+        size = 0;
+    }
+
+    private void addChunk() {
+        if (chunkCount == chunks.length) {
+            chunks = Arrays.copyOf(chunks, Math.max(4, chunkCount + (chunkCount >> 1)));
+        }
+        chunks[chunkCount++] = new Object[chunkMask + 1];
+    }
+    // ===========================================================================================//
+
+    //==================== Access ================================================================//
+
+    /**
+     * Returns the element at {@code index}.
+     *
+     * @param index the position in {@code [0, size())}
+     * @return the element
+     * @throws IndexOutOfBoundsException if {@code index} is out of range
+     */
+    @SuppressWarnings("unchecked")
+    public T get(long index) {
+        checkIndex(index);
+        return (T) chunks[(int) (index >>> chunkShift)][(int) index & chunkMask];
+    }
+
+    public long size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+    // ===========================================================================================//
+
+    //==================== Iteration =============================================================//
+
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<>() {
+            private long cursor;
+
+            @Override
+            public boolean hasNext() {
+                return cursor < size;
+            }
+
+            @Override
+            public T next() {
+                if (cursor >= size) {
+                    throw new NoSuchElementException();
+                }
+                @SuppressWarnings("unchecked")
+                T value = (T) chunks[(int) (cursor >>> chunkShift)][(int) cursor & chunkMask];
+                cursor++;
+                return value;
+            }
+        };
+    }
+
+    /**
+     * Performs {@code action} on each element in order, scanning chunk by chunk.
+     *
+     * @param action the action to perform
+     * @throws NullPointerException if {@code action} is {@code null}
+     */
+    @Override
+    public void forEach(Consumer<? super T> action) {
+        spliterator().forEachRemaining(action);
+    }
+
+    /**
+     * Returns a spliterator over the elements that splits at chunk boundaries.
+     *
+     * @return an ordered, sized spliterator
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return new ChunkSpliterator(0, size);
+    }
+
+    /**
+     * Performs {@code action} on every element using the common fork-join pool.
+     * Each task processes whole chunks; the order in which elements are visited
+     * is unspecified.
+     *
+     * @param action the action to perform; must be safe to call concurrently
+     * @throws NullPointerException if {@code action} is {@code null}
+     */
+    public void parallelForEach(Consumer<? super T> action) {
+        Objects.requireNonNull(action, "action must not be null");
+        StreamSupport.stream(spliterator(), true).forEach(action);
+    }
+
+    /**
+     * Covers positions {@code [index, fence)}; splits at a chunk boundary near the middle.
+     */
+    private final class ChunkSpliterator implements Spliterator<T> {
+
+        private long index;
+        private final long fence;
+
+        ChunkSpliterator(long index, long fence) {
+            this.index = index;
+            this.fence = fence;
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            long mid = ((index + fence) >>> 1) & ~(long) chunkMask;
+            if (mid <= index) {
+                return null;
+            }
+            Spliterator<T> prefix = new ChunkSpliterator(index, mid);
+            index = mid;
+            return prefix;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            Objects.requireNonNull(action, "action must not be null");
+            if (index >= fence) {
+                return false;
+            }
+            @SuppressWarnings("unchecked")
+            T value = (T) chunks[(int) (index >>> chunkShift)][(int) index & chunkMask];
+            index++;
+            action.accept(value);
+            return true;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void forEachRemaining(Consumer<? super T> action) {
+            Objects.requireNonNull(action, "action must not be null");
+            while (index < fence) {
+                Object[] chunk = chunks[(int) (index >>> chunkShift)];
+                int from = (int) index & chunkMask;
+                int to = (int) Math.min(chunk.length, from + (fence - index));
+                for (int i = from; i < to; i++) {
+                    action.accept((T) chunk[i]);
+                }
+                index += to - from;
+            }
+        }
+
+        @Override
+        public long estimateSize() {
+            return fence - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED;
+        }
+    }
+    // ===========================================================================================//
+
+    private void checkIndex(long index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    private void checkNullAllowed(T val) {
+        if (!isNullable && val == null) {
+            throw new IllegalArgumentException("List does not allow null values");
+        }
+    }
+}
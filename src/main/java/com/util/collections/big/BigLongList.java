@@ -0,0 +1,326 @@
+package com.util.collections.big;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.LongConsumer;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A growable list of {@code long} values addressed by {@code long} indices,
+ * with chunks stored either on the Java heap or in native memory.
+ *
+ * <p><strong>Design Overview:</strong>
+ * Values are stored unboxed in fixed-size chunks of {@code 2^chunkShift}
+ * values, addressed exactly as in {@link BigList}. On-heap chunks are
+ * {@code long[]} arrays. Off-heap chunks are direct {@link LongBuffer}s in
+ * native byte order, which keeps billions of values out of the collected heap:
+ * the garbage collector sees one small buffer object per chunk instead of
+ * gigabytes of array data.
+ *
+ * <p><strong>Off-Heap Memory:</strong>
+ * Native chunks count against {@code -XX:MaxDirectMemorySize} and are released
+ * when their buffers are collected after {@link #clear()} or
+ * {@link #removeLast()} drops them, not immediately.
+ *
+ * <p><strong>Performance Characteristics:</strong>
+ * <ul>
+ *   <li>{@code get}, {@code set}, {@code removeLast}: O(1)</li>
+ *   <li>{@code add}: O(1), plus an occasional copy of chunk references</li>
+ *   <li>Memory: 8 bytes per value plus one array or buffer header per chunk</li>
+ * </ul>
+ *
+ * <p><strong>Parallel Iteration:</strong>
+ * {@link #spliterator()} splits only at chunk boundaries; {@link #parallelStream()}
+ * and {@link #parallelForEach(LongConsumer)} process whole chunks per task.
+ *
+ * <p><strong>Thread Safety:</strong>
+ * This class is <strong>not thread-safe</strong>. Parallel iteration is safe
+ * as long as the list is not modified concurrently.
+ */
+public class BigLongList {
+
+    /** 2^17 values: 1 MiB per chunk. */
+    static final int DEFAULT_CHUNK_SHIFT = 17;
+
+    private final boolean offHeap;
+    private final int chunkShift;
+    private final int chunkMask;
+
+    /** Used when {@code !offHeap}. */
+    private long[][] heapChunks = new long[0][];
+    /** Used when {@code offHeap}. */
+    private LongBuffer[] directChunks = new LongBuffer[0];
+    private int chunkCount;
+    private long size;
+
+    /**
+     * Creates an empty list stored on the Java heap.
+     */
+    public BigLongList() {
+        this(false);
+    }
+
+    /**
+     * Creates an empty list.
+     *
+     * @param offHeap {@code true} to store chunks in native memory
+     */
+    public BigLongList(boolean offHeap) {
+        this(offHeap, DEFAULT_CHUNK_SHIFT);
+    }
+
+    BigLongList(boolean offHeap, int chunkShift) {
+        if (chunkShift < 1 || chunkShift > 27) {
+            throw new IllegalArgumentException("chunkShift must be in [1, 27]: " + chunkShift);
+        }
+        this.offHeap = offHeap;
+        this.chunkShift = chunkShift;
+        this.chunkMask = (1 << chunkShift) - 1;
+    }
+
+    //==================== Mutation ==============================================================//
+
+    public void add(long value) {
+        int chunk = (int) (size >>> chunkShift);
+        if (chunk == chunkCount) {
+            addChunk();
+        }
+        write(chunk, (int) size & chunkMask, value);
+        size++;
+    }
+
+    /**
+     * Replaces the value at {@code index}.
+     *
+     * @param index the position in {@code [0, size())}
+     * @param value the new value
+     * @return the value previously at {@code index}
+     * @throws IndexOutOfBoundsException if {@code index} is out of range
+     */
+    public long set(long index, long value) {
+        checkIndex(index);
+        int chunk = (int) (index >>> chunkShift);
+        int offset = (int) index & chunkMask;
+        long oldValue = read(chunk, offset);
+        write(chunk, offset, value);
+        return oldValue;
+    }
+
+    /**
+     * Removes and returns the last value. A chunk left empty is released.
+     *
+     * @return the removed value
+     * @throws NoSuchElementException if the list is empty
+     */
+    public long removeLast() {
+        if (size == 0) {
+            throw new NoSuchElementException("List is empty");
+        }
+        long index = --size;
+        int offset = (int) index & chunkMask;
+        long oldValue = read((int) (index >>> chunkShift), offset);
+        if (offset == 0) {
+            chunkCount--;
+            if (offHeap) {
+                directChunks[chunkCount] = null;
+            } else {
+                heapChunks[chunkCount] = null;
+            }
+        }
+        return oldValue;
+    }
+
+    /**
+     * Removes all values and drops every chunk.
+     */
+    public void clear() {
+        heapChunks = new long[0][];
+        directChunks = new LongBuffer[0];
+        chunkCount = 0;
+        size = 0;
+    }
+
+    private void addChunk() {
+        int chunkSize = chunkMask + 1;
+        if (offHeap) {
+            if (chunkCount == directChunks.length) {
+                directChunks = Arrays.copyOf(directChunks, grow(chunkCount));
+            }
+            directChunks[chunkCount++] = ByteBuffer.allocateDirect(chunkSize * Long.BYTES)
+                    .order(ByteOrder.nativeOrder())
+                    .asLongBuffer();
+        } else {
+            if (chunkCount == heapChunks.length) {
+                heapChunks = Arrays.copyOf(heapChunks, grow(chunkCount));
+            }
+            heapChunks[chunkCount++] = new long[chunkSize];
+        }
+    }
+
+    private static int grow(int chunkCount) {
+        return Math.max(4, chunkCount + (chunkCount >> 1));
+    }
+    // ===========================================================================================//
+
+    //==================== Access ================================================================//
+
+    /**
+     * Returns the value at {@code index}.
+     *
+     * @param index the position in {@code [0, size())}
+     * @return the value
+     * @throws IndexOutOfBoundsException if {@code index} is out of range
+     */
+    public long get(long index) {
+        checkIndex(index);
+        return read((int) (index >>> chunkShift), (int) index & chunkMask);
+    }
+
+    public long size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public boolean isOffHeap() {
+        return offHeap;
+    }
+
+    private long read(int chunk, int offset) {
+        return offHeap ? directChunks[chunk].get(offset) : heapChunks[chunk][offset];
+    }
+
+    private void write(int chunk, int offset, long value) {
+        if (offHeap) {
+            directChunks[chunk].put(offset, value);
+        } else {
+            heapChunks[chunk][offset] = value;
+        }
+    }
+    // ===========================================================================================//
+
+    //==================== Iteration =============================================================//
+
+    /**
+     * Performs {@code action} on each value in order, scanning chunk by chunk.
+     *
+     * @param action the action to perform
+     * @throws NullPointerException if {@code action} is {@code null}
+     */
+    public void forEach(LongConsumer action) {
+        spliterator().forEachRemaining(action);
+    }
+
+    /**
+     * Performs {@code action} on every value using the common fork-join pool.
+     * Each task processes whole chunks; the visiting order is unspecified.
+     *
+     * @param action the action to perform; must be safe to call concurrently
+     * @throws NullPointerException if {@code action} is {@code null}
+     */
+    public void parallelForEach(LongConsumer action) {
+        Objects.requireNonNull(action, "action must not be null");
+        parallelStream().forEach(action);
+    }
+
+    /**
+     * Returns a spliterator over the values that splits at chunk boundaries.
+     *
+     * @return an ordered, sized, non-null spliterator
+     */
+    public Spliterator.OfLong spliterator() {
+        return new ChunkSpliterator(0, size);
+    }
+
+    public LongStream stream() {
+        return StreamSupport.longStream(spliterator(), false);
+    }
+
+    public LongStream parallelStream() {
+        return StreamSupport.longStream(spliterator(), true);
+    }
+
+    /**
+     * Covers positions {@code [index, fence)}; splits at a chunk boundary near the middle.
+     */
+    private final class ChunkSpliterator implements Spliterator.OfLong {
+
+        private long index;
+        private final long fence;
+
+        ChunkSpliterator(long index, long fence) {
+            this.index = index;
+            this.fence = fence;
+        }
+
+        @Override
+        public Spliterator.OfLong trySplit() {
+            long mid = ((index + fence) >>> 1) & ~(long) chunkMask;
+            if (mid <= index) {
+                return null;
+            }
+            Spliterator.OfLong prefix = new ChunkSpliterator(index, mid);
+            index = mid;
+            return prefix;
+        }
+
+        @Override
+        public boolean tryAdvance(LongConsumer action) {
+            Objects.requireNonNull(action, "action must not be null");
+            if (index >= fence) {
+                return false;
+            }
+            long value = read((int) (index >>> chunkShift), (int) index & chunkMask);
+            index++;
+            action.accept(value);
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(LongConsumer action) {
+            Objects.requireNonNull(action, "action must not be null");
+            while (index < fence) {
+                int chunk = (int) (index >>> chunkShift);
+                int from = (int) index & chunkMask;
+                int to = (int) Math.min(chunkMask + 1L, from + (fence - index));
+                if (offHeap) {
+                    LongBuffer buffer = directChunks[chunk];
+                    for (int i = from; i < to; i++) {
+                        action.accept(buffer.get(i));
+                    }
+                } else {
+                    long[] array = heapChunks[chunk];
+                    for (int i = from; i < to; i++) {
+                        action.accept(array[i]);
+                    }
+                }
+                index += to - from;
+            }
+        }
+
+        @Override
+        public long estimateSize() {
+            return fence - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED | NONNULL;
+        }
+    }
+    // ===========================================================================================//
+
+    private void checkIndex(long index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.util.collections.cache;
+
+/**
+ * An intrusive doubly linked deque of {@link CacheNode}s ordered from least to
+ * most recently used.
+ *
+ * <p><strong>Structural Invariants:</strong>
+ * <ul>
+ *   <li>{@code first == null ⇔ last == null ⇔ size == 0}</li>
+ *   <li>{@code first.prev == null} and {@code last.next == null}</li>
+ *   <li>A node belongs to at most one deque at a time; unlinked nodes have
+ *       {@code prev == next == null}</li>
+ * </ul>
+ *
+ * <p>
+ * Membership is not verified: passing a node that belongs to another deque
+ * corrupts both. Every operation runs in O(1).
+ * </p>
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ */
+final class AccessOrderDeque<K, V> {
+
+    private CacheNode<K, V> first;
+    private CacheNode<K, V> last;
+    private int size;
+
+    /**
+     * Appends an unlinked node as the most recently used entry.
+     */
+    void addLast(CacheNode<K, V> node) {
+        node.prev = last;
+        if (last == null) {
+            first = node;
+        } else {
+            last.next = node;
+        }
+        last = node;
+        size++;
+    }
+
+    /**
+     * Moves a node of this deque to the most recently used position.
+     */
+    void moveToBack(CacheNode<K, V> node) {
+        if (node != last) {
+            remove(node);
+            addLast(node);
+        }
+    }
+
+    /**
+     * Unlinks a node of this deque.
+     */
+    void remove(CacheNode<K, V> node) {
+        CacheNode<K, V> prev = node.prev;
+        CacheNode<K, V> next = node.next;
+        if (prev == null) {
+            first = next;
+        } else {
+            prev.next = next;
+        }
+        if (next == null) {
+            last = prev;
+        } else {
+            next.prev = prev;
+        }
+        node.prev = null;
+        node.next = null;
+        size--;
+    }
+
+    /**
+     * Returns the least recently used node without removing it.
+     *
+     * @return the first node, or {@code null} if the deque is empty
+     */
+    CacheNode<K, V> peekFirst() {
+        return first;
+    }
+
+    /**
+     * Removes and returns the least recently used node.
+     *
+     * @return the former first node, or {@code null} if the deque is empty
+     */
+    CacheNode<K, V> pollFirst() {
+        CacheNode<K, V> node = first;
+        if (node != null) {
+            remove(node);
+        }
+        return node;
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Unlinks every node, so that nodes still referenced elsewhere do not keep
+     * their former neighbours reachable.
+     */
+    void clear() {
+        CacheNode<K, V> node = first;
+        while (node != null) {
+            CacheNode<K, V> next = node.next;
+            node.prev = null;
+            node.next = null;
+            node = next;
+        }
+        first = null;
+        last = null;
+        size = 0;
+    }
+}
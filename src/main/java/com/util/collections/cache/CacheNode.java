@@ -0,0 +1,25 @@
+package com.util.collections.cache;
+
+/**
+ * A cache entry that is also a link in an {@link AccessOrderDeque}.
+ *
+ * <p>
+ * Embedding the links in the entry makes the deque intrusive: an entry found
+ * through the hash index can be moved or removed in O(1) without searching
+ * the deque and without allocating a separate list node.
+ * </p>
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ */
+class CacheNode<K, V> {
+    final K key;
+    V value;
+    CacheNode<K, V> prev;
+    CacheNode<K, V> next;
+
+    CacheNode(K key, V value) {
+        this.key = key;
+        this.value = value;
+    }
+}
@@ -0,0 +1,20 @@
+package com.util.collections.cache;
+
+/**
+ * Callback notified when a cache discards an entry to respect its size or
+ * time bounds.
+ *
+ * <p>
+ * Listeners run synchronously on the thread that triggered the eviction, after
+ * the entry has been removed. Explicit removals and {@code clear()} do not
+ * notify listeners.
+ * </p>
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ */
+@FunctionalInterface
+public interface EvictionListener<K, V> {
+
+    void onEviction(K key, V value);
+}
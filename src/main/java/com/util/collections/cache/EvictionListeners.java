@@ -0,0 +1,49 @@
+package com.util.collections.cache;
+
+import java.util.Arrays;
+
+/**
+ * The eviction listeners registered with a cache, kept in registration order.
+ *
+ * <p>
+ * Listeners are stored in an array that is grown by one slot per registration.
+ * Registration is rare and eviction frequent, so notifying walks the array by
+ * index and allocates nothing.
+ * </p>
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ */
+final class EvictionListeners<K, V> {
+
+    private EvictionListener<? super K, ? super V>[] listeners = newArray(0);
+
+    /**
+     * Registers {@code listener} after the listeners already present.
+     *
+     * @throws IllegalArgumentException if {@code listener} is {@code null}
+     */
+    void add(EvictionListener<? super K, ? super V> listener) {
+        if (listener == null) {
+            throw new IllegalArgumentException("listener must not be null");
+        }
+        int n = listeners.length;
+        listeners = Arrays.copyOf(listeners, n + 1);
+        listeners[n] = listener;
+    }
+
+    /**
+     * Notifies every listener, in registration order, that {@code key} was evicted.
+     */
+    void onEviction(K key, V value) {
+        EvictionListener<? super K, ? super V>[] current = listeners;
+        for (int i = 0; i < current.length; i++) {
+            current[i].onEviction(key, value);
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static <K, V> EvictionListener<? super K, ? super V>[] newArray(int length) {
+        return (EvictionListener<? super K, ? super V>[]) new EvictionListener[length];
+    }
+}
@@ -0,0 +1,121 @@
+package com.util.collections.cache;
+
+/**
+ * A count-min sketch of 4-bit counters that estimates how often keys were
+ * recently seen, with periodic aging.
+ *
+ * <p><strong>Design Overview:</strong>
+ * The counters are packed sixteen to a {@code long}. Each key maps to one
+ * counter in each of four rows, chosen by independently seeded hashes; the
+ * estimate is the minimum of those four counters, which bounds the error
+ * caused by collisions. Counters saturate at 15, which is enough to tell hot
+ * keys from cold ones.
+ *
+ * <p><strong>Aging:</strong>
+ * After {@code 10 × maximumSize} increments, every counter is halved. Keys
+ * that stop being requested therefore lose their history, so the sketch tracks
+ * recent popularity rather than all-time popularity.
+ *
+ * <p><strong>Performance Characteristics:</strong>
+ * {@link #increment(Object)} and {@link #frequency(Object)} are O(1); the
+ * periodic reset is O(table length) and amortized over the sample period.
+ * The table uses roughly 8 bytes per cached entry.
+ */
+final class FrequencySketch {
+
+    private static final long[] SEEDS = {
+            0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L
+    };
+    private static final long RESET_MASK = 0x7777777777777777L;
+    private static final long ONE_MASK = 0x1111111111111111L;
+
+    private final long[] table;
+    private final int tableMask;
+    private final int sampleSize;
+    private int size;
+
+    /**
+     * Creates a sketch sized for a cache of {@code maximumSize} entries.
+     *
+     * @param maximumSize the maximum size of the owning cache; must be positive
+     */
+    FrequencySketch(int maximumSize) {
+        int length = Integer.highestOneBit(Math.max(2, Math.min(maximumSize, 1 << 30)) - 1) << 1;
+        this.table = new long[length];
+        this.tableMask = length - 1;
+        this.sampleSize = (int) Math.min(10L * maximumSize, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns the estimated number of recent occurrences of {@code key}, at most 15.
+     */
+    int frequency(Object key) {
+        int hash = spread(key.hashCode());
+        int start = (hash & 3) << 2;
+        int frequency = Integer.MAX_VALUE;
+        for (int i = 0; i < 4; i++) {
+            int index = indexOf(hash, i);
+            int count = (int) ((table[index] >>> ((start + i) << 2)) & 0xfL);
+            frequency = Math.min(frequency, count);
+        }
+        return frequency;
+    }
+
+    /**
+     * Records an occurrence of {@code key}, aging the sketch once the sample
+     * period is complete.
+     */
+    void increment(Object key) {
+        int hash = spread(key.hashCode());
+        int start = (hash & 3) << 2;
+        boolean added = false;
+        for (int i = 0; i < 4; i++) {
+            added |= incrementAt(indexOf(hash, i), start + i);
+        }
+        if (added && ++size == sampleSize) {
+            reset();
+        }
+    }
+
+    /**
+     * Increments counter {@code j} of {@code table[i]} unless it is saturated.
+     */
+    private boolean incrementAt(int i, int j) {
+        int offset = j << 2;
+        long mask = 0xfL << offset;
+        if ((table[i] & mask) != mask) {
+            table[i] += 1L << offset;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Halves every counter. The odd counters lose their low bit, which is
+     * subtracted from {@code size} so that it keeps tracking the counter total.
+     */
+    private void reset() {
+        int odd = 0;
+        for (int i = 0; i < table.length; i++) {
+            odd += Long.bitCount(table[i] & ONE_MASK);
+            table[i] = (table[i] >>> 1) & RESET_MASK;
+        }
+        size = (size - (odd >>> 2)) >>> 1;
+    }
+
+    private int indexOf(int hash, int i) {
+        long h = (hash + SEEDS[i]) * SEEDS[i];
+        h += h >>> 32;
+        return ((int) h) & tableMask;
+    }
+
+    /**
+     * Mixes the bits of a hash code so that poorly distributed hash codes
+     * still spread across the table.
+     */
+    private static int spread(int x) {
+        x = ((x >>> 16) ^ x) * 0x45d9f3b;
+        x = ((x >>> 16) ^ x) * 0x45d9f3b;
+        return (x >>> 16) ^ x;
+    }
+}
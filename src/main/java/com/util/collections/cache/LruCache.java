@@ -0,0 +1,229 @@
+package com.util.collections.cache;
+
+import com.util.collections.map.HashMap;
+
+/**
+ * A bounded cache that evicts the least recently used entry once it holds more
+ * than {@code maximumSize} entries.
+ *
+ * <p><strong>Design Overview:</strong>
+ * Entries are {@link CacheNode}s that live in two structures at once: a
+ * {@link HashMap} from key to node, and an intrusive {@link AccessOrderDeque}
+ * ordered from least to most recently used. A lookup finds the node through the
+ * map and relinks it at the back of the deque; an eviction unlinks the front
+ * node and removes its key from the map. None of these steps searches, so
+ * {@code get}, {@code put} and eviction all run in O(1) expected time.
+ *
+ * <p><strong>Structural Invariants:</strong>
+ * <ul>
+ *   <li>The map and the deque hold exactly the same nodes</li>
+ *   <li>{@code size() <= maximumSize} between public operations</li>
+ *   <li>The deque's first node is the least recently read or written entry</li>
+ * </ul>
+ *
+ * <p><strong>Null Handling Policy:</strong>
+ * {@code null} keys and values are never permitted, so that a {@code null}
+ * result from {@link #get(Object)} always means a miss.
+ *
+ * <p><strong>Statistics:</strong>
+ * Every {@link #get(Object)} counts as a hit or a miss, and every size-driven
+ * removal counts as an eviction. The counters are never reset by {@link #clear()}.
+ *
+ * <p><strong>Thread Safety:</strong>
+ * This class is <strong>not thread-safe</strong>. Because reads reorder the
+ * deque, even concurrent {@code get} calls require external synchronization.
+ *
+ * @param <K> the type of keys maintained by this cache
+ * @param <V> the type of cached values
+ */
+public class LruCache<K, V> {
+
+    private final int maximumSize;
+    private final HashMap<K, CacheNode<K, V>> nodes;
+    private final AccessOrderDeque<K, V> accessOrder = new AccessOrderDeque<>();
+    private final EvictionListeners<K, V> listeners = new EvictionListeners<>();
+
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+
+    /**
+     * Creates an empty cache holding at most {@code maximumSize} entries.
+     *
+     * @param maximumSize the maximum number of entries
+     * @throws IllegalArgumentException if {@code maximumSize} is not positive
+     */
+    public LruCache(int maximumSize) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("maximumSize must be positive: " + maximumSize);
+        }
+        this.maximumSize = maximumSize;
+        this.nodes = new HashMap<>(maximumSize + 1);
+    }
+
+    //==================== Cache Operations ======================================================//
+
+    /**
+     * Returns the value cached for {@code key} and marks the entry as most
+     * recently used.
+     *
+     * @param key the key to look up
+     * @return the cached value, or {@code null} on a miss
+     * @throws IllegalArgumentException if {@code key} is {@code null}
+     */
+    public V get(K key) {
+        checkNotNull(key, "keys");
+        CacheNode<K, V> node = nodes.get(key);
+        if (node == null) {
+            missCount++;
+            return null;
+        }
+        hitCount++;
+        accessOrder.moveToBack(node);
+        return node.value;
+    }
+
+    /**
+     * Caches {@code value} under {@code key} as the most recently used entry,
+     * evicting the least recently used entry if the cache overflows. An existing
+     * entry is updated in place, so replacing a value allocates nothing. A new
+     * key costs two map probes, the failed lookup and the insertion, because its
+     * node is only allocated once the lookup has missed.
+     *
+     * @param key   the key
+     * @param value the value
+     * @return the value previously cached for {@code key}, or {@code null}
+     * @throws IllegalArgumentException if {@code key} or {@code value} is {@code null}
+     */
+    public V put(K key, V value) {
+        checkNotNull(key, "keys");
+        checkNotNull(value, "values");
+        CacheNode<K, V> existing = nodes.get(key);
+        if (existing != null) {
+            V oldValue = existing.value;
+            existing.value = value;
+            accessOrder.moveToBack(existing);
+            return oldValue;
+        }
+        CacheNode<K, V> node = new CacheNode<>(key, value);
+        nodes.put(key, node);
+        accessOrder.addLast(node);
+        if (accessOrder.size() > maximumSize) {
+            evict();
+        }
+        return null;
+    }
+
+    /**
+     * Removes the entry for {@code key}, if present. Listeners are not notified.
+     *
+     * @param key the key
+     * @return the removed value, or {@code null} if the key was not cached
+     * @throws IllegalArgumentException if {@code key} is {@code null}
+     */
+    public V remove(K key) {
+        checkNotNull(key, "keys");
+        CacheNode<K, V> node = nodes.remove(key);
+        if (node == null) {
+            return null;
+        }
+        accessOrder.remove(node);
+        return node.value;
+    }
+
+    /**
+     * Returns {@code true} if {@code key} is cached. Neither the access order
+     * nor the hit and miss counters are affected.
+     *
+     * @param key the key
+     * @return whether an entry exists
+     */
+    public boolean containsKey(K key) {
+        return key != null && nodes.containsKey(key);
+    }
+
+    /**
+     * Removes all entries. Listeners are not notified and statistics are kept.
+     */
+    public void clear() {
+        nodes.clear();
+        accessOrder.clear();
+    }
+
+    private void evict() {
+        CacheNode<K, V> victim = accessOrder.pollFirst();
+        nodes.remove(victim.key);
+        evictionCount++;
+        listeners.onEviction(victim.key, victim.value);
+    }
+    // ===========================================================================================//
+
+    //==================== Listeners & Statistics ================================================//
+
+    /**
+     * Registers a listener notified after each eviction, in registration order.
+     *
+     * @param listener the listener
+     * @throws IllegalArgumentException if {@code listener} is {@code null}
+     */
+    public void addEvictionListener(EvictionListener<? super K, ? super V> listener) {
+        listeners.add(listener);
+    }
+
+    public long hitCount() {
+        return hitCount;
+    }
+
+    public long missCount() {
+        return missCount;
+    }
+
+    public long evictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * Returns the fraction of lookups that were hits.
+     *
+     * @return {@code hitCount / (hitCount + missCount)}, or {@code 1.0} before any lookup
+     */
+    public double hitRate() {
+        long requests = hitCount + missCount;
+        return requests == 0 ? 1.0 : (double) hitCount / requests;
+    }
+    // ===========================================================================================//
+
+    public int size() {
+        return accessOrder.size();
+    }
+
+    public boolean isEmpty() {
+        return accessOrder.isEmpty();
+    }
+
+    public int maximumSize() {
+        return maximumSize;
+    }
+
+    private static void checkNotNull(Object o, String what) {
+        if (o == null) {
+            throw new IllegalArgumentException("Cache does not allow null " + what);
+        }
+    }
+
+    /**
+     * Returns a string of the form {@code LruCache{k1=v1, k2=v2}} listing the
+     * entries from least to most recently used.
+     */
+    @Override
+    public String toString() {
+        StringBuilder stringBuilder = new StringBuilder(getClass().getSimpleName()).append("{");
+        for (CacheNode<K, V> node = accessOrder.peekFirst(); node != null; node = node.next) {
+            stringBuilder.append(node.key).append('=').append(node.value);
+            if (node.next != null) {
+                stringBuilder.append(", ");
+            }
+        }
+        return stringBuilder.append("}").toString();
+    }
+}
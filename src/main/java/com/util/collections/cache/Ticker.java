@@ -0,0 +1,27 @@
+package com.util.collections.cache;
+
+/**
+ * A source of nanosecond timestamps used to evaluate expiry.
+ *
+ * <p>
+ * Only differences between readings are meaningful. Tests substitute a manual
+ * ticker to control time deterministically.
+ * </p>
+ */
+@FunctionalInterface
+public interface Ticker {
+
+    /**
+     * @return the current time in nanoseconds relative to an arbitrary origin
+     */
+    long read();
+
+    /**
+     * Returns a ticker backed by {@link System#nanoTime()}.
+     *
+     * @return the system ticker
+     */
+    static Ticker system() {
+        return System::nanoTime;
+    }
+}
@@ -0,0 +1,618 @@
+package com.util.collections.cache;
+
+import com.util.collections.map.HashMap;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * A bounded cache with a frequency-aware admission policy in the style of
+ * W-TinyLFU, plus optional time-based expiry.
+ *
+ * <p><strong>Design Overview:</strong>
+ * The capacity is split into three LRU segments, each an intrusive
+ * {@link AccessOrderDeque}:
+ * <ul>
+ *   <li><em>window</em> (1%): every new entry starts here, so that bursts of
+ *       fresh keys get a short chance to prove themselves</li>
+ *   <li><em>probation</em> (20% of the rest): entries that left the window, or
+ *       were demoted from the protected segment</li>
+ *   <li><em>protected</em> (80% of the rest): entries that were hit while on
+ *       probation</li>
+ * </ul>
+ * When the window overflows, its least recently used entry becomes a
+ * <em>candidate</em> for the main region. If the main region is full, the
+ * candidate is compared with the least recently used probation entry, the
+ * <em>victim</em>, using a {@link FrequencySketch} of recent key popularity.
+ * The candidate is admitted only if it is strictly more popular; otherwise the
+ * candidate itself is evicted. A one-off scan therefore passes through the
+ * window without displacing the established working set, which is exactly
+ * where plain LRU thrashes.
+ *
+ * <p><strong>Batched Maintenance:</strong>
+ * A hit does not touch the policy. It appends the entry to a small read buffer
+ * and returns. Sketch increments, segment moves and promotions for buffered
+ * reads are replayed in one batch when the buffer fills, on the next write,
+ * or on {@link #cleanUp()}. The read path therefore costs a hash lookup and
+ * an array store.
+ *
+ * <p><strong>Expiry:</strong>
+ * Entries may expire a fixed time after they were written and/or last read.
+ * An expired entry is never returned; it is removed when it is looked up or
+ * when maintenance finds it. Maintenance removes expired entries from the front
+ * of the write order, which is sorted by write time, and scans the front of each
+ * segment past a bounded number of live entries, since moves between segments
+ * leave those only roughly sorted by access time. Expiry is therefore lazy: an
+ * entry deep behind live ones may linger, and count towards {@link #size()},
+ * until it is looked up or reaches the front.
+ * Time is read from a {@link Ticker}.
+ *
+ * <p><strong>Null Handling Policy:</strong>
+ * {@code null} keys and values are never permitted.
+ *
+ * <p><strong>Thread Safety:</strong>
+ * This class is <strong>not thread-safe</strong>.
+ *
+ * @param <K> the type of keys maintained by this cache
+ * @param <V> the type of cached values
+ */
+public class TinyLfuCache<K, V> {
+
+    private static final int READ_BUFFER_SIZE = 64;
+
+    /** Live entries each segment scan may step past while looking for expired ones. */
+    private static final int EXPIRY_SCAN_LIMIT = 16;
+
+    private static final byte WINDOW = 0;
+    private static final byte PROBATION = 1;
+    private static final byte PROTECTED = 2;
+    private static final byte DEAD = 3;
+
+    /**
+     * A cache entry with its policy segment, timestamps and write-order links.
+     */
+    private static final class Node<K, V> extends CacheNode<K, V> {
+        byte queue = WINDOW;
+        long writeTime;
+        long accessTime;
+        Node<K, V> writePrev;
+        Node<K, V> writeNext;
+
+        Node(K key, V value) {
+            super(key, value);
+        }
+    }
+
+    private final int maximumSize;
+    private final int windowMaximum;
+    private final int protectedMaximum;
+    private final long expireAfterWriteNanos;
+    private final long expireAfterAccessNanos;
+    private final Ticker ticker;
+
+    private final HashMap<K, Node<K, V>> nodes;
+    private final AccessOrderDeque<K, V> window = new AccessOrderDeque<>();
+    private final AccessOrderDeque<K, V> probation = new AccessOrderDeque<>();
+    private final AccessOrderDeque<K, V> protectedSegment = new AccessOrderDeque<>();
+    private final FrequencySketch sketch;
+    private final EvictionListeners<K, V> listeners = new EvictionListeners<>();
+
+    /** Oldest and newest entry by write time; only linked when write expiry is enabled. */
+    private Node<K, V> writeFirst;
+    private Node<K, V> writeLast;
+
+    private final Object[] readBuffer = new Object[READ_BUFFER_SIZE];
+    private int readBufferCount;
+
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+    private long expirationCount;
+
+    /**
+     * Creates an empty cache holding at most {@code maximumSize} entries, without expiry.
+     *
+     * @param maximumSize the maximum number of entries
+     * @throws IllegalArgumentException if {@code maximumSize} is not positive
+     */
+    public TinyLfuCache(int maximumSize) {
+        this(new Builder<>(maximumSize));
+    }
+
+    private TinyLfuCache(Builder<K, V> builder) {
+        this.maximumSize = builder.maximumSize;
+        this.windowMaximum = Math.max(1, maximumSize / 100);
+        int mainMaximum = maximumSize - windowMaximum;
+        this.protectedMaximum = mainMaximum - mainMaximum / 5;
+        this.expireAfterWriteNanos = builder.expireAfterWriteNanos;
+        this.expireAfterAccessNanos = builder.expireAfterAccessNanos;
+        this.ticker = builder.ticker;
+        this.nodes = new HashMap<>(maximumSize + 1);
+        this.sketch = new FrequencySketch(maximumSize);
+    }
+
+    /**
+     * Returns a builder for a cache holding at most {@code maximumSize} entries.
+     *
+     * @param maximumSize the maximum number of entries
+     * @param <K>         the key type
+     * @param <V>         the value type
+     * @return a new builder
+     * @throws IllegalArgumentException if {@code maximumSize} is not positive
+     */
+    public static <K, V> Builder<K, V> builder(int maximumSize) {
+        return new Builder<>(maximumSize);
+    }
+
+    //==================== Cache Operations ======================================================//
+
+    /**
+     * Returns the value cached for {@code key}, or {@code null} if it is absent
+     * or expired.
+     *
+     * <p><strong>Behavior:</strong>
+     * A hit is recorded in the read buffer and applied to the policy later, in
+     * a batch. An expired entry is removed and counted as a miss.
+     *
+     * @param key the key to look up
+     * @return the cached value, or {@code null} on a miss
+     * @throws IllegalArgumentException if {@code key} is {@code null}
+     */
+    public V get(K key) {
+        checkNotNull(key, "keys");
+        Node<K, V> node = nodes.get(key);
+        if (node == null) {
+            missCount++;
+            return null;
+        }
+        if (expires()) {
+            long now = ticker.read();
+            if (hasExpired(node, now)) {
+                missCount++;
+                expire(node);
+                return null;
+            }
+            node.accessTime = now;
+        }
+        hitCount++;
+        readBuffer[readBufferCount++] = node;
+        if (readBufferCount == READ_BUFFER_SIZE) {
+            maintenance();
+        }
+        return node.value;
+    }
+
+    /**
+     * Caches {@code value} under {@code key}.
+     *
+     * <p><strong>Behavior:</strong>
+     * Pending maintenance runs first. A new entry enters the window segment,
+     * which may push a candidate into the main region and evict either the
+     * candidate or the probation victim, whichever is less popular.
+     *
+     * @param key   the key
+     * @param value the value
+     * @return the value previously cached for {@code key}, or {@code null}
+     * @throws IllegalArgumentException if {@code key} or {@code value} is {@code null}
+     */
+    public V put(K key, V value) {
+        checkNotNull(key, "keys");
+        checkNotNull(value, "values");
+        maintenance();
+        long now = expires() ? ticker.read() : 0L;
+        Node<K, V> existing = nodes.get(key);
+        if (existing != null) {
+            V oldValue = existing.value;
+            existing.value = value;
+            touchWrite(existing, now);
+            onAccess(existing);
+            return oldValue;
+        }
+        Node<K, V> node = new Node<>(key, value);
+        nodes.put(key, node);
+        node.writeTime = now;
+        node.accessTime = now;
+        if (expireAfterWriteNanos > 0) {
+            linkWriteLast(node);
+        }
+        window.addLast(node);
+        sketch.increment(key);
+        evictEntries();
+        return null;
+    }
+
+    /**
+     * Removes the entry for {@code key}, if present. Listeners are not notified.
+     *
+     * @param key the key
+     * @return the removed value, or {@code null} if the key was not cached
+     * @throws IllegalArgumentException if {@code key} is {@code null}
+     */
+    public V remove(K key) {
+        checkNotNull(key, "keys");
+        Node<K, V> node = nodes.remove(key);
+        if (node == null) {
+            return null;
+        }
+        unlink(node);
+        return node.value;
+    }
+
+    /**
+     * Returns {@code true} if an unexpired entry exists for {@code key}, without
+     * recording an access.
+     *
+     * @param key the key
+     * @return whether a live entry exists
+     */
+    public boolean containsKey(K key) {
+        if (key == null) {
+            return false;
+        }
+        Node<K, V> node = nodes.get(key);
+        return node != null && !(expires() && hasExpired(node, ticker.read()));
+    }
+
+    /**
+     * Removes all entries. Listeners are not notified; statistics and the
+     * frequency history are kept.
+     */
+    public void clear() {
+        for (int i = 0; i < readBufferCount; i++) {
+            readBuffer[i] = null;
+        }
+        readBufferCount = 0;
+        for (Node<K, V> node = writeFirst; node != null; ) {
+            Node<K, V> next = node.writeNext;
+            node.writePrev = null;
+            node.writeNext = null;
+            node = next;
+        }
+        writeFirst = null;
+        writeLast = null;
+        window.clear();
+        probation.clear();
+        protectedSegment.clear();
+        nodes.clear();
+    }
+
+    /**
+     * Performs pending maintenance now: replays buffered reads and removes
+     * entries found to be expired.
+     */
+    public void cleanUp() {
+        maintenance();
+    }
+    // ===========================================================================================//
+
+    //==================== Policy Maintenance ====================================================//
+
+    private void maintenance() {
+        drainReadBuffer();
+        if (expires()) {
+            expireEntries(ticker.read());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void drainReadBuffer() {
+        for (int i = 0; i < readBufferCount; i++) {
+            Node<K, V> node = (Node<K, V>) readBuffer[i];
+            readBuffer[i] = null;
+            if (node.queue != DEAD) {
+                onAccess(node);
+            }
+        }
+        readBufferCount = 0;
+    }
+
+    /**
+     * Applies one access to the policy: counts it in the sketch and moves the
+     * entry within, or promotes it between, segments.
+     */
+    private void onAccess(Node<K, V> node) {
+        sketch.increment(node.key);
+        switch (node.queue) {
+            case WINDOW:
+                window.moveToBack(node);
+                break;
+            case PROBATION:
+                probation.remove(node);
+                node.queue = PROTECTED;
+                protectedSegment.addLast(node);
+                while (protectedSegment.size() > protectedMaximum) {
+                    Node<K, V> demoted = asNode(protectedSegment.pollFirst());
+                    demoted.queue = PROBATION;
+                    probation.addLast(demoted);
+                }
+                break;
+            default:
+                protectedSegment.moveToBack(node);
+        }
+    }
+
+    /**
+     * Moves window overflow into the main region, deciding each admission
+     * against the main region's victim by estimated frequency.
+     */
+    private void evictEntries() {
+        while (window.size() > windowMaximum) {
+            boolean mainIsFull = probation.size() + protectedSegment.size() >= maximumSize - windowMaximum;
+            Node<K, V> victim = asNode(probation.isEmpty() ? protectedSegment.peekFirst() : probation.peekFirst());
+            Node<K, V> candidate = asNode(window.pollFirst());
+            candidate.queue = PROBATION;
+            probation.addLast(candidate);
+            if (mainIsFull) {
+                boolean admit = victim != null
+                        && sketch.frequency(candidate.key) > sketch.frequency(victim.key);
+                evict(admit ? victim : candidate);
+            }
+        }
+    }
+
+    private void evict(Node<K, V> node) {
+        nodes.remove(node.key);
+        unlink(node);
+        evictionCount++;
+        notifyListeners(node);
+    }
+
+    private void expireEntries(long now) {
+        if (expireAfterWriteNanos > 0) {
+            while (writeFirst != null && hasExpired(writeFirst, now)) {
+                expire(writeFirst);
+            }
+        }
+        if (expireAfterAccessNanos > 0) {
+            expireFromFront(window, now);
+            expireFromFront(probation, now);
+            expireFromFront(protectedSegment, now);
+        }
+    }
+
+    /**
+     * Removes expired entries from the front of {@code deque}. Moves between
+     * segments can leave an entry behind a more recently used one, so the scan
+     * steps past up to {@link #EXPIRY_SCAN_LIMIT} live entries before stopping.
+     */
+    private void expireFromFront(AccessOrderDeque<K, V> deque, long now) {
+        int live = 0;
+        Node<K, V> node = asNode(deque.peekFirst());
+        while (node != null && live < EXPIRY_SCAN_LIMIT) {
+            Node<K, V> next = asNode(node.next);
+            if (hasExpired(node, now)) {
+                expire(node);
+            } else {
+                live++;
+            }
+            node = next;
+        }
+    }
+
+    private void expire(Node<K, V> node) {
+        nodes.remove(node.key);
+        unlink(node);
+        expirationCount++;
+        notifyListeners(node);
+    }
+
+    private boolean hasExpired(Node<K, V> node, long now) {
+        return (expireAfterWriteNanos > 0 && now - node.writeTime >= expireAfterWriteNanos)
+                || (expireAfterAccessNanos > 0 && now - node.accessTime >= expireAfterAccessNanos);
+    }
+
+    private boolean expires() {
+        return expireAfterWriteNanos > 0 || expireAfterAccessNanos > 0;
+    }
+
+    /**
+     * Detaches a node from its segment and the write order and marks it dead,
+     * so that buffered reads of it are skipped.
+     */
+    private void unlink(Node<K, V> node) {
+        switch (node.queue) {
+            case WINDOW:
+                window.remove(node);
+                break;
+            case PROBATION:
+                probation.remove(node);
+                break;
+            case PROTECTED:
+                protectedSegment.remove(node);
+                break;
+            default:
+                return;
+        }
+        node.queue = DEAD;
+        if (expireAfterWriteNanos > 0) {
+            unlinkWrite(node);
+        }
+    }
+
+    private void touchWrite(Node<K, V> node, long now) {
+        node.writeTime = now;
+        node.accessTime = now;
+        if (expireAfterWriteNanos > 0 && node != writeLast) {
+            unlinkWrite(node);
+            linkWriteLast(node);
+        }
+    }
+
+    private void linkWriteLast(Node<K, V> node) {
+        node.writePrev = writeLast;
+        if (writeLast == null) {
+            writeFirst = node;
+        } else {
+            writeLast.writeNext = node;
+        }
+        writeLast = node;
+    }
+
+    private void unlinkWrite(Node<K, V> node) {
+        Node<K, V> prev = node.writePrev;
+        Node<K, V> next = node.writeNext;
+        if (prev == null) {
+            writeFirst = next;
+        } else {
+            prev.writeNext = next;
+        }
+        if (next == null) {
+            writeLast = prev;
+        } else {
+            next.writePrev = prev;
+        }
+        node.writePrev = null;
+        node.writeNext = null;
+    }
+
+    private void notifyListeners(Node<K, V> node) {
+        listeners.onEviction(node.key, node.value);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <K, V> Node<K, V> asNode(CacheNode<K, V> node) {
+        return (Node<K, V>) node;
+    }
+    // ===========================================================================================//
+
+    //==================== Listeners & Statistics ================================================//
+
+    /**
+     * Registers a listener notified after each size-based eviction or expiry,
+     * in registration order.
+     *
+     * @param listener the listener
+     * @throws IllegalArgumentException if {@code listener} is {@code null}
+     */
+    public void addEvictionListener(EvictionListener<? super K, ? super V> listener) {
+        listeners.add(listener);
+    }
+
+    public long hitCount() {
+        return hitCount;
+    }
+
+    public long missCount() {
+        return missCount;
+    }
+
+    /**
+     * @return the number of entries discarded to respect the size bound
+     */
+    public long evictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * @return the number of entries discarded because they expired
+     */
+    public long expirationCount() {
+        return expirationCount;
+    }
+
+    /**
+     * Returns the fraction of lookups that were hits.
+     *
+     * @return {@code hitCount / (hitCount + missCount)}, or {@code 1.0} before any lookup
+     */
+    public double hitRate() {
+        long requests = hitCount + missCount;
+        return requests == 0 ? 1.0 : (double) hitCount / requests;
+    }
+    // ===========================================================================================//
+
+    /**
+     * Returns the number of entries, which may include expired entries that
+     * have not been cleaned up yet.
+     *
+     * @return the number of entries
+     */
+    public int size() {
+        return nodes.size();
+    }
+
+    public boolean isEmpty() {
+        return nodes.isEmpty();
+    }
+
+    public int maximumSize() {
+        return maximumSize;
+    }
+
+    private static void checkNotNull(Object o, String what) {
+        if (o == null) {
+            throw new IllegalArgumentException("Cache does not allow null " + what);
+        }
+    }
+
+    /**
+     * Configures a {@link TinyLfuCache}.
+     *
+     * @param <K> the key type
+     * @param <V> the value type
+     */
+    public static final class Builder<K, V> {
+
+        private final int maximumSize;
+        private long expireAfterWriteNanos;
+        private long expireAfterAccessNanos;
+        private Ticker ticker = Ticker.system();
+
+        private Builder(int maximumSize) {
+            if (maximumSize <= 0) {
+                throw new IllegalArgumentException("maximumSize must be positive: " + maximumSize);
+            }
+            this.maximumSize = maximumSize;
+        }
+
+        /**
+         * Expires each entry once {@code duration} has passed since it was created
+         * or its value was last replaced.
+         *
+         * @param duration the time to live
+         * @return this builder
+         * @throws IllegalArgumentException if {@code duration} is not positive
+         */
+        public Builder<K, V> expireAfterWrite(Duration duration) {
+            this.expireAfterWriteNanos = toPositiveNanos(duration);
+            return this;
+        }
+
+        /**
+         * Expires each entry once {@code duration} has passed since it was last
+         * read or written.
+         *
+         * @param duration the idle time
+         * @return this builder
+         * @throws IllegalArgumentException if {@code duration} is not positive
+         */
+        public Builder<K, V> expireAfterAccess(Duration duration) {
+            this.expireAfterAccessNanos = toPositiveNanos(duration);
+            return this;
+        }
+
+        /**
+         * Sets the time source used for expiry; defaults to {@link Ticker#system()}.
+         *
+         * @param ticker the time source
+         * @return this builder
+         * @throws NullPointerException if {@code ticker} is {@code null}
+         */
+        public Builder<K, V> ticker(Ticker ticker) {
+            this.ticker = Objects.requireNonNull(ticker, "ticker must not be null");
+            return this;
+        }
+
+        public TinyLfuCache<K, V> build() {
+            return new TinyLfuCache<>(this);
+        }
+
+        private static long toPositiveNanos(Duration duration) {
+            Objects.requireNonNull(duration, "duration must not be null");
+            if (duration.isNegative() || duration.isZero()) {
+                throw new IllegalArgumentException("duration must be positive: " + duration);
+            }
+            return duration.toNanos();
+        }
+    }
+}
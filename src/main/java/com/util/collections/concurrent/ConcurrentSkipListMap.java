@@ -0,0 +1,723 @@
+package com.util.collections.concurrent;
+
+import com.util.collections.map.Map;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicMarkableReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * A lock-free, sorted {@link Map} backed by a concurrent skip list.
+ *
+ * <p><strong>Design Overview:</strong>
+ * Each mapping is a tower of forward links, one per level, in the style of the
+ * framework's {@code next}-linked nodes. Every link is an
+ * {@link AtomicMarkableReference}: the mark bit on a node's own link means "this
+ * node is being deleted at this level", and a set mark freezes the link so that
+ * no node can be inserted behind a deleted one. All structural changes are
+ * single compare-and-set operations on these links; no thread ever blocks
+ * another.
+ *
+ * <p><strong>Linearization Points:</strong>
+ * <ul>
+ *   <li>Insertion of a new key: the CAS that links the node at level 0</li>
+ *   <li>Replacement of a value: the CAS on the node's {@code value}</li>
+ *   <li>Removal: the CAS that sets the node's {@code value} to {@code null}.
+ *       The tower is then marked top-down and unlinked by whichever thread
+ *       traverses it next</li>
+ * </ul>
+ * A node whose value is {@code null} is logically absent even while it is
+ * still linked, so readers never need to inspect mark bits.
+ *
+ * <p><strong>Iterator Semantics:</strong>
+ * Iterators and range views are <em>weakly consistent</em>: they never throw
+ * {@link java.util.ConcurrentModificationException}, return each key at most
+ * once in ascending order, reflect every mapping present for the whole
+ * traversal, and may or may not reflect concurrent updates.
+ *
+ * <p><strong>Null Handling Policy:</strong>
+ * Neither keys nor values may be {@code null}; {@code null} is how a removed
+ * mapping is marked internally.
+ *
+ * <p><strong>Performance Characteristics:</strong>
+ * <ul>
+ *   <li>{@code get}, {@code put}, {@code remove}, {@code floor}/{@code ceiling}: expected O(log n)</li>
+ *   <li>Range iteration: O(log n) to find the start, then O(1) per step along level 0</li>
+ *   <li>{@code size}: O(1) but only an estimate while updates are in flight</li>
+ * </ul>
+ *
+ * <p><strong>Thread Safety:</strong>
+ * This class is <strong>thread-safe</strong> and lock-free.
+ *
+ * @param <K> the type of keys maintained by this map
+ * @param <V> the type of mapped values
+ */
+public class ConcurrentSkipListMap<K, V> implements Map<K, V> {
+
+    /** With promotion probability 1/4, sixteen levels index about 4^16 keys efficiently. */
+    static final int MAX_LEVEL = 16;
+
+    /**
+     * A tower of forward links. The head sentinel has a {@code null} key and
+     * spans {@link #MAX_LEVEL} levels.
+     */
+    static final class Node<K, V> {
+        private static final VarHandle VALUE;
+
+        static {
+            try {
+                VALUE = MethodHandles.lookup().findVarHandle(Node.class, "value", Object.class);
+            } catch (ReflectiveOperationException e) {
+                throw new ExceptionInInitializerError(e);
+            }
+        }
+
+        private final K key;
+        /** {@code null} once the mapping has been removed. */
+        private volatile Object value;
+        private final AtomicMarkableReference<Node<K, V>>[] next;
+
+        Node(K key, V value, int levels) {
+            this.key = key;
+            this.value = value;
+            this.next = newLinks(levels);
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private static <K, V> AtomicMarkableReference<Node<K, V>>[] newLinks(int levels) {
+            return (AtomicMarkableReference<Node<K, V>>[]) new AtomicMarkableReference[levels];
+        }
+
+        @SuppressWarnings("unchecked")
+        V value() {
+            return (V) value;
+        }
+
+        boolean casValue(Object expected, Object update) {
+            return VALUE.compareAndSet(this, expected, update);
+        }
+
+        Node<K, V> next(int level) {
+            return next[level].getReference();
+        }
+    }
+
+    private final Comparator<? super K> comparator;
+    private final Node<K, V> head = new Node<>(null, null, MAX_LEVEL);
+    private final LongAdder size = new LongAdder();
+
+    /** Highest level that has ever held a node; searches start here. Only grows. */
+    private final AtomicInteger topLevel = new AtomicInteger();
+
+    /**
+     * Creates an empty map ordered by the keys' natural ordering.
+     */
+    public ConcurrentSkipListMap() {
+        this(null);
+    }
+
+    /**
+     * Creates an empty map ordered by {@code comparator}.
+     *
+     * @param comparator the key ordering, or {@code null} for natural ordering
+     */
+    public ConcurrentSkipListMap(Comparator<? super K> comparator) {
+        this.comparator = comparator;
+        for (int level = 0; level < MAX_LEVEL; level++) {
+            head.next[level] = new AtomicMarkableReference<>(null, false);
+        }
+    }
+
+    //==================== Lookup Operations =====================================================//
+
+    @Override
+    public V get(K key) {
+        checkKey(key);
+        Node<K, V> node = ceilingNode(key, true);
+        return node != null && compare(node.key, key) == 0 ? node.value() : null;
+    }
+
+    @Override
+    public V getOrDefault(K key, V defaultValue) {
+        V value = get(key);
+        return value != null ? value : defaultValue;
+    }
+
+    @Override
+    public boolean containsKey(K key) {
+        return get(key) != null;
+    }
+
+    @Override
+    public int size() {
+        long n = size.sum();
+        return n < 0 ? 0 : (int) Math.min(n, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return firstNode() == null;
+    }
+    // ===========================================================================================//
+
+    //==================== Navigation ============================================================//
+
+    /**
+     * Returns the mapping with the greatest key less than or equal to {@code key}.
+     *
+     * @param key the upper bound
+     * @return a snapshot of the mapping, or {@code null} if there is none
+     * @throws IllegalArgumentException if {@code key} is {@code null}
+     */
+    public Map.Entry<K, V> floorEntry(K key) {
+        checkKey(key);
+        return snapshot(() -> floorNode(key, true));
+    }
+
+    /**
+     * Returns the mapping with the greatest key strictly less than {@code key}.
+     *
+     * @param key the exclusive upper bound
+     * @return a snapshot of the mapping, or {@code null} if there is none
+     * @throws IllegalArgumentException if {@code key} is {@code null}
+     */
+    public Map.Entry<K, V> lowerEntry(K key) {
+        checkKey(key);
+        return snapshot(() -> floorNode(key, false));
+    }
+
+    /**
+     * Returns the mapping with the least key greater than or equal to {@code key}.
+     *
+     * @param key the lower bound
+     * @return a snapshot of the mapping, or {@code null} if there is none
+     * @throws IllegalArgumentException if {@code key} is {@code null}
+     */
+    public Map.Entry<K, V> ceilingEntry(K key) {
+        checkKey(key);
+        return snapshot(() -> ceilingNode(key, true));
+    }
+
+    /**
+     * Returns the mapping with the least key strictly greater than {@code key}.
+     *
+     * @param key the exclusive lower bound
+     * @return a snapshot of the mapping, or {@code null} if there is none
+     * @throws IllegalArgumentException if {@code key} is {@code null}
+     */
+    public Map.Entry<K, V> higherEntry(K key) {
+        checkKey(key);
+        return snapshot(() -> ceilingNode(key, false));
+    }
+
+    public K floorKey(K key) {
+        return keyOf(floorEntry(key));
+    }
+
+    public K ceilingKey(K key) {
+        return keyOf(ceilingEntry(key));
+    }
+
+    /**
+     * @return a snapshot of the mapping with the least key, or {@code null} if the map is empty
+     */
+    public Map.Entry<K, V> firstEntry() {
+        return snapshot(this::firstNode);
+    }
+
+    /**
+     * @return a snapshot of the mapping with the greatest key, or {@code null} if the map is empty
+     */
+    public Map.Entry<K, V> lastEntry() {
+        return snapshot(() -> floorNode(null, true));
+    }
+
+    /**
+     * Returns the first live node at level 0 whose key is at least {@code key}
+     * (strictly greater when {@code !inclusive}). Readers pass through deleted
+     * nodes: their frozen links still lead forward.
+     */
+    private Node<K, V> ceilingNode(K key, boolean inclusive) {
+        Node<K, V> pred = head;
+        for (int level = topLevel.get(); level >= 0; level--) {
+            Node<K, V> curr = pred.next(level);
+            while (curr != null && before(curr.key, key, !inclusive)) {
+                pred = curr;
+                curr = curr.next(level);
+            }
+        }
+        Node<K, V> curr = pred.next(0);
+        while (curr != null && (before(curr.key, key, !inclusive) || curr.value == null)) {
+            curr = curr.next(0);
+        }
+        return curr;
+    }
+
+    /**
+     * Returns the last live node whose key is at most {@code key} (strictly less
+     * when {@code !inclusive}); a {@code null} key means no upper bound.
+     *
+     * <p><strong>Algorithm:</strong>
+     * The search descends to the last node before the bound and scans level 0
+     * up to the bound for live nodes. If every node it saw was deleted, the
+     * answer lies before the search predecessor, so the search restarts with
+     * that predecessor's key as a strict bound. Each restart lowers the bound,
+     * so the loop terminates.
+     */
+    private Node<K, V> floorNode(K key, boolean inclusive) {
+        while (true) {
+            Node<K, V> pred = head;
+            for (int level = topLevel.get(); level >= 0; level--) {
+                Node<K, V> curr = pred.next(level);
+                while (curr != null && before(curr.key, key, false)) {
+                    pred = curr;
+                    curr = curr.next(level);
+                }
+            }
+            Node<K, V> best = pred != head && pred.value != null ? pred : null;
+            for (Node<K, V> curr = pred.next(0);
+                 curr != null && (before(curr.key, key, false) || (inclusive && compare(curr.key, key) == 0));
+                 curr = curr.next(0)) {
+                if (curr.value != null) {
+                    best = curr;
+                }
+            }
+            if (best != null || pred == head) {
+                return best;
+            }
+            key = pred.key;
+            inclusive = false;
+        }
+    }
+
+    private Node<K, V> firstNode() {
+        Node<K, V> curr = head.next(0);
+        while (curr != null && curr.value == null) {
+            curr = curr.next(0);
+        }
+        return curr;
+    }
+
+    /**
+     * Returns {@code true} if {@code nodeKey} orders before {@code bound}, or
+     * also when equal if {@code orEqual}. A {@code null} bound is past every key.
+     */
+    private boolean before(K nodeKey, K bound, boolean orEqual) {
+        if (bound == null) {
+            return true;
+        }
+        int c = compare(nodeKey, bound);
+        return c < 0 || (orEqual && c == 0);
+    }
+    // ===========================================================================================//
+
+    //==================== Update Operations =====================================================//
+
+    /**
+     * Associates {@code value} with {@code key}, replacing any previous value.
+     *
+     * @return the previous value, or {@code null} if there was no mapping
+     * @throws IllegalArgumentException if {@code key} or {@code value} is {@code null}
+     */
+    @Override
+    public V put(K key, V value) {
+        return doPut(key, value, false);
+    }
+
+    /**
+     * Associates {@code value} with {@code key} only if the key is not mapped yet.
+     *
+     * @return the existing value, or {@code null} if the new mapping was added
+     * @throws IllegalArgumentException if {@code key} or {@code value} is {@code null}
+     */
+    @Override
+    public V putIfAbsent(K key, V value) {
+        return doPut(key, value, true);
+    }
+
+    @SuppressWarnings("unchecked")
+    private V doPut(K key, V value, boolean onlyIfAbsent) {
+        checkKey(key);
+        if (value == null) {
+            throw new IllegalArgumentException("Map does not allow null values");
+        }
+        Node<K, V>[] preds = newTower();
+        Node<K, V>[] succs = newTower();
+        int levels = randomLevels();
+        raiseTopLevel(levels - 1);
+        while (true) {
+            if (find(key, preds, succs)) {
+                Node<K, V> node = succs[0];
+                Object current = node.value;
+                if (current == null) {
+                    // Removed but still linked: finish its unlinking, then retry
+                    markTower(node);
+                    continue;
+                }
+                if (onlyIfAbsent || node.casValue(current, value)) {
+                    return (V) current;
+                }
+                continue;
+            }
+            Node<K, V> node = new Node<>(key, value, levels);
+            for (int level = 0; level < levels; level++) {
+                node.next[level] = new AtomicMarkableReference<>(succs[level], false);
+            }
+            if (!preds[0].next[0].compareAndSet(succs[0], node, false, false)) {
+                continue;
+            }
+            size.increment();
+            linkUpperLevels(node, key, preds, succs);
+            return null;
+        }
+    }
+
+    /**
+     * Links an already visible node at levels {@code 1..levels-1}. Stops early
+     * if the node is removed meanwhile, since its frozen links must not be
+     * published at further levels. A removal can also land just after a level
+     * was linked, after the remover's own cleanup search has passed; the node
+     * is then unlinked here so that no level keeps a dead node reachable.
+     */
+    private void linkUpperLevels(Node<K, V> node, K key, Node<K, V>[] preds, Node<K, V>[] succs) {
+        boolean[] marked = new boolean[1];
+        for (int level = 1; level < node.next.length; level++) {
+            while (true) {
+                Node<K, V> succ = succs[level];
+                Node<K, V> current = node.next[level].get(marked);
+                if (marked[0]) {
+                    return;
+                }
+                if (current != succ && !node.next[level].compareAndSet(current, succ, false, false)) {
+                    continue;
+                }
+                if (preds[level].next[level].compareAndSet(succ, node, false, false)) {
+                    if (node.value == null) {
+                        markTower(node);
+                        find(key, preds, succs);
+                        return;
+                    }
+                    break;
+                }
+                find(key, preds, succs);
+                if (succs[0] != node) {
+                    // Removed and unlinked at level 0 while we were linking
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes the mapping for {@code key}, if present.
+     *
+     * @return the removed value, or {@code null} if there was no mapping
+     * @throws IllegalArgumentException if {@code key} is {@code null}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public V remove(K key) {
+        checkKey(key);
+        Node<K, V>[] preds = newTower();
+        Node<K, V>[] succs = newTower();
+        if (!find(key, preds, succs)) {
+            return null;
+        }
+        Node<K, V> node = succs[0];
+        while (true) {
+            Object current = node.value;
+            if (current == null) {
+                return null;
+            }
+            if (node.casValue(current, null)) {
+                size.decrement();
+                markTower(node);
+                find(key, preds, succs); // unlinks the marked tower
+                return (V) current;
+            }
+        }
+    }
+
+    /**
+     * Removes every mapping present when the traversal reaches it. Mappings
+     * added concurrently may survive.
+     */
+    @Override
+    public void clear() {
+        for (Node<K, V> node = head.next(0); node != null; node = node.next(0)) {
+            Object current = node.value;
+            if (current != null && node.casValue(current, null)) {
+                size.decrement();
+                markTower(node);
+            }
+        }
+        find(null, null, null);
+    }
+
+    /**
+     * Marks every link of {@code node}, top level first, so that no insertion
+     * can follow it and traversals will unlink it. Safe to call from any thread.
+     */
+    private void markTower(Node<K, V> node) {
+        boolean[] marked = new boolean[1];
+        for (int level = node.next.length - 1; level >= 0; level--) {
+            AtomicMarkableReference<Node<K, V>> link = node.next[level];
+            Node<K, V> succ = link.get(marked);
+            while (!marked[0]) {
+                link.attemptMark(succ, true);
+                succ = link.get(marked);
+            }
+        }
+    }
+
+    /**
+     * Locates the predecessors and successors of {@code key} at every level,
+     * unlinking marked nodes on the way.
+     *
+     * <p><strong>Algorithm:</strong>
+     * This is the Harris-Michael search applied per level: a marked node met
+     * during the descent is snipped out with a CAS on its predecessor's link,
+     * and if that CAS fails because the predecessor changed, the search
+     * restarts from the head. On return, {@code preds[l]} and {@code succs[l]}
+     * were adjacent and unmarked at level {@code l} when read.
+     *
+     * <p>The descent starts at {@code topLevel}; levels above it are empty or
+     * only being populated concurrently, so their predecessor is the head.
+     * A {@code null} key walks every level to its end, which unlinks every
+     * marked node; {@code preds} and {@code succs} may then be {@code null}.
+     *
+     * @return {@code true} if {@code succs[0]} holds {@code key}
+     */
+    private boolean find(K key, Node<K, V>[] preds, Node<K, V>[] succs) {
+        boolean[] marked = new boolean[1];
+        retry:
+        while (true) {
+            Node<K, V> pred = head;
+            int top = key == null ? MAX_LEVEL - 1 : topLevel.get();
+            if (preds != null) {
+                for (int level = MAX_LEVEL - 1; level > top; level--) {
+                    preds[level] = head;
+                    succs[level] = head.next(level);
+                }
+            }
+            for (int level = top; level >= 0; level--) {
+                Node<K, V> curr = pred.next(level);
+                while (curr != null) {
+                    Node<K, V> succ = curr.next[level].get(marked);
+                    if (marked[0]) {
+                        if (!pred.next[level].compareAndSet(curr, succ, false, false)) {
+                            continue retry;
+                        }
+                        curr = succ;
+                        continue;
+                    }
+                    if (!before(curr.key, key, false)) {
+                        break;
+                    }
+                    pred = curr;
+                    curr = succ;
+                }
+                if (preds != null) {
+                    preds[level] = pred;
+                    succs[level] = curr;
+                }
+            }
+            return key != null && succs[0] != null && compare(succs[0].key, key) == 0;
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static <K, V> Node<K, V>[] newTower() {
+        return (Node<K, V>[]) new Node[MAX_LEVEL];
+    }
+
+    private int randomLevels() {
+        int levels = 1;
+        int bits = ThreadLocalRandom.current().nextInt();
+        while ((bits & 3) == 0 && levels < MAX_LEVEL) {
+            levels++;
+            bits >>>= 2;
+        }
+        return levels;
+    }
+
+    private void raiseTopLevel(int level) {
+        int current;
+        while ((current = topLevel.get()) < level && !topLevel.compareAndSet(current, level)) {
+            // Retry until this level or a higher one is recorded
+        }
+    }
+    // ===========================================================================================//
+
+    //==================== Iteration =============================================================//
+
+    /**
+     * Returns a weakly consistent iterator over all mappings in ascending key order.
+     */
+    @Override
+    public Iterator<Map.Entry<K, V>> iterator() {
+        return new EntryIterator(firstNode(), null, false);
+    }
+
+    /**
+     * Returns the mappings whose keys lie between the given bounds, in ascending
+     * order. Each call to {@code iterator()} starts a new weakly consistent
+     * traversal that locates its start in O(log n).
+     *
+     * @param fromKey       the lower bound, or {@code null} for none
+     * @param fromInclusive whether a key equal to {@code fromKey} is included
+     * @param toKey         the upper bound, or {@code null} for none
+     * @param toInclusive   whether a key equal to {@code toKey} is included
+     * @return a reusable view of the range
+     */
+    public Iterable<Map.Entry<K, V>> range(K fromKey, boolean fromInclusive, K toKey, boolean toInclusive) {
+        if (fromKey != null && toKey != null && compare(fromKey, toKey) > 0) {
+            throw new IllegalArgumentException("fromKey > toKey");
+        }
+        return () -> new EntryIterator(
+                fromKey == null ? firstNode() : ceilingNode(fromKey, fromInclusive), toKey, toInclusive);
+    }
+
+    /**
+     * Walks level 0 from a starting node, skipping deleted nodes and reading
+     * each value once so that the returned entry is a consistent snapshot.
+     */
+    private final class EntryIterator implements Iterator<Map.Entry<K, V>> {
+
+        private final K toKey;
+        private final boolean toInclusive;
+        private Node<K, V> nextNode;
+        private V nextValue;
+
+        EntryIterator(Node<K, V> start, K toKey, boolean toInclusive) {
+            this.toKey = toKey;
+            this.toInclusive = toInclusive;
+            advanceFrom(start);
+        }
+
+        private void advanceFrom(Node<K, V> node) {
+            while (node != null) {
+                if (toKey != null && !before(node.key, toKey, toInclusive)) {
+                    break;
+                }
+                V value = node.value();
+                if (value != null) {
+                    nextNode = node;
+                    nextValue = value;
+                    return;
+                }
+                node = node.next(0);
+            }
+            nextNode = null;
+            nextValue = null;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextNode != null;
+        }
+
+        @Override
+        public Map.Entry<K, V> next() {
+            if (nextNode == null) {
+                throw new NoSuchElementException();
+            }
+            Map.Entry<K, V> entry = new SnapshotEntry(nextNode.key, nextValue);
+            advanceFrom(nextNode.next(0));
+            return entry;
+        }
+    }
+
+    /**
+     * An immutable copy of a mapping whose {@link #setValue(Object)} writes through with {@code put}.
+     */
+    private final class SnapshotEntry implements Map.Entry<K, V> {
+
+        private final K key;
+        private V value;
+
+        SnapshotEntry(K key, V value) {
+            this.key = key;
+            this.value = value;
+        }
+
+        @Override
+        public K getKey() {
+            return key;
+        }
+
+        @Override
+        public V getValue() {
+            return value;
+        }
+
+        @Override
+        public V setValue(V value) {
+            V oldValue = put(key, value);
+            this.value = value;
+            return oldValue;
+        }
+
+        @Override
+        public String toString() {
+            return key + "=" + value;
+        }
+    }
+
+    /**
+     * Runs {@code search} until it yields {@code null} or a node that is still
+     * live when its value is read, and returns a snapshot of that node.
+     */
+    private Map.Entry<K, V> snapshot(Supplier<Node<K, V>> search) {
+        while (true) {
+            Node<K, V> node = search.get();
+            if (node == null) {
+                return null;
+            }
+            V value = node.value();
+            if (value != null) {
+                return new SnapshotEntry(node.key, value);
+            }
+            // Removed between the search and the read; search again
+        }
+    }
+    // ===========================================================================================//
+
+    @SuppressWarnings("unchecked")
+    private int compare(K a, K b) {
+        return comparator != null ? comparator.compare(a, b) : ((Comparable<? super K>) a).compareTo(b);
+    }
+
+    private static void checkKey(Object key) {
+        if (key == null) {
+            throw new IllegalArgumentException("Map does not allow null keys");
+        }
+    }
+
+    private static <K> K keyOf(Map.Entry<K, ?> entry) {
+        return entry == null ? null : entry.getKey();
+    }
+
+    /**
+     * Returns a string of the form {@code ConcurrentSkipListMap{k1=v1, k2=v2}} in key order.
+     */
+    @Override
+    public String toString() {
+        StringBuilder stringBuilder = new StringBuilder(getClass().getSimpleName()).append("{");
+        Iterator<Map.Entry<K, V>> iterator = iterator();
+        while (iterator.hasNext()) {
+            stringBuilder.append(iterator.next());
+            if (iterator.hasNext()) {
+                stringBuilder.append(", ");
+            }
+        }
+        return stringBuilder.append("}").toString();
+    }
+}
@@ -0,0 +1,187 @@
+package com.util.collections.concurrent;
+
+import com.util.collections.map.Map;
+
+import java.util.Comparator;
+import java.util.Iterator;
+
+/**
+ * A lock-free sorted set backed by a {@link ConcurrentSkipListMap}.
+ *
+ * <p><strong>Design Overview:</strong>
+ * Each element is a key of the backing map, mapped to {@link Boolean#TRUE}.
+ * Every operation delegates to the map and inherits its linearization points,
+ * its weakly consistent iterators and its expected O(log n) costs.
+ *
+ * <p><strong>Null Handling Policy:</strong>
+ * {@code null} elements are not permitted.
+ *
+ * <p><strong>Thread Safety:</strong>
+ * This class is <strong>thread-safe</strong> and lock-free.
+ *
+ * @param <E> the type of elements maintained by this set
+ */
+public class ConcurrentSkipListSet<E> implements Iterable<E> {
+
+    private final ConcurrentSkipListMap<E, Boolean> map;
+
+    /**
+     * Creates an empty set ordered by the elements' natural ordering.
+     */
+    public ConcurrentSkipListSet() {
+        this(null);
+    }
+
+    /**
+     * Creates an empty set ordered by {@code comparator}.
+     *
+     * @param comparator the element ordering, or {@code null} for natural ordering
+     */
+    public ConcurrentSkipListSet(Comparator<? super E> comparator) {
+        this.map = new ConcurrentSkipListMap<>(comparator);
+    }
+
+    /**
+     * Adds {@code e} if it is not already present.
+     *
+     * @return {@code true} if the set did not already contain {@code e}
+     * @throws IllegalArgumentException if {@code e} is {@code null}
+     */
+    public boolean add(E e) {
+        return map.putIfAbsent(e, Boolean.TRUE) == null;
+    }
+
+    /**
+     * Removes {@code e} if it is present.
+     *
+     * @return {@code true} if this call removed {@code e}
+     * @throws IllegalArgumentException if {@code e} is {@code null}
+     */
+    public boolean remove(E e) {
+        return map.remove(e) != null;
+    }
+
+    public boolean contains(E e) {
+        return map.containsKey(e);
+    }
+
+    /**
+     * Returns the number of elements; an estimate while updates are in flight.
+     */
+    public int size() {
+        return map.size();
+    }
+
+    public boolean isEmpty() {
+        return map.isEmpty();
+    }
+
+    public void clear() {
+        map.clear();
+    }
+
+    //==================== Navigation ============================================================//
+
+    /**
+     * @return the greatest element less than or equal to {@code e}, or {@code null} if there is none
+     */
+    public E floor(E e) {
+        return map.floorKey(e);
+    }
+
+    /**
+     * @return the greatest element strictly less than {@code e}, or {@code null} if there is none
+     */
+    public E lower(E e) {
+        return keyOf(map.lowerEntry(e));
+    }
+
+    /**
+     * @return the least element greater than or equal to {@code e}, or {@code null} if there is none
+     */
+    public E ceiling(E e) {
+        return map.ceilingKey(e);
+    }
+
+    /**
+     * @return the least element strictly greater than {@code e}, or {@code null} if there is none
+     */
+    public E higher(E e) {
+        return keyOf(map.higherEntry(e));
+    }
+
+    /**
+     * @return the least element, or {@code null} if the set is empty
+     */
+    public E first() {
+        return keyOf(map.firstEntry());
+    }
+
+    /**
+     * @return the greatest element, or {@code null} if the set is empty
+     */
+    public E last() {
+        return keyOf(map.lastEntry());
+    }
+    // ===========================================================================================//
+
+    //==================== Iteration =============================================================//
+
+    /**
+     * Returns a weakly consistent iterator over the elements in ascending order.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return keys(map.iterator());
+    }
+
+    /**
+     * Returns the elements between the given bounds in ascending order; see
+     * {@link ConcurrentSkipListMap#range(Object, boolean, Object, boolean)}.
+     *
+     * @param from          the lower bound, or {@code null} for none
+     * @param fromInclusive whether an element equal to {@code from} is included
+     * @param to            the upper bound, or {@code null} for none
+     * @param toInclusive   whether an element equal to {@code to} is included
+     * @return a reusable view of the range
+     */
+    public Iterable<E> range(E from, boolean fromInclusive, E to, boolean toInclusive) {
+        Iterable<Map.Entry<E, Boolean>> entries = map.range(from, fromInclusive, to, toInclusive);
+        return () -> keys(entries.iterator());
+    }
+
+    private static <E> Iterator<E> keys(Iterator<Map.Entry<E, Boolean>> entries) {
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return entries.hasNext();
+            }
+
+            @Override
+            public E next() {
+                return entries.next().getKey();
+            }
+        };
+    }
+    // ===========================================================================================//
+
+    private static <E> E keyOf(Map.Entry<E, ?> entry) {
+        return entry == null ? null : entry.getKey();
+    }
+
+    /**
+     * Returns a string of the form {@code ConcurrentSkipListSet{e1, e2}} in ascending order.
+     */
+    @Override
+    public String toString() {
+        StringBuilder stringBuilder = new StringBuilder(getClass().getSimpleName()).append("{");
+        Iterator<E> iterator = iterator();
+        while (iterator.hasNext()) {
+            stringBuilder.append(iterator.next());
+            if (iterator.hasNext()) {
+                stringBuilder.append(", ");
+            }
+        }
+        return stringBuilder.append("}").toString();
+    }
+}
@@ -0,0 +1,171 @@
+package com.util.collections.flow;
+
+import java.util.Iterator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A subscription that pulls items from an {@link Iterator} only as the
+ * subscriber requests them.
+ *
+ * <p><strong>Design Overview:</strong>
+ * All signals to the subscriber are emitted by a drain loop that runs as a task
+ * on the executor. {@link #request(long)} adds to the outstanding demand and
+ * schedules the loop; a work-in-progress counter guarantees that at most one
+ * loop runs at a time and that requests arriving while it runs are picked up
+ * before it exits. The loop advances the iterator once per delivered item, so
+ * no more than one item is ever held beyond what was requested.
+ *
+ * <p><strong>Signal Ordering:</strong>
+ * {@code onSubscribe} is the first action of the first drain, so it is
+ * serialized with every later {@code onNext}, {@code onError} and
+ * {@code onComplete} even when the subscriber requests from inside
+ * {@code onSubscribe}. Completion is signalled as soon as the iterator is
+ * found exhausted, without waiting for further demand.
+ *
+ * <p><strong>Error Handling:</strong>
+ * A non-positive request cancels the subscription and signals
+ * {@link IllegalArgumentException}. A runtime exception thrown by the iterator
+ * or by {@code onNext} cancels the subscription and is signalled through
+ * {@code onError}, as {@link java.util.concurrent.SubmissionPublisher} does.
+ * If the executor refuses a drain task, the subscription is cancelled and the
+ * exception is signalled through {@code onError} on the requesting thread.
+ *
+ * @param <T> the type of items delivered
+ */
+final class IteratorSubscription<T> implements Flow.Subscription, Runnable {
+
+    private final Flow.Subscriber<? super T> subscriber;
+    private final Iterator<? extends T> iterator;
+    private final Executor executor;
+
+    private final AtomicLong requested = new AtomicLong();
+    private final AtomicInteger wip = new AtomicInteger();
+    private volatile boolean cancelled;
+    private volatile Throwable invalidRequest;
+
+    /**
+     * Only accessed by the drain loop, which never runs concurrently with itself,
+     * or by {@link #rejected} in its place.
+     */
+    private boolean subscribed;
+    private boolean done;
+
+    IteratorSubscription(Flow.Subscriber<? super T> subscriber, Iterator<? extends T> iterator, Executor executor) {
+        this.subscriber = subscriber;
+        this.iterator = iterator;
+        this.executor = executor;
+    }
+
+    /**
+     * Schedules the first drain, which signals {@code onSubscribe}.
+     */
+    void start() {
+        schedule();
+    }
+
+    @Override
+    public void request(long n) {
+        if (n <= 0) {
+            invalidRequest = new IllegalArgumentException("request must be positive: " + n);
+        } else {
+            long current;
+            long next;
+            do {
+                current = requested.get();
+                next = current + n < 0 ? Long.MAX_VALUE : current + n;
+            } while (!requested.compareAndSet(current, next));
+        }
+        schedule();
+    }
+
+    @Override
+    public void cancel() {
+        cancelled = true;
+    }
+
+    private void schedule() {
+        if (wip.getAndIncrement() == 0) {
+            try {
+                executor.execute(this);
+            } catch (RuntimeException e) {
+                rejected(e);
+            }
+        }
+    }
+
+    /**
+     * Signals a failed hand-off to the executor. No drain is running and none
+     * can start while {@code wip} is held, so the calling thread may signal the
+     * subscriber directly; {@code onSubscribe} is sent first if it is still owed.
+     */
+    private void rejected(RuntimeException e) {
+        if (!done) {
+            terminate();
+            if (!subscribed) {
+                subscribed = true;
+                subscriber.onSubscribe(this);
+            }
+            subscriber.onError(e);
+        }
+        wip.set(0);
+    }
+
+    @Override
+    public void run() {
+        int missed = 1;
+        do {
+            if (!subscribed) {
+                subscribed = true;
+                subscriber.onSubscribe(this);
+            }
+            drain();
+            missed = wip.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    private void drain() {
+        if (done || cancelled) {
+            return;
+        }
+        Throwable error = invalidRequest;
+        if (error != null) {
+            terminate();
+            subscriber.onError(error);
+            return;
+        }
+        long demand = requested.get();
+        long emitted = 0;
+        try {
+            while (!cancelled) {
+                if (!iterator.hasNext()) {
+                    terminate();
+                    subscriber.onComplete();
+                    return;
+                }
+                if (emitted == demand) {
+                    break;
+                }
+                T item = iterator.next();
+                emitted++;
+                subscriber.onNext(item);
+            }
+        } catch (RuntimeException e) {
+            if (!done) {
+                terminate();
+                subscriber.onError(e);
+            }
+            return;
+        }
+        if (emitted != 0 && demand != Long.MAX_VALUE) {
+            requested.addAndGet(-emitted);
+        }
+    }
+
+    private void terminate() {
+        done = true;
+        cancelled = true;
+    }
+}
@@ -0,0 +1,425 @@
+package com.util.collections.flow;
+
+import com.util.collections.cache.Ticker;
+import com.util.collections.list.LinkedList;
+import com.util.collections.list.List;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Collects items into batches and hands each batch to a sink once it reaches a
+ * size limit or its oldest item reaches an age limit, whichever comes first.
+ *
+ * <p><strong>Design Overview:</strong>
+ * Items are appended to a {@link LinkedList} buffer under a lock. A flush does
+ * not copy or clear that buffer: it swaps in a fresh, empty list and passes the
+ * full one to the sink, so the hand-off is O(1) regardless of the batch size and
+ * the sink owns the batch outright. The sink runs on the configured executor,
+ * never under the lock, so producers are blocked only for the append itself.
+ *
+ * <p><strong>Triggers:</strong>
+ * <ul>
+ *   <li>Size: the {@link #add(Object)} call that fills the buffer to
+ *       {@code maxBatchSize} flushes it</li>
+ *   <li>Age: when an item enters an empty buffer, a timer is armed for
+ *       {@code maxDelay}; if the buffer has not been flushed by then, the timer
+ *       flushes it. Each flush advances a generation counter, so a timer armed
+ *       for an earlier batch never flushes a later one early. If the scheduler
+ *       rejects the timer, the batch could never age out, so the adding thread
+ *       flushes it at once instead</li>
+ *   <li>Explicitly through {@link #flush()} and {@link #close()}</li>
+ * </ul>
+ *
+ * <p><strong>Delivery:</strong>
+ * Batches are handed to the executor in flush order. They reach the sink in
+ * that order only if the executor runs tasks one at a time. Exceptions thrown by
+ * the sink are counted by {@link #failureCount()} and do not affect later
+ * batches. If the executor rejects a batch, for example because it has been
+ * shut down, the thread that flushed the batch runs the sink itself.
+ *
+ * <p><strong>Metrics:</strong>
+ * The batcher counts delivered batches and items and tracks the largest batch.
+ * A batch's latency runs from the arrival of its oldest item until the sink
+ * returns, so it includes both the time spent buffering and the time spent
+ * waiting for and running the sink.
+ *
+ * <p><strong>Thread Safety:</strong>
+ * All methods are thread-safe.
+ *
+ * @param <T> the type of items collected
+ */
+public class MicroBatcher<T> implements AutoCloseable {
+
+    private final Consumer<? super List<T>> sink;
+    private final int maxBatchSize;
+    private final long maxDelayNanos;
+    private final Executor executor;
+    private final ScheduledExecutorService scheduler;
+    private final boolean ownsScheduler;
+    private final Ticker ticker;
+
+    private final Object lock = new Object();
+
+    /** Guarded by {@code lock}. */
+    private LinkedList<T> buffer = new LinkedList<>(false);
+    private long bufferStart;
+    private long generation;
+    private ScheduledFuture<?> timer;
+    private boolean closed;
+
+    private final AtomicLong batchCount = new AtomicLong();
+    private final AtomicLong itemCount = new AtomicLong();
+    private final AtomicLong failureCount = new AtomicLong();
+    private final AtomicLong maxBatchSizeSeen = new AtomicLong();
+    private final AtomicLong totalLatencyNanos = new AtomicLong();
+    private final AtomicLong maxLatencyNanos = new AtomicLong();
+
+    private MicroBatcher(Builder<T> builder) {
+        this.sink = builder.sink;
+        this.maxBatchSize = builder.maxBatchSize;
+        this.maxDelayNanos = builder.maxDelayNanos;
+        this.executor = builder.executor;
+        this.ticker = builder.ticker;
+        if (builder.scheduler != null || maxDelayNanos == 0) {
+            this.scheduler = builder.scheduler;
+            this.ownsScheduler = false;
+        } else {
+            ScheduledThreadPoolExecutor ownScheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+                Thread thread = new Thread(runnable, "micro-batcher-timer");
+                thread.setDaemon(true);
+                return thread;
+            });
+            ownScheduler.setRemoveOnCancelPolicy(true);
+            this.scheduler = ownScheduler;
+            this.ownsScheduler = true;
+        }
+    }
+
+    /**
+     * Returns a builder for a batcher that delivers its batches to {@code sink}.
+     *
+     * @param sink receives each batch; it owns the list it is given
+     * @param <T>  the type of items collected
+     * @return a new builder
+     * @throws NullPointerException if {@code sink} is {@code null}
+     */
+    public static <T> Builder<T> builder(Consumer<? super List<T>> sink) {
+        return new Builder<>(sink);
+    }
+
+    //==================== Collection ============================================================//
+
+    /**
+     * Appends {@code item} to the current batch, flushing the batch if it is full.
+     *
+     * @param item the item to collect
+     * @throws IllegalArgumentException if {@code item} is {@code null}
+     * @throws IllegalStateException if the batcher has been closed
+     */
+    public void add(T item) {
+        if (item == null) {
+            throw new IllegalArgumentException("MicroBatcher does not allow null items");
+        }
+        LinkedList<T> batch = null;
+        long start = 0;
+        synchronized (lock) {
+            if (closed) {
+                throw new IllegalStateException("MicroBatcher is closed");
+            }
+            boolean startsBatch = buffer.isEmpty();
+            if (startsBatch) {
+                bufferStart = ticker.read();
+            }
+            buffer.add(item);
+            if (buffer.size() >= maxBatchSize || (startsBatch && !armTimer())) {
+                start = bufferStart;
+                batch = takeBuffer();
+            }
+        }
+        if (batch != null) {
+            dispatch(batch, start);
+        }
+    }
+
+    /**
+     * Hands the current batch to the sink now, if it holds any items.
+     *
+     * @return the number of items handed off
+     */
+    public int flush() {
+        LinkedList<T> batch;
+        long start;
+        synchronized (lock) {
+            if (buffer.isEmpty()) {
+                return 0;
+            }
+            start = bufferStart;
+            batch = takeBuffer();
+        }
+        int size = batch.size();
+        dispatch(batch, start);
+        return size;
+    }
+
+    /**
+     * Flushes the remaining items and stops accepting new ones. A scheduler
+     * created by the batcher itself is shut down; supplied executors are not.
+     */
+    @Override
+    public void close() {
+        synchronized (lock) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+        }
+        flush();
+        if (ownsScheduler) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    /**
+     * Returns the number of items waiting in the current batch.
+     */
+    public int pending() {
+        synchronized (lock) {
+            return buffer.size();
+        }
+    }
+
+    /**
+     * Swaps in an empty buffer and returns the full one. Must hold {@code lock}.
+     */
+    private LinkedList<T> takeBuffer() {
+        LinkedList<T> batch = buffer;
+        buffer = new LinkedList<>(false);
+        generation++;
+        if (timer != null) {
+            timer.cancel(false);
+            timer = null;
+        }
+        return batch;
+    }
+
+    /**
+     * Arms the age trigger for the batch that has just started. Must hold {@code lock}.
+     *
+     * @return {@code false} if the scheduler rejected the timer, in which case the
+     *         caller must flush the batch itself
+     */
+    private boolean armTimer() {
+        if (maxDelayNanos == 0) {
+            return true;
+        }
+        long armedGeneration = generation;
+        try {
+            timer = scheduler.schedule(() -> flushExpired(armedGeneration), maxDelayNanos, TimeUnit.NANOSECONDS);
+            return true;
+        } catch (RejectedExecutionException e) {
+            return false;
+        }
+    }
+
+    private void flushExpired(long armedGeneration) {
+        LinkedList<T> batch;
+        long start;
+        synchronized (lock) {
+            if (generation != armedGeneration || buffer.isEmpty()) {
+                return;
+            }
+            start = bufferStart;
+            batch = takeBuffer();
+        }
+        dispatch(batch, start);
+    }
+
+    /**
+     * Hands {@code batch} to the executor, or delivers it on the calling thread if
+     * the executor rejects it; the buffer has already been swapped out, so dropping
+     * the batch here would lose its items.
+     */
+    private void dispatch(LinkedList<T> batch, long start) {
+        try {
+            executor.execute(() -> deliver(batch, start));
+        } catch (RejectedExecutionException e) {
+            deliver(batch, start);
+        }
+    }
+
+    private void deliver(LinkedList<T> batch, long start) {
+        int size = batch.size();
+        try {
+            sink.accept(batch);
+        } catch (RuntimeException e) {
+            failureCount.incrementAndGet();
+        }
+        long latency = ticker.read() - start;
+        batchCount.incrementAndGet();
+        itemCount.addAndGet(size);
+        maxBatchSizeSeen.accumulateAndGet(size, Math::max);
+        totalLatencyNanos.addAndGet(latency);
+        maxLatencyNanos.accumulateAndGet(latency, Math::max);
+    }
+    // ===========================================================================================//
+
+    //==================== Metrics ===============================================================//
+
+    /**
+     * Returns the number of batches the sink has finished processing, including failed ones.
+     */
+    public long batchCount() {
+        return batchCount.get();
+    }
+
+    /**
+     * Returns the number of items in all batches the sink has finished processing.
+     */
+    public long itemCount() {
+        return itemCount.get();
+    }
+
+    /**
+     * Returns the number of batches for which the sink threw an exception.
+     */
+    public long failureCount() {
+        return failureCount.get();
+    }
+
+    /**
+     * Returns the mean number of items per delivered batch.
+     *
+     * @return {@code itemCount / batchCount}, or {@code 0} before the first delivery
+     */
+    public double averageBatchSize() {
+        long batches = batchCount.get();
+        return batches == 0 ? 0 : (double) itemCount.get() / batches;
+    }
+
+    public long maxObservedBatchSize() {
+        return maxBatchSizeSeen.get();
+    }
+
+    /**
+     * Returns the mean time from the arrival of a batch's oldest item until the
+     * sink returned.
+     *
+     * @return the mean latency, or {@link Duration#ZERO} before the first delivery
+     */
+    public Duration averageLatency() {
+        long batches = batchCount.get();
+        return batches == 0 ? Duration.ZERO : Duration.ofNanos(totalLatencyNanos.get() / batches);
+    }
+
+    public Duration maxLatency() {
+        return Duration.ofNanos(maxLatencyNanos.get());
+    }
+    // ===========================================================================================//
+
+    /**
+     * Configures and creates a {@link MicroBatcher}.
+     *
+     * <p>
+     * Defaults: a maximum batch size of 1000, no age trigger, delivery on
+     * {@link ForkJoinPool#commonPool()} and {@link Ticker#system()} for latency.
+     * </p>
+     *
+     * @param <T> the type of items collected
+     */
+    public static final class Builder<T> {
+
+        private final Consumer<? super List<T>> sink;
+        private int maxBatchSize = 1000;
+        private long maxDelayNanos;
+        private Executor executor = ForkJoinPool.commonPool();
+        private ScheduledExecutorService scheduler;
+        private Ticker ticker = Ticker.system();
+
+        private Builder(Consumer<? super List<T>> sink) {
+            this.sink = Objects.requireNonNull(sink, "sink must not be null");
+        }
+
+        /**
+         * Flushes a batch as soon as it holds {@code maxBatchSize} items.
+         *
+         * @param maxBatchSize the size trigger
+         * @return this builder
+         * @throws IllegalArgumentException if {@code maxBatchSize} is not positive
+         */
+        public Builder<T> maxBatchSize(int maxBatchSize) {
+            if (maxBatchSize <= 0) {
+                throw new IllegalArgumentException("maxBatchSize must be positive: " + maxBatchSize);
+            }
+            this.maxBatchSize = maxBatchSize;
+            return this;
+        }
+
+        /**
+         * Flushes a batch once its oldest item has waited for {@code maxDelay}.
+         *
+         * @param maxDelay the age trigger
+         * @return this builder
+         * @throws IllegalArgumentException if {@code maxDelay} is not positive
+         */
+        public Builder<T> maxDelay(Duration maxDelay) {
+            Objects.requireNonNull(maxDelay, "maxDelay must not be null");
+            if (maxDelay.isNegative() || maxDelay.isZero()) {
+                throw new IllegalArgumentException("maxDelay must be positive: " + maxDelay);
+            }
+            this.maxDelayNanos = maxDelay.toNanos();
+            return this;
+        }
+
+        /**
+         * Sets the executor that runs the sink, e.g. a virtual-thread-per-task executor.
+         *
+         * @param executor the delivery executor
+         * @return this builder
+         * @throws NullPointerException if {@code executor} is {@code null}
+         */
+        public Builder<T> executor(Executor executor) {
+            this.executor = Objects.requireNonNull(executor, "executor must not be null");
+            return this;
+        }
+
+        /**
+         * Sets the scheduler for age triggers. Without one, the batcher starts a
+         * single daemon timer thread when an age trigger is configured and stops
+         * it on {@link MicroBatcher#close()}.
+         *
+         * @param scheduler the timer scheduler
+         * @return this builder
+         * @throws NullPointerException if {@code scheduler} is {@code null}
+         */
+        public Builder<T> scheduler(ScheduledExecutorService scheduler) {
+            this.scheduler = Objects.requireNonNull(scheduler, "scheduler must not be null");
+            return this;
+        }
+
+        /**
+         * Sets the time source used for latency metrics; defaults to {@link Ticker#system()}.
+         *
+         * @param ticker the time source
+         * @return this builder
+         * @throws NullPointerException if {@code ticker} is {@code null}
+         */
+        public Builder<T> ticker(Ticker ticker) {
+            this.ticker = Objects.requireNonNull(ticker, "ticker must not be null");
+            return this;
+        }
+
+        public MicroBatcher<T> build() {
+            return new MicroBatcher<>(this);
+        }
+    }
+}
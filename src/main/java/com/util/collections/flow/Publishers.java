@@ -0,0 +1,248 @@
+package com.util.collections.flow;
+
+import com.util.collections.list.LinkedList;
+import com.util.collections.list.List;
+import com.util.collections.queue.Queue;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Factory methods for {@link Flow.Publisher}s that stream the contents of the
+ * framework's lists and queues under subscriber-driven backpressure.
+ *
+ * <p><strong>Design Overview:</strong>
+ * Every subscription owns a cursor into its source and advances it only when
+ * the subscriber has outstanding demand: one element per {@code onNext}, or one
+ * batch of up to {@code batchSize} elements for the batched variants. Nothing is
+ * copied or buffered ahead of demand, so a slow subscriber reading a
+ * multi-million-element list keeps memory bounded by its own request size.
+ * Signals are delivered on the supplied {@link Executor}; see
+ * {@link IteratorSubscription} for the delivery protocol.
+ *
+ * <p><strong>List Sources:</strong>
+ * List publishers are cold: each subscriber walks the list from the start with
+ * its own iterator, which for {@link LinkedList} is a node cursor. The list
+ * must not be structurally modified while a subscription is active.
+ *
+ * <p><strong>Queue Sources:</strong>
+ * Queue publishers are destructive: each delivered element is removed with
+ * {@link Queue#poll()}, and the stream completes as soon as the queue is found
+ * empty. Since the framework's queues are not thread-safe, a queue publisher
+ * accepts a single subscriber; later subscribers receive
+ * {@link IllegalStateException} through {@code onError}.
+ *
+ * <p><strong>Executors:</strong>
+ * Delivery tasks are short-lived and block only inside subscriber callbacks,
+ * so any executor works, including a virtual-thread-per-task executor on
+ * runtimes that provide one. {@code Runnable::run} delivers synchronously on
+ * the requesting thread.
+ */
+public final class Publishers {
+
+    private Publishers() {
+    }
+
+    /**
+     * Returns a publisher that emits the elements of {@code list} one per {@code onNext}.
+     *
+     * @param list     the list to stream
+     * @param executor runs the delivery tasks
+     * @param <T>      the element type
+     * @return a cold publisher over {@code list}
+     * @throws IllegalArgumentException if an argument is {@code null}
+     */
+    public static <T> Flow.Publisher<T> fromList(List<T> list, Executor executor) {
+        checkNotNull(list, "list");
+        checkNotNull(executor, "executor");
+        return new IteratorPublisher<>(list::iterator, executor);
+    }
+
+    /**
+     * Returns a publisher that emits the elements of {@code list} in batches of
+     * up to {@code batchSize}, one batch per unit of demand.
+     *
+     * @param list      the list to stream
+     * @param batchSize the maximum number of elements per batch
+     * @param executor  runs the delivery tasks
+     * @param <T>       the element type
+     * @return a cold publisher of batches over {@code list}
+     * @throws IllegalArgumentException if an argument is {@code null} or {@code batchSize} is not positive
+     */
+    public static <T> Flow.Publisher<List<T>> fromListBatched(List<T> list, int batchSize, Executor executor) {
+        checkNotNull(list, "list");
+        checkNotNull(executor, "executor");
+        checkBatchSize(batchSize);
+        return new IteratorPublisher<>(() -> new BatchIterator<>(list.iterator(), batchSize), executor);
+    }
+
+    /**
+     * Returns a publisher that removes and emits the elements of {@code queue}
+     * one per {@code onNext}, completing once the queue is empty.
+     *
+     * @param queue    the queue to drain
+     * @param executor runs the delivery tasks
+     * @param <T>      the element type
+     * @return a single-subscriber publisher draining {@code queue}
+     * @throws IllegalArgumentException if an argument is {@code null}
+     */
+    public static <T> Flow.Publisher<T> fromQueue(Queue<T> queue, Executor executor) {
+        checkNotNull(queue, "queue");
+        checkNotNull(executor, "executor");
+        return new SingleUsePublisher<>(new IteratorPublisher<>(() -> new PollIterator<>(queue), executor));
+    }
+
+    /**
+     * Returns a publisher that removes and emits the elements of {@code queue}
+     * in batches of up to {@code batchSize}, completing once the queue is empty.
+     *
+     * @param queue     the queue to drain
+     * @param batchSize the maximum number of elements per batch
+     * @param executor  runs the delivery tasks
+     * @param <T>       the element type
+     * @return a single-subscriber publisher of batches draining {@code queue}
+     * @throws IllegalArgumentException if an argument is {@code null} or {@code batchSize} is not positive
+     */
+    public static <T> Flow.Publisher<List<T>> fromQueueBatched(Queue<T> queue, int batchSize, Executor executor) {
+        checkNotNull(queue, "queue");
+        checkNotNull(executor, "executor");
+        checkBatchSize(batchSize);
+        return new SingleUsePublisher<>(new IteratorPublisher<>(
+                () -> new BatchIterator<>(new PollIterator<>(queue), batchSize), executor));
+    }
+
+    //==================== Publishers ============================================================//
+
+    /**
+     * Starts one {@link IteratorSubscription} per subscriber over a fresh iterator.
+     */
+    private static final class IteratorPublisher<T> implements Flow.Publisher<T> {
+
+        private final Supplier<? extends Iterator<? extends T>> source;
+        private final Executor executor;
+
+        IteratorPublisher(Supplier<? extends Iterator<? extends T>> source, Executor executor) {
+            this.source = source;
+            this.executor = executor;
+        }
+
+        @Override
+        public void subscribe(Flow.Subscriber<? super T> subscriber) {
+            Objects.requireNonNull(subscriber, "subscriber");
+            new IteratorSubscription<>(subscriber, source.get(), executor).start();
+        }
+    }
+
+    /**
+     * Admits the first subscriber and rejects every later one.
+     */
+    private static final class SingleUsePublisher<T> implements Flow.Publisher<T> {
+
+        private final Flow.Publisher<T> delegate;
+        private final AtomicBoolean subscribed = new AtomicBoolean();
+
+        SingleUsePublisher(Flow.Publisher<T> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void subscribe(Flow.Subscriber<? super T> subscriber) {
+            Objects.requireNonNull(subscriber, "subscriber");
+            if (subscribed.compareAndSet(false, true)) {
+                delegate.subscribe(subscriber);
+                return;
+            }
+            subscriber.onSubscribe(CancelledSubscription.INSTANCE);
+            subscriber.onError(new IllegalStateException("Queue publisher allows a single subscriber"));
+        }
+    }
+
+    private enum CancelledSubscription implements Flow.Subscription {
+        INSTANCE;
+
+        @Override
+        public void request(long n) {
+        }
+
+        @Override
+        public void cancel() {
+        }
+    }
+    // ===========================================================================================//
+
+    //==================== Cursors ===============================================================//
+
+    /**
+     * Presents a queue as an iterator whose {@code next()} removes the head.
+     */
+    private static final class PollIterator<T> implements Iterator<T> {
+
+        private final Queue<T> queue;
+
+        PollIterator(Queue<T> queue) {
+            this.queue = queue;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !queue.isEmpty();
+        }
+
+        @Override
+        public T next() {
+            if (queue.isEmpty()) {
+                throw new NoSuchElementException();
+            }
+            return queue.poll();
+        }
+    }
+
+    /**
+     * Groups consecutive elements of an iterator into lists of up to {@code batchSize}.
+     */
+    private static final class BatchIterator<T> implements Iterator<List<T>> {
+
+        private final Iterator<T> source;
+        private final int batchSize;
+
+        BatchIterator(Iterator<T> source, int batchSize) {
+            this.source = source;
+            this.batchSize = batchSize;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return source.hasNext();
+        }
+
+        @Override
+        public List<T> next() {
+            if (!source.hasNext()) {
+                throw new NoSuchElementException();
+            }
+            LinkedList<T> batch = new LinkedList<>(true);
+            for (int i = 0; i < batchSize && source.hasNext(); i++) {
+                batch.add(source.next());
+            }
+            return batch;
+        }
+    }
+    // ===========================================================================================//
+
+    private static void checkNotNull(Object o, String name) {
+        if (o == null) {
+            throw new IllegalArgumentException(name + " must not be null");
+        }
+    }
+
+    private static void checkBatchSize(int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize must be positive: " + batchSize);
+        }
+    }
+}
@@ -1,7 +1,19 @@
 package com.util.collections.list;
 
+import com.util.collections.Equivalence;
+
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.Iterator;
 import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+import java.util.function.ObjIntConsumer;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
 /**
  * Abstract base class for {@link List} implementations that centralizes
@@ -28,6 +40,8 @@ import java.util.Objects;
  * <ul>
  *   <li>{@code count} represents the number of elements currently stored</li>
  *   <li>{@code isNullable} defines whether {@code null} elements are permitted</li>
+ *   <li>{@code equivalence} decides which elements {@code contains} and
+ *       {@code remove} consider equal</li>
  * </ul>
  *
  * <h2>Index Semantics</h2>
@@ -74,13 +88,41 @@ abstract class AbstractList<T> implements List<T> {
     protected final boolean isNullable;
 
     /**
-     * Constructs an {@code AbstractList} with the specified nullability policy.
+     * The strategy used by lookups and removals by value.
+     *
+     * <p>
+     * {@link #equals(Object)} and {@link #hashCode()} keep using element
+     * {@code equals} and {@code hashCode}, as the {@link List} contract requires.
+     * </p>
+     */
+    protected final Equivalence<? super T> equivalence;
+
+    /**
+     * Constructs an {@code AbstractList} with the specified nullability policy
+     * that compares elements with {@code equals}.
      *
      * @param isNullable {@code true} if {@code null} elements are allowed;
      *                   {@code false} otherwise
      */
     protected AbstractList(boolean isNullable) {
+        this(isNullable, Equivalence.equality());
+    }
+
+    /**
+     * Constructs an {@code AbstractList} with the specified nullability policy
+     * and equivalence.
+     *
+     * @param isNullable  {@code true} if {@code null} elements are allowed;
+     *                    {@code false} otherwise
+     * @param equivalence decides when two elements are equal
+     * @throws IllegalArgumentException if {@code equivalence} is {@code null}
+     */
+    protected AbstractList(boolean isNullable, Equivalence<? super T> equivalence) {
+        if (equivalence == null) {
+            throw new IllegalArgumentException("equivalence must not be null");
+        }
         this.isNullable = isNullable;
+        this.equivalence = equivalence;
     }
 
     /**
@@ -164,12 +206,37 @@ abstract class AbstractList<T> implements List<T> {
         }
     }
 
+    /**
+     * Determines whether {@code stored} and {@code val} are equal under this
+     * list's {@link #equivalence}; {@code null} is equal only to {@code null}.
+     *
+     * <p>
+     * The built-in equivalences are recognized by reference and compared
+     * inline, so lists using them never make an interface call per element.
+     * </p>
+     *
+     * @param stored an element of this list
+     * @param val    the value being looked up
+     * @return {@code true} if the two are equal
+     */
+    protected final boolean isEquivalent(T stored, T val) {
+        if (stored == val) {
+            return true;
+        }
+        if (stored == null || val == null || equivalence == Equivalence.identity()) {
+            return false;
+        }
+        return equivalence == Equivalence.equality() ? stored.equals(val) : equivalence.equivalent(stored, val);
+    }
+
     /**
      * Determines whether this list contains an element equal to the specified value.
      *
      * <p>
-     * Equality comparison is performed using {@link Objects#equals(Object, Object)}
-     * to safely support nullable elements when permitted by the list's policy.
+     * Equality is decided by {@link #isEquivalent(Object, Object)}, which
+     * safely supports nullable elements when permitted by the list's policy.
+     * This implementation scans with {@link #iterator()}; lists that can walk
+     * their storage directly override it to avoid creating the iterator.
      * </p>
      *
      * <h3>Performance Characteristics</h3>
@@ -191,7 +258,7 @@ abstract class AbstractList<T> implements List<T> {
             return false;
         }
         for (T v : this) {
-            if (Objects.equals(v, val)) {
+            if (isEquivalent(v, val)) {
                 return true;
             }
         }
@@ -214,8 +281,8 @@ abstract class AbstractList<T> implements List<T> {
      * </p>
      *
      * @implNote
-     * Correctness depends on a proper implementation of
-     * {@link Object#equals(Object)} for the element type {@code T}.
+     * Correctness depends on a proper implementation of the list's
+     * {@link Equivalence}, which defaults to {@link Object#equals(Object)}.
      */
     @Override
     public boolean containsAll(Iterable<T> iterable) {
@@ -228,6 +295,165 @@ abstract class AbstractList<T> implements List<T> {
         return true;
     }
 
+    //==================== Internal Iteration ====================================================//
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * This implementation iterates with {@link #iterator()}.
+     * </p>
+     */
+    @Override
+    public void forEach(Consumer<? super T> action) {
+        Objects.requireNonNull(action, "action must not be null");
+        for (T v : this) {
+            action.accept(v);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * This implementation counts positions while iterating with
+     * {@link #iterator()}.
+     * </p>
+     */
+    @Override
+    public void forEachIndexed(ObjIntConsumer<? super T> action) {
+        Objects.requireNonNull(action, "action must not be null");
+        int index = 0;
+        for (T v : this) {
+            action.accept(v, index++);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * This implementation iterates with {@link #iterator()}.
+     * </p>
+     */
+    @Override
+    public boolean forEachUntil(Predicate<? super T> stop) {
+        Objects.requireNonNull(stop, "stop must not be null");
+        for (T v : this) {
+            if (stop.test(v)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * This implementation iterates with {@link #iterator()}.
+     * </p>
+     */
+    @Override
+    public <R> R fold(R identity, BiFunction<R, ? super T, R> accumulator) {
+        Objects.requireNonNull(accumulator, "accumulator must not be null");
+        R result = identity;
+        for (T v : this) {
+            result = accumulator.apply(result, v);
+        }
+        return result;
+    }
+    // ===========================================================================================//
+
+    //==================== Array Export ==========================================================//
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * The exporters in this section allocate their result once, sized from
+     * {@code count}, and fill it through {@link #forEachIndexed(ObjIntConsumer)},
+     * so subclasses with a direct traversal fill it without an iterator.
+     * </p>
+     */
+    @Override
+    public Object[] toArray() {
+        Object[] result = new Object[count];
+        forEachIndexed((v, i) -> result[i] = v);
+        return result;
+    }
+
+    @Override
+    public T[] toArray(IntFunction<T[]> generator) {
+        Objects.requireNonNull(generator, "generator must not be null");
+        T[] result = generator.apply(count);
+        if (result.length < count) {
+            throw new IllegalArgumentException(
+                    "Generated array length " + result.length + " is smaller than size " + count);
+        }
+        forEachIndexed((v, i) -> result[i] = v);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * This implementation copies the elements with
+     * {@link #forEachIndexed(ObjIntConsumer)} and then calls {@link #clear()}.
+     * </p>
+     */
+    @Override
+    public int drainTo(T[] dest, int offset) {
+        checkDrainTarget(dest, offset, count);
+        int n = count;
+        forEachIndexed((v, i) -> dest[offset + i] = v);
+        clear();
+        return n;
+    }
+
+    @Override
+    public int[] toIntArray(ToIntFunction<? super T> mapper) {
+        Objects.requireNonNull(mapper, "mapper must not be null");
+        int[] result = new int[count];
+        forEachIndexed((v, i) -> result[i] = mapper.applyAsInt(v));
+        return result;
+    }
+
+    @Override
+    public long[] toLongArray(ToLongFunction<? super T> mapper) {
+        Objects.requireNonNull(mapper, "mapper must not be null");
+        long[] result = new long[count];
+        forEachIndexed((v, i) -> result[i] = mapper.applyAsLong(v));
+        return result;
+    }
+
+    @Override
+    public double[] toDoubleArray(ToDoubleFunction<? super T> mapper) {
+        Objects.requireNonNull(mapper, "mapper must not be null");
+        double[] result = new double[count];
+        forEachIndexed((v, i) -> result[i] = mapper.applyAsDouble(v));
+        return result;
+    }
+
+    /**
+     * Validates that {@code size} elements fit into {@code dest} starting at {@code offset}.
+     *
+     * @param dest   the destination array
+     * @param offset the first destination position
+     * @param size   the number of elements to store
+     * @throws NullPointerException if {@code dest} is {@code null}
+     * @throws IndexOutOfBoundsException if the range does not fit
+     */
+    protected static void checkDrainTarget(Object[] dest, int offset, int size) {
+        Objects.requireNonNull(dest, "dest must not be null");
+        if (offset < 0 || offset > dest.length - size) {
+            throw new IndexOutOfBoundsException(
+                    "Offset: " + offset + ", Length: " + dest.length + ", Size: " + size);
+        }
+    }
+    // ===========================================================================================//
+
     @Override
     public boolean addAll(Iterable<T> iterable) {
         Objects.requireNonNull(iterable, "iterable must not be null");
@@ -237,6 +463,182 @@ abstract class AbstractList<T> implements List<T> {
         return true;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * This implementation copies the elements into an array, sorts the array
+     * with the stable {@link Arrays#sort(Object[], Comparator)} and writes the
+     * result back position by position through {@link #set(int, Object)}.
+     * Implementations with cheaper in-place strategies should override it.
+     * </p>
+     *
+     * @implNote
+     * Requires {@code O(n)} temporary space and performs {@code n} calls to
+     * {@code set}, so the total cost depends on the subclass's positional access.
+     */
+    @Override
+    public void sort(Comparator<? super T> c) {
+        Object[] elements = new Object[count];
+        int i = 0;
+        for (T v : this) {
+            elements[i++] = v;
+        }
+        sortArray(elements, c);
+        for (i = 0; i < elements.length; i++) {
+            @SuppressWarnings("unchecked")
+            T value = (T) elements[i];
+            set(i, value);
+        }
+    }
+
+    /**
+     * Stable-sorts an array of elements of this list with the given comparator,
+     * falling back to natural ordering for a {@code null} comparator.
+     *
+     * @param elements the elements to sort in place
+     * @param c        the comparator, or {@code null} for natural ordering
+     */
+    @SuppressWarnings("unchecked")
+    protected void sortArray(Object[] elements, Comparator<? super T> c) {
+        Arrays.sort(elements, (Comparator<Object>) c);
+    }
+
+    /**
+     * Returns {@code c}, or a natural-ordering comparator if {@code c} is {@code null}.
+     *
+     * @param c the requested comparator
+     * @return a non-null comparator
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    protected Comparator<? super T> naturalIfNull(Comparator<? super T> c) {
+        return c != null ? c : (Comparator) Comparator.naturalOrder();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * This implementation returns a generic view that translates positions by
+     * the range offset and delegates to {@link #get(int)}, {@link #set(int, Object)},
+     * {@link #add(Object, int)} and {@link #removeRange(int, int)}. Implementations
+     * with cheaper range access, such as linked structures that can remember the
+     * node preceding the range, should override it.
+     * </p>
+     */
+    @Override
+    public List<T> subList(int fromIndex, int toIndex) {
+        checkSubListRange(fromIndex, toIndex);
+        return new SubList<>(this, fromIndex, toIndex);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * This implementation returns a cursor that delegates to {@link #get(int)},
+     * {@link #set(int, Object)}, {@link #add(Object, int)} and
+     * {@link #removeRange(int, int)}, so each step costs one positional
+     * operation. Linked implementations should override it with a node cursor.
+     * </p>
+     */
+    @Override
+    public ListIterator<T> listIterator() {
+        return new IndexListIterator<>(this);
+    }
+
+    /**
+     * Validates a {@code [fromIndex, toIndex)} range against the current size.
+     *
+     * @param fromIndex the inclusive start of the range
+     * @param toIndex   the exclusive end of the range
+     * @throws IndexOutOfBoundsException if either bound is outside {@code [0, count]}
+     * @throws IllegalArgumentException if {@code fromIndex > toIndex}
+     */
+    protected void checkSubListRange(int fromIndex, int toIndex) {
+        checkIsInsertable(fromIndex);
+        checkIsInsertable(toIndex);
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException("fromIndex(" + fromIndex + ") > toIndex(" + toIndex + ")");
+        }
+    }
+
+    /**
+     * Removes the elements in {@code [fromIndex, toIndex)}, shifting later
+     * elements left.
+     *
+     * <p>
+     * This is the bulk-removal hook used by range views. Implementations are
+     * expected to remove the whole range in a single structural operation,
+     * for example one splice or one array copy, rather than element by element.
+     * The range has already been validated by the caller.
+     * </p>
+     *
+     * @param fromIndex the inclusive start of the range
+     * @param toIndex   the exclusive end of the range
+     * @throws UnsupportedOperationException if this list does not support removal
+     */
+    protected void removeRange(int fromIndex, int toIndex) {
+        throw new UnsupportedOperationException(getClass().getSimpleName() + " does not support removeRange");
+    }
+
+    /**
+     * Compares this list with {@code o} for equality.
+     *
+     * <p><strong>Contract:</strong>
+     * Returns {@code true} if and only if {@code o} is a {@link List} of the same
+     * size whose elements are pairwise equal, in order, as determined by
+     * {@link Objects#equals(Object, Object)}. Lists of different
+     * implementations or nullability policies can be equal.
+     *
+     * <p><strong>Performance Characteristics:</strong>
+     * O(1) when the sizes differ, otherwise O(n) with an exit at the first
+     * mismatch. Both lists are traversed with their iterators.
+     *
+     * @param o the object to compare with
+     * @return {@code true} if {@code o} is an equal list
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (o == this) {
+            return true;
+        }
+        if (!(o instanceof List)) {
+            return false;
+        }
+        List<?> other = (List<?>) o;
+        if (other.size() != count) {
+            return false;
+        }
+        Iterator<?> iterator = other.iterator();
+        for (T v : this) {
+            if (!iterator.hasNext() || !Objects.equals(v, iterator.next())) {
+                return false;
+            }
+        }
+        return !iterator.hasNext();
+    }
+
+    /**
+     * Returns the hash code of this list.
+     *
+     * <p><strong>Contract:</strong>
+     * The hash is {@code 31 * h + Objects.hashCode(e)} folded over the elements
+     * in order, starting from {@code h = 1}, so lists that are
+     * {@link #equals(Object) equal} have equal hash codes regardless of their
+     * implementation.
+     *
+     * @return the order-sensitive hash of the elements
+     */
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        for (T v : this) {
+            hash = 31 * hash + Objects.hashCode(v);
+        }
+        return hash;
+    }
+
     /**
      * Returns a string representation of this list.
      *
@@ -269,8 +671,9 @@ abstract class AbstractList<T> implements List<T> {
      *
      * <p><strong>Design Notes:</strong>
      * <ul>
-     *   <li>This implementation relies solely on the public {@link Iterator}
-     *       abstraction rather than internal node or array structures</li>
+     *   <li>This implementation traverses through {@link #forEachIndexed(ObjIntConsumer)}
+     *       rather than internal node or array structures, so subclasses that
+     *       override it also format without allocating an iterator</li>
      *   <li>The method is side-effect free and does not modify list state</li>
      *   <li>Subclasses automatically inherit correct string formatting without
      *       additional overrides</li>
@@ -280,18 +683,17 @@ abstract class AbstractList<T> implements List<T> {
      */
     @Override
     public String toString() {
-        Iterator<T> iterator = iterator();
-        if (!iterator.hasNext()) {
+        if (isEmpty()) {
             return getClass().getSimpleName() + "{}";
         }
         StringBuilder stringBuilder = new StringBuilder();
         stringBuilder.append(getClass().getSimpleName()).append("{");
-        while (iterator.hasNext()) {
-            stringBuilder.append(iterator.next());
-            if (iterator.hasNext()) {
+        forEachIndexed((v, i) -> {
+            if (i > 0) {
                 stringBuilder.append(", ");
             }
-        }
+            stringBuilder.append(v);
+        });
         stringBuilder.append("}");
         return stringBuilder.toString();
     }
@@ -0,0 +1,253 @@
+package com.util.collections.list;
+
+import com.util.collections.Equivalence;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+import java.util.function.ObjIntConsumer;
+import java.util.function.Predicate;
+
+/**
+ * An unmodifiable, array-backed list produced by {@link LinkedList#freeze()}
+ * and {@link LinkedList#toImmutable()}.
+ *
+ * <p><strong>Design Overview:</strong>
+ * The elements occupy {@code elements[offset .. offset + count)} of an array
+ * that is never written after construction. Positional access is a single
+ * array load and traversal walks contiguous memory, so a list that is built
+ * once and then only read no longer pays for pointer chasing. Sub-lists share
+ * the array and cost O(1).
+ *
+ * <p><strong>Mutation:</strong>
+ * Every mutating operation throws {@link UnsupportedOperationException}.
+ * {@link #thaw()} copies the elements into a new {@link LinkedList} that can
+ * be edited and frozen again.
+ *
+ * <p><strong>Null Handling Policy:</strong>
+ * The list keeps the nullability policy and equivalence of the list it was
+ * created from, so lookups behave as they did before freezing.
+ *
+ * <p><strong>Performance Characteristics:</strong>
+ * <ul>
+ *   <li>{@code get}, {@code size}, {@code subList}: O(1)</li>
+ *   <li>{@code contains}, iteration: O(n) over contiguous memory</li>
+ *   <li>{@code hashCode}: O(n) once, then cached</li>
+ * </ul>
+ *
+ * <p><strong>Thread Safety:</strong>
+ * Instances are immutable and may be shared between threads without
+ * synchronization once safely published.
+ *
+ * @param <T> the type of elements maintained by this list
+ */
+public final class ImmutableList<T> extends AbstractList<T> {
+
+    private final Object[] elements;
+    private final int offset;
+
+    /**
+     * The cached hash code, or {@code 0} if not yet computed. A single field
+     * makes the unsynchronized caching a benign race, as in {@link String}.
+     */
+    private int hash;
+
+    /**
+     * Takes ownership of {@code elements}, which the caller must not modify afterwards.
+     */
+    ImmutableList(Object[] elements, boolean isNullable, Equivalence<? super T> equivalence) {
+        this(elements, 0, elements.length, isNullable, equivalence);
+    }
+
+    private ImmutableList(Object[] elements, int offset, int length,
+                          boolean isNullable, Equivalence<? super T> equivalence) {
+        super(isNullable, equivalence);
+        this.elements = elements;
+        this.offset = offset;
+        this.count = length;
+    }
+
+    //==================== Read Operations =======================================================//
+
+    @Override
+    public T get(int index) {
+        checkIndexOrElseThrow(index);
+        return elementAt(offset + index);
+    }
+
+    @Override
+    public int size() {
+        return count;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    /**
+     * Returns a view of {@code [fromIndex, toIndex)} that shares this list's array.
+     */
+    @Override
+    public ImmutableList<T> subList(int fromIndex, int toIndex) {
+        checkSubListRange(fromIndex, toIndex);
+        return new ImmutableList<>(elements, offset + fromIndex, toIndex - fromIndex, isNullable, equivalence);
+    }
+
+    /**
+     * Returns a new mutable {@link LinkedList} with the same elements, nullability
+     * policy and equivalence. This list is unaffected.
+     *
+     * @return a mutable copy of this list
+     */
+    public LinkedList<T> thaw() {
+        LinkedList<T> list = new LinkedList<>(isNullable, equivalence);
+        for (int i = offset, end = offset + count; i < end; i++) {
+            list.add(elementAt(i));
+        }
+        return list;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * The hash is computed on first use and cached; the contents cannot change.
+     * A list whose hash is {@code 0} recomputes it on every call.
+     * </p>
+     */
+    @Override
+    public int hashCode() {
+        int h = hash;
+        if (h == 0) {
+            h = super.hashCode();
+            hash = h;
+        }
+        return h;
+    }
+    // ===========================================================================================//
+
+    //==================== Iteration and Export ==================================================//
+
+    @Override
+    public void forEach(Consumer<? super T> action) {
+        Objects.requireNonNull(action, "action must not be null");
+        for (int i = offset, end = offset + count; i < end; i++) {
+            action.accept(elementAt(i));
+        }
+    }
+
+    @Override
+    public boolean forEachUntil(Predicate<? super T> stop) {
+        Objects.requireNonNull(stop, "stop must not be null");
+        for (int i = offset, end = offset + count; i < end; i++) {
+            if (stop.test(elementAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void forEachIndexed(ObjIntConsumer<? super T> action) {
+        Objects.requireNonNull(action, "action must not be null");
+        for (int i = 0; i < count; i++) {
+            action.accept(elementAt(offset + i), i);
+        }
+    }
+
+    @Override
+    public Object[] toArray() {
+        return Arrays.copyOfRange(elements, offset, offset + count);
+    }
+
+    @Override
+    public T[] toArray(IntFunction<T[]> generator) {
+        Objects.requireNonNull(generator, "generator must not be null");
+        T[] result = generator.apply(count);
+        if (result.length < count) {
+            throw new IllegalArgumentException(
+                    "Generated array length " + result.length + " is smaller than size " + count);
+        }
+        System.arraycopy(elements, offset, result, 0, count);
+        return result;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<>() {
+            private int cursor = offset;
+            private final int end = offset + count;
+
+            @Override
+            public boolean hasNext() {
+                return cursor < end;
+            }
+
+            @Override
+            public T next() {
+                if (cursor >= end) {
+                    throw new NoSuchElementException();
+                }
+                return elementAt(cursor++);
+            }
+        };
+    }
+    // ===========================================================================================//
+
+    //==================== Unsupported Mutations =================================================//
+
+    @Override
+    public boolean add(T val) {
+        throw unsupported("add");
+    }
+
+    @Override
+    public boolean add(T val, int index) {
+        throw unsupported("add");
+    }
+
+    @Override
+    public boolean addAll(Iterable<T> iterable) {
+        throw unsupported("addAll");
+    }
+
+    @Override
+    public T set(int index, T val) {
+        throw unsupported("set");
+    }
+
+    @Override
+    public boolean remove(T val) {
+        throw unsupported("remove");
+    }
+
+    @Override
+    public void clear() {
+        throw unsupported("clear");
+    }
+
+    @Override
+    public void sort(Comparator<? super T> c) {
+        throw unsupported("sort");
+    }
+
+    @Override
+    public int drainTo(T[] dest, int offset) {
+        throw unsupported("drainTo");
+    }
+
+    private static UnsupportedOperationException unsupported(String operation) {
+        return new UnsupportedOperationException("ImmutableList does not support " + operation);
+    }
+    // ===========================================================================================//
+
+    @SuppressWarnings("unchecked")
+    private T elementAt(int i) {
+        return (T) elements[i];
+    }
+}
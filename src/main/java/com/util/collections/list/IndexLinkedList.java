@@ -0,0 +1,747 @@
+package com.util.collections.list;
+
+import com.util.collections.Equivalence;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.ObjIntConsumer;
+import java.util.function.Predicate;
+
+/**
+ * A linked list whose nodes are slots in parallel arrays rather than heap objects.
+ *
+ * <p><strong>Design Overview:</strong>
+ * Element {@code s} of {@code elements} holds the value of slot {@code s}, and
+ * {@code next[s]} the slot that follows it, or {@link #NIL} at the tail. A
+ * doubly linked list also keeps {@code prev[s]}. Links are plain {@code int}s,
+ * so a list of n elements costs three (or four) arrays of about n entries
+ * instead of n node objects, and the garbage collector traces two reference-free
+ * {@code int[]} arrays and one {@code Object[]} instead of a chain of nodes.
+ *
+ * <p><strong>Slots:</strong>
+ * Every insertion returns the slot it used. A slot stays attached to its
+ * element until that element is removed, so callers can keep slot numbers as
+ * handles and edit the list around them in O(1): {@link #insertAfter},
+ * {@link #insertBefore}, {@link #removeSlot}, {@link #moveToFront} and
+ * {@link #moveToBack}. Operations that need a predecessor walk from the head
+ * in a singly linked list; the cost of each is documented.
+ *
+ * <p><strong>Free-Slot Recycling:</strong>
+ * Removed slots are pushed onto a free list threaded through {@code next} and
+ * are reused before the arrays grow. A free slot is encoded as a value below
+ * {@link #NIL}, so telling live from free slots needs no extra storage.
+ * {@link #compact()} renumbers the live slots in list order and trims the
+ * arrays, which restores sequential memory access after heavy churn.
+ *
+ * <p><strong>Structural Invariants:</strong>
+ * <ul>
+ *   <li>{@code head == NIL ⇔ tail == NIL ⇔ count == 0}</li>
+ *   <li>{@code next[tail] == NIL}, and {@code prev[head] == NIL} when doubly linked</li>
+ *   <li>Slots in {@code [highWater, capacity)} have never been used</li>
+ *   <li>Every slot below {@code highWater} is either reachable from {@code head}
+ *       or from {@code freeHead}, never both</li>
+ * </ul>
+ *
+ * <p><strong>Performance Characteristics:</strong>
+ * <ul>
+ *   <li>{@code add}, {@code addFirst}, {@code addLast}, {@code insertAfter}: O(1) amortized</li>
+ *   <li>{@code insertBefore}, {@code removeSlot}, {@code moveToFront},
+ *       {@code moveToBack}: O(1) doubly linked, O(n) singly linked</li>
+ *   <li>Indexed access: O(n), from the nearer end when doubly linked</li>
+ *   <li>Memory: 8 bytes per slot singly linked, 12 doubly linked, with
+ *       compressed references</li>
+ * </ul>
+ *
+ * <p><strong>Iterator Semantics:</strong>
+ * The iterator is not fail-fast. Structural modifications during iteration,
+ * other than through {@link #listIterator()}, result in undefined behavior.
+ *
+ * <p><strong>Thread Safety:</strong>
+ * This class is <strong>not thread-safe</strong>.
+ *
+ * @param <T> the type of elements maintained by this list
+ */
+public class IndexLinkedList<T> extends AbstractList<T> {
+
+    /** The slot number meaning "no slot": the successor of the tail, the predecessor of the head. */
+    public static final int NIL = -1;
+
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int MAXIMUM_CAPACITY = Integer.MAX_VALUE - 8;
+
+    /** {@code next} of a free slot holds {@code FREE_BASE - nextFree}; always below {@link #NIL}. */
+    private static final int FREE_BASE = -3;
+
+    private Object[] elements;
+    private int[] next;
+
+    /** Predecessor links; {@code null} for a singly linked list. */
+    private int[] prev;
+
+    private int head = NIL;
+    private int tail = NIL;
+    private int freeHead = NIL;
+
+    /** The number of slots that have ever been handed out. */
+    private int highWater;
+
+    public IndexLinkedList() {
+        this(true);
+    }
+
+    public IndexLinkedList(boolean isNullable) {
+        this(isNullable, false, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an empty singly linked list whose lookups and removals by value
+     * use {@code equivalence}.
+     *
+     * @param isNullable  {@code true} if {@code null} elements are allowed
+     * @param equivalence decides when two elements are equal
+     * @throws IllegalArgumentException if {@code equivalence} is {@code null}
+     */
+    public IndexLinkedList(boolean isNullable, Equivalence<? super T> equivalence) {
+        this(isNullable, false, DEFAULT_CAPACITY, equivalence);
+    }
+
+    /**
+     * Creates an empty list.
+     *
+     * @param isNullable      {@code true} if {@code null} elements are allowed
+     * @param isDoublyLinked  {@code true} to keep predecessor links, which makes
+     *                        slot removal and moves O(1) at 4 bytes per slot
+     * @param initialCapacity the number of slots to allocate up front
+     * @throws IllegalArgumentException if {@code initialCapacity} is negative
+     */
+    public IndexLinkedList(boolean isNullable, boolean isDoublyLinked, int initialCapacity) {
+        this(isNullable, isDoublyLinked, initialCapacity, Equivalence.equality());
+    }
+
+    /**
+     * Creates an empty list with the given equivalence.
+     *
+     * @param isNullable      {@code true} if {@code null} elements are allowed
+     * @param isDoublyLinked  {@code true} to keep predecessor links
+     * @param initialCapacity the number of slots to allocate up front
+     * @param equivalence     decides when two elements are equal
+     * @throws IllegalArgumentException if {@code initialCapacity} is negative or
+     *                                  {@code equivalence} is {@code null}
+     */
+    public IndexLinkedList(boolean isNullable, boolean isDoublyLinked, int initialCapacity,
+                           Equivalence<? super T> equivalence) {
+        super(isNullable, equivalence);
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("initialCapacity must not be negative: " + initialCapacity);
+        }
+        this.elements = new Object[initialCapacity];
+        this.next = new int[initialCapacity];
+        this.prev = isDoublyLinked ? new int[initialCapacity] : null;
+    }
+
+    //==================== Positional Operations =================================================//
+
+    @Override
+    public boolean add(T val) {
+        checkNullAllowed(val);
+        linkAfter(tail, val);
+        return true;
+    }
+
+    @Override
+    public boolean add(T val, int index) {
+        checkIsInsertable(index);
+        checkNullAllowed(val);
+        linkAfter(index == 0 ? NIL : slotAt(index - 1), val);
+        return true;
+    }
+
+    @Override
+    public T get(int index) {
+        checkIndexOrElseThrow(index);
+        return elementAt(slotAt(index));
+    }
+
+    @Override
+    public T set(int index, T val) {
+        checkIndexOrElseThrow(index);
+        checkNullAllowed(val);
+        int slot = slotAt(index);
+        T oldValue = elementAt(slot);
+        elements[slot] = val;
+        return oldValue;
+    }
+
+    /**
+     * Removes the first occurrence of {@code val}, tracking the predecessor
+     * during the scan so that the unlink itself is O(1).
+     *
+     * @param val the value to remove
+     * @return {@code true} if an element was removed
+     */
+    @Override
+    public boolean remove(T val) {
+        checkNullAllowed(val);
+        int pred = NIL;
+        for (int slot = head; slot != NIL; pred = slot, slot = next[slot]) {
+            if (isEquivalent(elementAt(slot), val)) {
+                unlink(pred, slot);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex < toIndex) {
+            int pred = fromIndex == 0 ? NIL : slotAt(fromIndex - 1);
+            for (int i = fromIndex; i < toIndex; i++) {
+                unlink(pred, pred == NIL ? head : next[pred]);
+            }
+        }
+    }
+
+    /**
+     * Removes all elements. The arrays keep their capacity.
+     */
+    @Override
+    public void clear() {
+        Arrays.fill(elements, 0, highWater, null); // Help GC
+        head = NIL;
+        tail = NIL;
+        freeHead = NIL;
+        highWater = 0;
+        count = 0;
+    }
+
+    @Override
+    public int size() {
+        return count;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    /**
+     * Sorts the elements in place without relinking: the values are copied out
+     * along the chain, stably sorted and written back into the same slots.
+     * Slot handles therefore keep their positions but not their elements.
+     */
+    @Override
+    public void sort(Comparator<? super T> c) {
+        Object[] sorted = new Object[count];
+        int i = 0;
+        for (int slot = head; slot != NIL; slot = next[slot]) {
+            sorted[i++] = elements[slot];
+        }
+        sortArray(sorted, c);
+        i = 0;
+        for (int slot = head; slot != NIL; slot = next[slot]) {
+            elements[slot] = sorted[i++];
+        }
+    }
+    // ===========================================================================================//
+
+    //==================== Slot Operations =======================================================//
+
+    /**
+     * @return the slot of the first element, or {@link #NIL} if the list is empty
+     */
+    public int firstSlot() {
+        return head;
+    }
+
+    /**
+     * @return the slot of the last element, or {@link #NIL} if the list is empty
+     */
+    public int lastSlot() {
+        return tail;
+    }
+
+    /**
+     * @return the slot after {@code slot}, or {@link #NIL} if {@code slot} is the last
+     * @throws IllegalArgumentException if {@code slot} is not live
+     */
+    public int nextSlot(int slot) {
+        checkSlot(slot);
+        return next[slot];
+    }
+
+    /**
+     * Returns the slot before {@code slot}: O(1) doubly linked, O(n) singly linked.
+     *
+     * @return the preceding slot, or {@link #NIL} if {@code slot} is the first
+     * @throws IllegalArgumentException if {@code slot} is not live
+     */
+    public int prevSlot(int slot) {
+        checkSlot(slot);
+        return predecessorOf(slot);
+    }
+
+    /**
+     * @return the element held by {@code slot}
+     * @throws IllegalArgumentException if {@code slot} is not live
+     */
+    public T valueAt(int slot) {
+        checkSlot(slot);
+        return elementAt(slot);
+    }
+
+    /**
+     * Replaces the element held by {@code slot}.
+     *
+     * @return the previous element
+     * @throws IllegalArgumentException if {@code slot} is not live or {@code val}
+     *                                  violates the nullability policy
+     */
+    public T setAt(int slot, T val) {
+        checkSlot(slot);
+        checkNullAllowed(val);
+        T oldValue = elementAt(slot);
+        elements[slot] = val;
+        return oldValue;
+    }
+
+    /**
+     * Inserts {@code val} at the front in O(1).
+     *
+     * @return the slot holding {@code val}
+     */
+    public int addFirst(T val) {
+        checkNullAllowed(val);
+        return linkAfter(NIL, val);
+    }
+
+    /**
+     * Appends {@code val} in O(1).
+     *
+     * @return the slot holding {@code val}
+     */
+    public int addLast(T val) {
+        checkNullAllowed(val);
+        return linkAfter(tail, val);
+    }
+
+    /**
+     * Inserts {@code val} right after {@code slot} in O(1).
+     *
+     * @return the slot holding {@code val}
+     * @throws IllegalArgumentException if {@code slot} is not live
+     */
+    public int insertAfter(int slot, T val) {
+        checkSlot(slot);
+        checkNullAllowed(val);
+        return linkAfter(slot, val);
+    }
+
+    /**
+     * Inserts {@code val} right before {@code slot}: O(1) doubly linked, O(n)
+     * singly linked.
+     *
+     * @return the slot holding {@code val}
+     * @throws IllegalArgumentException if {@code slot} is not live
+     */
+    public int insertBefore(int slot, T val) {
+        checkSlot(slot);
+        checkNullAllowed(val);
+        return linkAfter(predecessorOf(slot), val);
+    }
+
+    /**
+     * Removes the element held by {@code slot} and frees the slot for reuse:
+     * O(1) doubly linked, O(n) singly linked.
+     *
+     * @return the removed element
+     * @throws IllegalArgumentException if {@code slot} is not live
+     */
+    public T removeSlot(int slot) {
+        checkSlot(slot);
+        return unlink(predecessorOf(slot), slot);
+    }
+
+    /**
+     * Removes the element after {@code slot} in O(1), or the first element when
+     * {@code slot} is {@link #NIL}. This is the constant-time removal for
+     * singly linked lists.
+     *
+     * @return the removed element
+     * @throws IllegalArgumentException if {@code slot} is neither live nor {@link #NIL}
+     * @throws NoSuchElementException   if there is no element after {@code slot}
+     */
+    public T removeAfter(int slot) {
+        if (slot != NIL) {
+            checkSlot(slot);
+        }
+        int victim = slot == NIL ? head : next[slot];
+        if (victim == NIL) {
+            throw new NoSuchElementException();
+        }
+        return unlink(slot, victim);
+    }
+
+    /**
+     * Moves the element held by {@code slot} to the front without reallocating
+     * it: O(1) doubly linked, O(n) singly linked.
+     *
+     * @throws IllegalArgumentException if {@code slot} is not live
+     */
+    public void moveToFront(int slot) {
+        checkSlot(slot);
+        if (slot != head) {
+            detach(predecessorOf(slot), slot);
+            attachAfter(NIL, slot);
+        }
+    }
+
+    /**
+     * Moves the element held by {@code slot} to the back without reallocating
+     * it: O(1) doubly linked, O(n) singly linked.
+     *
+     * @throws IllegalArgumentException if {@code slot} is not live
+     */
+    public void moveToBack(int slot) {
+        checkSlot(slot);
+        if (slot != tail) {
+            detach(predecessorOf(slot), slot);
+            attachAfter(tail, slot);
+        }
+    }
+    // ===========================================================================================//
+
+    //==================== Storage Management ====================================================//
+
+    public boolean isDoublyLinked() {
+        return prev != null;
+    }
+
+    /**
+     * @return the number of slots the arrays can hold before they grow
+     */
+    public int capacity() {
+        return elements.length;
+    }
+
+    /**
+     * Renumbers the live slots {@code 0 .. size() - 1} in list order and trims
+     * the arrays to the size, so that traversal walks memory sequentially.
+     * All previously returned slot numbers become invalid.
+     *
+     * <p><strong>Performance Characteristics:</strong>
+     * O(n) time, with n-sized temporary arrays.
+     */
+    public void compact() {
+        Object[] newElements = new Object[count];
+        int[] newNext = new int[count];
+        int[] newPrev = prev == null ? null : new int[count];
+        int i = 0;
+        for (int slot = head; slot != NIL; slot = next[slot], i++) {
+            newElements[i] = elements[slot];
+            newNext[i] = i + 1;
+            if (newPrev != null) {
+                newPrev[i] = i - 1;
+            }
+        }
+        if (count > 0) {
+            newNext[count - 1] = NIL;
+        }
+        elements = newElements;
+        next = newNext;
+        prev = newPrev;
+        head = count > 0 ? 0 : NIL;
+        tail = count - 1;
+        freeHead = NIL;
+        highWater = count;
+    }
+
+    /**
+     * Estimates the heap footprint of the list's arrays, with 16-byte array
+     * headers and 4-byte compressed references.
+     *
+     * @return the estimated size in bytes, excluding the elements themselves
+     */
+    public long sizeInBytes() {
+        int arrays = prev == null ? 2 : 3;
+        return arrays * (16 + 4L * elements.length);
+    }
+    // ===========================================================================================//
+
+    //==================== Internal Linking ======================================================//
+
+    /**
+     * Places {@code val} in a fresh slot after {@code pred}, or at the front
+     * when {@code pred} is {@link #NIL}.
+     */
+    private int linkAfter(int pred, T val) {
+        int slot = allocate();
+        elements[slot] = val;
+        attachAfter(pred, slot);
+        count++;
+        return slot;
+    }
+
+    /**
+     * Removes {@code slot}, whose predecessor is {@code pred}, and frees it.
+     */
+    private T unlink(int pred, int slot) {
+        T val = elementAt(slot);
+        detach(pred, slot);
+        release(slot);
+        count--;
+        return val;
+    }
+
+    private void attachAfter(int pred, int slot) {
+        int succ = pred == NIL ? head : next[pred];
+        next[slot] = succ;
+        if (pred == NIL) {
+            head = slot;
+        } else {
+            next[pred] = slot;
+        }
+        if (succ == NIL) {
+            tail = slot;
+        } else if (prev != null) {
+            prev[succ] = slot;
+        }
+        if (prev != null) {
+            prev[slot] = pred;
+        }
+    }
+
+    private void detach(int pred, int slot) {
+        int succ = next[slot];
+        if (pred == NIL) {
+            head = succ;
+        } else {
+            next[pred] = succ;
+        }
+        if (succ == NIL) {
+            tail = pred;
+        } else if (prev != null) {
+            prev[succ] = pred;
+        }
+    }
+
+    /**
+     * Pops a slot off the free list, or hands out a never-used one, growing the
+     * arrays by half when none is left.
+     */
+    private int allocate() {
+        if (freeHead != NIL) {
+            int slot = freeHead;
+            freeHead = FREE_BASE - next[slot];
+            return slot;
+        }
+        if (highWater == elements.length) {
+            grow();
+        }
+        return highWater++;
+    }
+
+    private void release(int slot) {
+        elements[slot] = null; // Help GC
+        next[slot] = FREE_BASE - freeHead;
+        freeHead = slot;
+    }
+
+    private void grow() {
+        int oldCapacity = elements.length;
+        if (oldCapacity == MAXIMUM_CAPACITY) {
+            throw new IllegalStateException("List cannot hold more than " + MAXIMUM_CAPACITY + " elements");
+        }
+        int newCapacity = (int) Math.min(MAXIMUM_CAPACITY,
+                Math.max(DEFAULT_CAPACITY, oldCapacity + (long) (oldCapacity >> 1)));
+        elements = Arrays.copyOf(elements, newCapacity);
+        next = Arrays.copyOf(next, newCapacity);
+        if (prev != null) {
+            prev = Arrays.copyOf(prev, newCapacity);
+        }
+    }
+
+    private int predecessorOf(int slot) {
+        if (prev != null) {
+            return prev[slot];
+        }
+        int pred = NIL;
+        for (int s = head; s != slot; s = next[s]) {
+            pred = s;
+        }
+        return pred;
+    }
+
+    /**
+     * Returns the slot at {@code index}, walking from the nearer end when
+     * predecessor links are available.
+     */
+    private int slotAt(int index) {
+        int slot;
+        if (prev != null && index > count >>> 1) {
+            slot = tail;
+            for (int i = count - 1; i > index; i--) {
+                slot = prev[slot];
+            }
+        } else {
+            slot = head;
+            for (int i = 0; i < index; i++) {
+                slot = next[slot];
+            }
+        }
+        return slot;
+    }
+
+    private void checkSlot(int slot) {
+        if (slot < 0 || slot >= highWater || next[slot] < NIL) {
+            throw new IllegalArgumentException("Not a live slot: " + slot);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private T elementAt(int slot) {
+        return (T) elements[slot];
+    }
+    // ===========================================================================================//
+
+    //==================== Iteration =============================================================//
+
+    /**
+     * Applies {@code action} along the {@code next} array, without an iterator.
+     */
+    @Override
+    public void forEach(Consumer<? super T> action) {
+        Objects.requireNonNull(action, "action must not be null");
+        for (int slot = head; slot != NIL; slot = next[slot]) {
+            action.accept(elementAt(slot));
+        }
+    }
+
+    /**
+     * Walks the {@code next} array directly, without an iterator.
+     */
+    @Override
+    public boolean forEachUntil(Predicate<? super T> stop) {
+        Objects.requireNonNull(stop, "stop must not be null");
+        for (int slot = head; slot != NIL; slot = next[slot]) {
+            if (stop.test(elementAt(slot))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void forEachIndexed(ObjIntConsumer<? super T> action) {
+        Objects.requireNonNull(action, "action must not be null");
+        int index = 0;
+        for (int slot = head; slot != NIL; slot = next[slot]) {
+            action.accept(elementAt(slot), index++);
+        }
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<>() {
+            private int slot = head;
+
+            @Override
+            public boolean hasNext() {
+                return slot != NIL;
+            }
+
+            @Override
+            public T next() {
+                if (slot == NIL) {
+                    throw new NoSuchElementException();
+                }
+                T data = elementAt(slot);
+                slot = IndexLinkedList.this.next[slot];
+                return data;
+            }
+        };
+    }
+
+    /**
+     * Returns a cursor whose {@code set}, {@code add} and {@code remove} are O(1),
+     * like the node cursor of {@link LinkedList#listIterator()}.
+     */
+    @Override
+    public ListIterator<T> listIterator() {
+        return new SlotCursor();
+    }
+
+    /**
+     * A cursor that remembers the slot before the gap ({@code previous},
+     * {@link #NIL} at the head), the slot last returned and that slot's predecessor.
+     */
+    private final class SlotCursor implements ListIterator<T> {
+
+        private int previous = NIL;
+        private int lastReturned = NIL;
+        private int beforeLastReturned = NIL;
+        private int nextIndex;
+
+        @Override
+        public boolean hasNext() {
+            return nextSlot() != NIL;
+        }
+
+        @Override
+        public T next() {
+            int slot = nextSlot();
+            if (slot == NIL) {
+                throw new NoSuchElementException();
+            }
+            beforeLastReturned = previous;
+            lastReturned = slot;
+            previous = slot;
+            nextIndex++;
+            return elementAt(slot);
+        }
+
+        @Override
+        public int nextIndex() {
+            return nextIndex;
+        }
+
+        @Override
+        public void set(T val) {
+            checkLastReturned();
+            checkNullAllowed(val);
+            elements[lastReturned] = val;
+        }
+
+        @Override
+        public void add(T val) {
+            checkNullAllowed(val);
+            previous = linkAfter(previous, val);
+            nextIndex++;
+            lastReturned = NIL;
+        }
+
+        @Override
+        public void remove() {
+            checkLastReturned();
+            unlink(beforeLastReturned, lastReturned);
+            previous = beforeLastReturned;
+            nextIndex--;
+            lastReturned = NIL;
+        }
+
+        private int nextSlot() {
+            return previous == NIL ? head : next[previous];
+        }
+
+        private void checkLastReturned() {
+            if (lastReturned == NIL) {
+                throw new IllegalStateException("next() has not been called since the last add or remove");
+            }
+        }
+    }
+    // ===========================================================================================//
+}
@@ -0,0 +1,76 @@
+package com.util.collections.list;
+
+import java.util.NoSuchElementException;
+
+/**
+ * A {@link ListIterator} that drives any {@link AbstractList} through its
+ * positional operations.
+ *
+ * <p><strong>Design Overview:</strong>
+ * The iterator holds only the cursor index and the index of the last returned
+ * element. {@code next}, {@code set} and {@code add} map to {@code get},
+ * {@code set} and {@code add(val, index)}; {@code remove} maps to a
+ * single-element {@link AbstractList#removeRange(int, int)}.
+ *
+ * <p><strong>Performance Characteristics:</strong>
+ * Each step costs one positional operation of the list: O(1) for array-backed
+ * lists and O(log n) for the tree and skip-list implementations.
+ *
+ * @param <T> the type of elements maintained by the list
+ */
+class IndexListIterator<T> implements ListIterator<T> {
+
+    private final AbstractList<T> list;
+    private int cursor;
+    /** Index of the element last returned by {@code next()}, or {@code -1} if none may be edited. */
+    private int lastReturned = -1;
+
+    IndexListIterator(AbstractList<T> list) {
+        this.list = list;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return cursor < list.size();
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        lastReturned = cursor;
+        return list.get(cursor++);
+    }
+
+    @Override
+    public int nextIndex() {
+        return cursor;
+    }
+
+    @Override
+    public void set(T val) {
+        checkLastReturned();
+        list.set(lastReturned, val);
+    }
+
+    @Override
+    public void add(T val) {
+        list.add(val, cursor++);
+        lastReturned = -1;
+    }
+
+    @Override
+    public void remove() {
+        checkLastReturned();
+        list.removeRange(lastReturned, lastReturned + 1);
+        cursor = lastReturned;
+        lastReturned = -1;
+    }
+
+    private void checkLastReturned() {
+        if (lastReturned < 0) {
+            throw new IllegalStateException("next() has not been called since the last add or remove");
+        }
+    }
+}
@@ -0,0 +1,423 @@
+package com.util.collections.list;
+
+import com.util.collections.Equivalence;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.SplittableRandom;
+
+/**
+ * A positional list backed by an <em>indexable</em> skip list.
+ *
+ * <p><strong>Design Overview:</strong>
+ * Elements are stored in a classic probabilistic skip list, except that the list
+ * is ordered by position rather than by key. Every forward pointer additionally
+ * records its <em>span width</em>: the number of level-0 steps it skips. Summing
+ * widths along a search path yields the rank of a node, which turns positional
+ * access, insertion and removal into the same top-down search that an ordinary
+ * skip list uses for key lookup.
+ *
+ * <p><strong>Structural Invariants:</strong>
+ * <ul>
+ *   <li>{@code head} is a sentinel of rank {@code 0} that owns {@link #MAX_LEVEL} pointers</li>
+ *   <li>The element at index {@code i} is the node of rank {@code i + 1}</li>
+ *   <li>For every linked pointer, {@code width[l] == rank(next[l]) - rank(node)}</li>
+ *   <li>For a {@code null} pointer at an active level, {@code width[l] == count + 1 - rank(node)},
+ *       i.e. the distance to a virtual terminal placed after the last element</li>
+ *   <li>{@code level} is the number of active levels and is at least {@code 1}</li>
+ * </ul>
+ *
+ * <p><strong>Null Handling Policy:</strong>
+ * Whether {@code null} elements are permitted is governed by the {@code isNullable}
+ * flag inherited from {@link AbstractList}.
+ *
+ * <p><strong>Performance Characteristics:</strong>
+ * <ul>
+ *   <li>{@code get}, {@code set}, {@code add(val, index)}, {@link #removeAt(int)}: expected O(log n)</li>
+ *   <li>Append: expected O(log n)</li>
+ *   <li>Removal by value, {@code contains}: O(n)</li>
+ *   <li>Iteration: O(1) per step along level 0</li>
+ *   <li>Expected space: {@code n / (1 - p)} forward pointers for level probability {@code p}</li>
+ * </ul>
+ *
+ * <p><strong>Tuning:</strong>
+ * The level probability trades memory for search speed. Lower values (e.g.
+ * {@code 0.25}, the default) produce fewer, sparser levels; higher values (e.g.
+ * {@code 0.5}) shorten searches at the cost of roughly twice as many pointers.
+ *
+ * <p><strong>Iterator Semantics:</strong>
+ * The iterator is not fail-fast. Structural modifications during iteration
+ * result in undefined behavior.
+ *
+ * @param <T> the type of elements maintained by this list
+ */
+public class IndexableSkipList<T> extends AbstractList<T> {
+
+    /** Upper bound on tower height; sufficient for far more than {@code 2^31} elements. */
+    static final int MAX_LEVEL = 32;
+
+    /** Default probability of promoting a node to the next level. */
+    public static final double DEFAULT_PROBABILITY = 0.25;
+
+    /**
+     * A tower in the skip list.
+     *
+     * <p>
+     * {@code next[l]} and {@code width[l]} describe the forward pointer at level
+     * {@code l}. The arrays are sized to the tower height chosen at insertion time,
+     * except for the head sentinel, which always spans {@link #MAX_LEVEL} levels.
+     * </p>
+     *
+     * @param <T> the type of element stored in this node
+     */
+    static final class Node<T> {
+        private T data;
+        private final Node<T>[] next;
+        private final int[] width;
+
+        Node(T data, int height) {
+            this.data = data;
+            this.next = newArray(height);
+            this.width = new int[height];
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        static <T> Node<T>[] newArray(int length) {
+            return (Node<T>[]) new Node[length];
+        }
+    }
+
+    private final Node<T> head = new Node<>(null, MAX_LEVEL);
+    private final double probability;
+    private final SplittableRandom random = new SplittableRandom();
+    private int level = 1;
+
+    /**
+     * Search paths reused by {@link #insertAt} and {@link #removeAt}, so positional
+     * edits allocate only the new node. The levels used by an edit are cleared
+     * when it finishes, so the scratch path never keeps a removed node reachable.
+     */
+    private final Node<T>[] update = Node.newArray(MAX_LEVEL);
+    private final int[] rank = new int[MAX_LEVEL];
+
+    public IndexableSkipList() {
+        this(true, DEFAULT_PROBABILITY);
+    }
+
+    public IndexableSkipList(boolean isNullable) {
+        this(isNullable, DEFAULT_PROBABILITY);
+    }
+
+    /**
+     * Creates an empty list whose lookups and removals by value use {@code equivalence}.
+     *
+     * @param isNullable  {@code true} if {@code null} elements are allowed
+     * @param equivalence decides when two elements are equal
+     * @throws IllegalArgumentException if {@code equivalence} is {@code null}
+     */
+    public IndexableSkipList(boolean isNullable, Equivalence<? super T> equivalence) {
+        this(isNullable, DEFAULT_PROBABILITY, equivalence);
+    }
+
+    /**
+     * Constructs an empty list with the given nullability policy and level probability.
+     *
+     * @param isNullable  {@code true} if {@code null} elements are allowed
+     * @param probability the probability of promoting a node one level higher;
+     *                    must lie in the open interval {@code (0, 1)}
+     * @throws IllegalArgumentException if {@code probability} is out of range
+     */
+    public IndexableSkipList(boolean isNullable, double probability) {
+        this(isNullable, probability, Equivalence.equality());
+    }
+
+    /**
+     * Constructs an empty list with the given nullability policy, level
+     * probability and equivalence.
+     *
+     * @param isNullable  {@code true} if {@code null} elements are allowed
+     * @param probability the probability of promoting a node one level higher;
+     *                    must lie in the open interval {@code (0, 1)}
+     * @param equivalence decides when two elements are equal
+     * @throws IllegalArgumentException if {@code probability} is out of range or
+     *                                  {@code equivalence} is {@code null}
+     */
+    public IndexableSkipList(boolean isNullable, double probability, Equivalence<? super T> equivalence) {
+        super(isNullable, equivalence);
+        if (!(probability > 0.0 && probability < 1.0)) {
+            throw new IllegalArgumentException("probability must be in (0, 1): " + probability);
+        }
+        this.probability = probability;
+        head.width[0] = 1;
+    }
+
+    //====================== Add Operations =====================================================//
+
+    @Override
+    public boolean add(T val) {
+        insertAt(val, count);
+        return true;
+    }
+
+    @Override
+    public boolean add(T val, int index) {
+        insertAt(val, index);
+        return true;
+    }
+
+    /**
+     * Links a new node so that it becomes the element at {@code index}.
+     *
+     * <p><strong>Implementation Strategy:</strong>
+     * A single top-down search records, for each level, the rightmost node whose
+     * rank is at most {@code index} together with that rank. Pointers below the
+     * new tower height are split around the new node; pointers above it simply
+     * grow by one.
+     *
+     * @param val   the element to insert
+     * @param index the insertion position in {@code [0, count]}
+     */
+    private void insertAt(T val, int index) {
+        checkNullAllowed(val);
+        checkIsInsertable(index);
+
+        Node<T> x = head;
+        int pos = 0;
+        for (int i = level - 1; i >= 0; i--) {
+            while (x.next[i] != null && pos + x.width[i] <= index) {
+                pos += x.width[i];
+                x = x.next[i];
+            }
+            update[i] = x;
+            rank[i] = pos;
+        }
+
+        int height = randomLevel();
+        if (height > level) {
+            for (int i = level; i < height; i++) {
+                update[i] = head;
+                rank[i] = 0;
+                head.width[i] = count + 1;
+            }
+            level = height;
+        }
+
+        Node<T> node = new Node<>(val, height);
+        int newRank = index + 1;
+        for (int i = 0; i < height; i++) {
+            Node<T> prev = update[i];
+            node.next[i] = prev.next[i];
+            node.width[i] = rank[i] + prev.width[i] + 1 - newRank;
+            prev.next[i] = node;
+            prev.width[i] = newRank - rank[i];
+        }
+        for (int i = height; i < level; i++) {
+            update[i].width[i]++;
+        }
+        Arrays.fill(update, 0, level, null);
+        count++;
+    }
+
+    private int randomLevel() {
+        int height = 1;
+        while (height < MAX_LEVEL && random.nextDouble() < probability) {
+            height++;
+        }
+        return height;
+    }
+    // ===========================================================================================//
+
+    //==================== Removal Operations ====================================================//
+
+    /**
+     * Removes the element at the specified position.
+     *
+     * <p><strong>Structural Effects:</strong>
+     * Every pointer that targeted the removed node inherits its span; every other
+     * pointer that jumped over it shrinks by one. Empty top levels are retired so
+     * that subsequent searches do not start above the tallest remaining tower.
+     *
+     * <p><strong>Performance Characteristics:</strong>
+     * Expected O(log n).
+     *
+     * @param index zero-based index of the element to remove
+     * @return the removed element
+     * @throws IndexOutOfBoundsException if {@code index} is out of range
+     */
+    public T removeAt(int index) {
+        checkIndexOrElseThrow(index);
+
+        Node<T> x = head;
+        int pos = 0;
+        for (int i = level - 1; i >= 0; i--) {
+            while (x.next[i] != null && pos + x.width[i] <= index) {
+                pos += x.width[i];
+                x = x.next[i];
+            }
+            update[i] = x;
+        }
+
+        Node<T> target = update[0].next[0];
+        for (int i = 0; i < level; i++) {
+            Node<T> prev = update[i];
+            if (prev.next[i] == target) {
+                prev.width[i] += target.width[i] - 1;
+                prev.next[i] = target.next[i];
+            } else {
+                prev.width[i]--;
+            }
+        }
+        Arrays.fill(update, 0, level, null);
+        while (level > 1 && head.next[level - 1] == null) {
+            level--;
+        }
+        count--;
+
+        T oldValue = target.data;
+        target.data = null; // Help GC
+        return oldValue;
+    }
+
+    /**
+     * Removes the first occurrence of the specified value, if present.
+     *
+     * <p><strong>Performance Characteristics:</strong>
+     * Locating the value is a linear scan along level 0; the subsequent unlink
+     * is delegated to {@link #removeAt(int)} and costs expected O(log n).
+     *
+     * @param val the value to remove
+     * @return {@code true} if an element was removed, {@code false} otherwise
+     */
+    @Override
+    public boolean remove(T val) {
+        checkNullAllowed(val);
+        int index = 0;
+        for (Node<T> x = head.next[0]; x != null; x = x.next[0], index++) {
+            if (isEquivalent(x.data, val)) {
+                removeAt(index);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Removes the elements in {@code [fromIndex, toIndex)}.
+     *
+     * <p><strong>Performance Characteristics:</strong>
+     * Expected O(k log n) for {@code k} removed elements, one {@link #removeAt(int)}
+     * per element.
+     */
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        for (int i = fromIndex; i < toIndex; i++) {
+            removeAt(fromIndex);
+        }
+    }
+
+    /**
+     * Removes all elements from this list.
+     *
+     * <p>
+     * The head sentinel is reset to a single empty level. Former nodes are no
+     * longer reachable and become eligible for garbage collection as a group.
+     * </p>
+     */
+    @Override
+    public void clear() {
+        for (int i = 0; i < level; i++) {
+            head.next[i] = null;
+            head.width[i] = 0;
+        }
+        head.width[0] = 1;
+        level = 1;
+        count = 0;
+    }
+    // ===========================================================================================//
+
+    //==================== Search Operations ====================================================//
+
+    @Override
+    public T get(int index) {
+        return getNodeAt(index).data;
+    }
+
+    @Override
+    public T set(int index, T val) {
+        checkNullAllowed(val);
+        Node<T> node = getNodeAt(index);
+        T oldValue = node.data;
+        node.data = val;
+        return oldValue;
+    }
+
+    /**
+     * Resolves a logical index into its node by descending the tower of spans.
+     *
+     * @param index zero-based index to resolve
+     * @return the node representing the specified index
+     * @throws IndexOutOfBoundsException if {@code index} is invalid
+     */
+    private Node<T> getNodeAt(int index) {
+        checkIndexOrElseThrow(index);
+        int targetRank = index + 1;
+        Node<T> x = head;
+        int pos = 0;
+        for (int i = level - 1; i >= 0; i--) {
+            while (x.next[i] != null && pos + x.width[i] <= targetRank) {
+                pos += x.width[i];
+                x = x.next[i];
+            }
+            if (pos == targetRank) {
+                return x;
+            }
+        }
+        return x;
+    }
+    // ===========================================================================================//
+
+    @Override
+    public int size() {
+        return count;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new SkipListIterator();
+    }
+
+    /**
+     * Forward iterator along level 0 of the skip list.
+     *
+     * <p>
+     * Each step follows a single {@code next[0]} reference, so traversal costs
+     * O(1) per element and never consults the upper levels.
+     * </p>
+     */
+    private class SkipListIterator implements Iterator<T> {
+
+        /** The next node to be returned by the iterator */
+        Node<T> currentNode = head.next[0];
+
+        @Override
+        public boolean hasNext() {
+            return currentNode != null;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            T data = currentNode.data;
+            currentNode = currentNode.next[0];
+            return data;
+        }
+    }
+}
@@ -1,8 +1,21 @@
 package com.util.collections.list;
 
+import com.util.collections.Equivalence;
+import com.util.collections.map.HashMap;
+import com.util.collections.map.Map;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.ObjIntConsumer;
+import java.util.function.Predicate;
 
 /**
  * A singly-linked list implementation with explicit head and tail references.
@@ -25,16 +38,45 @@ import java.util.Objects;
  * flag inherited from {@link AbstractList}. All mutating operations enforce this
  * policy consistently.
  *
+ * <p><strong>Equivalence:</strong>
+ * Lookups and removals by value compare elements with the {@link Equivalence}
+ * given at construction, {@code equals} by default. The value index hashes
+ * with the same equivalence, so both paths agree on which elements match.
+ *
  * <p><strong>Performance Characteristics:</strong>
  * <ul>
  *   <li>Insertion at head or tail: O(1)</li>
- *   <li>Removal by value: O(n)</li>
+ *   <li>Removal by value: O(n), or O(1) expected with the value index</li>
  *   <li>Indexed access: O(n)</li>
+ *   <li>{@link #sort(Comparator)}: O(n log n) stable merge sort that relinks
+ *       nodes in O(1) extra space; {@link #parallelSort(Comparator)} sorts runs
+ *       on the common fork-join pool and merges them</li>
+ *   <li>{@link #subList(int, int)}: a node-based view that resolves its start
+ *       once and clears its range with a single splice; unlike the iterators,
+ *       it fails fast once the list is structurally modified outside it</li>
+ *   <li>{@link #listIterator()}: a node cursor whose {@code next}, {@code set},
+ *       {@code add} and {@code remove} are O(1)</li>
+ *   <li>{@code hashCode}: O(1) for append-only lists once
+ *       {@link #enableHashCaching()} is on, otherwise one walk</li>
+ *   <li>{@link #freeze()} moves the contents into an array-backed
+ *       {@link ImmutableList} in one pass; {@link #toImmutable()} copies them</li>
  * </ul>
  *
+ * <p><strong>Value Index:</strong>
+ * An optional hash index from values to their nodes can be switched on with
+ * {@link #enableValueIndex()}. It makes {@code contains} and {@code remove(val)}
+ * O(1) expected, including removal of the tail or of a duplicated value, at the
+ * memory cost reported by {@link #valueIndexFootprint()}. While it is enabled
+ * every node also links to its predecessor, so the node found by the index is
+ * unlinked directly. Keeping a value held by k nodes in list order costs up to
+ * O(k) when one of its later occurrences is inserted or removed, and inserting
+ * such a value away from either end first walks the nodes before it.
+ *
  * <p><strong>Iterator Semantics:</strong>
- * The iterator reflects the list state at the time of creation and is not fail-fast.
- * Concurrent structural modifications during iteration result in undefined behavior.
+ * Iterators are live views over the nodes, not snapshots: they observe
+ * modifications made ahead of their position. They are not fail-fast, and a
+ * structural modification made other than through the iterator itself
+ * results in undefined behavior.
  *
  * <p><strong>Design Philosophy:</strong>
  * This class deliberately separates low-level node manipulation (unlinking)
@@ -68,6 +110,9 @@ public class LinkedList<T> extends AbstractList<T> {
      *       {@code LinkedList.head}</li>
      *   <li>A node is considered <em>unlinked</em> once its {@code next} reference
      *       is cleared</li>
+     *   <li>{@code prev} references the predecessor while the value index is
+     *       enabled, so that a node found through the index can be unlinked
+     *       directly; it is {@code null} otherwise</li>
      * </ul>
      *
      * <p><strong>Lifecycle:</strong>
@@ -78,7 +123,7 @@ public class LinkedList<T> extends AbstractList<T> {
      * <p><strong>Invariants:</strong>
      * <ul>
      *   <li>{@code next == null} for the tail node</li>
-     *   <li>Once unlinked, both {@code data} and {@code next} are cleared</li>
+     *   <li>Once unlinked, {@code data}, {@code next} and {@code prev} are cleared</li>
      * </ul>
      *
      * @param <T> the type of element stored in this node
@@ -86,6 +131,7 @@ public class LinkedList<T> extends AbstractList<T> {
     static final class Node<T> {
         private T data;
         private Node<T> next;
+        private Node<T> prev;
 
         public Node(T data) {
             this.data = data;
@@ -96,6 +142,20 @@ public class LinkedList<T> extends AbstractList<T> {
     private Node<T> head;
     private Node<T> tail;
 
+    /** Hash index from values to their nodes; {@code null} while the index is disabled. */
+    private ValueIndex<T> valueIndex;
+
+    /** Whether {@link #hashCode()} results are kept; see {@link #enableHashCaching()}. */
+    private boolean hashCaching;
+
+    /** {@code true} while {@code cachedHash} equals the hash of the current contents. */
+    private boolean hashValid;
+
+    private int cachedHash;
+
+    /** Number of structural modifications; sub-list views compare it to detect outside edits. */
+    private int modCount;
+
     public LinkedList() {
         super(true);
     }
@@ -104,6 +164,18 @@ public class LinkedList<T> extends AbstractList<T> {
         super(isNullable);
     }
 
+    /**
+     * Creates an empty list whose lookups and removals by value use {@code equivalence}.
+     *
+     * @param isNullable  {@code true} if {@code null} elements are allowed
+     * @param equivalence decides when two elements are equal, for example
+     *                    {@link Equivalence#identity()}
+     * @throws IllegalArgumentException if {@code equivalence} is {@code null}
+     */
+    public LinkedList(boolean isNullable, Equivalence<? super T> equivalence) {
+        super(isNullable, equivalence);
+    }
+
     //==================== Removal Operations ====================================================//
 
     /**
@@ -152,6 +224,9 @@ public class LinkedList<T> extends AbstractList<T> {
         Node<T> next = node.next;
         node.data = null; // Help GC
         node.next = null;
+        node.prev = null;
+        hashValid = false;
+        modCount++;
         return next;
     }
 
@@ -160,7 +235,7 @@ public class LinkedList<T> extends AbstractList<T> {
      *
      * <p><strong>Behavior:</strong>
      * Traverses the list from {@code head} and removes the first node whose value
-     * is equal to the supplied argument as determined by {@link Objects#equals}.
+     * is equal to the supplied argument under the list's {@link Equivalence}.
      *
      * <p><strong>Structural Effects:</strong>
      * <ul>
@@ -180,12 +255,16 @@ public class LinkedList<T> extends AbstractList<T> {
     public boolean remove(T val) {
         checkNullAllowed(val);
 
+        if (valueIndex != null) {
+            return removeIndexed(val);
+        }
+
         if (head == null) {
             return false;
         }
 
         // Case 1: remove head
-        if (Objects.equals(head.data, val)) {
+        if (isEquivalent(head.data, val)) {
             head = unlink(head);
             count--;
 
@@ -200,7 +279,7 @@ public class LinkedList<T> extends AbstractList<T> {
         Node<T> current = head.next;
 
         while (current != null) {
-            if (Objects.equals(current.data, val)) {
+            if (isEquivalent(current.data, val)) {
                 prev.next = unlink(current);
                 count--;
 
@@ -254,13 +333,32 @@ public class LinkedList<T> extends AbstractList<T> {
      */
     @Override
     public void clear() {
+        drainNodes(null);
+    }
+
+    /**
+     * Unlinks every node, first copying its value into {@code dest} when that
+     * is not {@code null}, and leaves the list empty with all invariants restored.
+     */
+    private void drainNodes(Object[] dest) {
+        int i = 0;
         Node<T> current = head;
         while (current != null) {
+            if (dest != null) {
+                dest[i++] = current.data;
+            }
             current = unlink(current);
         }
         head = null;
         tail = null;
         count = 0;
+        if (valueIndex != null) {
+            valueIndex.clear();
+        }
+        if (hashCaching) {
+            cachedHash = 1;
+            hashValid = true;
+        }
     }
     // ===========================================================================================//
 
@@ -308,6 +406,32 @@ public class LinkedList<T> extends AbstractList<T> {
         checkIndexOrElseThrow(index);
         return getNodeAt(index).data;
     }
+
+    /**
+     * Returns {@code true} if this list contains an element equal to {@code val}.
+     *
+     * <p><strong>Performance Characteristics:</strong>
+     * O(1) expected while the value index is enabled; otherwise an O(n) walk
+     * over the nodes that allocates nothing.
+     *
+     * @param val the value whose presence is to be tested
+     * @return {@code true} if an equal element exists; {@code false} otherwise
+     */
+    @Override
+    public boolean contains(T val) {
+        if (!isNullable && val == null) {
+            return false;
+        }
+        if (valueIndex != null) {
+            return valueIndex.contains(val);
+        }
+        for (Node<T> node = head; node != null; node = node.next) {
+            if (isEquivalent(node.data, val)) {
+                return true;
+            }
+        }
+        return false;
+    }
     // ===========================================================================================//
 
     //====================== Add Operations =====================================================//
@@ -369,9 +493,17 @@ public class LinkedList<T> extends AbstractList<T> {
             head = newNode;
         } else {
             tail.next = newNode;
+            linkPrev(newNode, tail);
         }
         tail = newNode;
         count++;
+        modCount++;
+        if (valueIndex != null) {
+            valueIndex.insert(newNode, Integer.MAX_VALUE);
+        }
+        if (hashValid) {
+            cachedHash = 31 * cachedHash + Objects.hashCode(data);
+        }
     }
 
     /**
@@ -415,11 +547,18 @@ public class LinkedList<T> extends AbstractList<T> {
 
         Node<T> newNode = new Node<>(data);
         newNode.next = head;
-        head = newNode;
-        if (tail == null) {
-            tail = head;
+        if (head == null) {
+            tail = newNode;
+        } else {
+            linkPrev(head, newNode);
         }
+        head = newNode;
         count++;
+        modCount++;
+        hashValid = false;
+        if (valueIndex != null) {
+            valueIndex.insert(newNode, 0);
+        }
     }
 
     /**
@@ -484,12 +623,41 @@ public class LinkedList<T> extends AbstractList<T> {
             return;
         }
 
+        linkAfter(getNodeAt(index - 1), val, index);
+    }
+
+    /**
+     * Links a new node holding {@code val} directly after {@code previous}.
+     *
+     * <p>
+     * A {@code null} predecessor denotes insertion at the head. Insertions at
+     * either end are delegated to {@link #linkFirst(Object)} and
+     * {@link #linkLast(Object)} so that {@code head} and {@code tail} are
+     * maintained in one place.
+     * </p>
+     *
+     * @param previous the node preceding the insertion point, or {@code null}
+     * @param val      the element to insert
+     * @param index    the position the new element will occupy
+     */
+    private void linkAfter(Node<T> previous, T val, int index) {
+        if (previous == null) {
+            linkFirst(val);
+            return;
+        }
+        if (previous == tail) {
+            linkLast(val);
+            return;
+        }
         Node<T> newNode = new Node<>(val);
-        Node<T> previous = getNodeAt(index - 1);
-        Node<T> previousNext = previous.next;
+        newNode.next = previous.next;
         previous.next = newNode;
-        newNode.next = previousNext;
+        linkPrev(newNode, previous);
+        linkPrev(newNode.next, newNode);
         count++;
+        modCount++;
+        hashValid = false;
+        indexNodeAt(newNode, index);
     }
 
     /**
@@ -518,9 +686,23 @@ public class LinkedList<T> extends AbstractList<T> {
     @Override
     public T set(int index, T val) {
         checkNullAllowed(val);
-        Node<T> node = getNodeAt(index);
+        return replaceData(getNodeAt(index), index, val);
+    }
+
+    /**
+     * Stores {@code val} in {@code node}, which sits at {@code index}, keeping the
+     * value index in sync.
+     *
+     * @return the value previously stored in {@code node}
+     */
+    private T replaceData(Node<T> node, int index, T val) {
         T oldValue = node.data;
+        if (valueIndex != null) {
+            valueIndex.remove(node);
+        }
         node.data = val;
+        indexNodeAt(node, index);
+        hashValid = false;
         return oldValue;
     }
 
@@ -551,6 +733,809 @@ public class LinkedList<T> extends AbstractList<T> {
     }
     // ===========================================================================================//
 
+    //==================== Sort Operations =======================================================//
+
+    /**
+     * Minimum number of elements per run handed to a fork-join task by
+     * {@link #parallelSort(Comparator)}; smaller lists are sorted sequentially.
+     */
+    static final int MIN_PARALLEL_RUN = 1 << 13;
+
+    /**
+     * A detached chain of nodes described by its first and last node.
+     *
+     * <p>
+     * Used by the sort routines to pass sorted runs around without allocating
+     * per-element state. {@code last.next} is always {@code null}.
+     * </p>
+     */
+    private static final class Chain<T> {
+        private final Node<T> first;
+        private final Node<T> last;
+
+        Chain(Node<T> first, Node<T> last) {
+            this.first = first;
+            this.last = last;
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        static <T> Chain<T>[] newArray(int length) {
+            return (Chain<T>[]) new Chain[length];
+        }
+    }
+
+    /**
+     * Sorts this list in place by relinking its nodes.
+     *
+     * <p><strong>Algorithm:</strong>
+     * Bottom-up merge sort over the node chain. Each pass merges adjacent runs of
+     * width {@code 1, 2, 4, ...} by rewiring {@code next} references, until a pass
+     * performs a single merge. Because runs are located by walking the chain,
+     * no recursion stack, auxiliary array or new nodes are needed.
+     *
+     * <p><strong>Stability:</strong>
+     * On ties the element from the left run is taken first, so equal elements
+     * keep their original relative order.
+     *
+     * <p><strong>Structural Effects:</strong>
+     * <ul>
+     *   <li>{@code head} and {@code tail} are updated to the new first and last nodes</li>
+     *   <li>{@code count} is unchanged; no nodes are created or unlinked</li>
+     * </ul>
+     *
+     * <p><strong>Performance Characteristics:</strong>
+     * O(n log n) time and O(1) extra space.
+     *
+     * @param c the comparator used to compare elements, or {@code null} for natural ordering
+     */
+    @Override
+    public void sort(Comparator<? super T> c) {
+        if (count < 2) {
+            return;
+        }
+        Chain<T> sorted = mergeSort(head, naturalIfNull(c));
+        head = sorted.first;
+        tail = sorted.last;
+        modCount++;
+        hashValid = false;
+        reindex();
+    }
+
+    /**
+     * Sorts this list by sorting independent runs on the common fork-join pool
+     * and merging them.
+     *
+     * <p><strong>Algorithm:</strong>
+     * The chain is cut into up to {@code 4 × parallelism} runs of at least
+     * {@link #MIN_PARALLEL_RUN} nodes in a single walk. Each run is sorted with
+     * the same node-relinking merge sort as {@link #sort(Comparator)}; sorted runs
+     * are merged pairwise in a balanced tree of fork-join tasks. Lists too small
+     * to yield two runs are sorted sequentially.
+     *
+     * <p><strong>Stability:</strong>
+     * Runs are merged in list order with ties resolved towards the left run,
+     * so the result is stable.
+     *
+     * <p><strong>Concurrency:</strong>
+     * The comparator is invoked concurrently from pool threads and must be
+     * thread-safe. The list itself must not be accessed until this method returns.
+     *
+     * @param c the comparator used to compare elements, or {@code null} for natural ordering
+     */
+    public void parallelSort(Comparator<? super T> c) {
+        int parallelism = ForkJoinPool.getCommonPoolParallelism();
+        int runs = Math.min(parallelism * 4, count / MIN_PARALLEL_RUN);
+        if (runs < 2) {
+            sort(c);
+            return;
+        }
+        Chain<T>[] chains = Chain.newArray(runs);
+        int runLength = (count + runs - 1) / runs;
+        Node<T> current = head;
+        for (int r = 0; r < runs; r++) {
+            Node<T> first = current;
+            Node<T> last = current;
+            for (int i = 1; i < runLength && last.next != null; i++) {
+                last = last.next;
+            }
+            current = last.next;
+            last.next = null;
+            chains[r] = new Chain<>(first, last);
+            if (current == null) {
+                runs = r + 1;
+                break;
+            }
+        }
+        Chain<T> sorted = ForkJoinPool.commonPool()
+                .invoke(new SortTask<>(chains, 0, runs, naturalIfNull(c)));
+        head = sorted.first;
+        tail = sorted.last;
+        modCount++;
+        hashValid = false;
+        reindex();
+    }
+
+    /**
+     * Sorts and merges {@code chains[from, to)} into one sorted chain.
+     */
+    private static final class SortTask<T> extends RecursiveTask<Chain<T>> {
+        /** {@code ForkJoinTask} is {@code Serializable}, but sort tasks are never serialized. */
+        private static final long serialVersionUID = 1L;
+
+        private final Chain<T>[] chains;
+        private final int from;
+        private final int to;
+        private final Comparator<? super T> c;
+
+        SortTask(Chain<T>[] chains, int from, int to, Comparator<? super T> c) {
+            this.chains = chains;
+            this.from = from;
+            this.to = to;
+            this.c = c;
+        }
+
+        @Override
+        protected Chain<T> compute() {
+            if (to - from == 1) {
+                return mergeSort(chains[from].first, c);
+            }
+            int mid = (from + to) >>> 1;
+            SortTask<T> left = new SortTask<>(chains, from, mid, c);
+            left.fork();
+            Chain<T> right = new SortTask<>(chains, mid, to, c).compute();
+            return merge(left.join(), right, c);
+        }
+    }
+
+    /**
+     * Bottom-up, node-relinking merge sort of the chain starting at {@code first}.
+     *
+     * @return the sorted chain
+     */
+    private static <T> Chain<T> mergeSort(Node<T> first, Comparator<? super T> c) {
+        Node<T> list = first;
+        for (int width = 1; ; width <<= 1) {
+            Node<T> p = list;
+            Node<T> last = null;
+            list = null;
+            int merges = 0;
+            while (p != null) {
+                merges++;
+                Node<T> q = p;
+                int pSize = 0;
+                while (pSize < width && q != null) {
+                    pSize++;
+                    q = q.next;
+                }
+                int qSize = width;
+                while (pSize > 0 || (qSize > 0 && q != null)) {
+                    Node<T> e;
+                    if (pSize == 0) {
+                        e = q;
+                        q = q.next;
+                        qSize--;
+                    } else if (qSize == 0 || q == null || c.compare(p.data, q.data) <= 0) {
+                        e = p;
+                        p = p.next;
+                        pSize--;
+                    } else {
+                        e = q;
+                        q = q.next;
+                        qSize--;
+                    }
+                    if (last == null) {
+                        list = e;
+                    } else {
+                        last.next = e;
+                    }
+                    last = e;
+                }
+                p = q;
+            }
+            last.next = null;
+            if (merges <= 1) {
+                return new Chain<>(list, last);
+            }
+        }
+    }
+
+    /**
+     * Stable merge of two sorted chains; ties favor {@code left}.
+     *
+     * @return the merged chain
+     */
+    private static <T> Chain<T> merge(Chain<T> left, Chain<T> right, Comparator<? super T> c) {
+        Node<T> a = left.first;
+        Node<T> b = right.first;
+        Node<T> first;
+        if (c.compare(a.data, b.data) <= 0) {
+            first = a;
+            a = a.next;
+        } else {
+            first = b;
+            b = b.next;
+        }
+        Node<T> last = first;
+        while (a != null && b != null) {
+            if (c.compare(a.data, b.data) <= 0) {
+                last.next = a;
+                a = a.next;
+            } else {
+                last.next = b;
+                b = b.next;
+            }
+            last = last.next;
+        }
+        if (a != null) {
+            last.next = a;
+            return new Chain<>(first, left.last);
+        }
+        last.next = b;
+        return new Chain<>(first, b != null ? right.last : last);
+    }
+    // ===========================================================================================//
+
+    //==================== Range Views ===========================================================//
+
+    /**
+     * Returns a live view of the elements in {@code [fromIndex, toIndex)}.
+     *
+     * <p><strong>Implementation Strategy:</strong>
+     * The view locates the node preceding its range on first use and keeps it.
+     * Iteration, positional access and insertion through the view then start
+     * from that node instead of walking from {@code head} again, and clearing
+     * the view detaches the whole range with a single splice.
+     *
+     * <p><strong>Concurrent Modification:</strong>
+     * The view records this list's modification count when it is created and
+     * after each of its own edits. Once the list is structurally modified other
+     * than through the view, every operation of the view, including stepping an
+     * iterator, throws {@link ConcurrentModificationException} instead of
+     * following nodes that may no longer be linked.
+     *
+     * <p><strong>Performance Characteristics:</strong>
+     * <ul>
+     *   <li>Creation: O(1); the first operation resolves the start in O(fromIndex)</li>
+     *   <li>Iteration start: O(1) once resolved</li>
+     *   <li>{@code get(i)}, {@code set(i, v)}, {@code add(v, i)}: O(i) within the view</li>
+     *   <li>{@code clear()}: one splice, plus O(k) to release the {@code k} removed nodes</li>
+     * </ul>
+     *
+     * @param fromIndex the inclusive start of the range
+     * @param toIndex   the exclusive end of the range
+     * @return a view of the range
+     * @throws IndexOutOfBoundsException if {@code fromIndex < 0} or {@code toIndex > size()}
+     * @throws IllegalArgumentException if {@code fromIndex > toIndex}
+     */
+    @Override
+    public List<T> subList(int fromIndex, int toIndex) {
+        checkSubListRange(fromIndex, toIndex);
+        return new LinkedSubList(fromIndex, toIndex - fromIndex);
+    }
+
+    /**
+     * Removes the elements in {@code [fromIndex, toIndex)} with a single splice.
+     */
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex < toIndex) {
+            spliceOut(fromIndex == 0 ? null : getNodeAt(fromIndex - 1), toIndex - fromIndex);
+        }
+    }
+
+    /**
+     * Detaches the {@code n} nodes following {@code before} and reconnects the
+     * chain around them.
+     *
+     * <p>
+     * The removed nodes are released through {@link #unlink(Node)}, as in
+     * {@link #clear()}, and dropped from the value index if it is enabled; the
+     * surrounding chain is then reconnected once.
+     * </p>
+     *
+     * @param before the node preceding the range, or {@code null} if the range starts at {@code head}
+     * @param n      the number of nodes to remove; must not exceed the nodes after {@code before}
+     */
+    private void spliceOut(Node<T> before, int n) {
+        Node<T> after = before == null ? head : before.next;
+        for (int i = 0; i < n; i++) {
+            if (valueIndex != null) {
+                valueIndex.remove(after);
+            }
+            after = unlink(after);
+        }
+        if (before == null) {
+            head = after;
+        } else {
+            before.next = after;
+        }
+        if (after == null) {
+            tail = before;
+        } else {
+            linkPrev(after, before);
+        }
+        count -= n;
+    }
+
+    /**
+     * A live view of a range of this list that remembers the node preceding it.
+     *
+     * <p><strong>State Model:</strong>
+     * {@code before} is the node at position {@code offset - 1}, or {@code null}
+     * when the range starts at {@code head}. It is resolved lazily and stays
+     * valid for as long as the backing list is only modified through this view,
+     * because no operation of the view links or unlinks nodes before its range.
+     * {@code expectedModCount} is the list's modification count as of the
+     * view's last own edit; any other value means {@code before} and
+     * {@code count} may be stale.
+     */
+    private final class LinkedSubList extends AbstractList<T> {
+
+        private final int offset;
+        private Node<T> before;
+        private boolean resolved;
+        private int expectedModCount = modCount;
+
+        LinkedSubList(int offset, int size) {
+            super(LinkedList.this.isNullable, LinkedList.this.equivalence);
+            this.offset = offset;
+            this.count = size;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+
+        private Node<T> before() {
+            if (!resolved) {
+                before = offset == 0 ? null : getNodeAt(offset - 1);
+                resolved = true;
+            }
+            return before;
+        }
+
+        private Node<T> first() {
+            Node<T> b = before();
+            return b == null ? head : b.next;
+        }
+
+        private Node<T> nodeAt(int index) {
+            Node<T> node = first();
+            for (int i = 0; i < index; i++) {
+                node = node.next;
+            }
+            return node;
+        }
+
+        @Override
+        public T get(int index) {
+            checkForComodification();
+            checkIndexOrElseThrow(index);
+            return nodeAt(index).data;
+        }
+
+        @Override
+        public T set(int index, T val) {
+            checkForComodification();
+            checkNullAllowed(val);
+            checkIndexOrElseThrow(index);
+            return replaceData(nodeAt(index), offset + index, val);
+        }
+
+        @Override
+        public boolean add(T val) {
+            return add(val, count);
+        }
+
+        @Override
+        public boolean add(T val, int index) {
+            checkForComodification();
+            checkNullAllowed(val);
+            checkIsInsertable(index);
+            linkAfter(index == 0 ? before() : nodeAt(index - 1), val, offset + index);
+            count++;
+            expectedModCount = modCount;
+            return true;
+        }
+
+        /**
+         * Removes the first occurrence of {@code val} within the range.
+         *
+         * @param val the value to remove
+         * @return {@code true} if an element was removed
+         */
+        @Override
+        public boolean remove(T val) {
+            checkForComodification();
+            checkNullAllowed(val);
+            Node<T> prev = before();
+            Node<T> current = first();
+            for (int i = 0; i < count; i++) {
+                if (isEquivalent(current.data, val)) {
+                    spliceOut(prev, 1);
+                    count--;
+                    expectedModCount = modCount;
+                    return true;
+                }
+                prev = current;
+                current = current.next;
+            }
+            return false;
+        }
+
+        @Override
+        protected void removeRange(int fromIndex, int toIndex) {
+            checkForComodification();
+            if (fromIndex < toIndex) {
+                spliceOut(fromIndex == 0 ? before() : nodeAt(fromIndex - 1), toIndex - fromIndex);
+                count -= toIndex - fromIndex;
+                expectedModCount = modCount;
+            }
+        }
+
+        /**
+         * Removes every element of the range with a single splice.
+         */
+        @Override
+        public void clear() {
+            removeRange(0, count);
+        }
+
+        /**
+         * Sorts the range in place by copying its values out, sorting them and
+         * writing them back along the nodes in one walk.
+         */
+        @Override
+        public void sort(Comparator<? super T> c) {
+            checkForComodification();
+            Object[] values = new Object[count];
+            Node<T> node = first();
+            for (int i = 0; i < count; i++, node = node.next) {
+                values[i] = node.data;
+            }
+            sortArray(values, c);
+            node = first();
+            for (int i = 0; i < count; i++, node = node.next) {
+                @SuppressWarnings("unchecked")
+                T value = (T) values[i];
+                node.data = value;
+            }
+            hashValid = false;
+            reindex();
+        }
+
+        @Override
+        public int size() {
+            checkForComodification();
+            return count;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            checkForComodification();
+            return count == 0;
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            checkForComodification();
+            return new Iterator<>() {
+                private Node<T> next = count == 0 ? null : first();
+                private int remaining = count;
+
+                @Override
+                public boolean hasNext() {
+                    return remaining > 0;
+                }
+
+                @Override
+                public T next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    checkForComodification();
+                    T data = next.data;
+                    next = next.next;
+                    remaining--;
+                    return data;
+                }
+            };
+        }
+    }
+    // ===========================================================================================//
+
+    //==================== Value Index ===========================================================//
+
+    /**
+     * Builds a hash index from values to the nodes holding them and keeps it in
+     * sync with every subsequent mutation.
+     *
+     * <p><strong>Effect:</strong>
+     * While the index is enabled, {@link #contains(Object)} is a hash lookup and
+     * {@link #remove(Object)} finds the first occurrence without scanning. The
+     * index is built from the current contents in O(n); calling this method again
+     * while the index is enabled has no effect.
+     *
+     * <p><strong>Requirements:</strong>
+     * Elements must implement {@code hashCode} consistently with {@code equals},
+     * and must not change their hash code while they are stored in the list.
+     */
+    public void enableValueIndex() {
+        if (valueIndex == null) {
+            valueIndex = new ValueIndex<>(count, equivalence);
+            reindex();
+        }
+    }
+
+    /**
+     * Discards the value index and the predecessor links kept for it, releasing
+     * their memory in O(n). Lookups and removals by value revert to linear scans.
+     */
+    public void disableValueIndex() {
+        if (valueIndex != null) {
+            valueIndex = null;
+            for (Node<T> node = head; node != null; node = node.next) {
+                node.prev = null;
+            }
+        }
+    }
+
+    public boolean isValueIndexEnabled() {
+        return valueIndex != null;
+    }
+
+    /**
+     * Returns an estimate of the heap retained by the value index, in bytes.
+     *
+     * <p>
+     * The estimate assumes a 64-bit JVM with compressed references and counts the
+     * hash table, its entries and the per-value occurrence arrays kept for
+     * duplicated values. The elements and list nodes themselves are not included.
+     * Computing it takes time proportional to the number of distinct values.
+     * </p>
+     *
+     * @return the estimated footprint, or {@code 0} if the index is disabled
+     */
+    public long valueIndexFootprint() {
+        return valueIndex == null ? 0 : valueIndex.footprint();
+    }
+
+    /**
+     * Removes the first occurrence of {@code val} with the help of the value index.
+     *
+     * <p><strong>Algorithm:</strong>
+     * The index yields the node and the node's {@code prev} link its predecessor,
+     * so the node itself is spliced out without walking the list. Other nodes keep
+     * their identity, which sub-list views and cursors rely on.
+     *
+     * @param val the value to remove
+     * @return {@code true} if an element was removed
+     */
+    private boolean removeIndexed(T val) {
+        Node<T> node = valueIndex.first(val);
+        if (node == null) {
+            return false;
+        }
+        spliceOut(node.prev, 1);
+        return true;
+    }
+
+    /**
+     * Records {@code prev} as the predecessor of {@code node} while the value
+     * index is enabled; does nothing otherwise.
+     */
+    private void linkPrev(Node<T> node, Node<T> prev) {
+        if (valueIndex != null) {
+            node.prev = prev;
+        }
+    }
+
+    /**
+     * Registers a node that has just been placed at {@code index} with the value
+     * index, if enabled. The node's rank among equal values is only computed,
+     * with a walk over the preceding nodes, when its value is already present.
+     */
+    private void indexNodeAt(Node<T> node, int index) {
+        if (valueIndex == null) {
+            return;
+        }
+        int rank = 0;
+        if (valueIndex.contains(node.data)) {
+            Node<T> current = head;
+            for (int i = 0; i < index; i++) {
+                if (isEquivalent(current.data, node.data)) {
+                    rank++;
+                }
+                current = current.next;
+            }
+        }
+        valueIndex.insert(node, rank);
+    }
+
+    /**
+     * Rebuilds the value index and the predecessor links, if the index is
+     * enabled, after nodes have been reordered.
+     */
+    private void reindex() {
+        if (valueIndex != null) {
+            valueIndex.clear();
+            Node<T> prev = null;
+            for (Node<T> node = head; node != null; node = node.next) {
+                node.prev = prev;
+                valueIndex.insert(node, Integer.MAX_VALUE);
+                prev = node;
+            }
+        }
+    }
+
+    /**
+     * Hash index from each distinct value to the nodes holding it, in list order.
+     *
+     * <p><strong>Representation:</strong>
+     * A value held by a single node maps directly to that node. Only values that
+     * occur more than once map to an {@link Occurrences} array, so lists of
+     * mostly distinct values pay for one hash entry per element and nothing more.
+     */
+    private static final class ValueIndex<T> {
+
+        /** Approximate object sizes with compressed references and 8-byte alignment. */
+        private static final int MAP_BYTES = 24;
+        private static final int MAP_ENTRY_BYTES = 32;
+        private static final int OCCURRENCES_BYTES = 24;
+        private static final int ARRAY_HEADER_BYTES = 16;
+        private static final int REFERENCE_BYTES = 4;
+
+        private final HashMap<T, Object> nodesByValue;
+
+        ValueIndex(int expectedSize, Equivalence<? super T> equivalence) {
+            this.nodesByValue = new HashMap<>(expectedSize, equivalence);
+        }
+
+        boolean contains(T value) {
+            return nodesByValue.containsKey(value);
+        }
+
+        /**
+         * Returns the first node holding {@code value}, or {@code null} if none does.
+         */
+        @SuppressWarnings("unchecked")
+        Node<T> first(T value) {
+            Object entry = nodesByValue.get(value);
+            if (entry instanceof Occurrences) {
+                return ((Occurrences<T>) entry).first();
+            }
+            return (Node<T>) entry;
+        }
+
+        /**
+         * Records {@code node} as occurrence number {@code rank} of its value;
+         * ranks beyond the current number of occurrences append.
+         */
+        @SuppressWarnings("unchecked")
+        void insert(Node<T> node, int rank) {
+            Object existing = nodesByValue.putIfAbsent(node.data, node);
+            if (existing == null) {
+                return;
+            }
+            Occurrences<T> occurrences;
+            if (existing instanceof Occurrences) {
+                occurrences = (Occurrences<T>) existing;
+            } else {
+                occurrences = new Occurrences<>((Node<T>) existing);
+                nodesByValue.put(node.data, occurrences);
+            }
+            occurrences.insert(Math.min(rank, occurrences.size), node);
+        }
+
+        /**
+         * Forgets {@code node}, which must still hold the value it was indexed under.
+         */
+        @SuppressWarnings("unchecked")
+        void remove(Node<T> node) {
+            Object entry = nodesByValue.get(node.data);
+            if (entry == node) {
+                nodesByValue.remove(node.data);
+                return;
+            }
+            Occurrences<T> occurrences = (Occurrences<T>) entry;
+            occurrences.remove(node);
+            if (occurrences.size == 1) {
+                nodesByValue.put(node.data, occurrences.first());
+            }
+        }
+
+        void clear() {
+            nodesByValue.clear();
+        }
+
+        long footprint() {
+            long bytes = MAP_BYTES
+                    + align(ARRAY_HEADER_BYTES + (long) REFERENCE_BYTES * nodesByValue.capacity())
+                    + (long) MAP_ENTRY_BYTES * nodesByValue.size();
+            for (Map.Entry<T, Object> entry : nodesByValue) {
+                if (entry.getValue() instanceof Occurrences) {
+                    int length = ((Occurrences<?>) entry.getValue()).nodes.length;
+                    bytes += OCCURRENCES_BYTES + align(ARRAY_HEADER_BYTES + (long) REFERENCE_BYTES * length);
+                }
+            }
+            return bytes;
+        }
+
+        private static long align(long bytes) {
+            return (bytes + 7) & ~7L;
+        }
+    }
+
+    /**
+     * The nodes holding one duplicated value, in list order.
+     *
+     * <p>
+     * The nodes occupy {@code nodes[start, start + size)}. Removing the first
+     * occurrence, which is what {@link #remove(Object)} does, only advances
+     * {@code start}, and appending reclaims the freed slots once they make up at
+     * least half of the array, so both ends cost O(1) amortized.
+     * </p>
+     */
+    private static final class Occurrences<T> {
+        private Node<T>[] nodes;
+        private int start;
+        private int size;
+
+        Occurrences(Node<T> first) {
+            this.nodes = newNodes(4);
+            this.nodes[0] = first;
+            this.size = 1;
+        }
+
+        Node<T> first() {
+            return nodes[start];
+        }
+
+        void insert(int rank, Node<T> node) {
+            if (start + size == nodes.length) {
+                Node<T>[] dest = start < size ? newNodes(nodes.length << 1) : nodes;
+                System.arraycopy(nodes, start, dest, 0, size);
+                if (dest == nodes) {
+                    Arrays.fill(nodes, size, start + size, null); // Help GC
+                }
+                nodes = dest;
+                start = 0;
+            }
+            int at = start + rank;
+            System.arraycopy(nodes, at, nodes, at + 1, size - rank);
+            nodes[at] = node;
+            size++;
+        }
+
+        void remove(Node<T> node) {
+            int rank = indexOf(node);
+            if (rank == 0) {
+                nodes[start++] = null; // Help GC
+            } else {
+                int at = start + rank;
+                System.arraycopy(nodes, at + 1, nodes, at, size - rank - 1);
+                nodes[start + size - 1] = null; // Help GC
+            }
+            size--;
+        }
+
+        int indexOf(Node<T> node) {
+            int rank = 0;
+            while (nodes[start + rank] != node) {
+                rank++;
+            }
+            return rank;
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private static <T> Node<T>[] newNodes(int length) {
+            return (Node<T>[]) new Node[length];
+        }
+    }
+    // ===========================================================================================//
+
     @Override
     public int size() {
         return count;
@@ -561,11 +1546,325 @@ public class LinkedList<T> extends AbstractList<T> {
         return count == 0;
     }
 
+    //==================== Immutable Snapshots ===================================================//
+
+    /**
+     * Moves the contents into an array-backed {@link ImmutableList} and leaves
+     * this list empty.
+     *
+     * <p><strong>Behavior:</strong>
+     * A single pass copies each value into an array sized exactly to the list
+     * and unlinks its node, so the nodes become garbage as the copy proceeds
+     * and the two representations never coexist in full. The result keeps this
+     * list's nullability policy and equivalence. This list stays usable, and
+     * {@link ImmutableList#thaw()} turns the result back into a mutable list.
+     *
+     * <p><strong>Performance Characteristics:</strong>
+     * O(n). The result offers O(1) {@code get} and contiguous iteration.
+     *
+     * @return an immutable list holding the former contents of this list
+     */
+    public ImmutableList<T> freeze() {
+        Object[] elements = new Object[count];
+        drainNodes(elements);
+        return new ImmutableList<>(elements, isNullable, equivalence);
+    }
+
+    /**
+     * Returns an array-backed {@link ImmutableList} with the current contents,
+     * leaving this list unchanged; see {@link #freeze()}.
+     *
+     * @return an immutable copy of this list
+     */
+    public ImmutableList<T> toImmutable() {
+        return new ImmutableList<>(toArray(), isNullable, equivalence);
+    }
+    // ===========================================================================================//
+
+    //==================== Equality & Hashing ====================================================//
+
+    /**
+     * Keeps the result of {@link #hashCode()} between calls and extends it on
+     * every append.
+     *
+     * <p><strong>Effect:</strong>
+     * The list hash is an order-sensitive fold, so appending {@code e} turns a
+     * known hash {@code h} into {@code 31 * h + hash(e)} in O(1). While caching
+     * is enabled, {@link #add(Object)} maintains the cached value this way, and
+     * every other mutation merely marks it stale; the next {@code hashCode()}
+     * call then recomputes it once in O(n). For append-only lists repeated
+     * {@code hashCode()} calls are therefore O(1).
+     *
+     * <p><strong>Requirements:</strong>
+     * Elements must not change their hash code while they are stored in the
+     * list, since such changes cannot be observed.
+     */
+    public void enableHashCaching() {
+        hashCaching = true;
+    }
+
+    /**
+     * Stops caching the hash code; every {@link #hashCode()} call walks the list again.
+     */
+    public void disableHashCaching() {
+        hashCaching = false;
+        hashValid = false;
+    }
+
+    public boolean isHashCachingEnabled() {
+        return hashCaching;
+    }
+
+    /**
+     * Returns the order-sensitive hash defined by {@link AbstractList#hashCode()}.
+     *
+     * <p><strong>Performance Characteristics:</strong>
+     * O(1) while hash caching is enabled and the cached value is current,
+     * otherwise one walk over the nodes.
+     */
+    @Override
+    public int hashCode() {
+        if (hashValid) {
+            return cachedHash;
+        }
+        int hash = 1;
+        for (Node<T> node = head; node != null; node = node.next) {
+            hash = 31 * hash + Objects.hashCode(node.data);
+        }
+        if (hashCaching) {
+            cachedHash = hash;
+            hashValid = true;
+        }
+        return hash;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * When both lists hold a current cached hash, differing hashes prove
+     * inequality without walking either list. Otherwise this list's nodes are
+     * walked directly against the other list's iterator.
+     * </p>
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (o == this) {
+            return true;
+        }
+        if (!(o instanceof List)) {
+            return false;
+        }
+        if (o instanceof LinkedList) {
+            LinkedList<?> other = (LinkedList<?>) o;
+            if (hashValid && other.hashValid && cachedHash != other.cachedHash) {
+                return false;
+            }
+        }
+        List<?> other = (List<?>) o;
+        if (other.size() != count) {
+            return false;
+        }
+        Iterator<?> iterator = other.iterator();
+        for (Node<T> node = head; node != null; node = node.next) {
+            if (!iterator.hasNext() || !Objects.equals(node.data, iterator.next())) {
+                return false;
+            }
+        }
+        return !iterator.hasNext();
+    }
+    // ===========================================================================================//
+
+    //==================== Internal Iteration ====================================================//
+
+    /**
+     * Performs {@code action} on each element, walking the nodes directly.
+     *
+     * <p><strong>Performance Characteristics:</strong>
+     * O(n) with no allocation: unlike {@code for (T v : list)}, no iterator is
+     * created, and the loop body is a single inlinable call per node.
+     *
+     * @param action the action to perform
+     * @throws NullPointerException if {@code action} is {@code null}
+     */
+    @Override
+    public void forEach(Consumer<? super T> action) {
+        Objects.requireNonNull(action, "action must not be null");
+        for (Node<T> node = head; node != null; node = node.next) {
+            action.accept(node.data);
+        }
+    }
+
+    @Override
+    public void forEachIndexed(ObjIntConsumer<? super T> action) {
+        Objects.requireNonNull(action, "action must not be null");
+        int index = 0;
+        for (Node<T> node = head; node != null; node = node.next) {
+            action.accept(node.data, index++);
+        }
+    }
+
+    @Override
+    public boolean forEachUntil(Predicate<? super T> stop) {
+        Objects.requireNonNull(stop, "stop must not be null");
+        for (Node<T> node = head; node != null; node = node.next) {
+            if (stop.test(node.data)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public <R> R fold(R identity, BiFunction<R, ? super T, R> accumulator) {
+        Objects.requireNonNull(accumulator, "accumulator must not be null");
+        R result = identity;
+        for (Node<T> node = head; node != null; node = node.next) {
+            result = accumulator.apply(result, node.data);
+        }
+        return result;
+    }
+
+    @Override
+    public Object[] toArray() {
+        Object[] result = new Object[count];
+        int i = 0;
+        for (Node<T> node = head; node != null; node = node.next) {
+            result[i++] = node.data;
+        }
+        return result;
+    }
+
+    /**
+     * Moves every element into {@code dest} in a single pass that copies and
+     * unlinks each node in turn.
+     *
+     * <p>
+     * {@code head} and {@code count} are advanced with every node, so if a store
+     * fails with an {@link ArrayStoreException} the list still holds exactly the
+     * elements that were not moved.
+     * </p>
+     */
+    @Override
+    public int drainTo(T[] dest, int offset) {
+        checkDrainTarget(dest, offset, count);
+        int n = count;
+        while (head != null) {
+            dest[offset++] = head.data;
+            if (valueIndex != null) {
+                valueIndex.remove(head);
+            }
+            head = unlink(head);
+            count--;
+        }
+        tail = null;
+        return n;
+    }
+    // ===========================================================================================//
+
     @Override
     public Iterator<T> iterator() {
         return new LinkedListIterator();
     }
 
+    /**
+     * Returns a cursor that edits the list in place as it walks it.
+     *
+     * <p><strong>Performance Characteristics:</strong>
+     * {@code next}, {@code set}, {@code add} and {@code remove} run in O(1): the
+     * cursor keeps the node before it and the node before the last returned one,
+     * which is all a singly linked list needs to link or unlink at that point.
+     * A full editing pass is therefore O(n), where the equivalent
+     * {@link #set(int, Object)} and {@link #add(Object, int)} calls would each
+     * walk from {@code head}. While the value index is enabled, an edit that
+     * introduces a value already present also ranks it among its duplicates,
+     * as {@code add(val, index)} does.
+     *
+     * @return a cursor positioned before the first element
+     */
+    @Override
+    public ListIterator<T> listIterator() {
+        return new LinkedListCursor();
+    }
+
+    /**
+     * Node-based {@link ListIterator} for {@link LinkedList}.
+     *
+     * <p><strong>State Model:</strong>
+     * {@code previous} is the node just before the cursor, or {@code null} when
+     * the cursor is at the head. {@code lastReturned} is the node that
+     * {@code set} and {@code remove} act on, and {@code beforeLastReturned} its
+     * predecessor. All edits go through the list's own primitives
+     * ({@link #linkAfter}, {@link #replaceData}, {@link #spliceOut}), so
+     * {@code head}, {@code tail}, {@code count}, the value index and the cached
+     * hash code are maintained exactly as for the positional operations.
+     */
+    private final class LinkedListCursor implements ListIterator<T> {
+
+        private Node<T> previous;
+        private Node<T> lastReturned;
+        private Node<T> beforeLastReturned;
+        private int nextIndex;
+
+        @Override
+        public boolean hasNext() {
+            return nextNode() != null;
+        }
+
+        @Override
+        public T next() {
+            Node<T> node = nextNode();
+            if (node == null) {
+                throw new NoSuchElementException();
+            }
+            beforeLastReturned = previous;
+            lastReturned = node;
+            previous = node;
+            nextIndex++;
+            return node.data;
+        }
+
+        @Override
+        public int nextIndex() {
+            return nextIndex;
+        }
+
+        @Override
+        public void set(T val) {
+            checkLastReturned();
+            checkNullAllowed(val);
+            replaceData(lastReturned, nextIndex - 1, val);
+        }
+
+        @Override
+        public void add(T val) {
+            checkNullAllowed(val);
+            linkAfter(previous, val, nextIndex);
+            previous = previous == null ? head : previous.next;
+            nextIndex++;
+            lastReturned = null;
+        }
+
+        @Override
+        public void remove() {
+            checkLastReturned();
+            spliceOut(beforeLastReturned, 1);
+            previous = beforeLastReturned;
+            nextIndex--;
+            lastReturned = null;
+        }
+
+        private Node<T> nextNode() {
+            return previous == null ? head : previous.next;
+        }
+
+        private void checkLastReturned() {
+            if (lastReturned == null) {
+                throw new IllegalStateException("next() has not been called since the last add or remove");
+            }
+        }
+    }
+
     /**
      * Iterator implementation for {@link LinkedList}.
      *
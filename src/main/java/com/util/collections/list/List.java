@@ -1,5 +1,14 @@
 package com.util.collections.list;
 
+import java.util.Comparator;
+import java.util.function.BiFunction;
+import java.util.function.IntFunction;
+import java.util.function.ObjIntConsumer;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
 /**
  * A simplified, ordered collection (sequence) of elements.
  *
@@ -25,9 +34,15 @@ package com.util.collections.list;
  * is required if concurrent access is needed.
  *
  * <p><strong>Design Scope:</strong>
- * This interface intentionally exposes a minimal API surface, focusing on
- * essential list operations without advanced features such as sublists,
- * iterators with removal, or bulk operations.
+ * Beyond the essential positional operations, this interface offers live
+ * {@linkplain #subList(int, int) sub-list views}, a forward-only
+ * {@linkplain #listIterator() cursor} that can set, add and remove in place,
+ * bulk operations such as {@code addAll}, {@code containsAll} and
+ * {@code sort}, and internal iteration and export through
+ * {@code forEachUntil}, {@code fold}, {@code toArray} and {@code drainTo}.
+ * It remains smaller than {@link java.util.List}: there is no index search,
+ * removal by position or backward iteration, and it does not extend
+ * {@link java.util.Collection}.
  *
  * @author Jagadeesh Waran
  */
@@ -329,4 +344,179 @@ public interface List<T> extends Iterable<T> {
      */
     boolean containsAll(Iterable<T> iterable);
     boolean addAll(Iterable<T> iterable);
+
+    /**
+     * Sorts this list according to the order induced by the specified comparator.
+     *
+     * <p><strong>Contract:</strong>
+     * After this method returns:
+     * <ul>
+     *   <li>For every {@code i} in {@code [1, size())},
+     *       {@code c.compare(get(i - 1), get(i)) <= 0}</li>
+     *   <li>The size of the list is unchanged</li>
+     *   <li>The sort is <em>stable</em>: equal elements keep their relative order</li>
+     * </ul>
+     *
+     * <p><strong>Ordering:</strong>
+     * A {@code null} comparator sorts by the elements' natural ordering, in
+     * which case all elements must implement {@link Comparable}.
+     *
+     * <p><strong>Performance Characteristics:</strong>
+     * No guarantees are made regarding time or space complexity beyond
+     * {@code O(n log n)} comparisons. Implementations may sort in place or
+     * through a temporary copy depending on their internal structure.
+     *
+     * @param c the comparator used to compare elements, or {@code null} for
+     *          natural ordering
+     * @throws ClassCastException if {@code c} is {@code null} and the elements
+     *         are not mutually comparable
+     */
+    void sort(Comparator<? super T> c);
+
+    /**
+     * Returns a live view of the elements in {@code [fromIndex, toIndex)}.
+     *
+     * <p>
+     * The view is backed by this list: reads see the backing elements and
+     * mutations through the view are applied to this list. Structural changes
+     * made to this list other than through the view leave the view undefined.
+     * </p>
+     *
+     * @param fromIndex the inclusive start of the range
+     * @param toIndex   the exclusive end of the range
+     * @return a view of the range
+     * @throws IndexOutOfBoundsException if {@code fromIndex < 0} or {@code toIndex > size()}
+     * @throws IllegalArgumentException if {@code fromIndex > toIndex}
+     */
+    List<T> subList(int fromIndex, int toIndex);
+
+    /**
+     * Returns an iterator that can replace, insert and remove elements at its
+     * cursor while walking this list once from the start.
+     *
+     * <p><strong>Performance Characteristics:</strong>
+     * Implementations are expected to make every cursor operation no more
+     * expensive than one positional operation, and linked implementations to
+     * edit at the cursor in O(1) instead of re-traversing from the head.
+     *
+     * @return a list iterator positioned before the first element
+     */
+    ListIterator<T> listIterator();
+
+    /**
+     * Performs {@code action} on each element together with its index, in order.
+     *
+     * <p><strong>Contract:</strong>
+     * The action receives the elements in list order with indexes
+     * {@code 0, 1, ..., size() - 1}. The list must not be structurally modified
+     * by the action.
+     *
+     * <p><strong>Performance Characteristics:</strong>
+     * Implementations are expected to traverse their internal structure
+     * directly, without allocating an {@link java.util.Iterator}.
+     *
+     * @param action the action to perform
+     * @throws NullPointerException if {@code action} is {@code null}
+     */
+    void forEachIndexed(ObjIntConsumer<? super T> action);
+
+    /**
+     * Visits the elements in order until {@code stop} returns {@code true}.
+     *
+     * <p><strong>Contract:</strong>
+     * Elements after the first one accepted by {@code stop} are not visited.
+     * The list must not be structurally modified by the predicate.
+     *
+     * @param stop the condition that ends the traversal
+     * @return {@code true} if the traversal was stopped by {@code stop};
+     *         {@code false} if every element was visited
+     * @throws NullPointerException if {@code stop} is {@code null}
+     */
+    boolean forEachUntil(Predicate<? super T> stop);
+
+    /**
+     * Folds the elements, from first to last, into a single value.
+     *
+     * <p><strong>Contract:</strong>
+     * Returns {@code accumulator(...accumulator(accumulator(identity, e0), e1)..., en)},
+     * or {@code identity} for an empty list.
+     *
+     * @param identity    the initial value
+     * @param accumulator combines the running result with the next element
+     * @param <R>         the result type
+     * @return the folded value
+     * @throws NullPointerException if {@code accumulator} is {@code null}
+     */
+    <R> R fold(R identity, BiFunction<R, ? super T, R> accumulator);
+
+    /**
+     * Returns the elements of this list, in order, in a new array.
+     *
+     * <p><strong>Contract:</strong>
+     * The returned array has length {@code size()} and is not referenced by
+     * the list, so the caller may modify it freely.
+     *
+     * @return an array holding the elements of this list
+     */
+    Object[] toArray();
+
+    /**
+     * Returns the elements of this list, in order, in an array obtained from
+     * {@code generator}.
+     *
+     * <p><strong>Contract:</strong>
+     * {@code generator} is called exactly once, with {@code size()}, and must
+     * return an array of at least that length. Slots beyond {@code size()} are
+     * left untouched.
+     *
+     * @param generator produces an array of the requested length, e.g. {@code String[]::new}
+     * @return the filled array
+     * @throws NullPointerException if {@code generator} is {@code null}
+     * @throws IllegalArgumentException if the generated array is too short
+     * @throws ArrayStoreException if an element is not assignable to the array's component type
+     */
+    T[] toArray(IntFunction<T[]> generator);
+
+    /**
+     * Moves every element of this list, in order, into {@code dest} starting at
+     * {@code offset}, leaving this list empty.
+     *
+     * @param dest   the array to fill
+     * @param offset the position in {@code dest} that receives the first element
+     * @return the number of elements moved
+     * @throws NullPointerException if {@code dest} is {@code null}
+     * @throws IndexOutOfBoundsException if the elements do not fit into
+     *         {@code dest} at {@code offset}; the list is not modified
+     */
+    int drainTo(T[] dest, int offset);
+
+    /**
+     * Returns the result of applying {@code mapper} to each element, in order,
+     * in a new {@code int} array of length {@code size()}.
+     *
+     * @param mapper extracts an {@code int} from an element
+     * @return the extracted values
+     * @throws NullPointerException if {@code mapper} is {@code null}
+     */
+    int[] toIntArray(ToIntFunction<? super T> mapper);
+
+    /**
+     * Returns the result of applying {@code mapper} to each element, in order,
+     * in a new {@code long} array of length {@code size()}.
+     *
+     * @param mapper extracts a {@code long} from an element
+     * @return the extracted values
+     * @throws NullPointerException if {@code mapper} is {@code null}
+     */
+    long[] toLongArray(ToLongFunction<? super T> mapper);
+
+    /**
+     * Returns the result of applying {@code mapper} to each element, in order,
+     * in a new {@code double} array of length {@code size()}.
+     *
+     * @param mapper extracts a {@code double} from an element
+     * @return the extracted values
+     * @throws NullPointerException if {@code mapper} is {@code null}
+     */
+    double[] toDoubleArray(ToDoubleFunction<? super T> mapper);
 }
@@ -0,0 +1,63 @@
+package com.util.collections.list;
+
+import java.util.Iterator;
+
+/**
+ * A forward iterator over a {@link List} that can edit the list at its cursor.
+ *
+ * <p><strong>Cursor Model:</strong>
+ * The cursor sits between two elements. {@link #next()} moves it over one
+ * element and makes that element the <em>last returned</em> one, which
+ * {@link #set(Object)} and {@link #remove()} then act on. {@link #add(Object)}
+ * inserts immediately before the cursor, so the inserted element is not
+ * returned by a later {@code next()}.
+ *
+ * <p><strong>Direction:</strong>
+ * Only forward traversal is offered. Several of the framework's lists are
+ * singly linked, where stepping backwards would cost a walk from the head.
+ *
+ * <p><strong>Modification Semantics:</strong>
+ * While the iterator is in use, the list must be modified only through it.
+ * Other structural changes leave the iterator undefined; they are not detected.
+ *
+ * @param <T> the type of elements returned by this iterator
+ */
+public interface ListIterator<T> extends Iterator<T> {
+
+    /**
+     * Returns the index of the element that {@link #next()} would return.
+     *
+     * @return the cursor position; {@code size()} at the end of the list
+     */
+    int nextIndex();
+
+    /**
+     * Replaces the element last returned by {@link #next()}.
+     *
+     * @param val the replacement element
+     * @throws IllegalStateException if {@code next()} has not been called, or
+     *         {@code add} or {@code remove} has been called since
+     * @throws IllegalArgumentException if {@code val} is {@code null} and the list does not permit it
+     * @throws UnsupportedOperationException if the list does not support {@code set}
+     */
+    void set(T val);
+
+    /**
+     * Inserts {@code val} immediately before the cursor and moves the cursor past it.
+     *
+     * @param val the element to insert
+     * @throws IllegalArgumentException if {@code val} is {@code null} and the list does not permit it
+     * @throws UnsupportedOperationException if the list does not support positional insertion
+     */
+    void add(T val);
+
+    /**
+     * Removes the element last returned by {@link #next()}.
+     *
+     * @throws IllegalStateException if {@code next()} has not been called, or
+     *         {@code add} or {@code remove} has been called since
+     * @throws UnsupportedOperationException if the list does not support removal
+     */
+    @Override
+    void remove();
+}
@@ -0,0 +1,460 @@
+package com.util.collections.list;
+
+import com.util.collections.Equivalence;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * An array-backed list that keeps its elements in comparator order at all times.
+ *
+ * <p><strong>Design Overview:</strong>
+ * Elements are stored contiguously in ascending order. Because the array is
+ * always sorted, membership tests, index lookups and range queries are answered
+ * by binary search instead of a linear scan. Insertions locate their slot by
+ * binary search and shift the tail of the array by one position.
+ *
+ * <p><strong>Structural Invariants:</strong>
+ * <ul>
+ *   <li>{@code elements[0, count)} holds the elements; slots beyond {@code count} are {@code null}</li>
+ *   <li>For every {@code i} in {@code [1, count)},
+ *       {@code compare(elements[i - 1], elements[i]) <= 0}</li>
+ *   <li>Elements that compare equal are kept in insertion order</li>
+ * </ul>
+ *
+ * <p><strong>Equality Semantics:</strong>
+ * Unlike other lists in this package, {@link #contains(Object)},
+ * {@link #indexOf(Object)} and {@link #remove(Object)} consider two elements
+ * equal when the comparator returns {@code 0}, mirroring sorted collections in
+ * the JDK. The comparator should therefore be consistent with {@code equals}.
+ * A list created with an explicit {@link Equivalence} instead matches only
+ * elements that both compare equal and are equivalent, so the binary search
+ * still narrows the candidates before the equivalence is consulted.
+ *
+ * <p><strong>Null Handling Policy:</strong>
+ * {@code null} elements are never permitted, since they cannot be ordered.
+ *
+ * <p><strong>Positional Mutation:</strong>
+ * Positions are determined by the ordering, so {@link #add(Object, int)} and
+ * {@link #set(int, Object)} are not supported.
+ *
+ * <p><strong>Performance Characteristics:</strong>
+ * <ul>
+ *   <li>{@code get}: O(1)</li>
+ *   <li>{@code contains}, {@code indexOf}: O(log n)</li>
+ *   <li>{@code add}, {@code remove}: O(log n) search plus O(n) shift</li>
+ *   <li>{@link #addAll(Iterable)}: O(m log m + n + m) via a single merge pass</li>
+ *   <li>{@link #headList}, {@link #tailList}, {@link #between}: O(log n + k) for {@code k} results</li>
+ * </ul>
+ *
+ * @param <T> the type of elements maintained by this list
+ */
+public class SortedList<T> extends AbstractList<T> {
+
+    private static final int DEFAULT_CAPACITY = 10;
+
+    private final Comparator<? super T> comparator;
+    private Object[] elements;
+
+    /** {@code true} when lookups match on the comparator alone; see Equality Semantics. */
+    private final boolean matchesByComparator;
+
+    /**
+     * Creates an empty list ordered by the elements' natural ordering.
+     */
+    public SortedList() {
+        this(null);
+    }
+
+    /**
+     * Creates an empty list ordered by the given comparator.
+     *
+     * @param comparator the ordering, or {@code null} for natural ordering
+     */
+    public SortedList(Comparator<? super T> comparator) {
+        super(false);
+        this.comparator = naturalIfNull(comparator);
+        this.elements = new Object[DEFAULT_CAPACITY];
+        this.matchesByComparator = true;
+    }
+
+    /**
+     * Creates an empty list ordered by the given comparator whose lookups and
+     * removals by value also require {@code equivalence} to hold.
+     *
+     * @param comparator  the ordering, or {@code null} for natural ordering
+     * @param equivalence decides which of the elements comparing equal match
+     * @throws IllegalArgumentException if {@code equivalence} is {@code null}
+     */
+    public SortedList(Comparator<? super T> comparator, Equivalence<? super T> equivalence) {
+        super(false, equivalence);
+        this.comparator = naturalIfNull(comparator);
+        this.elements = new Object[DEFAULT_CAPACITY];
+        this.matchesByComparator = false;
+    }
+
+    //====================== Add Operations =====================================================//
+
+    /**
+     * Inserts the element at its sorted position, after any elements that
+     * compare equal to it.
+     *
+     * @param val the element to insert
+     * @return {@code true}
+     * @throws IllegalArgumentException if {@code val} is {@code null}
+     */
+    @Override
+    public boolean add(T val) {
+        checkNullAllowed(val);
+        int index = upperBound(val);
+        ensureCapacity(count + 1);
+        System.arraycopy(elements, index, elements, index + 1, count - index);
+        elements[index] = val;
+        count++;
+        return true;
+    }
+
+    /**
+     * Not supported: element positions are determined by the ordering.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public boolean add(T val, int index) {
+        throw new UnsupportedOperationException("SortedList determines element positions");
+    }
+
+    /**
+     * Adds all elements of the specified {@link Iterable} in a single merge pass.
+     *
+     * <p><strong>Implementation Strategy:</strong>
+     * The incoming elements are collected and stable-sorted (the sort is skipped
+     * when the source is a {@code SortedList} with the same comparator). The
+     * sorted run is then merged with the existing array from the back, so each
+     * existing element moves at most once. Ties place existing elements before
+     * incoming ones, matching repeated {@link #add(Object)} calls.
+     *
+     * @param iterable the elements to add
+     * @return {@code true}
+     * @throws NullPointerException if {@code iterable} is {@code null}
+     * @throws IllegalArgumentException if any element is {@code null}
+     */
+    @Override
+    public boolean addAll(Iterable<T> iterable) {
+        Objects.requireNonNull(iterable, "iterable must not be null");
+        Object[] incoming = collectSorted(iterable);
+        int m = incoming.length;
+        if (m == 0) {
+            return true;
+        }
+        ensureCapacity(count + m);
+        int i = count - 1;
+        int j = m - 1;
+        int k = count + m - 1;
+        while (j >= 0) {
+            if (i >= 0 && compare(elementAt(i), elementOf(incoming, j)) > 0) {
+                elements[k--] = elements[i--];
+            } else {
+                elements[k--] = incoming[j--];
+            }
+        }
+        count += m;
+        return true;
+    }
+
+    private Object[] collectSorted(Iterable<T> iterable) {
+        if (iterable instanceof SortedList
+                && ((SortedList<?>) iterable).comparator.equals(comparator)) {
+            SortedList<?> sorted = (SortedList<?>) iterable;
+            return Arrays.copyOf(sorted.elements, sorted.count);
+        }
+        Object[] buffer = new Object[DEFAULT_CAPACITY];
+        int size = 0;
+        for (T e : iterable) {
+            checkNullAllowed(e);
+            if (size == buffer.length) {
+                buffer = Arrays.copyOf(buffer, size << 1);
+            }
+            buffer[size++] = e;
+        }
+        Object[] incoming = Arrays.copyOf(buffer, size);
+        sortArray(incoming, comparator);
+        return incoming;
+    }
+
+    /**
+     * Not supported: element positions are determined by the ordering.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public T set(int index, T val) {
+        throw new UnsupportedOperationException("SortedList determines element positions");
+    }
+
+    /**
+     * Does nothing if {@code c} imposes this list's own ordering, since the list
+     * is already sorted by it. A {@code null} argument denotes natural ordering.
+     *
+     * @throws UnsupportedOperationException if {@code c} imposes a different ordering
+     */
+    @Override
+    public void sort(Comparator<? super T> c) {
+        if (!naturalIfNull(c).equals(comparator)) {
+            throw new UnsupportedOperationException("SortedList is ordered by its own comparator");
+        }
+    }
+    // ===========================================================================================//
+
+    //==================== Removal Operations ====================================================//
+
+    /**
+     * Removes the first element that compares equal to {@code val}, if present.
+     *
+     * @param val the value to remove
+     * @return {@code true} if an element was removed, {@code false} otherwise
+     * @throws IllegalArgumentException if {@code val} is {@code null}
+     */
+    @Override
+    public boolean remove(T val) {
+        checkNullAllowed(val);
+        int index = indexOf(val);
+        if (index < 0) {
+            return false;
+        }
+        removeAt(index);
+        return true;
+    }
+
+    /**
+     * Removes the element at the specified position.
+     *
+     * @param index zero-based index of the element to remove
+     * @return the removed element
+     * @throws IndexOutOfBoundsException if {@code index} is out of range
+     */
+    public T removeAt(int index) {
+        checkIndexOrElseThrow(index);
+        T oldValue = elementAt(index);
+        System.arraycopy(elements, index + 1, elements, index, count - index - 1);
+        elements[--count] = null; // Help GC
+        return oldValue;
+    }
+
+    /**
+     * Removes the elements in {@code [fromIndex, toIndex)} with a single array shift.
+     */
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        System.arraycopy(elements, toIndex, elements, fromIndex, count - toIndex);
+        int newCount = count - (toIndex - fromIndex);
+        Arrays.fill(elements, newCount, count, null); // Help GC
+        count = newCount;
+    }
+
+    @Override
+    public Object[] toArray() {
+        return Arrays.copyOf(elements, count);
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(elements, 0, count, null);
+        count = 0;
+    }
+    // ===========================================================================================//
+
+    //==================== Search Operations ====================================================//
+
+    @Override
+    public T get(int index) {
+        checkIndexOrElseThrow(index);
+        return elementAt(index);
+    }
+
+    /**
+     * Returns {@code true} if an element comparing equal to {@code val} is present.
+     *
+     * <p><strong>Performance Characteristics:</strong>
+     * O(log n) by binary search.
+     *
+     * @param val the value to look up
+     * @return whether a matching element exists
+     */
+    @Override
+    public boolean contains(T val) {
+        return val != null && indexOf(val) >= 0;
+    }
+
+    /**
+     * Returns the index of the first element matching {@code val}; see Equality Semantics.
+     *
+     * @param val the value to look up
+     * @return the index of the first match, or {@code -1} if there is none
+     * @throws IllegalArgumentException if {@code val} is {@code null}
+     */
+    public int indexOf(T val) {
+        checkNullAllowed(val);
+        for (int index = lowerBound(val); index < count && compare(elementAt(index), val) == 0; index++) {
+            if (matchesByComparator || isEquivalent(elementAt(index), val)) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns a new list holding the elements strictly less than {@code toElement}.
+     *
+     * @param toElement the exclusive upper bound
+     * @return the matching elements, in order
+     * @throws IllegalArgumentException if {@code toElement} is {@code null}
+     */
+    public SortedList<T> headList(T toElement) {
+        checkNullAllowed(toElement);
+        return copyRange(0, lowerBound(toElement));
+    }
+
+    /**
+     * Returns a new list holding the elements greater than or equal to {@code fromElement}.
+     *
+     * @param fromElement the inclusive lower bound
+     * @return the matching elements, in order
+     * @throws IllegalArgumentException if {@code fromElement} is {@code null}
+     */
+    public SortedList<T> tailList(T fromElement) {
+        checkNullAllowed(fromElement);
+        return copyRange(lowerBound(fromElement), count);
+    }
+
+    /**
+     * Returns a new list holding the elements in {@code [fromElement, toElement)}.
+     *
+     * @param fromElement the inclusive lower bound
+     * @param toElement   the exclusive upper bound
+     * @return the matching elements, in order
+     * @throws IllegalArgumentException if either bound is {@code null}, or if
+     *         {@code fromElement} is greater than {@code toElement}
+     */
+    public SortedList<T> between(T fromElement, T toElement) {
+        checkNullAllowed(fromElement);
+        checkNullAllowed(toElement);
+        if (compare(fromElement, toElement) > 0) {
+            throw new IllegalArgumentException("fromElement > toElement");
+        }
+        return copyRange(lowerBound(fromElement), lowerBound(toElement));
+    }
+
+    /**
+     * Returns the comparator that orders this list.
+     *
+     * @return the ordering; never {@code null}
+     */
+    public Comparator<? super T> comparator() {
+        return comparator;
+    }
+
+    /**
+     * Returns the first index whose element is not less than {@code val}.
+     */
+    private int lowerBound(T val) {
+        int low = 0;
+        int high = count;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (compare(elementAt(mid), val) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the first index whose element is greater than {@code val}.
+     */
+    private int upperBound(T val) {
+        int low = 0;
+        int high = count;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (compare(elementAt(mid), val) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private SortedList<T> copyRange(int from, int to) {
+        SortedList<T> range = matchesByComparator
+                ? new SortedList<>(comparator)
+                : new SortedList<>(comparator, equivalence);
+        range.elements = Arrays.copyOfRange(elements, from, to);
+        range.count = to - from;
+        return range;
+    }
+    // ===========================================================================================//
+
+    private int compare(T a, T b) {
+        return comparator.compare(a, b);
+    }
+
+    private void ensureCapacity(int minCapacity) {
+        if (minCapacity > elements.length) {
+            int capacity = Math.max(minCapacity, elements.length + (elements.length >> 1));
+            elements = Arrays.copyOf(elements, capacity);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private T elementAt(int index) {
+        return (T) elements[index];
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T elementOf(Object[] array, int index) {
+        return (T) array[index];
+    }
+
+    @Override
+    public int size() {
+        return count;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new SortedListIterator();
+    }
+
+    /**
+     * Sequential iterator over the backing array.
+     */
+    private class SortedListIterator implements Iterator<T> {
+
+        private int cursor;
+
+        @Override
+        public boolean hasNext() {
+            return cursor < count;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return elementAt(cursor++);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.util.collections.list;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A live view of the range {@code [offset, offset + count)} of a backing list.
+ *
+ * <p><strong>Design Overview:</strong>
+ * The view stores no elements. Every positional operation is translated by
+ * {@code offset} and delegated to the backing list, and the view adjusts its
+ * own {@code count} after insertions and removals made through it. Bulk
+ * removal is delegated to {@link AbstractList#removeRange(int, int)}, so
+ * {@link #clear()} is a single structural operation on the backing list.
+ *
+ * <p><strong>Performance Characteristics:</strong>
+ * Each operation costs the same as the corresponding positional operation of
+ * the backing list. Iteration calls {@code get} once per element.
+ *
+ * <p><strong>Modification Semantics:</strong>
+ * Structural changes made to the backing list other than through this view
+ * leave the view undefined; they are not detected.
+ *
+ * @param <T> the type of elements maintained by the backing list
+ */
+class SubList<T> extends AbstractList<T> {
+
+    private final AbstractList<T> parent;
+    private final int offset;
+
+    SubList(AbstractList<T> parent, int fromIndex, int toIndex) {
+        super(parent.isNullable, parent.equivalence);
+        this.parent = parent;
+        this.offset = fromIndex;
+        this.count = toIndex - fromIndex;
+    }
+
+    @Override
+    public T get(int index) {
+        checkIndexOrElseThrow(index);
+        return parent.get(offset + index);
+    }
+
+    @Override
+    public T set(int index, T val) {
+        checkIndexOrElseThrow(index);
+        return parent.set(offset + index, val);
+    }
+
+    @Override
+    public boolean add(T val) {
+        return add(val, count);
+    }
+
+    @Override
+    public boolean add(T val, int index) {
+        checkIsInsertable(index);
+        parent.add(val, offset + index);
+        count++;
+        return true;
+    }
+
+    /**
+     * Removes the first occurrence of {@code val} within the range.
+     *
+     * @param val the value to remove
+     * @return {@code true} if an element was removed
+     */
+    @Override
+    public boolean remove(T val) {
+        checkNullAllowed(val);
+        int index = 0;
+        for (T v : this) {
+            if (isEquivalent(v, val)) {
+                removeRange(index, index + 1);
+                return true;
+            }
+            index++;
+        }
+        return false;
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        parent.removeRange(offset + fromIndex, offset + toIndex);
+        count -= toIndex - fromIndex;
+    }
+
+    @Override
+    public void clear() {
+        removeRange(0, count);
+    }
+
+    @Override
+    public int size() {
+        return count;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<>() {
+            private int cursor;
+
+            @Override
+            public boolean hasNext() {
+                return cursor < count;
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return parent.get(offset + cursor++);
+            }
+        };
+    }
+}
@@ -0,0 +1,822 @@
+package com.util.collections.list;
+
+import com.util.collections.Equivalence;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * A positional list backed by a height-balanced tree of small element arrays.
+ *
+ * <p><strong>Design Overview:</strong>
+ * Elements are stored in fixed-capacity array chunks. The chunks are arranged
+ * in-order in an AVL tree in which every node records the total number of
+ * elements in its subtree. Positional operations descend the tree by comparing
+ * the index against subtree counts, then finish with a plain array access inside
+ * a single chunk. This combines the {@code O(log n)} positional guarantees of a
+ * counted tree with the cache locality of contiguous storage.
+ *
+ * <p><strong>Structural Invariants:</strong>
+ * <ul>
+ *   <li>In-order traversal of the chunks yields the list order</li>
+ *   <li>Every linked chunk holds between {@code 1} and {@link #CHUNK_CAPACITY} elements</li>
+ *   <li>A chunk below {@link #MIN_CHUNK_SIZE} left by a removal, split or concat is
+ *       merged into an in-order neighbour whenever their elements fit in one chunk</li>
+ *   <li>{@code node.total == total(left) + node.size + total(right)}</li>
+ *   <li>Subtree heights of siblings differ by at most one</li>
+ *   <li>{@code count == total(root)}</li>
+ * </ul>
+ *
+ * <p><strong>Null Handling Policy:</strong>
+ * Whether {@code null} elements are permitted is governed by the {@code isNullable}
+ * flag inherited from {@link AbstractList}.
+ *
+ * <p><strong>Performance Characteristics:</strong>
+ * <ul>
+ *   <li>{@code get}, {@code set}, {@code add(val, index)}, {@link #removeAt(int)}: O(log n)</li>
+ *   <li>{@link #split(int)} and {@link #concat(TreeList)}: O(log n)</li>
+ *   <li>Iteration: amortized O(1) per step, sequential within each chunk</li>
+ *   <li>Removal by value, {@code contains}: O(n)</li>
+ * </ul>
+ *
+ * <p><strong>Iterator Semantics:</strong>
+ * The iterator is not fail-fast. Structural modifications during iteration
+ * result in undefined behavior.
+ *
+ * @param <T> the type of elements maintained by this list
+ */
+public class TreeList<T> extends AbstractList<T> {
+
+    /** Maximum number of elements stored in a single chunk. */
+    static final int CHUNK_CAPACITY = 64;
+
+    /** Chunks that shrink below this size are merged into a neighbour when possible. */
+    static final int MIN_CHUNK_SIZE = CHUNK_CAPACITY / 4;
+
+    /**
+     * A chunk of consecutive elements and the root of a balanced subtree.
+     *
+     * <p>
+     * {@code items[0, size)} hold this chunk's elements; slots beyond {@code size}
+     * are always {@code null}. {@code total} and {@code height} summarize the
+     * subtree rooted here and are refreshed by {@link TreeList#update(Node)}.
+     * </p>
+     */
+    static final class Node {
+        private final Object[] items = new Object[CHUNK_CAPACITY];
+        private int size;
+        private int total;
+        private int height = 1;
+        private Node left;
+        private Node right;
+    }
+
+    private Node root;
+
+    /*
+     * Results handed back by the recursive helpers, whose return value is the
+     * new subtree root. Each is read and cleared by the public operation that
+     * triggered the recursion, so no holder arrays are allocated per call.
+     */
+    private Object removedValue;
+    private Node detached;
+    private Node splitLeft;
+    private Node splitRight;
+
+    public TreeList() {
+        super(true);
+    }
+
+    public TreeList(boolean isNullable) {
+        super(isNullable);
+    }
+
+    /**
+     * Creates an empty list whose lookups and removals by value use {@code equivalence}.
+     *
+     * @param isNullable  {@code true} if {@code null} elements are allowed
+     * @param equivalence decides when two elements are equal
+     * @throws IllegalArgumentException if {@code equivalence} is {@code null}
+     */
+    public TreeList(boolean isNullable, Equivalence<? super T> equivalence) {
+        super(isNullable, equivalence);
+    }
+
+    //====================== Add Operations =====================================================//
+
+    @Override
+    public boolean add(T val) {
+        checkNullAllowed(val);
+        root = insert(root, count, val);
+        count++;
+        return true;
+    }
+
+    @Override
+    public boolean add(T val, int index) {
+        checkNullAllowed(val);
+        checkIsInsertable(index);
+        root = insert(root, index, val);
+        count++;
+        return true;
+    }
+
+    /**
+     * Inserts {@code val} at position {@code index} of the subtree rooted at {@code node}.
+     *
+     * <p><strong>Implementation Strategy:</strong>
+     * Positions on either edge of a chunk are absorbed by that chunk when it has
+     * room. A value placed after the last element of a full chunk continues in
+     * the successor chunk, or in a new chunk when there is none, so appending
+     * fills every chunk. Any other insertion into a full chunk splits it in half;
+     * the upper half moves into a new node that becomes the in-order successor
+     * of the original chunk.
+     *
+     * @return the new root of the subtree
+     */
+    private Node insert(Node node, int index, Object val) {
+        if (node == null) {
+            Node leaf = new Node();
+            leaf.items[0] = val;
+            leaf.size = 1;
+            update(leaf);
+            return leaf;
+        }
+        int leftTotal = total(node.left);
+        if (index < leftTotal) {
+            node.left = insert(node.left, index, val);
+        } else if (index <= leftTotal + node.size) {
+            int offset = index - leftTotal;
+            if (node.size < CHUNK_CAPACITY) {
+                insertIntoChunk(node, offset, val);
+            } else if (offset == node.size) {
+                node.right = insert(node.right, 0, val);
+            } else {
+                Node upper = splitChunk(node, CHUNK_CAPACITY / 2);
+                if (offset <= node.size) {
+                    insertIntoChunk(node, offset, val);
+                } else {
+                    insertIntoChunk(upper, offset - node.size, val);
+                }
+                update(upper);
+                node.right = insertFirst(node.right, upper);
+            }
+        } else {
+            node.right = insert(node.right, index - leftTotal - node.size, val);
+        }
+        update(node);
+        return balance(node);
+    }
+
+    private static void insertIntoChunk(Node node, int offset, Object val) {
+        System.arraycopy(node.items, offset, node.items, offset + 1, node.size - offset);
+        node.items[offset] = val;
+        node.size++;
+    }
+
+    /**
+     * Moves {@code items[from, size)} of {@code node} into a new, unlinked node.
+     */
+    private static Node splitChunk(Node node, int from) {
+        Node upper = new Node();
+        int moved = node.size - from;
+        System.arraycopy(node.items, from, upper.items, 0, moved);
+        Arrays.fill(node.items, from, node.size, null);
+        upper.size = moved;
+        node.size = from;
+        return upper;
+    }
+
+    /**
+     * Links {@code leaf} as the first in-order node of the subtree rooted at {@code node}.
+     */
+    private Node insertFirst(Node node, Node leaf) {
+        if (node == null) {
+            return leaf;
+        }
+        node.left = insertFirst(node.left, leaf);
+        update(node);
+        return balance(node);
+    }
+    // ===========================================================================================//
+
+    //==================== Removal Operations ====================================================//
+
+    /**
+     * Removes the element at the specified position.
+     *
+     * <p><strong>Structural Effects:</strong>
+     * The element is removed from its chunk by shifting the remainder of that
+     * chunk only. A chunk that becomes empty is unlinked from the tree; one that
+     * drops below {@link #MIN_CHUNK_SIZE} is merged into a neighbour when their
+     * elements fit in one chunk. The tree is rebalanced along the search path.
+     *
+     * <p><strong>Performance Characteristics:</strong>
+     * O(log n).
+     *
+     * @param index zero-based index of the element to remove
+     * @return the removed element
+     * @throws IndexOutOfBoundsException if {@code index} is out of range
+     */
+    public T removeAt(int index) {
+        checkIndexOrElseThrow(index);
+        root = delete(root, index);
+        count--;
+        @SuppressWarnings("unchecked")
+        T oldValue = (T) removedValue;
+        removedValue = null;
+        return oldValue;
+    }
+
+    /**
+     * Removes position {@code index} of the subtree, storing the element in {@link #removedValue}.
+     *
+     * @return the new root of the subtree
+     */
+    private Node delete(Node node, int index) {
+        int leftTotal = total(node.left);
+        if (index < leftTotal) {
+            node.left = delete(node.left, index);
+        } else if (index < leftTotal + node.size) {
+            int offset = index - leftTotal;
+            removedValue = node.items[offset];
+            System.arraycopy(node.items, offset + 1, node.items, offset, node.size - offset - 1);
+            node.items[--node.size] = null; // Help GC
+            if (node.size == 0) {
+                return unlinkNode(node);
+            }
+            if (node.size < MIN_CHUNK_SIZE) {
+                return mergeChunk(node);
+            }
+        } else {
+            node.right = delete(node.right, index - leftTotal - node.size);
+        }
+        return absorbLeaves(node);
+    }
+
+    /**
+     * Merges the chunk holding position {@code index} into a neighbour if it is
+     * below {@link #MIN_CHUNK_SIZE}.
+     *
+     * @return the new root of the subtree
+     */
+    private Node compactAt(Node node, int index) {
+        int leftTotal = total(node.left);
+        if (index < leftTotal) {
+            node.left = compactAt(node.left, index);
+        } else if (index >= leftTotal + node.size) {
+            node.right = compactAt(node.right, index - leftTotal - node.size);
+        } else if (node.size < MIN_CHUNK_SIZE) {
+            return mergeChunk(node);
+        }
+        return absorbLeaves(node);
+    }
+
+    /**
+     * Pulls the elements of the in-order successor, or failing that the
+     * predecessor, of the underfull chunk {@code node} into it when they fit.
+     *
+     * <p>
+     * Only neighbours inside the subtree rooted at {@code node} are reachable
+     * here; a leaf chunk is merged with its parent by {@link #absorbLeaves(Node)}
+     * as the recursion unwinds.
+     * </p>
+     *
+     * @return the new root of the subtree
+     */
+    private Node mergeChunk(Node node) {
+        if (node.right != null && node.size + first(node.right).size <= CHUNK_CAPACITY) {
+            node.right = detachFirst(node.right);
+            appendChunk(node, detached);
+            detached = null;
+        } else if (node.left != null && last(node.left).size + node.size <= CHUNK_CAPACITY) {
+            node.left = detachLast(node.left);
+            prependChunk(node, detached);
+            detached = null;
+        }
+        return absorbLeaves(node);
+    }
+
+    /**
+     * Folds an underfull leaf child into {@code node} when their elements fit in
+     * one chunk, then restores the balance of the subtree.
+     *
+     * <p>
+     * A leaf left child is the in-order predecessor of {@code node} and a leaf
+     * right child its successor, so either can be merged without touching the
+     * rest of the tree. Dropping a child may shorten that side by two levels,
+     * more than a single {@link #balance(Node)} repairs, so the subtree is then
+     * rebuilt with {@link #join(Node, Node, Node)}.
+     * </p>
+     *
+     * @return the new root of the subtree
+     */
+    private Node absorbLeaves(Node node) {
+        boolean absorbed = false;
+        Node left = node.left;
+        if (isSmallLeaf(left) && left.size + node.size <= CHUNK_CAPACITY) {
+            prependChunk(node, left);
+            node.left = null;
+            absorbed = true;
+        }
+        Node right = node.right;
+        if (isSmallLeaf(right) && node.size + right.size <= CHUNK_CAPACITY) {
+            appendChunk(node, right);
+            node.right = null;
+            absorbed = true;
+        }
+        if (absorbed) {
+            left = node.left;
+            right = node.right;
+            node.left = null;
+            node.right = null;
+            return join(left, node, right);
+        }
+        update(node);
+        return balance(node);
+    }
+
+    private static boolean isSmallLeaf(Node node) {
+        return node != null && node.left == null && node.right == null && node.size < MIN_CHUNK_SIZE;
+    }
+
+    private static Node first(Node node) {
+        while (node.left != null) {
+            node = node.left;
+        }
+        return node;
+    }
+
+    private static Node last(Node node) {
+        while (node.right != null) {
+            node = node.right;
+        }
+        return node;
+    }
+
+    /**
+     * Moves every element of {@code source} to the end of {@code target}.
+     */
+    private static void appendChunk(Node target, Node source) {
+        System.arraycopy(source.items, 0, target.items, target.size, source.size);
+        target.size += source.size;
+    }
+
+    /**
+     * Moves every element of {@code source} to the front of {@code target}.
+     */
+    private static void prependChunk(Node target, Node source) {
+        System.arraycopy(target.items, 0, target.items, source.size, target.size);
+        System.arraycopy(source.items, 0, target.items, 0, source.size);
+        target.size += source.size;
+    }
+
+    /**
+     * Removes an empty chunk node from the tree and returns the replacement subtree.
+     */
+    private Node unlinkNode(Node node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        if (node.right == null) {
+            return node.left;
+        }
+        Node right = detachFirst(node.right);
+        Node successor = detached;
+        detached = null;
+        successor.left = node.left;
+        successor.right = right;
+        node.left = null;
+        node.right = null;
+        update(successor);
+        return balance(successor);
+    }
+
+    /**
+     * Detaches the first in-order node of the subtree, storing it in {@link #detached}.
+     *
+     * @return the new root of the remaining subtree
+     */
+    private Node detachFirst(Node node) {
+        if (node.left == null) {
+            detached = node;
+            Node right = node.right;
+            node.right = null;
+            return right;
+        }
+        node.left = detachFirst(node.left);
+        update(node);
+        return balance(node);
+    }
+
+    /**
+     * Detaches the last in-order node of the subtree, storing it in {@link #detached}.
+     *
+     * @return the new root of the remaining subtree
+     */
+    private Node detachLast(Node node) {
+        if (node.right == null) {
+            detached = node;
+            Node left = node.left;
+            node.left = null;
+            return left;
+        }
+        node.right = detachLast(node.right);
+        update(node);
+        return balance(node);
+    }
+
+    /**
+     * Removes the first occurrence of the specified value, if present.
+     *
+     * <p><strong>Performance Characteristics:</strong>
+     * Locating the value is a linear in-order scan; the subsequent removal is
+     * delegated to {@link #removeAt(int)}.
+     *
+     * @param val the value to remove
+     * @return {@code true} if an element was removed, {@code false} otherwise
+     */
+    @Override
+    public boolean remove(T val) {
+        checkNullAllowed(val);
+        int index = 0;
+        for (T v : this) {
+            if (isEquivalent(v, val)) {
+                removeAt(index);
+                return true;
+            }
+            index++;
+        }
+        return false;
+    }
+
+    @Override
+    public void clear() {
+        root = null;
+        count = 0;
+    }
+
+    /**
+     * Removes the elements in {@code [fromIndex, toIndex)} by splitting the tree
+     * at both bounds and joining the outer parts.
+     *
+     * <p><strong>Performance Characteristics:</strong>
+     * O(log n), independent of the length of the range.
+     */
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        TreeList<T> rest = split(toIndex);
+        split(fromIndex);
+        concat(rest);
+    }
+    // ===========================================================================================//
+
+    //==================== Split & Concat ========================================================//
+
+    /**
+     * Splits this list at {@code index}.
+     *
+     * <p><strong>Behavior:</strong>
+     * After this call, this list retains the elements {@code [0, index)} and the
+     * returned list holds the former elements {@code [index, size())} in order.
+     * The returned list inherits this list's nullability policy and equivalence.
+     *
+     * <p><strong>Performance Characteristics:</strong>
+     * O(log n). At most one chunk is copied; all other chunks are relinked. A
+     * short chunk left on either side of the cut is merged into its neighbour.
+     *
+     * @param index the split position in {@code [0, size()]}
+     * @return a new list holding the tail of this list
+     * @throws IndexOutOfBoundsException if {@code index} is outside {@code [0, size()]}
+     */
+    public TreeList<T> split(int index) {
+        checkIsInsertable(index);
+        split(root, index);
+        TreeList<T> tail = new TreeList<>(isNullable, equivalence);
+        tail.root = splitRight;
+        tail.count = count - index;
+        root = splitLeft;
+        count = index;
+        splitLeft = null;
+        splitRight = null;
+        if (count > 0) {
+            root = compactAt(root, count - 1);
+        }
+        if (tail.count > 0) {
+            tail.root = compactAt(tail.root, 0);
+        }
+        return tail;
+    }
+
+    /**
+     * Appends all elements of {@code other} to this list and leaves {@code other} empty.
+     *
+     * <p><strong>Behavior:</strong>
+     * The chunks of {@code other} are relinked into this list; only a short chunk
+     * at the seam may be merged into its neighbour. A list that disallows {@code null} elements only accepts lists with
+     * the same policy, so the invariant cannot be bypassed through concatenation.
+     * Both lists must also use the same equivalence, so that lookups by value
+     * behave identically for every element afterwards.
+     *
+     * <p><strong>Performance Characteristics:</strong>
+     * O(log n + log m).
+     *
+     * @param other the list whose elements are moved to the end of this list
+     * @throws NullPointerException if {@code other} is {@code null}
+     * @throws IllegalArgumentException if {@code other} is this list, if it
+     *         permits {@code null} elements while this list does not, or if it
+     *         uses a different equivalence
+     */
+    public void concat(TreeList<T> other) {
+        Objects.requireNonNull(other, "other must not be null");
+        if (other == this) {
+            throw new IllegalArgumentException("Cannot concatenate a list with itself");
+        }
+        if (!isNullable && other.isNullable) {
+            throw new IllegalArgumentException("List does not allow null values");
+        }
+        if (!equivalence.equals(other.equivalence)) {
+            throw new IllegalArgumentException("Cannot concatenate lists with different equivalences");
+        }
+        if (other.root == null) {
+            return;
+        }
+        int boundary = count;
+        Node rest = detachFirst(other.root);
+        root = join(root, detached, rest);
+        detached = null;
+        count += other.count;
+        if (boundary > 0) {
+            root = compactAt(root, boundary - 1);
+            root = compactAt(root, Math.min(boundary, count - 1));
+        }
+        other.root = null;
+        other.count = 0;
+    }
+
+    /**
+     * Splits the subtree into {@code [0, index)} and {@code [index, total)},
+     * storing their roots in {@link #splitLeft} and {@link #splitRight}.
+     */
+    private void split(Node node, int index) {
+        if (node == null) {
+            splitLeft = null;
+            splitRight = null;
+            return;
+        }
+        Node left = node.left;
+        Node right = node.right;
+        node.left = null;
+        node.right = null;
+        int leftTotal = total(left);
+        if (index <= leftTotal) {
+            split(left, index);
+            splitRight = join(splitRight, node, right);
+            return;
+        }
+        if (index >= leftTotal + node.size) {
+            split(right, index - leftTotal - node.size);
+            splitLeft = join(left, node, splitLeft);
+            return;
+        }
+        Node upper = splitChunk(node, index - leftTotal);
+        splitLeft = join(left, node, null);
+        splitRight = join(null, upper, right);
+    }
+
+    /**
+     * Joins two balanced subtrees around a detached middle node.
+     *
+     * <p>
+     * Every element of {@code left} precedes {@code middle}, which precedes every
+     * element of {@code right}. The shorter tree is attached along the facing
+     * spine of the taller one, so the cost is proportional to the height
+     * difference.
+     * </p>
+     */
+    private Node join(Node left, Node middle, Node right) {
+        if (height(left) > height(right) + 1) {
+            return joinRight(left, middle, right);
+        }
+        if (height(right) > height(left) + 1) {
+            return joinLeft(left, middle, right);
+        }
+        middle.left = left;
+        middle.right = right;
+        update(middle);
+        return middle;
+    }
+
+    private Node joinRight(Node left, Node middle, Node right) {
+        if (height(left.right) <= height(right) + 1) {
+            middle.left = left.right;
+            middle.right = right;
+            update(middle);
+            left.right = middle;
+        } else {
+            left.right = joinRight(left.right, middle, right);
+        }
+        update(left);
+        return balance(left);
+    }
+
+    private Node joinLeft(Node left, Node middle, Node right) {
+        if (height(right.left) <= height(left) + 1) {
+            middle.left = left;
+            middle.right = right.left;
+            update(middle);
+            right.left = middle;
+        } else {
+            right.left = joinLeft(left, middle, right.left);
+        }
+        update(right);
+        return balance(right);
+    }
+    // ===========================================================================================//
+
+    //==================== Search Operations ====================================================//
+
+    @Override
+    public T get(int index) {
+        checkIndexOrElseThrow(index);
+        Node node = root;
+        while (true) {
+            int leftTotal = total(node.left);
+            if (index < leftTotal) {
+                node = node.left;
+            } else if (index < leftTotal + node.size) {
+                @SuppressWarnings("unchecked")
+                T value = (T) node.items[index - leftTotal];
+                return value;
+            } else {
+                index -= leftTotal + node.size;
+                node = node.right;
+            }
+        }
+    }
+
+    @Override
+    public T set(int index, T val) {
+        checkNullAllowed(val);
+        checkIndexOrElseThrow(index);
+        Node node = root;
+        while (true) {
+            int leftTotal = total(node.left);
+            if (index < leftTotal) {
+                node = node.left;
+            } else if (index < leftTotal + node.size) {
+                int offset = index - leftTotal;
+                @SuppressWarnings("unchecked")
+                T oldValue = (T) node.items[offset];
+                node.items[offset] = val;
+                return oldValue;
+            } else {
+                index -= leftTotal + node.size;
+                node = node.right;
+            }
+        }
+    }
+    // ===========================================================================================//
+
+    //==================== Balancing =============================================================//
+
+    private static int height(Node node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static int total(Node node) {
+        return node == null ? 0 : node.total;
+    }
+
+    private static void update(Node node) {
+        node.height = Math.max(height(node.left), height(node.right)) + 1;
+        node.total = total(node.left) + node.size + total(node.right);
+    }
+
+    /**
+     * Restores the AVL invariant at {@code node}, whose children are balanced
+     * and differ in height by at most two.
+     *
+     * @return the new root of the subtree
+     */
+    private static Node balance(Node node) {
+        int factor = height(node.left) - height(node.right);
+        if (factor > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        }
+        if (factor < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private static Node rotateRight(Node node) {
+        Node pivot = node.left;
+        node.left = pivot.right;
+        pivot.right = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private static Node rotateLeft(Node node) {
+        Node pivot = node.right;
+        node.right = pivot.left;
+        pivot.left = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+    // ===========================================================================================//
+
+    @Override
+    public int size() {
+        return count;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    /**
+     * Returns the number of chunks linked into the tree.
+     */
+    int chunkCount() {
+        return chunkCount(root);
+    }
+
+    private static int chunkCount(Node node) {
+        return node == null ? 0 : chunkCount(node.left) + 1 + chunkCount(node.right);
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new TreeListIterator();
+    }
+
+    /**
+     * In-order iterator over the chunks of a {@link TreeList}.
+     *
+     * <p>
+     * The iterator keeps the path of pending ancestors on an explicit stack and
+     * scans each chunk sequentially, so each element is produced by a plain
+     * array read and each chunk is entered once.
+     * </p>
+     */
+    private class TreeListIterator implements Iterator<T> {
+
+        private final Node[] stack = new Node[height(root) + 1];
+        private int depth;
+        private Node chunk;
+        private int offset;
+
+        TreeListIterator() {
+            pushLeftSpine(root);
+            advanceChunk();
+        }
+
+        private void pushLeftSpine(Node node) {
+            while (node != null) {
+                stack[depth++] = node;
+                node = node.left;
+            }
+        }
+
+        private void advanceChunk() {
+            if (depth == 0) {
+                chunk = null;
+                return;
+            }
+            chunk = stack[--depth];
+            offset = 0;
+            pushLeftSpine(chunk.right);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return chunk != null;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            @SuppressWarnings("unchecked")
+            T data = (T) chunk.items[offset++];
+            if (offset == chunk.size) {
+                advanceChunk();
+            }
+            return data;
+        }
+    }
+}
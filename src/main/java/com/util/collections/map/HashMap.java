@@ -0,0 +1,402 @@
+package com.util.collections.map;
+
+import com.util.collections.Equivalence;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A hash table based {@link Map} using separate chaining.
+ *
+ * <p><strong>Design Overview:</strong>
+ * Mappings are stored in singly linked bucket chains hanging off a
+ * power-of-two sized table. A key's bucket is selected by masking its spread
+ * hash code with {@code table.length - 1}. When the number of mappings
+ * exceeds {@code 3/4} of the table length, the table doubles and every chain
+ * is split in two without rehashing the keys.
+ *
+ * <p><strong>Structural Invariants:</strong>
+ * <ul>
+ *   <li>{@code table.length} is a power of two</li>
+ *   <li>Every entry lives in bucket {@code entry.hash & (table.length - 1)}</li>
+ *   <li>No two entries hold equal keys</li>
+ *   <li>{@code size} is the number of entries reachable from {@code table}</li>
+ * </ul>
+ *
+ * <p><strong>Null Handling Policy:</strong>
+ * A single {@code null} key and any number of {@code null} values are
+ * permitted. Keys are compared by identity first and then with the map's
+ * {@link Equivalence}, {@code equals} and {@code hashCode} by default.
+ *
+ * <p><strong>Performance Characteristics:</strong>
+ * <ul>
+ *   <li>{@code get}, {@code put}, {@code remove}, {@code containsKey}: O(1) expected</li>
+ *   <li>Resize: O(n), amortized O(1) per insertion</li>
+ *   <li>Iteration: O(capacity + n)</li>
+ * </ul>
+ *
+ * <p><strong>Iterator Semantics:</strong>
+ * Iteration order is unspecified and may change when the table is resized.
+ * The iterator is not fail-fast.
+ *
+ * <p><strong>Thread Safety:</strong>
+ * This class is <strong>not thread-safe</strong>.
+ *
+ * @param <K> the type of keys maintained by this map
+ * @param <V> the type of mapped values
+ */
+public class HashMap<K, V> implements Map<K, V> {
+
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    /**
+     * A mapping in a bucket chain. The spread hash is cached so that resizing
+     * and lookups avoid recomputing {@code hashCode()}.
+     */
+    static final class Node<K, V> implements Map.Entry<K, V> {
+        private final int hash;
+        private final K key;
+        private V value;
+        private Node<K, V> next;
+
+        Node(int hash, K key, V value, Node<K, V> next) {
+            this.hash = hash;
+            this.key = key;
+            this.value = value;
+            this.next = next;
+        }
+
+        @Override
+        public K getKey() {
+            return key;
+        }
+
+        @Override
+        public V getValue() {
+            return value;
+        }
+
+        @Override
+        public V setValue(V value) {
+            V oldValue = this.value;
+            this.value = value;
+            return oldValue;
+        }
+
+        @Override
+        public String toString() {
+            return key + "=" + value;
+        }
+    }
+
+    private Node<K, V>[] table;
+    private int size;
+
+    /** The size at which the table is doubled: {@code 3/4} of its length. */
+    private int threshold;
+
+    private final Equivalence<? super K> equivalence;
+
+    public HashMap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an empty map able to hold {@code expectedSize} mappings without resizing.
+     *
+     * @param expectedSize the expected number of mappings
+     * @throws IllegalArgumentException if {@code expectedSize} is negative
+     */
+    public HashMap(int expectedSize) {
+        this(expectedSize, Equivalence.equality());
+    }
+
+    /**
+     * Creates an empty map able to hold {@code expectedSize} mappings without
+     * resizing, whose keys are hashed and compared with {@code equivalence}.
+     *
+     * @param expectedSize the expected number of mappings
+     * @param equivalence  decides when two keys are the same
+     * @throws IllegalArgumentException if {@code expectedSize} is negative or
+     *                                  {@code equivalence} is {@code null}
+     */
+    public HashMap(int expectedSize, Equivalence<? super K> equivalence) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("expectedSize must not be negative: " + expectedSize);
+        }
+        if (equivalence == null) {
+            throw new IllegalArgumentException("equivalence must not be null");
+        }
+        this.equivalence = equivalence;
+        int capacity = tableSizeFor((int) Math.min(MAXIMUM_CAPACITY, expectedSize * 4L / 3 + 1));
+        this.table = newTable(capacity);
+        this.threshold = thresholdFor(capacity);
+    }
+
+    //==================== Lookup Operations =====================================================//
+
+    @Override
+    public V get(K key) {
+        Node<K, V> node = findNode(key);
+        return node == null ? null : node.value;
+    }
+
+    @Override
+    public V getOrDefault(K key, V defaultValue) {
+        Node<K, V> node = findNode(key);
+        return node == null ? defaultValue : node.value;
+    }
+
+    @Override
+    public boolean containsKey(K key) {
+        return findNode(key) != null;
+    }
+
+    private Node<K, V> findNode(K key) {
+        int hash = hash(key);
+        Node<K, V>[] tab = table;
+        for (Node<K, V> node = tab[hash & (tab.length - 1)]; node != null; node = node.next) {
+            if (node.hash == hash && keyEquals(node.key, key)) {
+                return node;
+            }
+        }
+        return null;
+    }
+    // ===========================================================================================//
+
+    //==================== Mutation Operations ===================================================//
+
+    @Override
+    public V put(K key, V value) {
+        return putVal(key, value, false);
+    }
+
+    @Override
+    public V putIfAbsent(K key, V value) {
+        return putVal(key, value, true);
+    }
+
+    /**
+     * Inserts or, unless {@code onlyIfAbsent}, updates the mapping for {@code key}
+     * with a single bucket walk.
+     */
+    private V putVal(K key, V value, boolean onlyIfAbsent) {
+        int hash = hash(key);
+        int bucket = hash & (table.length - 1);
+        for (Node<K, V> node = table[bucket]; node != null; node = node.next) {
+            if (node.hash == hash && keyEquals(node.key, key)) {
+                V oldValue = node.value;
+                if (!onlyIfAbsent) {
+                    node.value = value;
+                }
+                return oldValue;
+            }
+        }
+        table[bucket] = new Node<>(hash, key, value, table[bucket]);
+        if (++size > threshold) {
+            resize();
+        }
+        return null;
+    }
+
+    @Override
+    public V remove(K key) {
+        int hash = hash(key);
+        int bucket = hash & (table.length - 1);
+        Node<K, V> prev = null;
+        for (Node<K, V> node = table[bucket]; node != null; prev = node, node = node.next) {
+            if (node.hash == hash && keyEquals(node.key, key)) {
+                if (prev == null) {
+                    table[bucket] = node.next;
+                } else {
+                    prev.next = node.next;
+                }
+                node.next = null; // Help GC
+                size--;
+                return node.value;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Removes all mappings. The table keeps its current capacity.
+     */
+    @Override
+    public void clear() {
+        if (size > 0) {
+            Arrays.fill(table, null);
+            size = 0;
+        }
+    }
+    // ===========================================================================================//
+
+    //==================== Table Maintenance =====================================================//
+
+    /**
+     * Doubles the table and splits every chain into a low and a high half,
+     * depending on the hash bit that the larger mask newly exposes. Relative
+     * order within each half is preserved.
+     */
+    private void resize() {
+        Node<K, V>[] oldTable = table;
+        int oldCapacity = oldTable.length;
+        if (oldCapacity == MAXIMUM_CAPACITY) {
+            threshold = Integer.MAX_VALUE;
+            return;
+        }
+        Node<K, V>[] newTable = newTable(oldCapacity << 1);
+        for (int i = 0; i < oldCapacity; i++) {
+            Node<K, V> loHead = null, loTail = null, hiHead = null, hiTail = null;
+            for (Node<K, V> node = oldTable[i]; node != null; ) {
+                Node<K, V> next = node.next;
+                node.next = null;
+                if ((node.hash & oldCapacity) == 0) {
+                    if (loTail == null) {
+                        loHead = node;
+                    } else {
+                        loTail.next = node;
+                    }
+                    loTail = node;
+                } else {
+                    if (hiTail == null) {
+                        hiHead = node;
+                    } else {
+                        hiTail.next = node;
+                    }
+                    hiTail = node;
+                }
+                node = next;
+            }
+            newTable[i] = loHead;
+            newTable[i + oldCapacity] = hiHead;
+        }
+        table = newTable;
+        threshold = thresholdFor(newTable.length);
+    }
+
+    /**
+     * Spreads the higher bits of the hash code downwards, so that keys whose
+     * hash codes differ only in high bits still land in different buckets.
+     * The default equivalence calls {@code hashCode()} directly.
+     */
+    private int hash(K key) {
+        if (key == null) {
+            return 0;
+        }
+        int h = equivalence == Equivalence.equality() ? key.hashCode() : equivalence.hash(key);
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Compares keys with an identity fast path. The probe key is the receiver of
+     * {@code equals}, so the call site sees the caller's key type; only custom
+     * equivalences cost an interface call.
+     */
+    private boolean keyEquals(K stored, K key) {
+        if (stored == key) {
+            return true;
+        }
+        if (key == null || stored == null || equivalence == Equivalence.identity()) {
+            return false;
+        }
+        return equivalence == Equivalence.equality() ? key.equals(stored) : equivalence.equivalent(key, stored);
+    }
+
+    private static int tableSizeFor(int capacity) {
+        int n = Integer.highestOneBit(Math.max(1, capacity - 1)) << 1;
+        return Math.min(n, MAXIMUM_CAPACITY);
+    }
+
+    private static int thresholdFor(int capacity) {
+        return capacity == MAXIMUM_CAPACITY ? Integer.MAX_VALUE : capacity - (capacity >>> 2);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static <K, V> Node<K, V>[] newTable(int capacity) {
+        return (Node<K, V>[]) new Node[capacity];
+    }
+    // ===========================================================================================//
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the current length of the bucket table.
+     *
+     * <p>
+     * Exposed so that owners of a map can account for its memory footprint,
+     * which is dominated by one reference per bucket plus one entry per mapping.
+     * </p>
+     *
+     * @return the number of buckets
+     */
+    public int capacity() {
+        return table.length;
+    }
+
+    @Override
+    public Iterator<Map.Entry<K, V>> iterator() {
+        return new EntryIterator();
+    }
+
+    /**
+     * Iterator over all entries, bucket by bucket.
+     */
+    private class EntryIterator implements Iterator<Map.Entry<K, V>> {
+
+        private int bucket;
+        private Node<K, V> nextNode;
+
+        EntryIterator() {
+            advance();
+        }
+
+        private void advance() {
+            while (nextNode == null && bucket < table.length) {
+                nextNode = table[bucket++];
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextNode != null;
+        }
+
+        @Override
+        public Map.Entry<K, V> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Node<K, V> node = nextNode;
+            nextNode = node.next;
+            advance();
+            return node;
+        }
+    }
+
+    /**
+     * Returns a string of the form {@code HashMap{k1=v1, k2=v2}} in iteration order.
+     */
+    @Override
+    public String toString() {
+        StringBuilder stringBuilder = new StringBuilder(getClass().getSimpleName()).append("{");
+        Iterator<Map.Entry<K, V>> iterator = iterator();
+        while (iterator.hasNext()) {
+            stringBuilder.append(iterator.next());
+            if (iterator.hasNext()) {
+                stringBuilder.append(", ");
+            }
+        }
+        return stringBuilder.append("}").toString();
+    }
+}
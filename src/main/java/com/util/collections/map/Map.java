@@ -0,0 +1,74 @@
+package com.util.collections.map;
+
+/**
+ * An object that maps keys to values, with at most one value per key.
+ *
+ * <p>
+ * Iteration yields the mappings as {@link Entry} objects in an order defined
+ * by the implementation.
+ * </p>
+ *
+ * @param <K> the type of keys maintained by this map
+ * @param <V> the type of mapped values
+ */
+public interface Map<K, V> extends Iterable<Map.Entry<K, V>> {
+
+    /**
+     * Associates {@code value} with {@code key}, replacing any previous value.
+     *
+     * @return the previous value, or {@code null} if there was no mapping
+     */
+    V put(K key, V value);
+
+    /**
+     * Associates {@code value} with {@code key} only if the key is not mapped yet.
+     *
+     * @return the existing value, or {@code null} if the new mapping was added
+     */
+    V putIfAbsent(K key, V value);
+
+    /**
+     * @return the value mapped to {@code key}, or {@code null} if there is none
+     */
+    V get(K key);
+
+    /**
+     * @return the value mapped to {@code key}, or {@code defaultValue} if there is none
+     */
+    V getOrDefault(K key, V defaultValue);
+
+    boolean containsKey(K key);
+
+    /**
+     * Removes the mapping for {@code key}, if present.
+     *
+     * @return the removed value, or {@code null} if there was no mapping
+     */
+    V remove(K key);
+
+    int size();
+
+    boolean isEmpty();
+
+    void clear();
+
+    /**
+     * A single key-value mapping.
+     *
+     * @param <K> the key type
+     * @param <V> the value type
+     */
+    interface Entry<K, V> {
+
+        K getKey();
+
+        V getValue();
+
+        /**
+         * Replaces the value of this mapping in the backing map.
+         *
+         * @return the previous value
+         */
+        V setValue(V value);
+    }
+}
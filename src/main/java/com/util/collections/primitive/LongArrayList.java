@@ -0,0 +1,243 @@
+package com.util.collections.primitive;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * A growable list of {@code long} values stored unboxed in a contiguous array.
+ *
+ * <p><strong>Design Overview:</strong>
+ * Values live in a plain {@code long[]} with no per-element object, header or
+ * pointer. Bulk scans ({@code contains}, {@code indexOf}, {@code count},
+ * {@code sum}, {@code min}, {@code max}, {@code filterRange}) are delegated to
+ * {@link PrimitiveKernels#INSTANCE}, which uses SIMD instructions when the
+ * vector kernels are available and plain loops otherwise.
+ *
+ * <p><strong>Structural Invariants:</strong>
+ * <ul>
+ *   <li>{@code elements[0, size)} holds the values in list order</li>
+ *   <li>{@code size <= elements.length}</li>
+ * </ul>
+ *
+ * <p><strong>Performance Characteristics:</strong>
+ * <ul>
+ *   <li>{@code get}, {@code set}, amortized {@code add}: O(1)</li>
+ *   <li>{@code add(value, index)}, {@code removeAt}: O(n) array shift</li>
+ *   <li>Scans and aggregates: O(n), processed a full vector at a time when vectorized</li>
+ * </ul>
+ *
+ * <p><strong>Thread Safety:</strong>
+ * This class is <strong>not thread-safe</strong>.
+ */
+public class LongArrayList {
+
+    private static final int DEFAULT_CAPACITY = 10;
+
+    private long[] elements;
+    private int size;
+
+    public LongArrayList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an empty list able to hold {@code initialCapacity} values without growing.
+     *
+     * @param initialCapacity the initial capacity
+     * @throws IllegalArgumentException if {@code initialCapacity} is negative
+     */
+    public LongArrayList(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("initialCapacity must not be negative: " + initialCapacity);
+        }
+        this.elements = new long[initialCapacity];
+    }
+
+    /**
+     * Creates a list holding a copy of the given values.
+     *
+     * @param values the initial values
+     * @return a new list
+     */
+    public static LongArrayList of(long... values) {
+        LongArrayList list = new LongArrayList(values.length);
+        System.arraycopy(values, 0, list.elements, 0, values.length);
+        list.size = values.length;
+        return list;
+    }
+
+    //==================== Mutation ==============================================================//
+
+    public void add(long value) {
+        ensureCapacity(size + 1);
+        elements[size++] = value;
+    }
+
+    /**
+     * Inserts {@code value} at {@code index}, shifting later values right.
+     *
+     * @param value the value to insert
+     * @param index the insertion position in {@code [0, size()]}
+     * @throws IndexOutOfBoundsException if {@code index} is out of range
+     */
+    public void add(long value, int index) {
+        if (index < 0 || index > size) {
+            throw outOfBounds(index);
+        }
+        ensureCapacity(size + 1);
+        System.arraycopy(elements, index, elements, index + 1, size - index);
+        elements[index] = value;
+        size++;
+    }
+
+    public long set(int index, long value) {
+        checkIndex(index);
+        long oldValue = elements[index];
+        elements[index] = value;
+        return oldValue;
+    }
+
+    public long removeAt(int index) {
+        checkIndex(index);
+        long oldValue = elements[index];
+        System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+        size--;
+        return oldValue;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+    // ===========================================================================================//
+
+    //==================== Access ================================================================//
+
+    public long get(int index) {
+        checkIndex(index);
+        return elements[index];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns a copy of the values as an exactly sized array.
+     *
+     * @return the values in list order
+     */
+    public long[] toArray() {
+        return Arrays.copyOf(elements, size);
+    }
+    // ===========================================================================================//
+
+    //==================== Search & Aggregation ==================================================//
+
+    public boolean contains(long value) {
+        return indexOf(value) >= 0;
+    }
+
+    /**
+     * Returns the index of the first occurrence of {@code value}.
+     *
+     * @param value the value to search for
+     * @return the first matching index, or {@code -1} if absent
+     */
+    public int indexOf(long value) {
+        return PrimitiveKernels.INSTANCE.indexOf(elements, 0, size, value);
+    }
+
+    /**
+     * Returns the number of occurrences of {@code value}.
+     *
+     * @param value the value to count
+     * @return the number of matching elements
+     */
+    public int count(long value) {
+        return PrimitiveKernels.INSTANCE.count(elements, size, value);
+    }
+
+    /**
+     * Returns the sum of all values; overflow wraps as in {@code long} arithmetic.
+     *
+     * @return the sum; {@code 0} for an empty list
+     */
+    public long sum() {
+        return PrimitiveKernels.INSTANCE.sum(elements, size);
+    }
+
+    /**
+     * Returns the smallest value.
+     *
+     * @return the minimum
+     * @throws NoSuchElementException if the list is empty
+     */
+    public long min() {
+        checkNotEmpty();
+        return PrimitiveKernels.INSTANCE.min(elements, size);
+    }
+
+    /**
+     * Returns the largest value.
+     *
+     * @return the maximum
+     * @throws NoSuchElementException if the list is empty
+     */
+    public long max() {
+        checkNotEmpty();
+        return PrimitiveKernels.INSTANCE.max(elements, size);
+    }
+
+    /**
+     * Returns a new list holding, in order, the values in the closed range {@code [lo, hi]}.
+     *
+     * @param lo the inclusive lower bound
+     * @param hi the inclusive upper bound
+     * @return the matching values
+     */
+    public LongArrayList filterRange(long lo, long hi) {
+        LongArrayList result = new LongArrayList(size);
+        result.size = PrimitiveKernels.INSTANCE.filterRange(elements, size, lo, hi, result.elements);
+        return result;
+    }
+    // ===========================================================================================//
+
+    private void ensureCapacity(int minCapacity) {
+        if (minCapacity > elements.length) {
+            int capacity = Math.max(minCapacity, elements.length + (elements.length >> 1));
+            elements = Arrays.copyOf(elements, capacity);
+        }
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw outOfBounds(index);
+        }
+    }
+
+    private IndexOutOfBoundsException outOfBounds(int index) {
+        return new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+    }
+
+    private void checkNotEmpty() {
+        if (size == 0) {
+            throw new NoSuchElementException("List is empty");
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder stringBuilder = new StringBuilder(getClass().getSimpleName()).append("{");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                stringBuilder.append(", ");
+            }
+            stringBuilder.append(elements[i]);
+        }
+        return stringBuilder.append("}").toString();
+    }
+}
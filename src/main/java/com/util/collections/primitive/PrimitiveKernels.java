@@ -0,0 +1,111 @@
+package com.util.collections.primitive;
+
+/**
+ * Search and aggregation kernels over the backing arrays of the primitive lists.
+ *
+ * <h2>Purpose</h2>
+ * <p>
+ * The primitive lists delegate every bulk scan to a single kernel instance so
+ * that the scanning strategy can be chosen once per JVM. Two strategies exist:
+ * </p>
+ * <ul>
+ *   <li>{@link ScalarKernels} — plain loops, always available</li>
+ *   <li>{@code VectorKernels} — SIMD loops built on the incubating
+ *       {@code jdk.incubator.vector} API; compiled only by the {@code vector}
+ *       Maven profile</li>
+ * </ul>
+ *
+ * <h2>Selection</h2>
+ * <p>
+ * {@link #INSTANCE} is the vector implementation if its class is on the class
+ * path and the {@code jdk.incubator.vector} module is resolved (run with
+ * {@code --add-modules jdk.incubator.vector}); otherwise it is the scalar
+ * implementation. Setting the system property
+ * {@code com.util.collections.primitive.vector=false} forces the scalar path.
+ * </p>
+ *
+ * <h2>Contract</h2>
+ * <ul>
+ *   <li>Every kernel reads the half-open prefix {@code [0, to)} of its array
+ *       (or {@code [from, to)} where a start index is taken)</li>
+ *   <li>Callers validate bounds; kernels assume {@code 0 <= from <= to <= a.length}</li>
+ *   <li>{@code min} and {@code max} require {@code to > 0}</li>
+ *   <li>Equality on {@code double} values uses {@code ==}: {@code NaN} never
+ *       matches and {@code -0.0} matches {@code 0.0}</li>
+ *   <li>{@code filterRange} copies the values in the closed range
+ *       {@code [lo, hi]} to {@code out}, preserving order, and returns how many
+ *       were copied; {@code out} must hold at least {@code to} elements</li>
+ *   <li>Integer sums wrap on overflow of {@code long}; {@code double} sums may
+ *       differ in the last bits between implementations because lane-wise
+ *       reduction reorders the additions</li>
+ * </ul>
+ */
+abstract class PrimitiveKernels {
+
+    static final String VECTOR_PROPERTY = "com.util.collections.primitive.vector";
+
+    /** The kernel implementation used by all primitive lists in this JVM. */
+    static final PrimitiveKernels INSTANCE = load();
+
+    private static PrimitiveKernels load() {
+        if (!Boolean.parseBoolean(System.getProperty(VECTOR_PROPERTY, "true"))) {
+            return new ScalarKernels();
+        }
+        try {
+            return (PrimitiveKernels) Class.forName(PrimitiveKernels.class.getPackageName() + ".VectorKernels")
+                    .getDeclaredConstructor()
+                    .newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return new ScalarKernels();
+        }
+    }
+
+    //====================== int ================================================================//
+
+    abstract int indexOf(int[] a, int from, int to, int value);
+
+    abstract int count(int[] a, int to, int value);
+
+    abstract long sum(int[] a, int to);
+
+    abstract int min(int[] a, int to);
+
+    abstract int max(int[] a, int to);
+
+    abstract int filterRange(int[] a, int to, int lo, int hi, int[] out);
+
+    //====================== long ===============================================================//
+
+    abstract int indexOf(long[] a, int from, int to, long value);
+
+    abstract int count(long[] a, int to, long value);
+
+    abstract long sum(long[] a, int to);
+
+    abstract long min(long[] a, int to);
+
+    abstract long max(long[] a, int to);
+
+    abstract int filterRange(long[] a, int to, long lo, long hi, long[] out);
+
+    //====================== double =============================================================//
+
+    abstract int indexOf(double[] a, int from, int to, double value);
+
+    abstract int count(double[] a, int to, double value);
+
+    abstract double sum(double[] a, int to);
+
+    abstract double min(double[] a, int to);
+
+    abstract double max(double[] a, int to);
+
+    abstract int filterRange(double[] a, int to, double lo, double hi, double[] out);
+
+    /**
+     * Returns a short name of this implementation, for diagnostics.
+     *
+     * @return {@code "scalar"} or {@code "vector"}
+     */
+    abstract String name();
+}
@@ -0,0 +1,204 @@
+package com.util.collections.primitive;
+
+/**
+ * Portable {@link PrimitiveKernels} implementation using plain loops.
+ *
+ * <p>
+ * The loops are kept free of early exits where the result allows it
+ * ({@code count}, {@code sum}, {@code min}, {@code max}) so that the JIT
+ * compiler is free to auto-vectorize them on platforms where it can.
+ * </p>
+ */
+final class ScalarKernels extends PrimitiveKernels {
+
+    //====================== int ================================================================//
+
+    @Override
+    int indexOf(int[] a, int from, int to, int value) {
+        for (int i = from; i < to; i++) {
+            if (a[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    int count(int[] a, int to, int value) {
+        int n = 0;
+        for (int i = 0; i < to; i++) {
+            if (a[i] == value) {
+                n++;
+            }
+        }
+        return n;
+    }
+
+    @Override
+    long sum(int[] a, int to) {
+        long sum = 0;
+        for (int i = 0; i < to; i++) {
+            sum += a[i];
+        }
+        return sum;
+    }
+
+    @Override
+    int min(int[] a, int to) {
+        int min = a[0];
+        for (int i = 1; i < to; i++) {
+            min = Math.min(min, a[i]);
+        }
+        return min;
+    }
+
+    @Override
+    int max(int[] a, int to) {
+        int max = a[0];
+        for (int i = 1; i < to; i++) {
+            max = Math.max(max, a[i]);
+        }
+        return max;
+    }
+
+    @Override
+    int filterRange(int[] a, int to, int lo, int hi, int[] out) {
+        int n = 0;
+        for (int i = 0; i < to; i++) {
+            int v = a[i];
+            if (v >= lo && v <= hi) {
+                out[n++] = v;
+            }
+        }
+        return n;
+    }
+
+    //====================== long ===============================================================//
+
+    @Override
+    int indexOf(long[] a, int from, int to, long value) {
+        for (int i = from; i < to; i++) {
+            if (a[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    int count(long[] a, int to, long value) {
+        int n = 0;
+        for (int i = 0; i < to; i++) {
+            if (a[i] == value) {
+                n++;
+            }
+        }
+        return n;
+    }
+
+    @Override
+    long sum(long[] a, int to) {
+        long sum = 0;
+        for (int i = 0; i < to; i++) {
+            sum += a[i];
+        }
+        return sum;
+    }
+
+    @Override
+    long min(long[] a, int to) {
+        long min = a[0];
+        for (int i = 1; i < to; i++) {
+            min = Math.min(min, a[i]);
+        }
+        return min;
+    }
+
+    @Override
+    long max(long[] a, int to) {
+        long max = a[0];
+        for (int i = 1; i < to; i++) {
+            max = Math.max(max, a[i]);
+        }
+        return max;
+    }
+
+    @Override
+    int filterRange(long[] a, int to, long lo, long hi, long[] out) {
+        int n = 0;
+        for (int i = 0; i < to; i++) {
+            long v = a[i];
+            if (v >= lo && v <= hi) {
+                out[n++] = v;
+            }
+        }
+        return n;
+    }
+
+    //====================== double =============================================================//
+
+    @Override
+    int indexOf(double[] a, int from, int to, double value) {
+        for (int i = from; i < to; i++) {
+            if (a[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    int count(double[] a, int to, double value) {
+        int n = 0;
+        for (int i = 0; i < to; i++) {
+            if (a[i] == value) {
+                n++;
+            }
+        }
+        return n;
+    }
+
+    @Override
+    double sum(double[] a, int to) {
+        double sum = 0;
+        for (int i = 0; i < to; i++) {
+            sum += a[i];
+        }
+        return sum;
+    }
+
+    @Override
+    double min(double[] a, int to) {
+        double min = a[0];
+        for (int i = 1; i < to; i++) {
+            min = Math.min(min, a[i]);
+        }
+        return min;
+    }
+
+    @Override
+    double max(double[] a, int to) {
+        double max = a[0];
+        for (int i = 1; i < to; i++) {
+            max = Math.max(max, a[i]);
+        }
+        return max;
+    }
+
+    @Override
+    int filterRange(double[] a, int to, double lo, double hi, double[] out) {
+        int n = 0;
+        for (int i = 0; i < to; i++) {
+            double v = a[i];
+            if (v >= lo && v <= hi) {
+                out[n++] = v;
+            }
+        }
+        return n;
+    }
+
+    @Override
+    String name() {
+        return "scalar";
+    }
+}
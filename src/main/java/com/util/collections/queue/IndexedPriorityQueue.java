@@ -0,0 +1,305 @@
+package com.util.collections.queue;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+
+/**
+ * A binary min-heap of keys addressed by integer handles, supporting in-place
+ * priority updates.
+ *
+ * <p><strong>Design Overview:</strong>
+ * Each entry is identified by a caller-chosen handle in {@code [0, capacity)},
+ * such as a task or vertex id. Besides the heap array of handles, the queue
+ * keeps an inverse array from handle to heap slot. That inverse lets
+ * {@link #decreaseKey(int, Object)} locate an entry in O(1) and restore heap
+ * order by sifting it up, which a plain {@link PriorityQueue} can only emulate
+ * with an O(n) search followed by a remove and re-insert.
+ *
+ * <p><strong>Structural Invariants:</strong>
+ * <ul>
+ *   <li>{@code heap[0, size)} holds the handles of all queued entries</li>
+ *   <li>{@code position[heap[i]] == i} for every {@code i < size}</li>
+ *   <li>{@code position[h] == -1} and {@code keys[h] == null} for handles not in the queue</li>
+ *   <li>The key of every parent slot compares less than or equal to its children</li>
+ * </ul>
+ *
+ * <p><strong>Null Handling Policy:</strong>
+ * {@code null} keys are never permitted.
+ *
+ * <p><strong>Performance Characteristics:</strong>
+ * <ul>
+ *   <li>{@code insert}, {@code decreaseKey}, {@code changeKey}, {@code remove},
+ *       {@code pollHandle}: O(log n)</li>
+ *   <li>{@code contains}, {@code keyOf}, {@code peekHandle}: O(1)</li>
+ *   <li>Space: O(capacity), allocated up front</li>
+ * </ul>
+ *
+ * @param <T> the type of keys ordering the entries
+ */
+public class IndexedPriorityQueue<T> {
+
+    private final Comparator<? super T> comparator;
+    private final int[] heap;
+    private final int[] position;
+    private final Object[] keys;
+    private int size;
+
+    /**
+     * Creates an empty queue for handles {@code [0, capacity)} using natural ordering.
+     *
+     * @param capacity the number of distinct handles
+     * @throws IllegalArgumentException if {@code capacity} is negative
+     */
+    public IndexedPriorityQueue(int capacity) {
+        this(capacity, null);
+    }
+
+    /**
+     * Creates an empty queue for handles {@code [0, capacity)} using the given ordering.
+     *
+     * @param capacity   the number of distinct handles
+     * @param comparator the ordering, or {@code null} for natural ordering
+     * @throws IllegalArgumentException if {@code capacity} is negative
+     */
+    public IndexedPriorityQueue(int capacity, Comparator<? super T> comparator) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("capacity must not be negative: " + capacity);
+        }
+        this.comparator = comparator;
+        this.heap = new int[capacity];
+        this.position = new int[capacity];
+        this.keys = new Object[capacity];
+        Arrays.fill(position, -1);
+    }
+
+    //==================== Queue Operations ======================================================//
+
+    /**
+     * Associates {@code key} with {@code handle} and adds the entry to the queue.
+     *
+     * @param handle the entry handle
+     * @param key    the priority key
+     * @throws IndexOutOfBoundsException if {@code handle} is outside {@code [0, capacity)}
+     * @throws IllegalArgumentException if {@code key} is {@code null} or the handle is already queued
+     */
+    public void insert(int handle, T key) {
+        checkHandle(handle);
+        checkNotNull(key);
+        if (position[handle] != -1) {
+            throw new IllegalArgumentException("Handle already in queue: " + handle);
+        }
+        keys[handle] = key;
+        position[handle] = size;
+        heap[size] = handle;
+        siftUp(size++);
+    }
+
+    /**
+     * Lowers the key associated with {@code handle}.
+     *
+     * <p><strong>Behavior:</strong>
+     * The entry can only move towards the head, so a single sift-up restores
+     * heap order.
+     *
+     * @param handle the entry handle
+     * @param key    the new key; must not compare greater than the current key
+     * @throws IndexOutOfBoundsException if {@code handle} is outside {@code [0, capacity)}
+     * @throws NoSuchElementException if the handle is not queued
+     * @throws IllegalArgumentException if {@code key} is {@code null} or greater than the current key
+     */
+    public void decreaseKey(int handle, T key) {
+        checkQueued(handle);
+        checkNotNull(key);
+        if (compare(key, keyOf(handle)) > 0) {
+            throw new IllegalArgumentException("New key is greater than current key for handle: " + handle);
+        }
+        keys[handle] = key;
+        siftUp(position[handle]);
+    }
+
+    /**
+     * Replaces the key associated with {@code handle}, in either direction.
+     *
+     * @param handle the entry handle
+     * @param key    the new key
+     * @throws IndexOutOfBoundsException if {@code handle} is outside {@code [0, capacity)}
+     * @throws NoSuchElementException if the handle is not queued
+     * @throws IllegalArgumentException if {@code key} is {@code null}
+     */
+    public void changeKey(int handle, T key) {
+        checkQueued(handle);
+        checkNotNull(key);
+        keys[handle] = key;
+        siftUp(position[handle]);
+        siftDown(position[handle]);
+    }
+
+    /**
+     * Removes the entry for {@code handle} from the queue.
+     *
+     * @param handle the entry handle
+     * @return the key that was associated with the handle
+     * @throws IndexOutOfBoundsException if {@code handle} is outside {@code [0, capacity)}
+     * @throws NoSuchElementException if the handle is not queued
+     */
+    public T remove(int handle) {
+        checkQueued(handle);
+        T key = keyOf(handle);
+        int slot = position[handle];
+        swap(slot, --size);
+        detach(handle);
+        if (slot < size) {
+            siftUp(slot);
+            siftDown(slot);
+        }
+        return key;
+    }
+
+    /**
+     * Removes the entry with the least key and returns its handle.
+     *
+     * @return the handle of the former head
+     * @throws NoSuchElementException if the queue is empty
+     */
+    public int pollHandle() {
+        int handle = peekHandle();
+        swap(0, --size);
+        detach(handle);
+        siftDown(0);
+        return handle;
+    }
+
+    /**
+     * Returns the handle of the entry with the least key without removing it.
+     *
+     * @return the handle of the head
+     * @throws NoSuchElementException if the queue is empty
+     */
+    public int peekHandle() {
+        if (size == 0) {
+            throw new NoSuchElementException("Queue is empty");
+        }
+        return heap[0];
+    }
+
+    /**
+     * Returns {@code true} if an entry for {@code handle} is currently queued.
+     *
+     * @param handle the entry handle
+     * @return whether the handle is queued
+     * @throws IndexOutOfBoundsException if {@code handle} is outside {@code [0, capacity)}
+     */
+    public boolean contains(int handle) {
+        checkHandle(handle);
+        return position[handle] != -1;
+    }
+
+    /**
+     * Returns the key associated with a queued handle.
+     *
+     * @param handle the entry handle
+     * @return the current key
+     * @throws IndexOutOfBoundsException if {@code handle} is outside {@code [0, capacity)}
+     * @throws NoSuchElementException if the handle is not queued
+     */
+    @SuppressWarnings("unchecked")
+    public T keyOf(int handle) {
+        checkQueued(handle);
+        return (T) keys[handle];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int capacity() {
+        return heap.length;
+    }
+
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            detach(heap[i]);
+        }
+        size = 0;
+    }
+    // ===========================================================================================//
+
+    //==================== Heap Maintenance ======================================================//
+
+    private void siftUp(int slot) {
+        while (slot > 0) {
+            int parent = (slot - 1) >>> 1;
+            if (compareSlots(slot, parent) >= 0) {
+                break;
+            }
+            swap(slot, parent);
+            slot = parent;
+        }
+    }
+
+    private void siftDown(int slot) {
+        int half = size >>> 1;
+        while (slot < half) {
+            int child = (slot << 1) + 1;
+            if (child + 1 < size && compareSlots(child + 1, child) < 0) {
+                child++;
+            }
+            if (compareSlots(slot, child) <= 0) {
+                break;
+            }
+            swap(slot, child);
+            slot = child;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private int compareSlots(int a, int b) {
+        return compare((T) keys[heap[a]], (T) keys[heap[b]]);
+    }
+
+    @SuppressWarnings("unchecked")
+    private int compare(T a, T b) {
+        return comparator == null
+                ? ((Comparable<? super T>) a).compareTo(b)
+                : comparator.compare(a, b);
+    }
+
+    private void swap(int a, int b) {
+        int handleA = heap[a];
+        int handleB = heap[b];
+        heap[a] = handleB;
+        heap[b] = handleA;
+        position[handleB] = a;
+        position[handleA] = b;
+    }
+
+    private void detach(int handle) {
+        position[handle] = -1;
+        keys[handle] = null; // Help GC
+    }
+
+    private void checkHandle(int handle) {
+        if (handle < 0 || handle >= heap.length) {
+            throw new IndexOutOfBoundsException("Handle: " + handle + ", Capacity: " + heap.length);
+        }
+    }
+
+    private void checkQueued(int handle) {
+        checkHandle(handle);
+        if (position[handle] == -1) {
+            throw new NoSuchElementException("Handle not in queue: " + handle);
+        }
+    }
+
+    private static void checkNotNull(Object key) {
+        if (key == null) {
+            throw new IllegalArgumentException("Queue does not allow null keys");
+        }
+    }
+    // ===========================================================================================//
+}
@@ -0,0 +1,69 @@
+package com.util.collections.queue;
+
+/**
+ * A collection designed for holding elements prior to processing.
+ *
+ * <p>This interface defines the core contract for queue-like data structures.
+ * Elements are inserted with {@link #offer(Object)} and removed from the
+ * <em>head</em> of the queue with {@link #poll()}. Which element is the head is
+ * determined by the implementation: FIFO queues expose the oldest element,
+ * priority queues expose the least element according to their ordering.
+ *
+ * <p><strong>Null Handling:</strong>
+ * Queues do not accept {@code null} elements. {@code null} is reserved as the
+ * return value of {@link #poll()} and {@link #peek()} on an empty queue.
+ *
+ * <p><strong>Iteration:</strong>
+ * This interface extends {@link Iterable}. Unless an implementation documents
+ * otherwise, iteration order is unspecified and need not match removal order.
+ *
+ * <p><strong>Concurrency:</strong>
+ * Implementations are not required to be thread-safe. External synchronization
+ * is required if concurrent access is needed.
+ *
+ * @param <T> the type of elements held in this queue
+ */
+public interface Queue<T> extends Iterable<T> {
+
+    /**
+     * Inserts the specified element into this queue.
+     *
+     * @param val the element to insert
+     * @return {@code true} if the queue was modified as a result of this call
+     * @throws IllegalArgumentException if {@code val} is {@code null}
+     */
+    boolean offer(T val);
+
+    /**
+     * Retrieves and removes the head of this queue.
+     *
+     * @return the head of this queue, or {@code null} if the queue is empty
+     */
+    T poll();
+
+    /**
+     * Retrieves, but does not remove, the head of this queue.
+     *
+     * @return the head of this queue, or {@code null} if the queue is empty
+     */
+    T peek();
+
+    /**
+     * Returns the number of elements currently in this queue.
+     *
+     * @return the number of elements in this queue
+     */
+    int size();
+
+    /**
+     * Returns {@code true} if this queue contains no elements.
+     *
+     * @return {@code true} if {@link #size()} is {@code 0}
+     */
+    boolean isEmpty();
+
+    /**
+     * Removes all elements from this queue.
+     */
+    void clear();
+}
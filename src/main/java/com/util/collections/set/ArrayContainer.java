@@ -0,0 +1,218 @@
+package com.util.collections.set;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * A sparse container: the members are kept in a sorted {@code char[]}.
+ */
+final class ArrayContainer extends Container {
+
+    char[] content;
+    int cardinality;
+
+    ArrayContainer() {
+        this(new char[4], 0);
+    }
+
+    ArrayContainer(char[] content, int cardinality) {
+        this.content = content;
+        this.cardinality = cardinality;
+    }
+
+    @Override
+    boolean contains(char x) {
+        return Arrays.binarySearch(content, 0, cardinality, x) >= 0;
+    }
+
+    @Override
+    Container add(char x) {
+        int i = Arrays.binarySearch(content, 0, cardinality, x);
+        if (i >= 0) {
+            return this;
+        }
+        if (cardinality == ARRAY_MAX) {
+            return toBitmap().add(x);
+        }
+        int insertAt = -i - 1;
+        if (cardinality == content.length) {
+            content = Arrays.copyOf(content, Math.min(ARRAY_MAX, cardinality + (cardinality >> 1) + 1));
+        }
+        System.arraycopy(content, insertAt, content, insertAt + 1, cardinality - insertAt);
+        content[insertAt] = x;
+        cardinality++;
+        return this;
+    }
+
+    @Override
+    Container remove(char x) {
+        int i = Arrays.binarySearch(content, 0, cardinality, x);
+        if (i >= 0) {
+            System.arraycopy(content, i + 1, content, i, cardinality - i - 1);
+            cardinality--;
+        }
+        return this;
+    }
+
+    @Override
+    int cardinality() {
+        return cardinality;
+    }
+
+    @Override
+    Container and(Container other) {
+        other = other.materialize();
+        char[] result = new char[Math.min(cardinality, other.cardinality())];
+        int n = 0;
+        if (other instanceof BitmapContainer) {
+            BitmapContainer bitmap = (BitmapContainer) other;
+            for (int i = 0; i < cardinality; i++) {
+                if (bitmap.contains(content[i])) {
+                    result[n++] = content[i];
+                }
+            }
+            return new ArrayContainer(result, n);
+        }
+        ArrayContainer that = (ArrayContainer) other;
+        int i = 0;
+        int j = 0;
+        while (i < cardinality && j < that.cardinality) {
+            char a = content[i];
+            char b = that.content[j];
+            if (a < b) {
+                i++;
+            } else if (b < a) {
+                j++;
+            } else {
+                result[n++] = a;
+                i++;
+                j++;
+            }
+        }
+        return new ArrayContainer(result, n);
+    }
+
+    @Override
+    Container or(Container other) {
+        other = other.materialize();
+        if (other instanceof BitmapContainer) {
+            return other.or(this);
+        }
+        ArrayContainer that = (ArrayContainer) other;
+        if (cardinality + that.cardinality > ARRAY_MAX) {
+            BitmapContainer bitmap = toBitmap();
+            for (int j = 0; j < that.cardinality; j++) {
+                bitmap.set(that.content[j]);
+            }
+            return bitmap.normalize();
+        }
+        char[] result = new char[cardinality + that.cardinality];
+        int n = 0;
+        int i = 0;
+        int j = 0;
+        while (i < cardinality && j < that.cardinality) {
+            char a = content[i];
+            char b = that.content[j];
+            if (a <= b) {
+                result[n++] = a;
+                i++;
+                if (a == b) {
+                    j++;
+                }
+            } else {
+                result[n++] = b;
+                j++;
+            }
+        }
+        while (i < cardinality) {
+            result[n++] = content[i++];
+        }
+        while (j < that.cardinality) {
+            result[n++] = that.content[j++];
+        }
+        return new ArrayContainer(result, n);
+    }
+
+    @Override
+    Container andNot(Container other) {
+        other = other.materialize();
+        char[] result = new char[cardinality];
+        int n = 0;
+        if (other instanceof BitmapContainer) {
+            BitmapContainer bitmap = (BitmapContainer) other;
+            for (int i = 0; i < cardinality; i++) {
+                if (!bitmap.contains(content[i])) {
+                    result[n++] = content[i];
+                }
+            }
+            return new ArrayContainer(result, n);
+        }
+        ArrayContainer that = (ArrayContainer) other;
+        int j = 0;
+        for (int i = 0; i < cardinality; i++) {
+            char a = content[i];
+            while (j < that.cardinality && that.content[j] < a) {
+                j++;
+            }
+            if (j == that.cardinality || that.content[j] != a) {
+                result[n++] = a;
+            }
+        }
+        return new ArrayContainer(result, n);
+    }
+
+    @Override
+    PrimitiveIterator.OfInt iterator() {
+        return new PrimitiveIterator.OfInt() {
+            private int index;
+
+            @Override
+            public boolean hasNext() {
+                return index < cardinality;
+            }
+
+            @Override
+            public int nextInt() {
+                if (index >= cardinality) {
+                    throw new NoSuchElementException();
+                }
+                return content[index++];
+            }
+        };
+    }
+
+    @Override
+    Container materialize() {
+        return this;
+    }
+
+    @Override
+    Container runOptimize() {
+        int runs = 0;
+        for (int i = 0; i < cardinality; i++) {
+            if (i == 0 || content[i] != content[i - 1] + 1) {
+                runs++;
+            }
+        }
+        return RunContainer.sizeInBytes(runs) < sizeInBytes() ? RunContainer.of(this) : this;
+    }
+
+    @Override
+    Container copy() {
+        return new ArrayContainer(Arrays.copyOf(content, cardinality), cardinality);
+    }
+
+    @Override
+    long sizeInBytes() {
+        return 2L * content.length + Integer.BYTES;
+    }
+
+    BitmapContainer toBitmap() {
+        BitmapContainer bitmap = new BitmapContainer();
+        for (int i = 0; i < cardinality; i++) {
+            bitmap.set(content[i]);
+        }
+        return bitmap;
+    }
+}
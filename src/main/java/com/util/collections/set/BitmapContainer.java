@@ -0,0 +1,198 @@
+package com.util.collections.set;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * A dense container: one bit per possible low value, 1024 words in total.
+ */
+final class BitmapContainer extends Container {
+
+    private static final int WORDS = 1 << 10;
+
+    final long[] words;
+    int cardinality;
+
+    BitmapContainer() {
+        this(new long[WORDS], 0);
+    }
+
+    private BitmapContainer(long[] words, int cardinality) {
+        this.words = words;
+        this.cardinality = cardinality;
+    }
+
+    @Override
+    boolean contains(char x) {
+        return (words[x >>> 6] & (1L << x)) != 0;
+    }
+
+    /**
+     * Sets bit {@code x} without any conversion; used while building a bitmap.
+     */
+    void set(char x) {
+        long before = words[x >>> 6];
+        long after = before | (1L << x);
+        words[x >>> 6] = after;
+        if (before != after) {
+            cardinality++;
+        }
+    }
+
+    @Override
+    Container add(char x) {
+        set(x);
+        return this;
+    }
+
+    @Override
+    Container remove(char x) {
+        long before = words[x >>> 6];
+        long after = before & ~(1L << x);
+        if (before != after) {
+            words[x >>> 6] = after;
+            cardinality--;
+        }
+        return normalize();
+    }
+
+    @Override
+    int cardinality() {
+        return cardinality;
+    }
+
+    @Override
+    Container and(Container other) {
+        other = other.materialize();
+        if (other instanceof ArrayContainer) {
+            return other.and(this);
+        }
+        long[] those = ((BitmapContainer) other).words;
+        long[] result = new long[WORDS];
+        int count = 0;
+        for (int i = 0; i < WORDS; i++) {
+            result[i] = words[i] & those[i];
+            count += Long.bitCount(result[i]);
+        }
+        return new BitmapContainer(result, count).normalize();
+    }
+
+    @Override
+    Container or(Container other) {
+        other = other.materialize();
+        if (other instanceof ArrayContainer) {
+            ArrayContainer array = (ArrayContainer) other;
+            BitmapContainer result = (BitmapContainer) copy();
+            for (int i = 0; i < array.cardinality; i++) {
+                result.set(array.content[i]);
+            }
+            return result;
+        }
+        long[] those = ((BitmapContainer) other).words;
+        long[] result = new long[WORDS];
+        int count = 0;
+        for (int i = 0; i < WORDS; i++) {
+            result[i] = words[i] | those[i];
+            count += Long.bitCount(result[i]);
+        }
+        return new BitmapContainer(result, count);
+    }
+
+    @Override
+    Container andNot(Container other) {
+        other = other.materialize();
+        if (other instanceof ArrayContainer) {
+            ArrayContainer array = (ArrayContainer) other;
+            BitmapContainer result = (BitmapContainer) copy();
+            for (int i = 0; i < array.cardinality; i++) {
+                char x = array.content[i];
+                long before = result.words[x >>> 6];
+                result.words[x >>> 6] = before & ~(1L << x);
+                if (before != result.words[x >>> 6]) {
+                    result.cardinality--;
+                }
+            }
+            return result.normalize();
+        }
+        long[] those = ((BitmapContainer) other).words;
+        long[] result = new long[WORDS];
+        int count = 0;
+        for (int i = 0; i < WORDS; i++) {
+            result[i] = words[i] & ~those[i];
+            count += Long.bitCount(result[i]);
+        }
+        return new BitmapContainer(result, count).normalize();
+    }
+
+    @Override
+    PrimitiveIterator.OfInt iterator() {
+        return new PrimitiveIterator.OfInt() {
+            private int wordIndex;
+            private long word = words[0];
+
+            @Override
+            public boolean hasNext() {
+                while (word == 0 && wordIndex < WORDS - 1) {
+                    word = words[++wordIndex];
+                }
+                return word != 0;
+            }
+
+            @Override
+            public int nextInt() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                int value = (wordIndex << 6) + Long.numberOfTrailingZeros(word);
+                word &= word - 1;
+                return value;
+            }
+        };
+    }
+
+    @Override
+    Container materialize() {
+        return this;
+    }
+
+    @Override
+    Container runOptimize() {
+        int runs = 0;
+        long carry = 0;
+        for (long word : words) {
+            // A run starts at every set bit whose lower neighbour is clear
+            runs += Long.bitCount(word & ~((word << 1) | carry));
+            carry = word >>> 63;
+        }
+        return RunContainer.sizeInBytes(runs) < sizeInBytes() ? RunContainer.of(this) : this;
+    }
+
+    @Override
+    Container copy() {
+        return new BitmapContainer(words.clone(), cardinality);
+    }
+
+    @Override
+    long sizeInBytes() {
+        return (long) WORDS * Long.BYTES + Integer.BYTES;
+    }
+
+    /**
+     * Returns an array container when the cardinality has dropped to {@link #ARRAY_MAX}.
+     */
+    Container normalize() {
+        if (cardinality > ARRAY_MAX) {
+            return this;
+        }
+        char[] content = new char[cardinality];
+        int n = 0;
+        for (int i = 0; i < WORDS; i++) {
+            long word = words[i];
+            while (word != 0) {
+                content[n++] = (char) ((i << 6) + Long.numberOfTrailingZeros(word));
+                word &= word - 1;
+            }
+        }
+        return new ArrayContainer(content, n);
+    }
+}
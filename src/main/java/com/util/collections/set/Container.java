@@ -0,0 +1,64 @@
+package com.util.collections.set;
+
+import java.util.PrimitiveIterator;
+
+/**
+ * Holds the low 16 bits of the members of a {@link RoaringIntSet} that share
+ * the same high 16 bits.
+ *
+ * <p><strong>Representations:</strong>
+ * <ul>
+ *   <li>{@link ArrayContainer}: sorted {@code char[]}, for up to {@value #ARRAY_MAX} members</li>
+ *   <li>{@link BitmapContainer}: 2^16-bit bitmap, for more than {@value #ARRAY_MAX} members</li>
+ *   <li>{@link RunContainer}: sorted runs of consecutive values, produced by {@link #runOptimize()}</li>
+ * </ul>
+ * {@value #ARRAY_MAX} is the break-even point: 4096 two-byte entries occupy the
+ * same 8 KiB as a full bitmap.
+ *
+ * <p><strong>Mutation Protocol:</strong>
+ * {@link #add(char)} and {@link #remove(char)} modify the receiver when its
+ * representation still fits and otherwise return a converted replacement, so
+ * callers must always store the returned container. The set operations never
+ * modify either operand and may return an empty container.
+ */
+abstract class Container {
+
+    /** Largest cardinality stored as an {@link ArrayContainer}. */
+    static final int ARRAY_MAX = 4096;
+
+    abstract boolean contains(char x);
+
+    abstract Container add(char x);
+
+    abstract Container remove(char x);
+
+    abstract int cardinality();
+
+    abstract Container and(Container other);
+
+    abstract Container or(Container other);
+
+    abstract Container andNot(Container other);
+
+    /**
+     * Returns the members in ascending order as {@code int}s in {@code [0, 65535]}.
+     */
+    abstract PrimitiveIterator.OfInt iterator();
+
+    /**
+     * Returns this container as an array or bitmap container, converting a run container.
+     */
+    abstract Container materialize();
+
+    /**
+     * Returns a run container if that encoding is smaller, otherwise this container.
+     */
+    abstract Container runOptimize();
+
+    abstract Container copy();
+
+    /**
+     * Returns the approximate number of bytes held, excluding the object header.
+     */
+    abstract long sizeInBytes();
+}
@@ -0,0 +1,456 @@
+package com.util.collections.set;
+
+import com.util.collections.list.LinkedList;
+import com.util.collections.list.List;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.IntConsumer;
+
+/**
+ * A compressed set of {@code int} values in the style of a roaring bitmap.
+ *
+ * <p><strong>Design Overview:</strong>
+ * The 32-bit space is partitioned into 2^16 chunks by the high 16 bits of each
+ * value. Every non-empty chunk owns a {@link Container} holding the low 16 bits
+ * of its members in the cheapest representation: a sorted array while sparse,
+ * a 64 Kib bitmap once it holds more than 4096 members, or a list of runs after
+ * {@link #runOptimize()} when the members are mostly consecutive. The chunk keys
+ * are kept in a sorted array that is binary searched.
+ *
+ * <p><strong>Ordering:</strong>
+ * The sign bit of the key is flipped so that chunks, and therefore iteration,
+ * follow signed {@code int} order.
+ *
+ * <p><strong>Structural Invariants:</strong>
+ * <ul>
+ *   <li>{@code keys[0, size)} is strictly increasing</li>
+ *   <li>{@code containers[i]} is non-empty and holds the members whose key is {@code keys[i]}</li>
+ *   <li>{@code cardinality} is the sum of the container cardinalities</li>
+ * </ul>
+ *
+ * <p><strong>Performance Characteristics:</strong>
+ * <ul>
+ *   <li>{@code contains}, {@code add}, {@code remove}: O(log chunks) key search, then
+ *       O(1) for a bitmap, O(log 4096) for an array or O(log runs) for runs</li>
+ *   <li>{@code and}, {@code or}, {@code andNot}: one merge over the keys; matching
+ *       bitmaps combine 64 values per word operation</li>
+ *   <li>{@code cardinality}: O(1), maintained on every update</li>
+ *   <li>Memory: at most about 2 bytes per member, far less for dense or consecutive members</li>
+ * </ul>
+ *
+ * <p><strong>Thread Safety:</strong>
+ * This class is <strong>not thread-safe</strong>.
+ */
+public class RoaringIntSet {
+
+    private char[] keys = new char[4];
+    private Container[] containers = new Container[4];
+    private int size;
+    private long cardinality;
+
+    public RoaringIntSet() {
+    }
+
+    /**
+     * Creates a set holding the given values.
+     *
+     * @param values the members; duplicates are ignored
+     * @return a new set
+     */
+    public static RoaringIntSet of(int... values) {
+        RoaringIntSet set = new RoaringIntSet();
+        for (int value : values) {
+            set.add(value);
+        }
+        return set;
+    }
+
+    /**
+     * Creates a set holding the elements of {@code list}.
+     *
+     * @param list the members; duplicates are ignored
+     * @return a new set
+     * @throws IllegalArgumentException if {@code list} is or contains {@code null}
+     */
+    public static RoaringIntSet fromList(List<Integer> list) {
+        if (list == null) {
+            throw new IllegalArgumentException("list must not be null");
+        }
+        RoaringIntSet set = new RoaringIntSet();
+        list.forEach(value -> {
+            if (value == null) {
+                throw new IllegalArgumentException("Set does not allow null values");
+            }
+            set.add(value);
+        });
+        return set;
+    }
+
+    //==================== Mutation ==============================================================//
+
+    /**
+     * Adds {@code value} to this set.
+     *
+     * @param value the value to add
+     * @return {@code true} if the set did not already contain it
+     */
+    public boolean add(int value) {
+        char key = highBits(value);
+        int i = indexOfKey(key);
+        if (i < 0) {
+            i = -i - 1;
+            insertContainer(i, key, new ArrayContainer());
+        }
+        Container container = containers[i];
+        int before = container.cardinality();
+        containers[i] = container.add((char) value);
+        if (containers[i].cardinality() == before) {
+            return false;
+        }
+        cardinality++;
+        return true;
+    }
+
+    /**
+     * Removes {@code value} from this set.
+     *
+     * @param value the value to remove
+     * @return {@code true} if the set contained it
+     */
+    public boolean remove(int value) {
+        int i = indexOfKey(highBits(value));
+        if (i < 0) {
+            return false;
+        }
+        Container container = containers[i];
+        int before = container.cardinality();
+        Container updated = container.remove((char) value);
+        if (updated.cardinality() == before) {
+            return false;
+        }
+        cardinality--;
+        if (updated.cardinality() == 0) {
+            removeContainer(i);
+        } else {
+            containers[i] = updated;
+        }
+        return true;
+    }
+
+    public void clear() {
+        keys = new char[4];
+        containers = new Container[4];
+        size = 0;
+        cardinality = 0;
+    }
+
+    /**
+     * Converts each container to a run encoding where that is smaller. Worth
+     * calling once a set that holds long stretches of consecutive values has
+     * been built; later updates to a run container convert it back.
+     *
+     * @return {@code true} if any container changed representation
+     */
+    public boolean runOptimize() {
+        boolean changed = false;
+        for (int i = 0; i < size; i++) {
+            Container optimized = containers[i].runOptimize();
+            changed |= optimized != containers[i];
+            containers[i] = optimized;
+        }
+        return changed;
+    }
+
+    private void insertContainer(int i, char key, Container container) {
+        if (size == keys.length) {
+            int capacity = size + (size >> 1) + 1;
+            keys = Arrays.copyOf(keys, capacity);
+            containers = Arrays.copyOf(containers, capacity);
+        }
+        System.arraycopy(keys, i, keys, i + 1, size - i);
+        System.arraycopy(containers, i, containers, i + 1, size - i);
+        keys[i] = key;
+        containers[i] = container;
+        size++;
+    }
+
+    private void removeContainer(int i) {
+        System.arraycopy(keys, i + 1, keys, i, size - i - 1);
+        System.arraycopy(containers, i + 1, containers, i, size - i - 1);
+        containers[--size] = null; // Help GC
+    }
+
+    /**
+     * Appends a container whose key is greater than every existing key.
+     */
+    private void appendContainer(char key, Container container) {
+        if (container.cardinality() == 0) {
+            return;
+        }
+        insertContainer(size, key, container);
+        cardinality += container.cardinality();
+    }
+    // ===========================================================================================//
+
+    //==================== Access ================================================================//
+
+    public boolean contains(int value) {
+        int i = indexOfKey(highBits(value));
+        return i >= 0 && containers[i].contains((char) value);
+    }
+
+    /**
+     * Returns the number of members, read from a maintained counter.
+     *
+     * @return the cardinality; a {@code long} because a set may hold all 2^32 values
+     */
+    public long cardinality() {
+        return cardinality;
+    }
+
+    public boolean isEmpty() {
+        return cardinality == 0;
+    }
+
+    /**
+     * Returns the approximate number of bytes held by the keys and containers.
+     *
+     * @return the footprint, excluding object headers
+     */
+    public long sizeInBytes() {
+        long bytes = 2L * keys.length + 4L * containers.length;
+        for (int i = 0; i < size; i++) {
+            bytes += containers[i].sizeInBytes();
+        }
+        return bytes;
+    }
+    // ===========================================================================================//
+
+    //==================== Set Operations ========================================================//
+
+    /**
+     * Returns the values present in both sets. Chunks present in only one set
+     * are skipped without being read.
+     *
+     * @param other the other set
+     * @return a new set holding the intersection
+     * @throws IllegalArgumentException if {@code other} is {@code null}
+     */
+    public RoaringIntSet and(RoaringIntSet other) {
+        checkNotNull(other);
+        RoaringIntSet result = new RoaringIntSet();
+        int i = 0;
+        int j = 0;
+        while (i < size && j < other.size) {
+            char a = keys[i];
+            char b = other.keys[j];
+            if (a < b) {
+                i++;
+            } else if (b < a) {
+                j++;
+            } else {
+                result.appendContainer(a, containers[i].and(other.containers[j]));
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the values present in either set.
+     *
+     * @param other the other set
+     * @return a new set holding the union
+     * @throws IllegalArgumentException if {@code other} is {@code null}
+     */
+    public RoaringIntSet or(RoaringIntSet other) {
+        checkNotNull(other);
+        RoaringIntSet result = new RoaringIntSet();
+        int i = 0;
+        int j = 0;
+        while (i < size || j < other.size) {
+            if (j == other.size || (i < size && keys[i] < other.keys[j])) {
+                result.appendContainer(keys[i], containers[i].copy());
+                i++;
+            } else if (i == size || other.keys[j] < keys[i]) {
+                result.appendContainer(other.keys[j], other.containers[j].copy());
+                j++;
+            } else {
+                result.appendContainer(keys[i], containers[i].or(other.containers[j]));
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the values present in this set but not in {@code other}.
+     *
+     * @param other the set of values to exclude
+     * @return a new set holding the difference
+     * @throws IllegalArgumentException if {@code other} is {@code null}
+     */
+    public RoaringIntSet andNot(RoaringIntSet other) {
+        checkNotNull(other);
+        RoaringIntSet result = new RoaringIntSet();
+        int j = 0;
+        for (int i = 0; i < size; i++) {
+            while (j < other.size && other.keys[j] < keys[i]) {
+                j++;
+            }
+            if (j < other.size && other.keys[j] == keys[i]) {
+                result.appendContainer(keys[i], containers[i].andNot(other.containers[j]));
+            } else {
+                result.appendContainer(keys[i], containers[i].copy());
+            }
+        }
+        return result;
+    }
+    // ===========================================================================================//
+
+    //==================== Iteration & Conversion ================================================//
+
+    /**
+     * Returns an iterator over the members in ascending order.
+     *
+     * @return a new iterator
+     */
+    public PrimitiveIterator.OfInt iterator() {
+        return new PrimitiveIterator.OfInt() {
+            private int index;
+            private int high;
+            private PrimitiveIterator.OfInt current;
+
+            @Override
+            public boolean hasNext() {
+                while (current == null || !current.hasNext()) {
+                    if (index >= size) {
+                        return false;
+                    }
+                    high = (keys[index] ^ 0x8000) << 16;
+                    current = containers[index++].iterator();
+                }
+                return true;
+            }
+
+            @Override
+            public int nextInt() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return high | current.nextInt();
+            }
+        };
+    }
+
+    public void forEach(IntConsumer action) {
+        PrimitiveIterator.OfInt it = iterator();
+        while (it.hasNext()) {
+            action.accept(it.nextInt());
+        }
+    }
+
+    /**
+     * Returns the members in ascending order.
+     *
+     * @return a new array
+     * @throws IllegalStateException if the set has more than {@code Integer.MAX_VALUE - 8} members
+     */
+    public int[] toArray() {
+        if (cardinality > Integer.MAX_VALUE - 8) {
+            throw new IllegalStateException("Set is too large for an array: " + cardinality);
+        }
+        int[] result = new int[(int) cardinality];
+        PrimitiveIterator.OfInt it = iterator();
+        for (int i = 0; it.hasNext(); i++) {
+            result[i] = it.nextInt();
+        }
+        return result;
+    }
+
+    /**
+     * Returns the members in ascending order as a framework list.
+     *
+     * @return a new list that does not permit {@code null}
+     */
+    public LinkedList<Integer> toList() {
+        LinkedList<Integer> list = new LinkedList<>(false);
+        forEach(list::add);
+        return list;
+    }
+    // ===========================================================================================//
+
+    private static char highBits(int value) {
+        return (char) ((value >>> 16) ^ 0x8000);
+    }
+
+    private int indexOfKey(char key) {
+        // Appends arrive in key order, so check the last chunk before searching
+        if (size > 0 && keys[size - 1] == key) {
+            return size - 1;
+        }
+        return Arrays.binarySearch(keys, 0, size, key);
+    }
+
+    private static void checkNotNull(RoaringIntSet other) {
+        if (other == null) {
+            throw new IllegalArgumentException("other must not be null");
+        }
+    }
+
+    /**
+     * Compares members; two sets are equal if they hold the same values,
+     * whatever their container representations.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof RoaringIntSet)) {
+            return false;
+        }
+        RoaringIntSet that = (RoaringIntSet) o;
+        if (cardinality != that.cardinality || size != that.size) {
+            return false;
+        }
+        PrimitiveIterator.OfInt a = iterator();
+        PrimitiveIterator.OfInt b = that.iterator();
+        while (a.hasNext()) {
+            if (a.nextInt() != b.nextInt()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the sum of the members, as {@link java.util.Set#hashCode()} does for integers.
+     */
+    @Override
+    public int hashCode() {
+        int h = 0;
+        PrimitiveIterator.OfInt it = iterator();
+        while (it.hasNext()) {
+            h += it.nextInt();
+        }
+        return h;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder stringBuilder = new StringBuilder(getClass().getSimpleName()).append("{");
+        PrimitiveIterator.OfInt it = iterator();
+        for (int i = 0; it.hasNext(); i++) {
+            if (i > 0) {
+                stringBuilder.append(", ");
+            }
+            stringBuilder.append(it.nextInt());
+        }
+        return stringBuilder.append("}").toString();
+    }
+}
@@ -0,0 +1,179 @@
+package com.util.collections.set;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * A container of maximal runs of consecutive values, stored as
+ * {@code (start, length - 1)} pairs sorted by start.
+ *
+ * <p>Run containers are read-optimized: a mutation first converts the
+ * container to an array or bitmap, and {@link RoaringIntSet#runOptimize()}
+ * converts it back.
+ */
+final class RunContainer extends Container {
+
+    /** {@code runs[2k]} is the start of run {@code k}; {@code runs[2k + 1]} its length minus one. */
+    private final char[] runs;
+    private final int runCount;
+    private final int cardinality;
+
+    private RunContainer(char[] runs, int runCount, int cardinality) {
+        this.runs = runs;
+        this.runCount = runCount;
+        this.cardinality = cardinality;
+    }
+
+    /**
+     * Encodes the members of {@code source} as runs.
+     */
+    static RunContainer of(Container source) {
+        char[] runs = new char[8];
+        int runCount = 0;
+        int start = -1;
+        int previous = -2;
+        PrimitiveIterator.OfInt it = source.iterator();
+        while (it.hasNext()) {
+            int x = it.nextInt();
+            if (x != previous + 1) {
+                if (start >= 0) {
+                    runs = append(runs, runCount++, start, previous);
+                }
+                start = x;
+            }
+            previous = x;
+        }
+        if (start >= 0) {
+            runs = append(runs, runCount++, start, previous);
+        }
+        return new RunContainer(Arrays.copyOf(runs, 2 * runCount), runCount, source.cardinality());
+    }
+
+    private static char[] append(char[] runs, int runCount, int start, int end) {
+        if (2 * runCount + 2 > runs.length) {
+            runs = Arrays.copyOf(runs, runs.length * 2);
+        }
+        runs[2 * runCount] = (char) start;
+        runs[2 * runCount + 1] = (char) (end - start);
+        return runs;
+    }
+
+    static long sizeInBytes(int runCount) {
+        return 4L * runCount + 2 * Integer.BYTES;
+    }
+
+    @Override
+    boolean contains(char x) {
+        int lo = 0;
+        int hi = runCount - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            if (runs[2 * mid] <= x) {
+                lo = mid + 1;
+            } else {
+                hi = mid - 1;
+            }
+        }
+        return hi >= 0 && x - runs[2 * hi] <= runs[2 * hi + 1];
+    }
+
+    @Override
+    Container add(char x) {
+        return contains(x) ? this : materialize().add(x);
+    }
+
+    @Override
+    Container remove(char x) {
+        return contains(x) ? materialize().remove(x) : this;
+    }
+
+    @Override
+    int cardinality() {
+        return cardinality;
+    }
+
+    @Override
+    Container and(Container other) {
+        return materialize().and(other);
+    }
+
+    @Override
+    Container or(Container other) {
+        return materialize().or(other);
+    }
+
+    @Override
+    Container andNot(Container other) {
+        return materialize().andNot(other);
+    }
+
+    @Override
+    PrimitiveIterator.OfInt iterator() {
+        return new PrimitiveIterator.OfInt() {
+            private int run;
+            private int offset;
+
+            @Override
+            public boolean hasNext() {
+                return run < runCount;
+            }
+
+            @Override
+            public int nextInt() {
+                if (run >= runCount) {
+                    throw new NoSuchElementException();
+                }
+                int value = runs[2 * run] + offset;
+                if (offset == runs[2 * run + 1]) {
+                    run++;
+                    offset = 0;
+                } else {
+                    offset++;
+                }
+                return value;
+            }
+        };
+    }
+
+    @Override
+    Container materialize() {
+        if (cardinality > ARRAY_MAX) {
+            BitmapContainer bitmap = new BitmapContainer();
+            for (int k = 0; k < runCount; k++) {
+                int start = runs[2 * k];
+                int end = start + runs[2 * k + 1];
+                for (int x = start; x <= end; x++) {
+                    bitmap.set((char) x);
+                }
+            }
+            return bitmap;
+        }
+        char[] content = new char[cardinality];
+        int n = 0;
+        for (int k = 0; k < runCount; k++) {
+            int start = runs[2 * k];
+            int end = start + runs[2 * k + 1];
+            for (int x = start; x <= end; x++) {
+                content[n++] = (char) x;
+            }
+        }
+        return new ArrayContainer(content, n);
+    }
+
+    @Override
+    Container runOptimize() {
+        return this;
+    }
+
+    @Override
+    Container copy() {
+        // Never mutated in place, so sharing is safe
+        return this;
+    }
+
+    @Override
+    long sizeInBytes() {
+        return 2L * runs.length + 2 * Integer.BYTES;
+    }
+}
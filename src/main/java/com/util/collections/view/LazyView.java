@@ -0,0 +1,531 @@
+package com.util.collections.view;
+
+import com.util.collections.list.LinkedList;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * A lazily evaluated sequence of transformations over an {@link Iterable} source.
+ *
+ * <p><strong>Design Overview:</strong>
+ * Intermediate operations ({@link #map}, {@link #filter}, {@link #take},
+ * {@link #skip}, {@link #concat}) only record a stage and return a new view;
+ * nothing is read from the source until the view is iterated or a terminal
+ * operation ({@link #toList()}, {@link #forEach}, {@link #reduce}, {@link #count()})
+ * is called. No stage buffers elements, so a pipeline allocates no
+ * intermediate collections regardless of its length.
+ *
+ * <p><strong>Fusion:</strong>
+ * Terminal operations are push-based. Each stage wraps the downstream sink in
+ * one of its own and hands it to its upstream, so the whole pipeline collapses
+ * into a single predicate that is applied to each source element in one pass.
+ * A sink returns {@code false} to stop the traversal, which lets {@link #take}
+ * end the pass without reading further source elements. Iterating a view with
+ * {@link #iterator()} pulls elements through the same stages one at a time.
+ *
+ * <p><strong>Evaluation Semantics:</strong>
+ * A view holds no state between evaluations: every terminal call or iterator
+ * reads the source afresh and observes its current contents. Functions passed
+ * to intermediate operations may therefore run more than once per element if
+ * the view is evaluated more than once.
+ *
+ * <p><strong>Performance Characteristics:</strong>
+ * <ul>
+ *   <li>Intermediate operations: O(1), one stage object</li>
+ *   <li>Terminal operations: one pass over the consumed prefix of the source,
+ *       plus one sink object per stage</li>
+ *   <li>{@link #toList()}: allocates only the resulting list</li>
+ * </ul>
+ *
+ * <p><strong>Thread Safety:</strong>
+ * Views are immutable, but evaluating one is only as safe as iterating its
+ * source.
+ *
+ * @param <T> the type of elements produced by this view
+ */
+public abstract class LazyView<T> implements Iterable<T> {
+
+    LazyView() {
+    }
+
+    /**
+     * Returns a view over the elements of {@code source}, in iteration order.
+     * Lists are viewed the same way, with {@code LazyView.of(list)}.
+     *
+     * @param source the source to read on evaluation
+     * @param <T>    the element type
+     * @return a view with no transformations
+     * @throws IllegalArgumentException if {@code source} is {@code null}
+     */
+    public static <T> LazyView<T> of(Iterable<T> source) {
+        checkNotNull(source, "source");
+        if (source instanceof LazyView) {
+            return (LazyView<T>) source;
+        }
+        return new Source<>(source);
+    }
+
+    /**
+     * Pushes the elements of this view to {@code sink} in order until the sink
+     * returns {@code false} or the view is exhausted.
+     *
+     * @param sink receives each element; returns {@code false} to stop
+     * @return {@code false} if the sink stopped the traversal, {@code true} otherwise
+     */
+    abstract boolean forEachWhile(Predicate<? super T> sink);
+
+    //==================== Intermediate Operations ===============================================//
+
+    /**
+     * Returns a view that applies {@code mapper} to each element of this view.
+     *
+     * @param mapper the function to apply
+     * @param <R>    the element type of the new view
+     * @return the mapped view
+     * @throws IllegalArgumentException if {@code mapper} is {@code null}
+     */
+    public <R> LazyView<R> map(Function<? super T, ? extends R> mapper) {
+        checkNotNull(mapper, "mapper");
+        return new Mapped<>(this, mapper);
+    }
+
+    /**
+     * Returns a view of the elements of this view that match {@code predicate}.
+     *
+     * @param predicate the condition elements must satisfy
+     * @return the filtered view
+     * @throws IllegalArgumentException if {@code predicate} is {@code null}
+     */
+    public LazyView<T> filter(Predicate<? super T> predicate) {
+        checkNotNull(predicate, "predicate");
+        return new Filtered<>(this, predicate);
+    }
+
+    /**
+     * Returns a view of at most the first {@code n} elements of this view.
+     * Evaluation stops reading upstream once {@code n} elements were produced.
+     *
+     * @param n the maximum number of elements
+     * @return the truncated view
+     * @throws IllegalArgumentException if {@code n} is negative
+     */
+    public LazyView<T> take(long n) {
+        checkNotNegative(n);
+        return new Taken<>(this, n);
+    }
+
+    /**
+     * Returns a view of the elements of this view after the first {@code n}.
+     *
+     * @param n the number of elements to discard
+     * @return the remaining view
+     * @throws IllegalArgumentException if {@code n} is negative
+     */
+    public LazyView<T> skip(long n) {
+        checkNotNegative(n);
+        return n == 0 ? this : new Skipped<>(this, n);
+    }
+
+    /**
+     * Returns a view of the elements of this view followed by those of {@code other}.
+     *
+     * @param other the elements to append; read lazily like this view's source
+     * @return the concatenated view
+     * @throws IllegalArgumentException if {@code other} is {@code null}
+     */
+    public LazyView<T> concat(Iterable<? extends T> other) {
+        checkNotNull(other, "other");
+        return new Concatenated<>(this, other);
+    }
+    // ===========================================================================================//
+
+    //==================== Terminal Operations ===================================================//
+
+    /**
+     * Evaluates this view into a new list that permits {@code null} elements.
+     *
+     * @return a list holding the elements of this view in order
+     */
+    public LinkedList<T> toList() {
+        LinkedList<T> result = new LinkedList<>(true);
+        forEachWhile(result::add);
+        return result;
+    }
+
+    /**
+     * Performs {@code action} on each element of this view in a single fused pass.
+     *
+     * @param action the action to perform
+     * @throws IllegalArgumentException if {@code action} is {@code null}
+     */
+    @Override
+    public void forEach(Consumer<? super T> action) {
+        checkNotNull(action, "action");
+        forEachWhile(t -> {
+            action.accept(t);
+            return true;
+        });
+    }
+
+    /**
+     * Folds the elements of this view, from first to last, into a single value.
+     *
+     * @param identity    the initial value, returned for an empty view
+     * @param accumulator combines the running result with the next element
+     * @return the folded value
+     * @throws IllegalArgumentException if {@code accumulator} is {@code null}
+     */
+    public T reduce(T identity, BinaryOperator<T> accumulator) {
+        checkNotNull(accumulator, "accumulator");
+        Fold<T> fold = new Fold<>(identity, accumulator);
+        forEachWhile(fold);
+        return fold.result;
+    }
+
+    /**
+     * Returns the number of elements in this view, evaluating it without
+     * retaining any element.
+     *
+     * @return the number of elements produced
+     */
+    public long count() {
+        Counter<T> counter = new Counter<>();
+        forEachWhile(counter);
+        return counter.count;
+    }
+    // ===========================================================================================//
+
+    //==================== Stages ================================================================//
+
+    private static final class Source<T> extends LazyView<T> {
+
+        private final Iterable<T> source;
+
+        Source(Iterable<T> source) {
+            this.source = source;
+        }
+
+        @Override
+        boolean forEachWhile(Predicate<? super T> sink) {
+            for (T t : source) {
+                if (!sink.test(t)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            return source.iterator();
+        }
+    }
+
+    private static final class Mapped<T, R> extends LazyView<R> {
+
+        private final LazyView<T> upstream;
+        private final Function<? super T, ? extends R> mapper;
+
+        Mapped(LazyView<T> upstream, Function<? super T, ? extends R> mapper) {
+            this.upstream = upstream;
+            this.mapper = mapper;
+        }
+
+        @Override
+        boolean forEachWhile(Predicate<? super R> sink) {
+            return upstream.forEachWhile(t -> sink.test(mapper.apply(t)));
+        }
+
+        @Override
+        public Iterator<R> iterator() {
+            Iterator<T> it = upstream.iterator();
+            return new Iterator<>() {
+                @Override
+                public boolean hasNext() {
+                    return it.hasNext();
+                }
+
+                @Override
+                public R next() {
+                    return mapper.apply(it.next());
+                }
+            };
+        }
+    }
+
+    private static final class Filtered<T> extends LazyView<T> {
+
+        private final LazyView<T> upstream;
+        private final Predicate<? super T> predicate;
+
+        Filtered(LazyView<T> upstream, Predicate<? super T> predicate) {
+            this.upstream = upstream;
+            this.predicate = predicate;
+        }
+
+        @Override
+        boolean forEachWhile(Predicate<? super T> sink) {
+            return upstream.forEachWhile(t -> !predicate.test(t) || sink.test(t));
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            Iterator<T> it = upstream.iterator();
+            return new Iterator<>() {
+                private T next;
+                private boolean ready;
+
+                @Override
+                public boolean hasNext() {
+                    while (!ready && it.hasNext()) {
+                        T candidate = it.next();
+                        if (predicate.test(candidate)) {
+                            next = candidate;
+                            ready = true;
+                        }
+                    }
+                    return ready;
+                }
+
+                @Override
+                public T next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    T result = next;
+                    next = null;
+                    ready = false;
+                    return result;
+                }
+            };
+        }
+    }
+
+    private static final class Taken<T> extends LazyView<T> {
+
+        private final LazyView<T> upstream;
+        private final long limit;
+
+        Taken(LazyView<T> upstream, long limit) {
+            this.upstream = upstream;
+            this.limit = limit;
+        }
+
+        /**
+         * Stops the upstream traversal as soon as the last permitted element has
+         * been delivered, so the element after it is never read.
+         */
+        @Override
+        boolean forEachWhile(Predicate<? super T> sink) {
+            if (limit == 0) {
+                return true;
+            }
+            TakeSink<T> takeSink = new TakeSink<>(sink, limit);
+            return upstream.forEachWhile(takeSink) || takeSink.remaining == 0;
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            Iterator<T> it = upstream.iterator();
+            return new Iterator<>() {
+                private long remaining = limit;
+
+                @Override
+                public boolean hasNext() {
+                    return remaining > 0 && it.hasNext();
+                }
+
+                @Override
+                public T next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    remaining--;
+                    return it.next();
+                }
+            };
+        }
+    }
+
+    private static final class Skipped<T> extends LazyView<T> {
+
+        private final LazyView<T> upstream;
+        private final long count;
+
+        Skipped(LazyView<T> upstream, long count) {
+            this.upstream = upstream;
+            this.count = count;
+        }
+
+        @Override
+        boolean forEachWhile(Predicate<? super T> sink) {
+            return upstream.forEachWhile(new SkipSink<>(sink, count));
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            Iterator<T> it = upstream.iterator();
+            for (long i = 0; i < count && it.hasNext(); i++) {
+                it.next();
+            }
+            return it;
+        }
+    }
+
+    private static final class Concatenated<T> extends LazyView<T> {
+
+        private final LazyView<T> first;
+        private final Iterable<? extends T> second;
+
+        Concatenated(LazyView<T> first, Iterable<? extends T> second) {
+            this.first = first;
+            this.second = second;
+        }
+
+        @Override
+        boolean forEachWhile(Predicate<? super T> sink) {
+            if (!first.forEachWhile(sink)) {
+                return false;
+            }
+            if (second instanceof LazyView) {
+                @SuppressWarnings("unchecked")
+                LazyView<T> view = (LazyView<T>) second;
+                return view.forEachWhile(sink);
+            }
+            for (T t : second) {
+                if (!sink.test(t)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            Iterator<T> head = first.iterator();
+            return new Iterator<>() {
+                private Iterator<? extends T> current = head;
+                private boolean switched;
+
+                @Override
+                public boolean hasNext() {
+                    if (!switched && !current.hasNext()) {
+                        current = second.iterator();
+                        switched = true;
+                    }
+                    return current.hasNext();
+                }
+
+                @Override
+                public T next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    return current.next();
+                }
+            };
+        }
+    }
+    // ===========================================================================================//
+
+    //==================== Sinks =================================================================//
+
+    private static final class TakeSink<T> implements Predicate<T> {
+
+        private final Predicate<? super T> downstream;
+        private long remaining;
+
+        TakeSink(Predicate<? super T> downstream, long limit) {
+            this.downstream = downstream;
+            this.remaining = limit;
+        }
+
+        @Override
+        public boolean test(T t) {
+            return downstream.test(t) && --remaining > 0;
+        }
+    }
+
+    private static final class SkipSink<T> implements Predicate<T> {
+
+        private final Predicate<? super T> downstream;
+        private long toSkip;
+
+        SkipSink(Predicate<? super T> downstream, long count) {
+            this.downstream = downstream;
+            this.toSkip = count;
+        }
+
+        @Override
+        public boolean test(T t) {
+            if (toSkip > 0) {
+                toSkip--;
+                return true;
+            }
+            return downstream.test(t);
+        }
+    }
+
+    private static final class Fold<T> implements Predicate<T> {
+
+        private final BinaryOperator<T> accumulator;
+        private T result;
+
+        Fold(T identity, BinaryOperator<T> accumulator) {
+            this.result = identity;
+            this.accumulator = accumulator;
+        }
+
+        @Override
+        public boolean test(T t) {
+            result = accumulator.apply(result, t);
+            return true;
+        }
+    }
+
+    private static final class Counter<T> implements Predicate<T> {
+
+        private long count;
+
+        @Override
+        public boolean test(T t) {
+            count++;
+            return true;
+        }
+    }
+    // ===========================================================================================//
+
+    private static void checkNotNull(Object o, String name) {
+        if (o == null) {
+            throw new IllegalArgumentException(name + " must not be null");
+        }
+    }
+
+    private static void checkNotNegative(long n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("n must not be negative: " + n);
+        }
+    }
+
+    /**
+     * Returns a string of the form {@code LazyView{a, b, c}}. The view is
+     * evaluated to produce it.
+     */
+    @Override
+    public String toString() {
+        StringBuilder stringBuilder = new StringBuilder("LazyView{");
+        Iterator<T> iterator = iterator();
+        while (iterator.hasNext()) {
+            stringBuilder.append(iterator.next());
+            if (iterator.hasNext()) {
+                stringBuilder.append(", ");
+            }
+        }
+        return stringBuilder.append("}").toString();
+    }
+}
@@ -0,0 +1,145 @@
+package com.util.collections.big;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BigListTest {
+
+    /** Four slots per chunk, so a handful of elements spans several chunks. */
+    private static BigList<Integer> newList(boolean isNullable) {
+        return new BigList<>(isNullable, 2);
+    }
+
+    private static BigList<Integer> range(int n) {
+        BigList<Integer> list = newList(false);
+        for (int i = 0; i < n; i++) {
+            list.add(i);
+        }
+        return list;
+    }
+
+    // ===================== POSITIONAL ACCESS =====================
+
+    @Test
+    void add_shouldGrowAcrossChunks() {
+        BigList<Integer> list = range(11);
+
+        assertEquals(11, list.size());
+        for (int i = 0; i < 11; i++) {
+            assertEquals(i, list.get(i));
+        }
+    }
+
+    @Test
+    void set_shouldReplaceInPlace() {
+        BigList<Integer> list = range(9);
+
+        assertEquals(5, list.set(5, 50));
+
+        assertEquals(50, list.get(5));
+        assertEquals(9, list.size());
+    }
+
+    @Test
+    void get_shouldRejectOutOfRangeIndex() {
+        BigList<Integer> list = range(4);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(4));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.set(1L << 33, 0));
+    }
+
+    @Test
+    void nullable_shouldFollowConstructorPolicy() {
+        assertThrows(IllegalArgumentException.class, () -> newList(false).add(null));
+
+        BigList<Integer> lenient = newList(true);
+        lenient.add(null);
+        assertNull(lenient.get(0));
+    }
+
+    // ===================== REMOVAL =====================
+
+    @Test
+    void removeLast_shouldShrinkAcrossChunkBoundary() {
+        BigList<Integer> list = range(5);
+
+        assertEquals(4, list.removeLast());
+        assertEquals(3, list.removeLast());
+        list.add(7);
+
+        assertEquals(4, list.size());
+        assertEquals(7, list.get(3));
+    }
+
+    @Test
+    void removeLast_shouldThrowOnEmptyList() {
+        assertThrows(NoSuchElementException.class, () -> newList(true).removeLast());
+    }
+
+    @Test
+    void clear_shouldReleaseAllElements() {
+        BigList<Integer> list = range(10);
+
+        list.clear();
+        list.add(1);
+
+        assertEquals(1, list.size());
+        assertEquals(1, list.get(0));
+    }
+
+    // ===================== ITERATION =====================
+
+    @Test
+    void iterator_shouldVisitInOrder() {
+        java.util.List<Integer> seen = new ArrayList<>();
+        for (Integer v : range(9)) {
+            seen.add(v);
+        }
+
+        assertEquals(java.util.List.of(0, 1, 2, 3, 4, 5, 6, 7, 8), seen);
+        Iterator<Integer> exhausted = range(0).iterator();
+        assertThrows(NoSuchElementException.class, exhausted::next);
+    }
+
+    @Test
+    void forEach_shouldVisitInOrder() {
+        java.util.List<Integer> seen = new ArrayList<>();
+
+        range(7).forEach(seen::add);
+
+        assertEquals(java.util.List.of(0, 1, 2, 3, 4, 5, 6), seen);
+    }
+
+    @Test
+    void spliterator_shouldSplitAtChunkBoundaries() {
+        Spliterator<Integer> suffix = range(10).spliterator();
+
+        Spliterator<Integer> prefix = suffix.trySplit();
+
+        assertNotNull(prefix);
+        assertEquals(4, prefix.estimateSize());
+        assertEquals(6, suffix.estimateSize());
+        assertNull(range(3).spliterator().trySplit());
+    }
+
+    @Test
+    void parallelForEach_shouldVisitEveryElementOnce() {
+        BigList<Integer> list = new BigList<>(false, 6);
+        for (int i = 0; i < 100_000; i++) {
+            list.add(i);
+        }
+        AtomicLong sum = new AtomicLong();
+
+        list.parallelForEach(sum::addAndGet);
+
+        assertEquals(100_000L * 99_999 / 2, sum.get());
+    }
+}
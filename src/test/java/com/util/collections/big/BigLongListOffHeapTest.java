@@ -0,0 +1,19 @@
+package com.util.collections.big;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BigLongListOffHeapTest extends BigLongListTest {
+
+    @Override
+    BigLongList newList() {
+        return new BigLongList(true, 2);
+    }
+
+    @Test
+    void offHeap_shouldBeReported() {
+        assertTrue(newList().isOffHeap());
+        assertFalse(new BigLongList().isOffHeap());
+    }
+}
@@ -0,0 +1,108 @@
+package com.util.collections.big;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BigLongListTest {
+
+    /**
+     * Creates the list under test with four values per chunk. The off-heap
+     * suite reuses these tests by overriding this factory.
+     */
+    BigLongList newList() {
+        return new BigLongList(false, 2);
+    }
+
+    private BigLongList range(int n) {
+        BigLongList list = newList();
+        for (int i = 0; i < n; i++) {
+            list.add(i * 10L);
+        }
+        return list;
+    }
+
+    // ===================== POSITIONAL ACCESS =====================
+
+    @Test
+    void add_shouldGrowAcrossChunks() {
+        BigLongList list = range(11);
+
+        assertEquals(11, list.size());
+        for (int i = 0; i < 11; i++) {
+            assertEquals(i * 10L, list.get(i));
+        }
+    }
+
+    @Test
+    void set_shouldReplaceInPlace() {
+        BigLongList list = range(9);
+
+        assertEquals(50L, list.set(5, Long.MIN_VALUE));
+
+        assertEquals(Long.MIN_VALUE, list.get(5));
+    }
+
+    @Test
+    void get_shouldRejectOutOfRangeIndex() {
+        BigLongList list = range(4);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(4));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(-1));
+    }
+
+    // ===================== REMOVAL =====================
+
+    @Test
+    void removeLast_shouldShrinkAcrossChunkBoundary() {
+        BigLongList list = range(5);
+
+        assertEquals(40L, list.removeLast());
+        assertEquals(30L, list.removeLast());
+        list.add(7L);
+
+        assertEquals(4, list.size());
+        assertEquals(7L, list.get(3));
+        assertThrows(NoSuchElementException.class, () -> newList().removeLast());
+    }
+
+    @Test
+    void clear_shouldDropAllValues() {
+        BigLongList list = range(10);
+
+        list.clear();
+
+        assertTrue(list.isEmpty());
+        list.add(3L);
+        assertEquals(3L, list.get(0));
+    }
+
+    // ===================== ITERATION =====================
+
+    @Test
+    void stream_shouldVisitInOrder() {
+        assertArrayEquals(new long[]{0, 10, 20, 30, 40, 50}, range(6).stream().toArray());
+    }
+
+    @Test
+    void spliterator_shouldSplitAtChunkBoundaries() {
+        Spliterator.OfLong suffix = range(10).spliterator();
+
+        Spliterator.OfLong prefix = suffix.trySplit();
+
+        assertNotNull(prefix);
+        assertEquals(4, prefix.estimateSize());
+        assertEquals(6, suffix.estimateSize());
+    }
+
+    @Test
+    void parallelStream_shouldMatchSequentialSum() {
+        BigLongList list = range(50_000);
+
+        assertEquals(list.stream().sum(), list.parallelStream().sum());
+        assertEquals(10L * 50_000 * 49_999 / 2, list.parallelStream().sum());
+    }
+}
@@ -0,0 +1,46 @@
+package com.util.collections.cache;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FrequencySketchTest {
+
+    @Test
+    void frequency_shouldCountIncrementsUpToSaturation() {
+        FrequencySketch sketch = new FrequencySketch(1_000);
+
+        for (int i = 0; i < 5; i++) {
+            sketch.increment("a");
+        }
+        assertEquals(5, sketch.frequency("a"));
+
+        for (int i = 0; i < 20; i++) {
+            sketch.increment("a");
+        }
+        assertEquals(15, sketch.frequency("a"));
+    }
+
+    @Test
+    void frequency_shouldBeZero_forUnseenKey() {
+        FrequencySketch sketch = new FrequencySketch(1_000);
+        sketch.increment("a");
+
+        assertEquals(0, sketch.frequency("b"));
+    }
+
+    @Test
+    void increment_shouldAgeCountersAfterSamplePeriod() {
+        FrequencySketch sketch = new FrequencySketch(16);
+        for (int i = 0; i < 8; i++) {
+            sketch.increment("hot");
+        }
+        assertEquals(8, sketch.frequency("hot"));
+
+        for (int i = 0; i < 160; i++) {
+            sketch.increment(i);
+        }
+
+        assertTrue(sketch.frequency("hot") <= 4);
+    }
+}
@@ -0,0 +1,154 @@
+package com.util.collections.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LruCacheTest {
+
+    // ===== GET / PUT =====
+
+    @Test
+    void get_shouldReturnCachedValueAndCountHit() {
+        LruCache<String, Integer> cache = new LruCache<>(2);
+        cache.put("a", 1);
+
+        assertEquals(1, cache.get("a"));
+        assertNull(cache.get("b"));
+
+        assertEquals(1, cache.hitCount());
+        assertEquals(1, cache.missCount());
+        assertEquals(0.5, cache.hitRate());
+    }
+
+    @Test
+    void put_shouldReplaceValueWithoutGrowing() {
+        LruCache<String, Integer> cache = new LruCache<>(2);
+
+        assertNull(cache.put("a", 1));
+        assertEquals(1, cache.put("a", 2));
+
+        assertEquals(1, cache.size());
+        assertEquals(2, cache.get("a"));
+    }
+
+    @Test
+    void put_shouldRejectNulls() {
+        LruCache<String, Integer> cache = new LruCache<>(2);
+
+        assertThrows(IllegalArgumentException.class, () -> cache.put(null, 1));
+        assertThrows(IllegalArgumentException.class, () -> cache.put("a", null));
+        assertThrows(IllegalArgumentException.class, () -> cache.get(null));
+    }
+
+    @Test
+    void constructor_shouldRejectNonPositiveSize() {
+        assertThrows(IllegalArgumentException.class, () -> new LruCache<>(0));
+    }
+
+    // ===== EVICTION =====
+
+    @Test
+    void put_shouldEvictLeastRecentlyUsedEntry() {
+        LruCache<String, Integer> cache = new LruCache<>(2);
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.get("a");
+
+        cache.put("c", 3);
+
+        assertFalse(cache.containsKey("b"));
+        assertEquals("LruCache{a=1, c=3}", cache.toString());
+        assertEquals(1, cache.evictionCount());
+    }
+
+    @Test
+    void put_shouldRefreshRecencyOfUpdatedEntry() {
+        LruCache<String, Integer> cache = new LruCache<>(2);
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.put("a", 10);
+
+        cache.put("c", 3);
+
+        assertEquals("LruCache{a=10, c=3}", cache.toString());
+    }
+
+    @Test
+    void containsKey_shouldNotAffectRecencyOrStatistics() {
+        LruCache<String, Integer> cache = new LruCache<>(2);
+        cache.put("a", 1);
+        cache.put("b", 2);
+
+        assertTrue(cache.containsKey("a"));
+        cache.put("c", 3);
+
+        assertFalse(cache.containsKey("a"));
+        assertEquals(0, cache.hitCount() + cache.missCount());
+    }
+
+    @Test
+    void evictionListeners_shouldBeNotifiedInRegistrationOrder() {
+        LruCache<String, Integer> cache = new LruCache<>(1);
+        List<String> events = new ArrayList<>();
+        cache.addEvictionListener((k, v) -> events.add("first:" + k + "=" + v));
+        cache.addEvictionListener((k, v) -> events.add("second:" + k));
+
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.remove("b");
+
+        assertEquals(List.of("first:a=1", "second:a"), events);
+    }
+
+    @Test
+    void addEvictionListener_shouldRejectNull() {
+        LruCache<String, Integer> cache = new LruCache<>(1);
+
+        assertThrows(IllegalArgumentException.class, () -> cache.addEvictionListener(null));
+    }
+
+    // ===== REMOVE / CLEAR =====
+
+    @Test
+    void remove_shouldUnlinkEntry() {
+        LruCache<String, Integer> cache = new LruCache<>(3);
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.put("c", 3);
+
+        assertEquals(2, cache.remove("b"));
+        assertNull(cache.remove("b"));
+
+        assertEquals("LruCache{a=1, c=3}", cache.toString());
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    void clear_shouldEmptyCacheButKeepStatistics() {
+        LruCache<String, Integer> cache = new LruCache<>(2);
+        cache.put("a", 1);
+        cache.get("a");
+
+        cache.clear();
+
+        assertTrue(cache.isEmpty());
+        assertNull(cache.get("a"));
+        assertEquals(1, cache.hitCount());
+        assertEquals("LruCache{}", cache.toString());
+    }
+
+    @Test
+    void manyOperations_shouldNeverExceedMaximumSize() {
+        LruCache<Integer, Integer> cache = new LruCache<>(64);
+        for (int i = 0; i < 10_000; i++) {
+            cache.put(i % 300, i);
+            cache.get((i * 7) % 300);
+            assertTrue(cache.size() <= 64);
+        }
+        assertEquals(64, cache.size());
+    }
+}
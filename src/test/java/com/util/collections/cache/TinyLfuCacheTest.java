@@ -0,0 +1,258 @@
+package com.util.collections.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TinyLfuCacheTest {
+
+    /** A ticker advanced explicitly by the test. */
+    private static final class ManualTicker implements Ticker {
+        private long nanos;
+
+        @Override
+        public long read() {
+            return nanos;
+        }
+
+        void advance(Duration duration) {
+            nanos += duration.toNanos();
+        }
+    }
+
+    // ===== GET / PUT =====
+
+    @Test
+    void get_shouldReturnCachedValueAndCountHit() {
+        TinyLfuCache<String, Integer> cache = new TinyLfuCache<>(10);
+        cache.put("a", 1);
+
+        assertEquals(1, cache.get("a"));
+        assertNull(cache.get("b"));
+
+        assertEquals(1, cache.hitCount());
+        assertEquals(1, cache.missCount());
+    }
+
+    @Test
+    void put_shouldReplaceValueWithoutGrowing() {
+        TinyLfuCache<String, Integer> cache = new TinyLfuCache<>(10);
+
+        assertNull(cache.put("a", 1));
+        assertEquals(1, cache.put("a", 2));
+
+        assertEquals(1, cache.size());
+        assertEquals(2, cache.get("a"));
+    }
+
+    @Test
+    void put_shouldRejectNulls() {
+        TinyLfuCache<String, Integer> cache = new TinyLfuCache<>(10);
+
+        assertThrows(IllegalArgumentException.class, () -> cache.put(null, 1));
+        assertThrows(IllegalArgumentException.class, () -> cache.put("a", null));
+        assertThrows(IllegalArgumentException.class, () -> cache.get(null));
+    }
+
+    @Test
+    void builder_shouldRejectInvalidSettings() {
+        assertThrows(IllegalArgumentException.class, () -> new TinyLfuCache<>(0));
+        assertThrows(IllegalArgumentException.class,
+                () -> TinyLfuCache.builder(1).expireAfterWrite(Duration.ZERO));
+        assertThrows(NullPointerException.class, () -> TinyLfuCache.builder(1).ticker(null));
+    }
+
+    // ===== SIZE BOUND & ADMISSION =====
+
+    @Test
+    void put_shouldNeverExceedMaximumSize() {
+        TinyLfuCache<Integer, Integer> cache = new TinyLfuCache<>(50);
+        for (int i = 0; i < 10_000; i++) {
+            cache.put(i % 500, i);
+            cache.get((i * 7) % 500);
+            assertTrue(cache.size() <= 50);
+        }
+        assertEquals(50, cache.size());
+        assertTrue(cache.evictionCount() > 0);
+    }
+
+    @Test
+    void maximumSizeOfOne_shouldKeepLatestEntry() {
+        TinyLfuCache<String, Integer> cache = new TinyLfuCache<>(1);
+
+        cache.put("a", 1);
+        cache.put("b", 2);
+
+        assertEquals(1, cache.size());
+        assertEquals(2, cache.get("b"));
+    }
+
+    @Test
+    void scan_shouldNotEvictFrequentlyUsedEntries() {
+        TinyLfuCache<Integer, Integer> cache = new TinyLfuCache<>(100);
+        for (int round = 0; round < 20; round++) {
+            for (int key = 0; key < 90; key++) {
+                if (cache.get(key) == null) {
+                    cache.put(key, key);
+                }
+            }
+        }
+
+        for (int key = 1_000; key < 11_000; key++) {
+            cache.put(key, key);
+            int hot = key % 90;
+            if (cache.get(hot) == null) {
+                cache.put(hot, hot);
+            }
+        }
+        cache.cleanUp();
+
+        int retained = 0;
+        for (int key = 0; key < 90; key++) {
+            if (cache.containsKey(key)) {
+                retained++;
+            }
+        }
+        assertTrue(retained >= 85, "retained " + retained);
+    }
+
+    @Test
+    void evictionListeners_shouldBeNotifiedOnSizeEviction() {
+        TinyLfuCache<Integer, Integer> cache = new TinyLfuCache<>(2);
+        List<Integer> evicted = new ArrayList<>();
+        cache.addEvictionListener((k, v) -> evicted.add(k));
+
+        cache.put(1, 1);
+        cache.put(2, 2);
+        cache.put(3, 3);
+
+        assertEquals(1, evicted.size());
+        assertEquals(1, cache.evictionCount());
+        assertFalse(cache.containsKey(evicted.get(0)));
+    }
+
+    // ===== EXPIRY =====
+
+    @Test
+    void expireAfterWrite_shouldHideAndRemoveStaleEntries() {
+        ManualTicker ticker = new ManualTicker();
+        TinyLfuCache<String, Integer> cache = TinyLfuCache.<String, Integer>builder(10)
+                .expireAfterWrite(Duration.ofSeconds(10))
+                .ticker(ticker)
+                .build();
+        List<String> expired = new ArrayList<>();
+        cache.addEvictionListener((k, v) -> expired.add(k));
+        cache.put("a", 1);
+        ticker.advance(Duration.ofSeconds(5));
+        cache.put("b", 2);
+        assertEquals(1, cache.get("a"));
+
+        ticker.advance(Duration.ofSeconds(5));
+
+        assertNull(cache.get("a"));
+        assertEquals(2, cache.get("b"));
+        ticker.advance(Duration.ofSeconds(5));
+        cache.cleanUp();
+        assertTrue(cache.isEmpty());
+        assertEquals(List.of("a", "b"), expired);
+        assertEquals(2, cache.expirationCount());
+    }
+
+    @Test
+    void expireAfterWrite_shouldRestartOnUpdate() {
+        ManualTicker ticker = new ManualTicker();
+        TinyLfuCache<String, Integer> cache = TinyLfuCache.<String, Integer>builder(10)
+                .expireAfterWrite(Duration.ofSeconds(10))
+                .ticker(ticker)
+                .build();
+        cache.put("a", 1);
+        ticker.advance(Duration.ofSeconds(8));
+        cache.put("a", 2);
+        ticker.advance(Duration.ofSeconds(8));
+
+        assertEquals(2, cache.get("a"));
+    }
+
+    @Test
+    void expireAfterAccess_shouldKeepEntriesThatAreRead() {
+        ManualTicker ticker = new ManualTicker();
+        TinyLfuCache<String, Integer> cache = TinyLfuCache.<String, Integer>builder(10)
+                .expireAfterAccess(Duration.ofSeconds(10))
+                .ticker(ticker)
+                .build();
+        cache.put("hot", 1);
+        cache.put("cold", 2);
+
+        for (int i = 0; i < 3; i++) {
+            ticker.advance(Duration.ofSeconds(6));
+            assertEquals(1, cache.get("hot"));
+        }
+
+        assertFalse(cache.containsKey("cold"));
+        cache.cleanUp();
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void expireAfterAccess_shouldFindStaleEntryBehindLiveHead() {
+        ManualTicker ticker = new ManualTicker();
+        TinyLfuCache<String, Integer> cache = TinyLfuCache.<String, Integer>builder(11)
+                .expireAfterAccess(Duration.ofSeconds(10))
+                .ticker(ticker)
+                .build();
+        List<String> expired = new ArrayList<>();
+        cache.addEvictionListener((k, v) -> expired.add(k));
+        for (int i = 1; i <= 9; i++) {
+            cache.put("k" + i, i);
+        }
+        ticker.advance(Duration.ofSeconds(2));
+        for (int i = 1; i <= 8; i++) {
+            cache.get("k" + i); // promoted to the protected segment
+        }
+        ticker.advance(Duration.ofSeconds(2));
+        cache.put("x", 0);
+        cache.remove("k9");
+        cache.put("p", 0);  // moves x into probation
+        cache.put("q", 0);  // moves p into probation behind x
+        cache.get("p");
+        cache.cleanUp();    // promoting p demotes k1 to probation, behind the newer x
+
+        ticker.advance(Duration.ofMillis(8_500));
+        cache.cleanUp();
+
+        assertTrue(expired.contains("k1"));
+        assertTrue(cache.containsKey("x"));
+    }
+
+    // ===== REMOVE / CLEAR =====
+
+    @Test
+    void remove_shouldDiscardBufferedReads() {
+        TinyLfuCache<String, Integer> cache = new TinyLfuCache<>(10);
+        cache.put("a", 1);
+        cache.get("a");
+
+        assertEquals(1, cache.remove("a"));
+        cache.cleanUp();
+
+        assertNull(cache.remove("a"));
+        assertTrue(cache.isEmpty());
+    }
+
+    @Test
+    void clear_shouldEmptyCache() {
+        TinyLfuCache<String, Integer> cache = new TinyLfuCache<>(10);
+        cache.put("a", 1);
+        cache.get("a");
+
+        cache.clear();
+        cache.put("b", 2);
+
+        assertFalse(cache.containsKey("a"));
+        assertEquals(1, cache.size());
+    }
+}
@@ -0,0 +1,252 @@
+package com.util.collections.concurrent;
+
+import com.util.collections.map.Map;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrentSkipListMapTest {
+
+    private static List<Integer> keys(Iterable<Map.Entry<Integer, String>> entries) {
+        List<Integer> keys = new ArrayList<>();
+        for (Map.Entry<Integer, String> e : entries) {
+            keys.add(e.getKey());
+        }
+        return keys;
+    }
+
+    private static ConcurrentSkipListMap<Integer, String> mapOf(int... keys) {
+        ConcurrentSkipListMap<Integer, String> map = new ConcurrentSkipListMap<>();
+        for (int k : keys) {
+            map.put(k, "v" + k);
+        }
+        return map;
+    }
+
+    // ===================== BASIC OPERATIONS =====================
+
+    @Test
+    void randomOperations_shouldMatchTreeMap() {
+        ConcurrentSkipListMap<Integer, String> map = new ConcurrentSkipListMap<>();
+        TreeMap<Integer, String> reference = new TreeMap<>();
+        Random random = new Random(17);
+
+        for (int i = 0; i < 20_000; i++) {
+            int key = random.nextInt(500);
+            switch (random.nextInt(4)) {
+                case 0 -> assertEquals(reference.put(key, "a" + i), map.put(key, "a" + i));
+                case 1 -> assertEquals(reference.putIfAbsent(key, "b" + i), map.putIfAbsent(key, "b" + i));
+                case 2 -> assertEquals(reference.remove(key), map.remove(key));
+                default -> assertEquals(reference.get(key), map.get(key));
+            }
+        }
+
+        assertEquals(reference.size(), map.size());
+        assertEquals(new ArrayList<>(reference.keySet()), keys(map));
+    }
+
+    @Test
+    void nullKeysAndValues_shouldBeRejected() {
+        ConcurrentSkipListMap<Integer, String> map = new ConcurrentSkipListMap<>();
+
+        assertThrows(IllegalArgumentException.class, () -> map.put(null, "x"));
+        assertThrows(IllegalArgumentException.class, () -> map.put(1, null));
+        assertThrows(IllegalArgumentException.class, () -> map.get(null));
+        assertEquals("d", map.getOrDefault(1, "d"));
+    }
+
+    @Test
+    void comparator_shouldDefineOrder() {
+        ConcurrentSkipListMap<Integer, String> map = new ConcurrentSkipListMap<>(Comparator.reverseOrder());
+        map.put(1, "a");
+        map.put(3, "c");
+        map.put(2, "b");
+
+        assertEquals(List.of(3, 2, 1), keys(map));
+        assertEquals("ConcurrentSkipListMap{3=c, 2=b, 1=a}", map.toString());
+    }
+
+    @Test
+    void clear_shouldRemoveEverything() {
+        ConcurrentSkipListMap<Integer, String> map = mapOf(1, 2, 3);
+
+        map.clear();
+
+        assertTrue(map.isEmpty());
+        assertEquals(0, map.size());
+        assertNull(map.firstEntry());
+        map.put(4, "v4");
+        assertEquals(List.of(4), keys(map));
+    }
+
+    // ===================== NAVIGATION =====================
+
+    @Test
+    void floorAndCeiling_shouldFindNearestKeys() {
+        ConcurrentSkipListMap<Integer, String> map = mapOf(10, 20, 30);
+
+        assertEquals(20, map.floorKey(25));
+        assertEquals(20, map.floorKey(20));
+        assertNull(map.floorKey(5));
+        assertEquals(30, map.ceilingKey(25));
+        assertEquals(20, map.ceilingKey(20));
+        assertNull(map.ceilingKey(31));
+        assertEquals(10, map.lowerEntry(20).getKey());
+        assertEquals(30, map.higherEntry(20).getKey());
+        assertEquals(10, map.firstEntry().getKey());
+        assertEquals(30, map.lastEntry().getKey());
+        assertEquals("v30", map.lastEntry().getValue());
+    }
+
+    @Test
+    void floor_shouldSkipRemovedKeys() {
+        ConcurrentSkipListMap<Integer, String> map = new ConcurrentSkipListMap<>();
+        TreeMap<Integer, String> reference = new TreeMap<>();
+        for (int k = 0; k < 2_000; k++) {
+            map.put(k, "v");
+            reference.put(k, "v");
+        }
+        for (int k = 0; k < 2_000; k++) {
+            if (k % 7 != 0) {
+                map.remove(k);
+                reference.remove(k);
+            }
+        }
+
+        for (int k = -1; k <= 2_001; k += 3) {
+            assertEquals(reference.floorKey(k), map.floorKey(k));
+            assertEquals(reference.lowerKey(k), map.lowerEntry(k) == null ? null : map.lowerEntry(k).getKey());
+            assertEquals(reference.ceilingKey(k), map.ceilingKey(k));
+        }
+        assertEquals(reference.lastKey(), map.lastEntry().getKey());
+    }
+
+    // ===================== RANGE ITERATION =====================
+
+    @Test
+    void range_shouldHonourBounds() {
+        ConcurrentSkipListMap<Integer, String> map = mapOf(1, 2, 3, 4, 5);
+
+        assertEquals(List.of(2, 3, 4), keys(map.range(2, true, 4, true)));
+        assertEquals(List.of(3), keys(map.range(2, false, 4, false)));
+        assertEquals(List.of(1, 2), keys(map.range(null, true, 2, true)));
+        assertEquals(List.of(4, 5), keys(map.range(4, true, null, true)));
+        assertEquals(List.of(), keys(map.range(6, true, null, true)));
+        assertThrows(IllegalArgumentException.class, () -> map.range(4, true, 2, true));
+    }
+
+    @Test
+    void iterator_shouldBeWeaklyConsistentUnderModification() {
+        ConcurrentSkipListMap<Integer, String> map = mapOf(1, 2, 3, 4);
+        Iterator<Map.Entry<Integer, String>> it = map.iterator();
+
+        assertEquals(1, it.next().getKey());
+        map.remove(3);
+        map.put(5, "v5");
+        List<Integer> rest = new ArrayList<>();
+        it.forEachRemaining(e -> rest.add(e.getKey()));
+
+        assertEquals(List.of(2, 4, 5), rest);
+    }
+
+    @Test
+    void entrySetValue_shouldWriteThrough() {
+        ConcurrentSkipListMap<Integer, String> map = mapOf(1);
+
+        Map.Entry<Integer, String> entry = map.iterator().next();
+
+        assertEquals("v1", entry.setValue("x"));
+        assertEquals("x", map.get(1));
+    }
+
+    // ===================== CONCURRENCY =====================
+
+    @Test
+    void concurrentDisjointUpdates_shouldAllBeVisible() throws Exception {
+        ConcurrentSkipListMap<Integer, String> map = new ConcurrentSkipListMap<>();
+        int threads = 8;
+        int perThread = 5_000;
+
+        runConcurrently(threads, t -> {
+            for (int i = 0; i < perThread; i++) {
+                map.put(i * threads + t, "v");
+            }
+            for (int i = 0; i < perThread; i += 2) {
+                assertEquals("v", map.remove(i * threads + t));
+            }
+        });
+
+        List<Integer> keys = keys(map);
+        assertEquals(threads * perThread / 2, keys.size());
+        assertEquals(keys.size(), map.size());
+        for (int i = 1; i < keys.size(); i++) {
+            assertTrue(keys.get(i - 1) < keys.get(i));
+        }
+        assertFalse(map.containsKey(0));
+        assertTrue(map.containsKey(threads));
+    }
+
+    @Test
+    void concurrentContendedUpdates_shouldKeepSizeConsistent() throws Exception {
+        ConcurrentSkipListMap<Integer, String> map = new ConcurrentSkipListMap<>();
+        AtomicInteger inserted = new AtomicInteger();
+        AtomicInteger removed = new AtomicInteger();
+
+        runConcurrently(8, t -> {
+            Random random = new Random(t);
+            for (int i = 0; i < 20_000; i++) {
+                int key = random.nextInt(64);
+                if (random.nextBoolean()) {
+                    if (map.putIfAbsent(key, "t" + t) == null) {
+                        inserted.incrementAndGet();
+                    }
+                } else if (map.remove(key) != null) {
+                    removed.incrementAndGet();
+                }
+            }
+        });
+
+        int live = keys(map).size();
+        assertEquals(inserted.get() - removed.get(), live);
+        assertEquals(live, map.size());
+    }
+
+    private interface Worker {
+        void run(int thread) throws Exception;
+    }
+
+    private static void runConcurrently(int threads, Worker worker) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int id = t;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    worker.run(id);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.util.collections.concurrent;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrentSkipListSetTest {
+
+    private static List<Integer> toList(Iterable<Integer> elements) {
+        List<Integer> list = new ArrayList<>();
+        elements.forEach(list::add);
+        return list;
+    }
+
+    @Test
+    void addRemoveContains_shouldFollowSetSemantics() {
+        ConcurrentSkipListSet<Integer> set = new ConcurrentSkipListSet<>();
+
+        assertTrue(set.add(3));
+        assertTrue(set.add(1));
+        assertFalse(set.add(3));
+        assertTrue(set.contains(1));
+        assertTrue(set.remove(1));
+        assertFalse(set.remove(1));
+
+        assertEquals(1, set.size());
+        assertEquals("ConcurrentSkipListSet{3}", set.toString());
+        assertThrows(IllegalArgumentException.class, () -> set.add(null));
+    }
+
+    @Test
+    void navigation_shouldFindNearestElements() {
+        ConcurrentSkipListSet<Integer> set = new ConcurrentSkipListSet<>();
+        for (int v : new int[]{40, 10, 30, 20}) {
+            set.add(v);
+        }
+
+        assertEquals(20, set.floor(25));
+        assertEquals(10, set.lower(20));
+        assertEquals(30, set.ceiling(25));
+        assertEquals(30, set.higher(20));
+        assertEquals(10, set.first());
+        assertEquals(40, set.last());
+        assertNull(set.higher(40));
+    }
+
+    @Test
+    void range_shouldIterateInOrder() {
+        ConcurrentSkipListSet<Integer> set = new ConcurrentSkipListSet<>();
+        for (int v = 10; v > 0; v--) {
+            set.add(v);
+        }
+
+        assertEquals(List.of(3, 4, 5, 6), toList(set.range(3, true, 7, false)));
+        assertEquals(List.of(1, 2, 3, 4, 5, 6, 7, 8, 9, 10), toList(set));
+
+        set.clear();
+        assertTrue(set.isEmpty());
+        assertNull(set.first());
+    }
+}
@@ -0,0 +1,239 @@
+package com.util.collections.flow;
+
+import com.util.collections.list.List;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MicroBatcherTest {
+
+    private static final Executor SYNC = Runnable::run;
+
+    private final java.util.List<String> batches = new CopyOnWriteArrayList<>();
+
+    private MicroBatcher.Builder<Integer> recording() {
+        return MicroBatcher.<Integer>builder(batch -> batches.add(batch.toString())).executor(SYNC);
+    }
+
+    // ===================== SIZE TRIGGER =====================
+
+    @Test
+    void add_shouldFlushWhenBatchIsFull() {
+        MicroBatcher<Integer> batcher = recording().maxBatchSize(3).build();
+
+        for (int i = 0; i < 7; i++) {
+            batcher.add(i);
+        }
+
+        assertEquals(java.util.List.of("LinkedList{0, 1, 2}", "LinkedList{3, 4, 5}"), batches);
+        assertEquals(1, batcher.pending());
+    }
+
+    @Test
+    void flush_shouldHandOffPartialBatch() {
+        MicroBatcher<Integer> batcher = recording().maxBatchSize(10).build();
+        batcher.add(1);
+        batcher.add(2);
+
+        assertEquals(2, batcher.flush());
+        assertEquals(0, batcher.flush());
+
+        assertEquals(java.util.List.of("LinkedList{1, 2}"), batches);
+        assertEquals(0, batcher.pending());
+    }
+
+    @Test
+    void sink_shouldOwnHandedOffBatch() {
+        java.util.List<List<Integer>> received = new CopyOnWriteArrayList<>();
+        MicroBatcher<Integer> batcher = MicroBatcher.<Integer>builder(received::add)
+                .executor(SYNC).maxBatchSize(2).build();
+
+        batcher.add(1);
+        batcher.add(2);
+        batcher.add(3);
+
+        assertEquals(1, received.size());
+        assertEquals(2, received.get(0).size());
+        assertEquals(1, batcher.pending());
+    }
+
+    // ===================== AGE TRIGGER =====================
+
+    @Test
+    void maxDelay_shouldFlushAgedBatch() throws InterruptedException {
+        CountDownLatch flushed = new CountDownLatch(1);
+        MicroBatcher<Integer> batcher = MicroBatcher.<Integer>builder(batch -> {
+            batches.add(batch.toString());
+            flushed.countDown();
+        }).executor(SYNC).maxBatchSize(100).maxDelay(Duration.ofMillis(20)).build();
+        try {
+            batcher.add(1);
+            batcher.add(2);
+
+            assertTrue(flushed.await(5, TimeUnit.SECONDS));
+            assertEquals(java.util.List.of("LinkedList{1, 2}"), batches);
+        } finally {
+            batcher.close();
+        }
+    }
+
+    @Test
+    void maxDelay_shouldNotFireForAlreadyFlushedBatch() throws InterruptedException {
+        MicroBatcher<Integer> batcher = recording()
+                .maxBatchSize(2).maxDelay(Duration.ofMillis(30)).build();
+        try {
+            batcher.add(1);
+            batcher.add(2);
+            batcher.add(3);
+            Thread.sleep(10);
+            batcher.add(4);
+            batcher.add(5);
+
+            assertEquals(java.util.List.of("LinkedList{1, 2}", "LinkedList{3, 4}"), batches);
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (batches.size() < 3 && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+            assertEquals("LinkedList{5}", batches.get(2));
+        } finally {
+            batcher.close();
+        }
+    }
+
+    @Test
+    void rejectedTimer_shouldFlushOnAddingThread() {
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        scheduler.shutdown();
+        MicroBatcher<Integer> batcher = recording()
+                .maxBatchSize(10).maxDelay(Duration.ofMillis(20)).scheduler(scheduler).build();
+
+        batcher.add(1);
+        batcher.add(2);
+
+        assertEquals(java.util.List.of("LinkedList{1}", "LinkedList{2}"), batches);
+        assertEquals(0, batcher.pending());
+        batcher.close();
+    }
+
+    // ===================== LIFECYCLE =====================
+
+    @Test
+    void close_shouldFlushRemainderAndRejectNewItems() {
+        MicroBatcher<Integer> batcher = recording().maxBatchSize(10).build();
+        batcher.add(1);
+
+        batcher.close();
+
+        assertEquals(java.util.List.of("LinkedList{1}"), batches);
+        assertThrows(IllegalStateException.class, () -> batcher.add(2));
+        batcher.close();
+    }
+
+    @Test
+    void rejectedBatch_shouldRunOnCallingThread() {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        executor.shutdown();
+        MicroBatcher<Integer> batcher = MicroBatcher.<Integer>builder(batch -> batches.add(batch.toString()))
+                .executor(executor).maxBatchSize(2).build();
+
+        batcher.add(1);
+        batcher.add(2);
+        batcher.add(3);
+
+        assertEquals(1, batcher.flush());
+        assertEquals(java.util.List.of("LinkedList{1, 2}", "LinkedList{3}"), batches);
+        assertEquals(3, batcher.itemCount());
+    }
+
+    @Test
+    void add_shouldRejectNull() {
+        MicroBatcher<Integer> batcher = recording().build();
+
+        assertThrows(IllegalArgumentException.class, () -> batcher.add(null));
+    }
+
+    @Test
+    void builder_shouldRejectInvalidSettings() {
+        assertThrows(NullPointerException.class, () -> MicroBatcher.builder(null));
+        assertThrows(IllegalArgumentException.class, () -> recording().maxBatchSize(0));
+        assertThrows(IllegalArgumentException.class, () -> recording().maxDelay(Duration.ZERO));
+    }
+
+    // ===================== METRICS =====================
+
+    @Test
+    void metrics_shouldReportBatchSizesAndLatency() {
+        AtomicLong now = new AtomicLong();
+        MicroBatcher<Integer> batcher = recording().maxBatchSize(4).ticker(now::get).build();
+
+        batcher.add(1);
+        now.addAndGet(100);
+        batcher.add(2);
+        batcher.add(3);
+        batcher.add(4);
+        batcher.add(5);
+        now.addAndGet(300);
+        batcher.flush();
+
+        assertEquals(2, batcher.batchCount());
+        assertEquals(5, batcher.itemCount());
+        assertEquals(2.5, batcher.averageBatchSize());
+        assertEquals(4, batcher.maxObservedBatchSize());
+        assertEquals(Duration.ofNanos(300), batcher.maxLatency());
+        assertEquals(Duration.ofNanos(200), batcher.averageLatency());
+    }
+
+    @Test
+    void metrics_shouldCountSinkFailures() {
+        MicroBatcher<Integer> batcher = MicroBatcher.<Integer>builder(batch -> {
+            throw new IllegalStateException("sink down");
+        }).executor(SYNC).maxBatchSize(1).build();
+
+        batcher.add(1);
+        batcher.add(2);
+
+        assertEquals(2, batcher.failureCount());
+        assertEquals(2, batcher.batchCount());
+    }
+
+    // ===================== CONCURRENCY =====================
+
+    @Test
+    void concurrentProducers_shouldDeliverEveryItemExactlyOnce() throws InterruptedException {
+        ExecutorService producers = Executors.newFixedThreadPool(4);
+        ExecutorService delivery = Executors.newSingleThreadExecutor();
+        AtomicLong sum = new AtomicLong();
+        MicroBatcher<Integer> batcher = MicroBatcher.<Integer>builder(batch -> batch.forEach(sum::addAndGet))
+                .executor(delivery).maxBatchSize(64).maxDelay(Duration.ofMillis(5)).build();
+        try {
+            for (int p = 0; p < 4; p++) {
+                producers.execute(() -> {
+                    for (int i = 1; i <= 10_000; i++) {
+                        batcher.add(i);
+                    }
+                });
+            }
+            producers.shutdown();
+            assertTrue(producers.awaitTermination(10, TimeUnit.SECONDS));
+            batcher.close();
+            delivery.shutdown();
+            assertTrue(delivery.awaitTermination(10, TimeUnit.SECONDS));
+
+            assertEquals(4L * 10_000 * 10_001 / 2, sum.get());
+            assertEquals(40_000, batcher.itemCount());
+        } finally {
+            producers.shutdownNow();
+            delivery.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,310 @@
+package com.util.collections.flow;
+
+import com.util.collections.list.LinkedList;
+import com.util.collections.list.List;
+import com.util.collections.queue.PriorityQueue;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PublishersTest {
+
+    /**
+     * Records every signal and requests only what a test asks for.
+     */
+    private static class RecordingSubscriber<T> implements Flow.Subscriber<T> {
+        final java.util.List<T> items = new java.util.concurrent.CopyOnWriteArrayList<>();
+        final CountDownLatch terminated = new CountDownLatch(1);
+        final long initialRequest;
+        volatile Flow.Subscription subscription;
+        volatile Throwable error;
+        volatile boolean completed;
+
+        RecordingSubscriber(long initialRequest) {
+            this.initialRequest = initialRequest;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            if (initialRequest > 0) {
+                subscription.request(initialRequest);
+            }
+        }
+
+        @Override
+        public void onNext(T item) {
+            items.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+            terminated.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+            terminated.countDown();
+        }
+    }
+
+    private static final java.util.concurrent.Executor SYNC = Runnable::run;
+
+    private static LinkedList<Integer> range(int n) {
+        LinkedList<Integer> list = new LinkedList<>(false);
+        for (int i = 0; i < n; i++) {
+            list.add(i);
+        }
+        return list;
+    }
+
+    // ===================== DEMAND =====================
+
+    @Test
+    void fromList_shouldEmitOnlyRequestedElements() {
+        RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<>(0);
+        Publishers.fromList(range(10), SYNC).subscribe(subscriber);
+
+        assertTrue(subscriber.items.isEmpty());
+        subscriber.subscription.request(3);
+        assertEquals(java.util.List.of(0, 1, 2), subscriber.items);
+        subscriber.subscription.request(2);
+        assertEquals(5, subscriber.items.size());
+        assertFalse(subscriber.completed);
+    }
+
+    @Test
+    void fromList_shouldCompleteWhenExhausted() {
+        RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<>(3);
+        Publishers.fromList(range(3), SYNC).subscribe(subscriber);
+
+        assertEquals(java.util.List.of(0, 1, 2), subscriber.items);
+        assertTrue(subscriber.completed);
+    }
+
+    @Test
+    void fromList_shouldCompleteEmptyListWithoutDemand() {
+        RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<>(0);
+        Publishers.fromList(range(0), SYNC).subscribe(subscriber);
+
+        assertTrue(subscriber.completed);
+    }
+
+    @Test
+    void fromList_shouldAcceptUnboundedDemand() {
+        RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<>(Long.MAX_VALUE);
+        Publishers.fromList(range(1_000), SYNC).subscribe(subscriber);
+
+        assertEquals(1_000, subscriber.items.size());
+        assertTrue(subscriber.completed);
+    }
+
+    @Test
+    void fromList_shouldGiveEachSubscriberItsOwnCursor() {
+        Flow.Publisher<Integer> publisher = Publishers.fromList(range(4), SYNC);
+        RecordingSubscriber<Integer> first = new RecordingSubscriber<>(2);
+        RecordingSubscriber<Integer> second = new RecordingSubscriber<>(10);
+
+        publisher.subscribe(first);
+        publisher.subscribe(second);
+
+        assertEquals(java.util.List.of(0, 1), first.items);
+        assertEquals(java.util.List.of(0, 1, 2, 3), second.items);
+    }
+
+    // ===================== CANCELLATION & ERRORS =====================
+
+    @Test
+    void cancel_shouldStopEmission() {
+        RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<>(2);
+        Publishers.fromList(range(10), SYNC).subscribe(subscriber);
+
+        subscriber.subscription.cancel();
+        subscriber.subscription.request(5);
+
+        assertEquals(2, subscriber.items.size());
+        assertFalse(subscriber.completed);
+        assertNull(subscriber.error);
+    }
+
+    @Test
+    void request_shouldSignalErrorForNonPositiveDemand() {
+        RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<>(0);
+        Publishers.fromList(range(10), SYNC).subscribe(subscriber);
+
+        subscriber.subscription.request(0);
+        subscriber.subscription.request(1);
+
+        assertInstanceOf(IllegalArgumentException.class, subscriber.error);
+        assertTrue(subscriber.items.isEmpty());
+    }
+
+    @Test
+    void onNextFailure_shouldCancelAndSignalError() {
+        RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<>(10) {
+            @Override
+            public void onNext(Integer item) {
+                super.onNext(item);
+                if (item == 1) {
+                    throw new IllegalStateException("boom");
+                }
+            }
+        };
+        Publishers.fromList(range(10), SYNC).subscribe(subscriber);
+
+        assertEquals(java.util.List.of(0, 1), subscriber.items);
+        assertInstanceOf(IllegalStateException.class, subscriber.error);
+    }
+
+    @Test
+    void rejectedDrain_shouldSignalError() {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        executor.shutdown();
+        RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<>(5);
+
+        Publishers.fromList(range(10), executor).subscribe(subscriber);
+        subscriber.subscription.request(1);
+
+        assertNotNull(subscriber.subscription);
+        assertInstanceOf(RejectedExecutionException.class, subscriber.error);
+        assertTrue(subscriber.items.isEmpty());
+        assertEquals(0, subscriber.terminated.getCount());
+    }
+
+    @Test
+    void factories_shouldRejectInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> Publishers.fromList(null, SYNC));
+        assertThrows(IllegalArgumentException.class, () -> Publishers.fromList(range(1), null));
+        assertThrows(IllegalArgumentException.class, () -> Publishers.fromListBatched(range(1), 0, SYNC));
+    }
+
+    // ===================== BATCHING =====================
+
+    @Test
+    void fromListBatched_shouldGroupElementsPerDemandUnit() {
+        RecordingSubscriber<List<Integer>> subscriber = new RecordingSubscriber<>(2);
+        Publishers.fromListBatched(range(10), 4, SYNC).subscribe(subscriber);
+
+        assertEquals(2, subscriber.items.size());
+        assertEquals("LinkedList{0, 1, 2, 3}", subscriber.items.get(0).toString());
+        assertEquals("LinkedList{4, 5, 6, 7}", subscriber.items.get(1).toString());
+
+        subscriber.subscription.request(5);
+        assertEquals("LinkedList{8, 9}", subscriber.items.get(2).toString());
+        assertTrue(subscriber.completed);
+    }
+
+    // ===================== QUEUES =====================
+
+    @Test
+    void fromQueue_shouldDrainInQueueOrder() {
+        PriorityQueue<Integer> queue = new PriorityQueue<>();
+        queue.offer(3);
+        queue.offer(1);
+        queue.offer(2);
+        RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<>(2);
+
+        Publishers.fromQueue(queue, SYNC).subscribe(subscriber);
+
+        assertEquals(java.util.List.of(1, 2), subscriber.items);
+        assertEquals(1, queue.size());
+        subscriber.subscription.request(1);
+        assertTrue(subscriber.completed);
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    void fromQueueBatched_shouldDrainInBatches() {
+        PriorityQueue<Integer> queue = new PriorityQueue<>();
+        for (int i = 5; i > 0; i--) {
+            queue.offer(i);
+        }
+        RecordingSubscriber<List<Integer>> subscriber = new RecordingSubscriber<>(Long.MAX_VALUE);
+
+        Publishers.fromQueueBatched(queue, 2, SYNC).subscribe(subscriber);
+
+        assertEquals(3, subscriber.items.size());
+        assertEquals("LinkedList{5}", subscriber.items.get(2).toString());
+        assertTrue(subscriber.completed);
+    }
+
+    @Test
+    void fromQueue_shouldRejectSecondSubscriber() {
+        Flow.Publisher<Integer> publisher = Publishers.fromQueue(new PriorityQueue<>(), SYNC);
+        RecordingSubscriber<Integer> first = new RecordingSubscriber<>(1);
+        RecordingSubscriber<Integer> second = new RecordingSubscriber<>(1);
+
+        publisher.subscribe(first);
+        publisher.subscribe(second);
+
+        assertTrue(first.completed);
+        assertInstanceOf(IllegalStateException.class, second.error);
+    }
+
+    // ===================== ASYNCHRONOUS DELIVERY =====================
+
+    @Test
+    void asyncSubscriber_shouldReceiveAllElementsInOrderWithBoundedDemand() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            int size = 200_000;
+            AtomicInteger outstanding = new AtomicInteger();
+            AtomicInteger maxOutstanding = new AtomicInteger();
+            java.util.List<Integer> received = new ArrayList<>();
+            CountDownLatch done = new CountDownLatch(1);
+
+            Publishers.fromList(range(size), executor).subscribe(new Flow.Subscriber<>() {
+                private Flow.Subscription subscription;
+
+                @Override
+                public void onSubscribe(Flow.Subscription subscription) {
+                    this.subscription = subscription;
+                    outstanding.set(16);
+                    subscription.request(16);
+                }
+
+                @Override
+                public void onNext(Integer item) {
+                    received.add(item);
+                    maxOutstanding.accumulateAndGet(outstanding.getAndDecrement(), Math::max);
+                    if (outstanding.get() == 0) {
+                        outstanding.set(16);
+                        subscription.request(16);
+                    }
+                }
+
+                @Override
+                public void onError(Throwable throwable) {
+                    done.countDown();
+                }
+
+                @Override
+                public void onComplete() {
+                    done.countDown();
+                }
+            });
+
+            assertTrue(done.await(10, TimeUnit.SECONDS));
+            assertEquals(size, received.size());
+            Iterator<Integer> iterator = received.iterator();
+            for (int i = 0; i < size; i++) {
+                assertEquals(i, iterator.next());
+            }
+            assertTrue(maxOutstanding.get() <= 16);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
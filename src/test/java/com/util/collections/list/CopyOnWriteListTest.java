@@ -0,0 +1,277 @@
+package com.util.collections.list;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CopyOnWriteListTest {
+
+    private CopyOnWriteList<Integer> list;
+
+    @BeforeEach
+    void setUp() {
+        list = new CopyOnWriteList<>();
+    }
+
+    // ===================== BASIC OPERATIONS =====================
+
+    @Test
+    void add_shouldAppendInOrder() {
+        list.add(1);
+        list.add(2);
+        list.add(3);
+
+        assertEquals(3, list.size());
+        assertEquals(1, list.get(0));
+        assertEquals(3, list.get(2));
+    }
+
+    @Test
+    void addAtIndex_shouldShiftFollowingElements() {
+        list.add(1);
+        list.add(3);
+        list.add(2, 1);
+        list.add(0, 0);
+        list.add(4, 4);
+
+        assertEquals("CopyOnWriteList{0, 1, 2, 3, 4}", list.toString());
+    }
+
+    @Test
+    void addAtIndex_shouldRejectInvalidIndex() {
+        assertThrows(IndexOutOfBoundsException.class, () -> list.add(1, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.add(1, -1));
+    }
+
+    @Test
+    void get_shouldRejectInvalidIndex() {
+        list.add(1);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(-1));
+    }
+
+    @Test
+    void set_shouldReplaceAndReturnPreviousValue() {
+        list.add(1);
+        list.add(2);
+
+        assertEquals(2, list.set(1, 20));
+        assertEquals(20, list.get(1));
+        assertEquals(2, list.size());
+    }
+
+    @Test
+    void remove_shouldRemoveFirstOccurrenceOnly() {
+        list.addAll(Arrays.asList(1, 2, 1));
+
+        assertTrue(list.remove(1));
+        assertFalse(list.remove(99));
+        assertEquals("CopyOnWriteList{2, 1}", list.toString());
+    }
+
+    @Test
+    void clear_shouldEmptyTheList() {
+        list.addAll(Arrays.asList(1, 2, 3));
+
+        list.clear();
+
+        assertTrue(list.isEmpty());
+        assertEquals(0, list.size());
+    }
+
+    @Test
+    void nullPolicy_shouldBeEnforced() {
+        CopyOnWriteList<String> strict = new CopyOnWriteList<>(false);
+
+        assertThrows(IllegalArgumentException.class, () -> strict.add(null));
+        assertThrows(IllegalArgumentException.class, () -> strict.addAll(Arrays.asList("a", null)));
+        assertTrue(strict.isEmpty());
+        assertFalse(strict.contains(null));
+    }
+
+    // ===================== BULK OPERATIONS =====================
+
+    @Test
+    void addAll_shouldAppendAllElements() {
+        list.add(0);
+
+        assertTrue(list.addAll(Arrays.asList(1, 2, 3)));
+        assertEquals("CopyOnWriteList{0, 1, 2, 3}", list.toString());
+    }
+
+    @Test
+    void addAll_shouldHandleSelfAsSource() {
+        list.addAll(Arrays.asList(1, 2));
+
+        list.addAll(list);
+
+        assertEquals("CopyOnWriteList{1, 2, 1, 2}", list.toString());
+    }
+
+    @Test
+    void removeIf_shouldRemoveAllMatchingElements() {
+        list.addAll(Arrays.asList(1, 2, 3, 4, 5, 6));
+
+        assertTrue(list.removeIf(v -> v % 2 == 0));
+        assertEquals("CopyOnWriteList{1, 3, 5}", list.toString());
+        assertEquals(3, list.size());
+    }
+
+    @Test
+    void removeIf_shouldReturnFalse_whenNothingMatches() {
+        list.addAll(Arrays.asList(1, 3));
+
+        assertFalse(list.removeIf(v -> v > 10));
+        assertEquals(2, list.size());
+    }
+
+    // ===================== SNAPSHOT SEMANTICS =====================
+
+    @Test
+    void iterator_shouldNotObserveLaterMutations() {
+        list.addAll(Arrays.asList(1, 2, 3));
+
+        Iterator<Integer> iterator = list.iterator();
+        list.clear();
+        list.add(42);
+
+        assertEquals(1, iterator.next());
+        assertEquals(2, iterator.next());
+        assertEquals(3, iterator.next());
+        assertFalse(iterator.hasNext());
+        assertEquals(42, list.get(0));
+    }
+
+    @Test
+    void iterator_removeIsNotSupported() {
+        list.add(1);
+
+        assertThrows(UnsupportedOperationException.class, () -> list.iterator().remove());
+    }
+
+    @Test
+    void concurrentReaders_shouldAlwaysSeeConsistentSnapshots() throws InterruptedException {
+        AtomicBoolean failed = new AtomicBoolean();
+        CountDownLatch done = new CountDownLatch(1);
+
+        Thread reader = new Thread(() -> {
+            while (done.getCount() > 0) {
+                int previous = -1;
+                for (int v : list) {
+                    if (v != previous + 1) {
+                        failed.set(true);
+                    }
+                    previous = v;
+                }
+            }
+        });
+        reader.start();
+        for (int i = 0; i < 2_000; i++) {
+            list.add(i);
+        }
+        done.countDown();
+        reader.join();
+
+        assertFalse(failed.get());
+        assertEquals(2_000, list.size());
+    }
+
+    @Test
+    void equalsAndHashCode_shouldMatchOtherLists() {
+        list.addAll(Arrays.asList(1, 2, 3));
+        LinkedList<Integer> other = new LinkedList<>();
+        other.addAll(Arrays.asList(1, 2, 3));
+
+        assertEquals(other, list);
+        assertEquals(list, other);
+        assertEquals(other.hashCode(), list.hashCode());
+        other.add(4);
+        assertNotEquals(list, other);
+    }
+
+    @Test
+    void hashCode_shouldUseOneSnapshotUnderConcurrentWrites() throws InterruptedException {
+        java.util.Set<Integer> prefixHashes = new java.util.HashSet<>();
+        int hash = 1;
+        prefixHashes.add(hash);
+        for (int i = 0; i < 2_000; i++) {
+            hash = 31 * hash + i;
+            prefixHashes.add(hash);
+        }
+        AtomicBoolean failed = new AtomicBoolean();
+        CountDownLatch done = new CountDownLatch(1);
+
+        Thread reader = new Thread(() -> {
+            while (done.getCount() > 0) {
+                if (!prefixHashes.contains(list.hashCode())) {
+                    failed.set(true);
+                }
+            }
+        });
+        reader.start();
+        for (int i = 0; i < 2_000; i++) {
+            list.add(i);
+        }
+        done.countDown();
+        reader.join();
+
+        assertFalse(failed.get());
+    }
+
+    // ===================== SUBLIST VIEWS =====================
+
+    @Test
+    void subList_clear_shouldPublishOneSnapshot() {
+        list.addAll(Arrays.asList(0, 1, 2, 3, 4));
+        Iterator<Integer> before = list.iterator();
+
+        list.subList(1, 4).clear();
+
+        assertEquals("CopyOnWriteList{0, 4}", list.toString());
+        int seen = 0;
+        while (before.hasNext()) {
+            before.next();
+            seen++;
+        }
+        assertEquals(5, seen);
+    }
+
+    @Test
+    void subList_set_shouldWriteThrough() {
+        list.addAll(Arrays.asList(0, 1, 2));
+
+        list.subList(1, 3).set(0, 7);
+
+        assertEquals(7, list.get(1));
+    }
+
+    // ===================== ARRAY EXPORT =====================
+
+    @Test
+    void drainTo_shouldEmptyListAndKeepOldSnapshots() {
+        list.addAll(Arrays.asList(1, 2, 3));
+        Iterator<Integer> before = list.iterator();
+        Integer[] dest = new Integer[3];
+
+        assertEquals(3, list.drainTo(dest, 0));
+
+        assertArrayEquals(new Integer[]{1, 2, 3}, dest);
+        assertTrue(list.isEmpty());
+        assertEquals(1, before.next());
+    }
+
+    @Test
+    void toArray_shouldCopySnapshot() {
+        list.addAll(Arrays.asList(1, 2));
+
+        assertArrayEquals(new Integer[]{1, 2}, list.toArray(Integer[]::new));
+        assertArrayEquals(new int[]{1, 2}, list.toIntArray(Integer::intValue));
+    }
+}
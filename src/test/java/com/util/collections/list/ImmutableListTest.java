@@ -0,0 +1,188 @@
+package com.util.collections.list;
+
+import com.util.collections.Equivalence;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ImmutableListTest {
+
+    private static LinkedList<Integer> linkedListOf(Integer... values) {
+        LinkedList<Integer> list = new LinkedList<>();
+        for (Integer v : values) {
+            list.add(v);
+        }
+        return list;
+    }
+
+    // ===================== FREEZE =====================
+
+    @Test
+    void freeze_shouldMoveContentsAndEmptySource() {
+        LinkedList<Integer> source = linkedListOf(1, 2, 3);
+
+        ImmutableList<Integer> frozen = source.freeze();
+
+        assertArrayEquals(new Object[]{1, 2, 3}, frozen.toArray());
+        assertEquals(3, frozen.get(2));
+        assertTrue(source.isEmpty());
+        assertFalse(source.iterator().hasNext());
+    }
+
+    @Test
+    void freeze_shouldLeaveSourceReusable() {
+        LinkedList<Integer> source = linkedListOf(1, 2);
+        source.enableValueIndex();
+        source.enableHashCaching();
+
+        source.freeze();
+        source.add(5);
+
+        assertTrue(source.contains(5));
+        assertFalse(source.contains(1));
+        assertEquals(linkedListOf(5).hashCode(), source.hashCode());
+    }
+
+    @Test
+    void freeze_shouldHandleEmptyList() {
+        ImmutableList<Integer> frozen = new LinkedList<Integer>().freeze();
+
+        assertTrue(frozen.isEmpty());
+        assertEquals(0, frozen.toArray().length);
+    }
+
+    @Test
+    void toImmutable_shouldCopyWithoutChangingSource() {
+        LinkedList<Integer> source = linkedListOf(1, 2, 3);
+
+        ImmutableList<Integer> copy = source.toImmutable();
+        source.set(0, 9);
+
+        assertEquals(1, copy.get(0));
+        assertEquals(3, source.size());
+        assertEquals(9, source.get(0));
+    }
+
+    // ===================== READ OPERATIONS =====================
+
+    @Test
+    void get_shouldRejectInvalidIndex() {
+        ImmutableList<Integer> frozen = linkedListOf(1, 2).freeze();
+
+        IndexOutOfBoundsException e = assertThrows(IndexOutOfBoundsException.class, () -> frozen.get(2));
+        assertEquals("Index: 2, Size: 2", e.getMessage());
+        assertThrows(IndexOutOfBoundsException.class, () -> frozen.get(-1));
+    }
+
+    @Test
+    void iterator_shouldTraverseInOrder() {
+        ImmutableList<Integer> frozen = linkedListOf(1, 2, 3).freeze();
+        ArrayList<Integer> seen = new ArrayList<>();
+
+        for (Integer v : frozen) {
+            seen.add(v);
+        }
+        Iterator<Integer> exhausted = frozen.subList(3, 3).iterator();
+
+        assertEquals(java.util.List.of(1, 2, 3), seen);
+        assertThrows(NoSuchElementException.class, exhausted::next);
+    }
+
+    @Test
+    void subList_shouldShareArrayAndNest() {
+        ImmutableList<Integer> frozen = linkedListOf(0, 1, 2, 3, 4, 5).freeze();
+
+        List<Integer> middle = frozen.subList(1, 5);
+        List<Integer> inner = middle.subList(1, 3);
+
+        assertArrayEquals(new Object[]{1, 2, 3, 4}, middle.toArray());
+        assertArrayEquals(new Object[]{2, 3}, inner.toArray());
+        assertEquals(3, inner.get(1));
+        assertTrue(inner.contains(2));
+        assertFalse(inner.contains(4));
+        assertArrayEquals(new Integer[]{2, 3}, inner.toArray(Integer[]::new));
+        assertThrows(UnsupportedOperationException.class, () -> inner.add(1));
+    }
+
+    @Test
+    void equalsAndHashCode_shouldMatchMutableList() {
+        LinkedList<Integer> source = linkedListOf(1, null, 3);
+
+        ImmutableList<Integer> frozen = source.toImmutable();
+
+        assertEquals(source, frozen);
+        assertEquals(frozen, source);
+        assertEquals(source.hashCode(), frozen.hashCode());
+        assertEquals(source.hashCode(), frozen.hashCode()); // cached
+        assertEquals("ImmutableList{1, null, 3}", frozen.toString());
+    }
+
+    @Test
+    void contains_shouldUseSourceEquivalence() {
+        String a = new String("a");
+        LinkedList<String> source = new LinkedList<>(false, Equivalence.identity());
+        source.add(a);
+
+        ImmutableList<String> frozen = source.freeze();
+
+        assertTrue(frozen.contains(a));
+        assertFalse(frozen.contains(new String("a")));
+        assertFalse(frozen.contains(null));
+    }
+
+    // ===================== MUTATION =====================
+
+    @Test
+    void mutators_shouldThrowUnsupportedOperation() {
+        ImmutableList<Integer> frozen = linkedListOf(1, 2).freeze();
+
+        assertThrows(UnsupportedOperationException.class, () -> frozen.add(3));
+        assertThrows(UnsupportedOperationException.class, () -> frozen.add(3, 0));
+        assertThrows(UnsupportedOperationException.class, () -> frozen.addAll(linkedListOf(3)));
+        assertThrows(UnsupportedOperationException.class, () -> frozen.set(0, 3));
+        assertThrows(UnsupportedOperationException.class, () -> frozen.remove(1));
+        assertThrows(UnsupportedOperationException.class, frozen::clear);
+        assertThrows(UnsupportedOperationException.class, () -> frozen.sort(null));
+        assertThrows(UnsupportedOperationException.class, () -> frozen.drainTo(new Integer[2], 0));
+        assertThrows(UnsupportedOperationException.class, () -> {
+            ListIterator<Integer> cursor = frozen.listIterator();
+            cursor.next();
+            cursor.remove();
+        });
+        assertArrayEquals(new Object[]{1, 2}, frozen.toArray());
+    }
+
+    // ===================== THAW =====================
+
+    @Test
+    void thaw_shouldProduceIndependentMutableCopy() {
+        ImmutableList<Integer> frozen = linkedListOf(1, 2, 3).freeze();
+
+        LinkedList<Integer> thawed = frozen.thaw();
+        thawed.add(4);
+        thawed.set(0, 0);
+
+        assertArrayEquals(new Object[]{0, 2, 3, 4}, thawed.toArray());
+        assertArrayEquals(new Object[]{1, 2, 3}, frozen.toArray());
+    }
+
+    @Test
+    void thaw_shouldKeepNullabilityAndEquivalence() {
+        String a = new String("a");
+        LinkedList<String> source = new LinkedList<>(false, Equivalence.identity());
+        source.add("b");
+        source.add(a);
+        ImmutableList<String> frozen = source.freeze();
+
+        LinkedList<String> thawed = frozen.subList(1, 2).thaw();
+
+        assertThrows(IllegalArgumentException.class, () -> thawed.add(null));
+        assertTrue(thawed.contains(a));
+        assertFalse(thawed.contains(new String("a")));
+        assertEquals(1, thawed.size());
+    }
+}
@@ -0,0 +1,142 @@
+package com.util.collections.list;
+
+import org.junit.jupiter.api.Nested;
+
+/**
+ * Runs the {@code LinkedList*Test} contract suites against a doubly linked
+ * {@link IndexLinkedList} that starts without any capacity.
+ */
+class IndexLinkedListContractTest {
+
+    static <E> AbstractList<E> slotted(boolean isNullable) {
+        return new IndexLinkedList<>(isNullable, true, 0);
+    }
+
+    @Nested
+    class Add extends LinkedListAddTest {
+        @Override
+        <E> AbstractList<E> newList(boolean isNullable) {
+            return slotted(isNullable);
+        }
+    }
+
+    @Nested
+    class AddAtIndex extends LinkedListAddAtIndexTest {
+        @Override
+        <E> AbstractList<E> newList(boolean isNullable) {
+            return slotted(isNullable);
+        }
+    }
+
+    @Nested
+    class AddAll extends LinkedListAddAllTest {
+        @Override
+        <E> AbstractList<E> newList(boolean isNullable) {
+            return slotted(isNullable);
+        }
+    }
+
+    @Nested
+    class Clear extends LinkedListClearTest {
+        @Override
+        <E> AbstractList<E> newList(boolean isNullable) {
+            return slotted(isNullable);
+        }
+    }
+
+    @Nested
+    class Contains extends LinkedListContainsTest {
+        @Override
+        <E> AbstractList<E> newList(boolean isNullable) {
+            return slotted(isNullable);
+        }
+    }
+
+    @Nested
+    class ContainsAll extends LinkedListContainsAllTest {
+        @Override
+        <E> AbstractList<E> newList(boolean isNullable) {
+            return slotted(isNullable);
+        }
+    }
+
+    @Nested
+    class EqualsHashCode extends LinkedListEqualsHashCodeTest {
+        @Override
+        <E> AbstractList<E> newList(boolean isNullable) {
+            return slotted(isNullable);
+        }
+    }
+
+    @Nested
+    class Get extends LinkedListGetTest {
+        @Override
+        <E> AbstractList<E> newList(boolean isNullable) {
+            return slotted(isNullable);
+        }
+    }
+
+    @Nested
+    class Iteration extends LinkedListIteratorTest {
+        @Override
+        <E> AbstractList<E> newList(boolean isNullable) {
+            return slotted(isNullable);
+        }
+    }
+
+    @Nested
+    class ListIteration extends LinkedListListIteratorTest {
+        @Override
+        <E> AbstractList<E> newList(boolean isNullable) {
+            return slotted(isNullable);
+        }
+    }
+
+    @Nested
+    class InternalIteration extends LinkedListInternalIterationTest {
+        @Override
+        <E> AbstractList<E> newList(boolean isNullable) {
+            return slotted(isNullable);
+        }
+    }
+
+    @Nested
+    class Remove extends LinkedListRemoveTest {
+        @Override
+        <E> AbstractList<E> newList(boolean isNullable) {
+            return slotted(isNullable);
+        }
+    }
+
+    @Nested
+    class Set extends LinkedListSetTest {
+        @Override
+        <E> AbstractList<E> newList(boolean isNullable) {
+            return slotted(isNullable);
+        }
+    }
+
+    @Nested
+    class Sort extends LinkedListSortTest {
+        @Override
+        <E> AbstractList<E> newList(boolean isNullable) {
+            return slotted(isNullable);
+        }
+    }
+
+    @Nested
+    class SubList extends LinkedListSubListTest {
+        @Override
+        <E> AbstractList<E> newList(boolean isNullable) {
+            return slotted(isNullable);
+        }
+    }
+
+    @Nested
+    class ToArray extends LinkedListToArrayTest {
+        @Override
+        <E> AbstractList<E> newList(boolean isNullable) {
+            return slotted(isNullable);
+        }
+    }
+}
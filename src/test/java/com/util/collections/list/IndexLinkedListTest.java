@@ -0,0 +1,223 @@
+package com.util.collections.list;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IndexLinkedListTest {
+
+    private static IndexLinkedList<Integer> listOf(boolean isDoublyLinked, Integer... values) {
+        IndexLinkedList<Integer> list = new IndexLinkedList<>(true, isDoublyLinked, 4);
+        for (Integer v : values) {
+            list.add(v);
+        }
+        return list;
+    }
+
+    private static void assertContents(IndexLinkedList<Integer> list, Integer... expected) {
+        assertArrayEquals(expected, list.toArray());
+        assertEquals(expected.length, list.size());
+        ArrayList<Integer> backwards = new ArrayList<>();
+        for (int slot = list.lastSlot(); slot != IndexLinkedList.NIL; slot = list.prevSlot(slot)) {
+            backwards.add(0, list.valueAt(slot));
+        }
+        assertEquals(Arrays.asList(expected), backwards);
+    }
+
+    // ===================== SLOT OPERATIONS =====================
+
+    @Test
+    void slots_shouldActAsStableHandles() {
+        IndexLinkedList<Integer> list = listOf(true);
+        int a = list.addLast(1);
+        int c = list.addLast(3);
+        int b = list.insertAfter(a, 2);
+        int zero = list.addFirst(0);
+        list.insertBefore(c, 25);
+
+        assertContents(list, 0, 1, 2, 25, 3);
+        assertEquals(2, list.valueAt(b));
+        assertEquals(a, list.nextSlot(zero));
+        assertEquals(zero, list.firstSlot());
+        assertEquals(c, list.lastSlot());
+    }
+
+    @Test
+    void removeSlot_shouldWorkInBothLinkModes() {
+        for (boolean doubly : new boolean[]{false, true}) {
+            IndexLinkedList<Integer> list = listOf(doubly);
+            int a = list.addLast(1);
+            int b = list.addLast(2);
+            int c = list.addLast(3);
+
+            assertEquals(2, list.removeSlot(b));
+            assertEquals(3, list.removeSlot(c));
+            assertContents(list, 1);
+            assertEquals(a, list.lastSlot());
+            assertEquals(1, list.removeSlot(a));
+            assertContents(list);
+            assertEquals(IndexLinkedList.NIL, list.firstSlot());
+        }
+    }
+
+    @Test
+    void removeAfter_shouldRemoveSuccessorOrHead() {
+        IndexLinkedList<Integer> list = listOf(false, 1, 2, 3);
+        int first = list.firstSlot();
+
+        assertEquals(2, list.removeAfter(first));
+        assertEquals(1, list.removeAfter(IndexLinkedList.NIL));
+        assertContents(list, 3);
+        assertThrows(NoSuchElementException.class, () -> list.removeAfter(list.lastSlot()));
+    }
+
+    @Test
+    void moves_shouldRelinkWithoutReallocating() {
+        IndexLinkedList<Integer> list = listOf(true, 1, 2, 3, 4);
+        int three = list.nextSlot(list.nextSlot(list.firstSlot()));
+
+        list.moveToFront(three);
+        assertContents(list, 3, 1, 2, 4);
+        assertEquals(three, list.firstSlot());
+
+        list.moveToBack(three);
+        assertContents(list, 1, 2, 4, 3);
+        assertEquals(three, list.lastSlot());
+
+        list.moveToBack(three);
+        list.moveToFront(list.firstSlot());
+        assertContents(list, 1, 2, 4, 3);
+    }
+
+    @Test
+    void freedSlots_shouldBeReusedBeforeGrowing() {
+        IndexLinkedList<Integer> list = listOf(false, 1, 2, 3, 4);
+        int capacity = list.capacity();
+        int second = list.nextSlot(list.firstSlot());
+
+        list.removeSlot(second);
+        int reused = list.addLast(5);
+
+        assertEquals(second, reused);
+        assertEquals(capacity, list.capacity());
+        assertContents(list, 1, 3, 4, 5);
+    }
+
+    @Test
+    void deadSlots_shouldBeRejected() {
+        IndexLinkedList<Integer> list = listOf(true, 1, 2);
+        int first = list.firstSlot();
+        list.removeSlot(first);
+
+        assertThrows(IllegalArgumentException.class, () -> list.valueAt(first));
+        assertThrows(IllegalArgumentException.class, () -> list.nextSlot(-1));
+        assertThrows(IllegalArgumentException.class, () -> list.setAt(100, 1));
+        assertThrows(IllegalArgumentException.class, () -> list.removeSlot(first));
+    }
+
+    @Test
+    void setAt_shouldEnforceNullability() {
+        IndexLinkedList<Integer> list = new IndexLinkedList<>(false);
+        int slot = list.addLast(1);
+
+        assertEquals(1, list.setAt(slot, 2));
+        assertThrows(IllegalArgumentException.class, () -> list.setAt(slot, null));
+        assertThrows(IllegalArgumentException.class, () -> list.addFirst(null));
+    }
+
+    // ===================== STORAGE =====================
+
+    @Test
+    void compact_shouldRenumberInListOrderAndTrim() {
+        IndexLinkedList<Integer> list = listOf(true);
+        for (int i = 0; i < 100; i++) {
+            list.addFirst(i);
+        }
+        list.removeRange(10, 100);
+
+        list.compact();
+
+        assertEquals(10, list.capacity());
+        assertEquals(0, list.firstSlot());
+        assertEquals(9, list.lastSlot());
+        assertContents(list, 99, 98, 97, 96, 95, 94, 93, 92, 91, 90);
+        list.add(7);
+        assertEquals(7, list.get(10));
+    }
+
+    @Test
+    void compact_shouldHandleEmptyList() {
+        IndexLinkedList<Integer> list = listOf(true, 1);
+        list.clear();
+
+        list.compact();
+        list.add(2);
+
+        assertContents(list, 2);
+    }
+
+    @Test
+    void sizeInBytes_shouldCountPrevArrayOnlyWhenDoublyLinked() {
+        IndexLinkedList<Integer> singly = new IndexLinkedList<>(true, false, 100);
+        IndexLinkedList<Integer> doubly = new IndexLinkedList<>(true, true, 100);
+
+        assertEquals(2 * (16 + 400), singly.sizeInBytes());
+        assertEquals(3 * (16 + 400), doubly.sizeInBytes());
+        assertFalse(singly.isDoublyLinked());
+        assertTrue(doubly.isDoublyLinked());
+    }
+
+    @Test
+    void constructor_shouldRejectNegativeCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new IndexLinkedList<>(true, false, -1));
+    }
+
+    // ===================== RANDOMIZED =====================
+
+    @Test
+    void randomSlotOperations_shouldMatchArrayList() {
+        Random random = new Random(49);
+        for (boolean doubly : new boolean[]{false, true}) {
+            IndexLinkedList<Integer> list = new IndexLinkedList<>(true, doubly, 0);
+            ArrayList<Integer> expected = new ArrayList<>();
+            for (int step = 0; step < 5_000; step++) {
+                int op = random.nextInt(5);
+                if (expected.isEmpty() || op == 0) {
+                    int index = random.nextInt(expected.size() + 1);
+                    list.add(step, index);
+                    expected.add(index, step);
+                } else if (op == 1) {
+                    int index = random.nextInt(expected.size());
+                    assertEquals(expected.remove(index), list.removeSlot(slotAt(list, index)));
+                } else if (op == 2) {
+                    int index = random.nextInt(expected.size());
+                    list.moveToFront(slotAt(list, index));
+                    expected.add(0, expected.remove(index));
+                } else if (op == 3) {
+                    int index = random.nextInt(expected.size());
+                    list.insertAfter(slotAt(list, index), -step);
+                    expected.add(index + 1, -step);
+                } else {
+                    int index = random.nextInt(expected.size());
+                    assertEquals(expected.get(index), list.get(index));
+                }
+            }
+            assertEquals(expected, Arrays.asList(list.toArray()));
+            list.compact();
+            assertEquals(expected, Arrays.asList(list.toArray()));
+        }
+    }
+
+    private static int slotAt(IndexLinkedList<Integer> list, int index) {
+        int slot = list.firstSlot();
+        for (int i = 0; i < index; i++) {
+            slot = list.nextSlot(slot);
+        }
+        return slot;
+    }
+}
@@ -0,0 +1,137 @@
+package com.util.collections.list;
+
+import org.junit.jupiter.api.Nested;
+
+/**
+ * Runs the {@code LinkedList*Test} contract suites against {@link IndexableSkipList}.
+ */
+class IndexableSkipListContractTest {
+
+    @Nested
+    class Add extends LinkedListAddTest {
+        @Override
+        <E> AbstractList<E> newList(boolean isNullable) {
+            return new IndexableSkipList<>(isNullable);
+        }
+    }
+
+    @Nested
+    class AddAtIndex extends LinkedListAddAtIndexTest {
+        @Override
+        <E> AbstractList<E> newList(boolean isNullable) {
+            return new IndexableSkipList<>(isNullable);
+        }
+    }
+
+    @Nested
+    class AddAll extends LinkedListAddAllTest {
+        @Override
+        <E> AbstractList<E> newList(boolean isNullable) {
+            return new IndexableSkipList<>(isNullable);
+        }
+    }
+
+    @Nested
+    class Clear extends LinkedListClearTest {
+        @Override
+        <E> AbstractList<E> newList(boolean isNullable) {
+            return new IndexableSkipList<>(isNullable);
+        }
+    }
+
+    @Nested
+    class Contains extends LinkedListContainsTest {
+        @Override
+        <E> AbstractList<E> newList(boolean isNullable) {
+            return new IndexableSkipList<>(isNullable);
+        }
+    }
+
+    @Nested
+    class ContainsAll extends LinkedListContainsAllTest {
+        @Override
+        <E> AbstractList<E> newList(boolean isNullable) {
+            return new IndexableSkipList<>(isNullable);
+        }
+    }
+
+    @Nested
+    class EqualsHashCode extends LinkedListEqualsHashCodeTest {
+        @Override
+        <E> AbstractList<E> newList(boolean isNullable) {
+            return new IndexableSkipList<>(isNullable);
+        }
+    }
+
+    @Nested
+    class Get extends LinkedListGetTest {
+        @Override
+        <E> AbstractList<E> newList(boolean isNullable) {
+            return new IndexableSkipList<>(isNullable);
+        }
+    }
+
+    @Nested
+    class Iteration extends LinkedListIteratorTest {
+        @Override
+        <E> AbstractList<E> newList(boolean isNullable) {
+            return new IndexableSkipList<>(isNullable);
+        }
+    }
+
+    @Nested
+    class ListIteration extends LinkedListListIteratorTest {
+        @Override
+        <E> AbstractList<E> newList(boolean isNullable) {
+            return new IndexableSkipList<>(isNullable);
+        }
+    }
+
+    @Nested
+    class InternalIteration extends LinkedListInternalIterationTest {
+        @Override
+        <E> AbstractList<E> newList(boolean isNullable) {
+            return new IndexableSkipList<>(isNullable);
+        }
+    }
+
+    @Nested
+    class Remove extends LinkedListRemoveTest {
+        @Override
+        <E> AbstractList<E> newList(boolean isNullable) {
+            return new IndexableSkipList<>(isNullable);
+        }
+    }
+
+    @Nested
+    class Set extends LinkedListSetTest {
+        @Override
+        <E> AbstractList<E> newList(boolean isNullable) {
+            return new IndexableSkipList<>(isNullable);
+        }
+    }
+
+    @Nested
+    class Sort extends LinkedListSortTest {
+        @Override
+        <E> AbstractList<E> newList(boolean isNullable) {
+            return new IndexableSkipList<>(isNullable);
+        }
+    }
+
+    @Nested
+    class SubList extends LinkedListSubListTest {
+        @Override
+        <E> AbstractList<E> newList(boolean isNullable) {
+            return new IndexableSkipList<>(isNullable);
+        }
+    }
+
+    @Nested
+    class ToArray extends LinkedListToArrayTest {
+        @Override
+        <E> AbstractList<E> newList(boolean isNullable) {
+            return new IndexableSkipList<>(isNullable);
+        }
+    }
+}
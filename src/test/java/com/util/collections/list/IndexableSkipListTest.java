@@ -0,0 +1,89 @@
+package com.util.collections.list;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IndexableSkipListTest {
+
+    @Test
+    void constructor_shouldRejectInvalidProbability() {
+        assertThrows(IllegalArgumentException.class, () -> new IndexableSkipList<>(true, 0.0));
+        assertThrows(IllegalArgumentException.class, () -> new IndexableSkipList<>(true, 1.0));
+        assertThrows(IllegalArgumentException.class, () -> new IndexableSkipList<>(true, Double.NaN));
+    }
+
+    @Test
+    void removeAt_shouldReturnRemovedElement_andShiftFollowingElements() {
+        IndexableSkipList<Integer> list = new IndexableSkipList<>();
+        for (int i = 0; i < 5; i++) {
+            list.add(i);
+        }
+
+        assertEquals(2, list.removeAt(2));
+        assertEquals(0, list.removeAt(0));
+        assertEquals(4, list.removeAt(2));
+
+        assertEquals("IndexableSkipList{1, 3}", list.toString());
+        assertEquals(2, list.size());
+    }
+
+    @Test
+    void removeAt_shouldRejectInvalidIndex() {
+        IndexableSkipList<Integer> list = new IndexableSkipList<>();
+        list.add(1);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> list.removeAt(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.removeAt(-1));
+    }
+
+    @Test
+    void clear_shouldAllowReuse() {
+        IndexableSkipList<Integer> list = new IndexableSkipList<>();
+        for (int i = 0; i < 100; i++) {
+            list.add(i);
+        }
+
+        list.clear();
+        list.add(7, 0);
+        list.add(8);
+
+        assertEquals("IndexableSkipList{7, 8}", list.toString());
+    }
+
+    @Test
+    void randomPositionalOperations_shouldMatchReferenceList() {
+        for (double p : new double[]{0.25, 0.5, 0.75}) {
+            IndexableSkipList<Integer> list = new IndexableSkipList<>(true, p);
+            java.util.List<Integer> reference = new ArrayList<>();
+            Random random = new Random(42);
+
+            for (int step = 0; step < 5_000; step++) {
+                int op = random.nextInt(10);
+                if (op < 5 || reference.isEmpty()) {
+                    int index = random.nextInt(reference.size() + 1);
+                    list.add(step, index);
+                    reference.add(index, step);
+                } else if (op < 8) {
+                    int index = random.nextInt(reference.size());
+                    assertEquals(reference.remove(index), list.removeAt(index));
+                } else {
+                    int index = random.nextInt(reference.size());
+                    assertEquals(reference.set(index, -step), list.set(index, -step));
+                }
+            }
+
+            assertEquals(reference.size(), list.size());
+            for (int i = 0; i < reference.size(); i++) {
+                assertEquals(reference.get(i), list.get(i));
+            }
+            int i = 0;
+            for (Integer v : list) {
+                assertEquals(reference.get(i++), v);
+            }
+        }
+    }
+}
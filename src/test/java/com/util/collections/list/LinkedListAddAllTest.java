@@ -9,10 +9,18 @@ import static org.junit.jupiter.api.Assertions.*;
 
 class LinkedListAddAllTest {
 
+    /**
+     * Creates the list under test. Contract suites for other list
+     * implementations reuse these tests by overriding this factory.
+     */
+    <E> AbstractList<E> newList(boolean isNullable) {
+        return new LinkedList<>(isNullable);
+    }
+
     @Test
     void addAll_shouldAddAllElements_andReturnTrue() {
         // Arrange
-        LinkedList<Integer> list = new LinkedList<>();
+        AbstractList<Integer> list = newList(true);
         Iterable<Integer> iterable = Arrays.asList(1, 2, 3);
 
         // Act
@@ -29,7 +37,7 @@ class LinkedListAddAllTest {
     @Test
     void addAll_withEmptyIterable_shouldReturnTrue_andNotModifyList() {
         // Arrange
-        LinkedList<Integer> list = new LinkedList<>();
+        AbstractList<Integer> list = newList(true);
         Iterable<Integer> iterable = List.of();
 
         // Act
@@ -43,7 +51,7 @@ class LinkedListAddAllTest {
     @Test
     void addAll_withNullIterable_shouldThrowNullPointerException() {
         // Arrange
-        LinkedList<Integer> list = new LinkedList<>();
+        AbstractList<Integer> list = newList(true);
 
         // Act & Assert
         assertThrows(NullPointerException.class, () -> list.addAll(null));
@@ -52,7 +60,7 @@ class LinkedListAddAllTest {
     @Test
     void addAll_shouldAppendElementsToExistingList() {
         // Arrange
-        LinkedList<Integer> list = new LinkedList<>();
+        AbstractList<Integer> list = newList(true);
         list.add(10);
         list.add(20);
 
@@ -73,7 +81,7 @@ class LinkedListAddAllTest {
     @Test
     void addAll_withNullElement_whenNullableAllowed_shouldAddNull() {
         // Arrange
-        LinkedList<Integer> list = new LinkedList<>(true);
+        AbstractList<Integer> list = newList(true);
         Iterable<Integer> iterable = Arrays.asList(1, null, 3);
 
         // Act
@@ -88,7 +96,7 @@ class LinkedListAddAllTest {
     @Test
     void addAll_withNullElement_whenNullableNotAllowed_shouldThrowException() {
         // Arrange
-        LinkedList<Integer> list = new LinkedList<>(false);
+        AbstractList<Integer> list = newList(false);
         Iterable<Integer> iterable = Arrays.asList(1, null, 3);
 
         // Act & Assert
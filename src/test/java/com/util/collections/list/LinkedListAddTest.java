@@ -7,11 +7,19 @@ import static org.junit.jupiter.api.Assertions.*;
 
 class LinkedListAddTest {
 
-    private LinkedList<Integer> list;
+    /**
+     * Creates the list under test. Contract suites for other list
+     * implementations reuse these tests by overriding this factory.
+     */
+    <E> AbstractList<E> newList(boolean isNullable) {
+        return new LinkedList<>(isNullable);
+    }
+
+    private AbstractList<Integer> list;
 
     @BeforeEach
     void setUp() {
-        list = new LinkedList<>();
+        list = newList(true);
     }
 
     // ===================== ADD SINGLE ELEMENT =====================
@@ -38,7 +46,7 @@ class LinkedListAddTest {
     // ===================== ADD NULL ELEMENT =====================
     @Test
     void testAddNullAllowed() {
-        LinkedList<Integer> nullableList = new LinkedList<>(true); // assume constructor allows null
+        AbstractList<Integer> nullableList = newList(true); // assume constructor allows null
         assertTrue(nullableList.add(null), "add(null) should return true when nulls allowed");
         assertEquals(1, nullableList.size(), "Size should be 1 after adding null");
         assertNull(nullableList.get(0), "The element added should be null");
@@ -46,7 +54,7 @@ class LinkedListAddTest {
 
     @Test
     void testAddNullNotAllowed() {
-        LinkedList<Integer> nonNullableList = new LinkedList<>(false); // null not allowed
+        AbstractList<Integer> nonNullableList = newList(false); // null not allowed
         assertThrows(IllegalArgumentException.class, () -> nonNullableList.add(null),
                 "add(null) should throw IllegalArgumentException when nulls are not allowed");
     }
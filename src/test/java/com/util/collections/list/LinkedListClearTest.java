@@ -6,9 +6,17 @@ import static org.junit.jupiter.api.Assertions.*;
 
 class LinkedListClearTest {
 
+    /**
+     * Creates the list under test. Contract suites for other list
+     * implementations reuse these tests by overriding this factory.
+     */
+    <E> AbstractList<E> newList(boolean isNullable) {
+        return new LinkedList<>(isNullable);
+    }
+
     @Test
     void clear_shouldWorkOnEmptyList() {
-        LinkedList<Integer> list = new LinkedList<>();
+        AbstractList<Integer> list = newList(true);
 
         list.clear();
 
@@ -18,7 +26,7 @@ class LinkedListClearTest {
 
     @Test
     void clear_shouldRemoveSingleElement() {
-        LinkedList<Integer> list = new LinkedList<>();
+        AbstractList<Integer> list = newList(true);
         list.add(1);
 
         list.clear();
@@ -29,7 +37,7 @@ class LinkedListClearTest {
 
     @Test
     void clear_shouldRemoveAllElements() {
-        LinkedList<Integer> list = new LinkedList<>();
+        AbstractList<Integer> list = newList(true);
         list.add(1);
         list.add(2);
         list.add(3);
@@ -42,7 +50,7 @@ class LinkedListClearTest {
 
     @Test
     void clear_shouldResetHeadAndTail() {
-        LinkedList<Integer> list = new LinkedList<>();
+        AbstractList<Integer> list = newList(true);
         list.add(1);
         list.add(2);
 
@@ -54,7 +62,7 @@ class LinkedListClearTest {
 
     @Test
     void clear_shouldBeIdempotent() {
-        LinkedList<Integer> list = new LinkedList<>();
+        AbstractList<Integer> list = newList(true);
         list.add(1);
 
         list.clear();
@@ -66,7 +74,7 @@ class LinkedListClearTest {
 
     @Test
     void clear_shouldAllowReuseAfterClear() {
-        LinkedList<Integer> list = new LinkedList<>();
+        AbstractList<Integer> list = newList(true);
         list.add(1);
         list.add(2);
 
@@ -81,7 +89,7 @@ class LinkedListClearTest {
 
     @Test
     void clear_shouldHandleNullElementsWhenAllowed() {
-        LinkedList<String> list = new LinkedList<>(true);
+        AbstractList<String> list = newList(true);
         list.add("a");
         list.add(null);
         list.add("b");
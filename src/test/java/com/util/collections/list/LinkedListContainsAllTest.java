@@ -10,11 +10,19 @@ import org.junit.jupiter.api.Test;
 
 class LinkedListContainsAllTest {
 
-    private LinkedList<Integer> list;
+    /**
+     * Creates the list under test. Contract suites for other list
+     * implementations reuse these tests by overriding this factory.
+     */
+    <E> AbstractList<E> newList(boolean isNullable) {
+        return new LinkedList<>(isNullable);
+    }
+
+    private AbstractList<Integer> list;
 
     @BeforeEach
     void setUp() {
-        list = new LinkedList<>();
+        list = newList(true);
         list.add(10);
         list.add(20);
         list.add(30);
@@ -53,7 +61,7 @@ class LinkedListContainsAllTest {
     @Test
     @DisplayName("containsAll returns false when list is empty and iterable is not")
     void shouldReturnFalseWhenListIsEmpty() {
-        LinkedList<Integer> emptyList = new LinkedList<>();
+        AbstractList<Integer> emptyList = newList(true);
         assertFalse(emptyList.containsAll(List.of(1)));
     }
 
@@ -66,7 +74,7 @@ class LinkedListContainsAllTest {
     @Test
     @DisplayName("containsAll relies on equals() rather than reference equality")
     void shouldUseEqualsForComparison() {
-        LinkedList<String> stringList = new LinkedList<>();
+        AbstractList<String> stringList = newList(true);
         stringList.add(new String("A"));
         stringList.add(new String("B"));
 
@@ -6,23 +6,31 @@ import static org.junit.jupiter.api.Assertions.*;
 
 class LinkedListContainsTest {
 
+    /**
+     * Creates the list under test. Contract suites for other list
+     * implementations reuse these tests by overriding this factory.
+     */
+    <E> AbstractList<E> newList(boolean isNullable) {
+        return new LinkedList<>(isNullable);
+    }
+
     @Test
     void contains_shouldReturnFalse_whenListIsEmpty() {
-        LinkedList<Integer> list = new LinkedList<>();
+        AbstractList<Integer> list = newList(true);
 
         assertFalse(list.contains(1));
     }
 
     @Test
     void contains_shouldReturnFalse_whenNullNotAllowed() {
-        LinkedList<String> list = new LinkedList<>(false);
+        AbstractList<String> list = newList(false);
 
         assertFalse(list.contains(null));
     }
 
     @Test
     void contains_shouldReturnTrue_whenValueIsAtHead() {
-        LinkedList<Integer> list = new LinkedList<>();
+        AbstractList<Integer> list = newList(true);
         list.add(10);
         list.add(20);
         list.add(30);
@@ -32,7 +40,7 @@ class LinkedListContainsTest {
 
     @Test
     void contains_shouldReturnTrue_whenValueIsAtTail() {
-        LinkedList<Integer> list = new LinkedList<>();
+        AbstractList<Integer> list = newList(true);
         list.add(10);
         list.add(20);
         list.add(30);
@@ -42,7 +50,7 @@ class LinkedListContainsTest {
 
     @Test
     void contains_shouldReturnTrue_whenValueIsInMiddle() {
-        LinkedList<Integer> list = new LinkedList<>();
+        AbstractList<Integer> list = newList(true);
         list.add(10);
         list.add(20);
         list.add(30);
@@ -52,7 +60,7 @@ class LinkedListContainsTest {
 
     @Test
     void contains_shouldReturnFalse_whenValueNotPresent() {
-        LinkedList<Integer> list = new LinkedList<>();
+        AbstractList<Integer> list = newList(true);
         list.add(10);
         list.add(20);
         list.add(30);
@@ -62,7 +70,7 @@ class LinkedListContainsTest {
 
     @Test
     void contains_shouldHandleSingleElementList_trueCase() {
-        LinkedList<Integer> list = new LinkedList<>();
+        AbstractList<Integer> list = newList(true);
         list.add(42);
 
         assertTrue(list.contains(42));
@@ -70,7 +78,7 @@ class LinkedListContainsTest {
 
     @Test
     void contains_shouldHandleSingleElementList_falseCase() {
-        LinkedList<Integer> list = new LinkedList<>();
+        AbstractList<Integer> list = newList(true);
         list.add(42);
 
         assertFalse(list.contains(99));
@@ -78,7 +86,7 @@ class LinkedListContainsTest {
 
     @Test
     void contains_shouldHandleNullValue_whenNullsAllowed() {
-        LinkedList<String> list = new LinkedList<>(true);
+        AbstractList<String> list = newList(true);
         list.add("a");
         list.add(null);
         list.add("b");
@@ -88,7 +96,7 @@ class LinkedListContainsTest {
 
     @Test
     void contains_shouldReturnFalse_whenNullNotPresentButAllowed() {
-        LinkedList<String> list = new LinkedList<>(true);
+        AbstractList<String> list = newList(true);
         list.add("a");
         list.add("b");
 
@@ -97,7 +105,7 @@ class LinkedListContainsTest {
 
     @Test
     void contains_shouldNotModifyListStructure() {
-        LinkedList<Integer> list = new LinkedList<>();
+        AbstractList<Integer> list = newList(true);
         list.add(1);
         list.add(2);
         list.add(3);
@@ -0,0 +1,100 @@
+package com.util.collections.list;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LinkedListEqualsHashCodeTest {
+
+    /**
+     * Creates the list under test. Contract suites for other list
+     * implementations reuse these tests by overriding this factory.
+     */
+    <E> AbstractList<E> newList(boolean isNullable) {
+        return new LinkedList<>(isNullable);
+    }
+
+    private AbstractList<Integer> listOf(Integer... values) {
+        AbstractList<Integer> list = newList(true);
+        for (Integer v : values) {
+            list.add(v);
+        }
+        return list;
+    }
+
+    // ===================== EQUALS =====================
+
+    @Test
+    void equals_shouldHoldForSameElementsInSameOrder() {
+        AbstractList<Integer> a = listOf(1, 2, 3);
+        AbstractList<Integer> b = listOf(1, 2, 3);
+
+        assertEquals(a, b);
+        assertEquals(b, a);
+        assertEquals(a, a);
+    }
+
+    @Test
+    void equals_shouldFailOnDifferentOrderOrSize() {
+        AbstractList<Integer> list = listOf(1, 2, 3);
+
+        assertNotEquals(list, listOf(3, 2, 1));
+        assertNotEquals(list, listOf(1, 2));
+        assertNotEquals(list, listOf(1, 2, 3, 4));
+    }
+
+    @Test
+    void equals_shouldHandleNullElements() {
+        assertEquals(listOf(1, null), listOf(1, null));
+        assertNotEquals(listOf(1, null), listOf(1, 2));
+    }
+
+    @Test
+    void equals_shouldRejectNonLists() {
+        AbstractList<Integer> list = listOf(1);
+
+        assertNotEquals(null, list);
+        assertNotEquals(Arrays.asList(1), list);
+        assertFalse(list.equals("LinkedList{1}"));
+    }
+
+    @Test
+    void equals_shouldHoldAcrossImplementations() {
+        AbstractList<Integer> list = listOf(1, 2, 3);
+        LinkedList<Integer> linked = new LinkedList<>(false);
+        linked.addAll(Arrays.asList(1, 2, 3));
+
+        assertEquals(linked, list);
+        assertEquals(list, linked);
+        assertEquals(linked.hashCode(), list.hashCode());
+    }
+
+    @Test
+    void equals_shouldMatchEqualRangeView() {
+        AbstractList<Integer> list = listOf(0, 1, 2, 3);
+
+        assertEquals(listOf(1, 2), list.subList(1, 3));
+    }
+
+    // ===================== HASH CODE =====================
+
+    @Test
+    void hashCode_shouldFollowOrderSensitiveFold() {
+        assertEquals(Arrays.asList(1, 2, 3).hashCode(), listOf(1, 2, 3).hashCode());
+        assertEquals(Arrays.asList(7, null).hashCode(), listOf(7, null).hashCode());
+        assertEquals(1, listOf().hashCode());
+    }
+
+    @Test
+    void hashCode_shouldTrackMutations() {
+        AbstractList<Integer> list = listOf(1, 2, 3);
+        int before = list.hashCode();
+
+        list.set(0, 9);
+
+        assertNotEquals(before, list.hashCode());
+        assertEquals(Arrays.asList(9, 2, 3).hashCode(), list.hashCode());
+    }
+}
@@ -0,0 +1,206 @@
+package com.util.collections.list;
+
+import com.util.collections.Equivalence;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LinkedListEquivalenceTest {
+
+    /** A value object that counts how often its {@code equals} runs. */
+    private static final class Money {
+        static int equalsCalls;
+
+        final String currency;
+        final long cents;
+
+        Money(String currency, long cents) {
+            this.currency = currency;
+            this.cents = cents;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            equalsCalls++;
+            return o instanceof Money && ((Money) o).currency.equals(currency) && ((Money) o).cents == cents;
+        }
+
+        @Override
+        public int hashCode() {
+            return currency.hashCode() * 31 + Long.hashCode(cents);
+        }
+    }
+
+    @SafeVarargs
+    private static <T> LinkedList<T> listOf(Equivalence<? super T> equivalence, T... values) {
+        LinkedList<T> list = new LinkedList<>(true, equivalence);
+        for (T v : values) {
+            list.add(v);
+        }
+        return list;
+    }
+
+    // ===================== IDENTITY =====================
+
+    @Test
+    void identity_containsShouldNotCallEquals() {
+        Money a = new Money("EUR", 100);
+        LinkedList<Money> list = listOf(Equivalence.identity(), new Money("EUR", 100), a);
+        Money.equalsCalls = 0;
+
+        assertTrue(list.contains(a));
+        assertFalse(list.contains(new Money("EUR", 100)));
+        assertEquals(0, Money.equalsCalls);
+    }
+
+    @Test
+    void identity_removeShouldRemoveSameInstanceOnly() {
+        Money a = new Money("EUR", 100);
+        Money b = new Money("EUR", 100);
+        LinkedList<Money> list = listOf(Equivalence.identity(), a, b);
+
+        assertFalse(list.remove(new Money("EUR", 100)));
+        assertTrue(list.remove(b));
+
+        assertEquals(1, list.size());
+        assertSame(a, list.get(0));
+    }
+
+    @Test
+    void identity_containsAllShouldUseIdentity() {
+        Money a = new Money("EUR", 100);
+        LinkedList<Money> list = listOf(Equivalence.identity(), a);
+
+        assertTrue(list.containsAll(Arrays.asList(a, a)));
+        assertFalse(list.containsAll(Arrays.asList(a, new Money("EUR", 100))));
+    }
+
+    // ===================== CUSTOM =====================
+
+    @Test
+    void onKey_shouldMatchOnKeyOnly() {
+        LinkedList<Money> list = listOf(Equivalence.onKey(m -> m.currency),
+                new Money("EUR", 100), new Money("USD", 5));
+
+        assertTrue(list.contains(new Money("USD", 999)));
+        assertTrue(list.remove(new Money("EUR", 1)));
+        assertEquals("USD", list.get(0).currency);
+        assertFalse(list.contains(new Money("EUR", 100)));
+    }
+
+    @Test
+    void equivalence_shouldTreatNullAsEqualOnlyToNull() {
+        LinkedList<String> list = listOf(Equivalence.onKey(String::length), "a", null, "bb");
+
+        assertTrue(list.contains(null));
+        assertTrue(list.remove(null));
+        assertFalse(list.contains(null));
+        assertTrue(list.contains("x"));
+    }
+
+    @Test
+    void subList_shouldInheritEquivalence() {
+        Money a = new Money("EUR", 1);
+        LinkedList<Money> list = listOf(Equivalence.identity(), new Money("EUR", 1), a, new Money("EUR", 1));
+        List<Money> view = list.subList(0, 2);
+
+        assertFalse(view.contains(new Money("EUR", 1)));
+        assertTrue(view.remove(a));
+        assertEquals(2, list.size());
+    }
+
+    // ===================== VALUE INDEX =====================
+
+    @Test
+    void valueIndex_shouldHashWithEquivalence() {
+        Money a = new Money("EUR", 100);
+        Money b = new Money("EUR", 100);
+        LinkedList<Money> list = listOf(Equivalence.identity(), a, b, a);
+        list.enableValueIndex();
+
+        assertFalse(list.contains(new Money("EUR", 100)));
+        assertTrue(list.remove(b));
+        assertTrue(list.remove(a));
+
+        assertEquals(1, list.size());
+        assertSame(a, list.get(0));
+        assertFalse(list.contains(b));
+    }
+
+    @Test
+    void valueIndex_shouldAgreeWithScanForKeyEquivalence() {
+        LinkedList<Money> list = listOf(Equivalence.onKey(m -> m.currency),
+                new Money("EUR", 1), new Money("USD", 2), new Money("EUR", 3));
+        list.enableValueIndex();
+
+        assertTrue(list.remove(new Money("EUR", 0)));
+        assertEquals(3, list.get(1).cents);
+        assertTrue(list.remove(new Money("EUR", 0)));
+        assertFalse(list.contains(new Money("EUR", 0)));
+        assertTrue(list.contains(new Money("USD", 0)));
+    }
+
+    // ===================== OTHER LISTS =====================
+
+    @Test
+    void everyList_shouldAcceptEquivalenceAtConstruction() {
+        java.util.List<AbstractList<Money>> lists = java.util.List.of(
+                new TreeList<>(true, Equivalence.identity()),
+                new IndexableSkipList<>(true, Equivalence.identity()),
+                new CopyOnWriteList<>(true, Equivalence.identity()),
+                new IndexLinkedList<>(true, Equivalence.identity()),
+                new SortedList<Money>(Comparator.comparing(m -> m.currency), Equivalence.identity()));
+        for (AbstractList<Money> list : lists) {
+            Money a = new Money("EUR", 1);
+            list.add(new Money("EUR", 1));
+            list.add(a);
+
+            assertTrue(list.contains(a), list.getClass().getSimpleName());
+            assertFalse(list.contains(new Money("EUR", 1)), list.getClass().getSimpleName());
+            assertTrue(list.remove(a), list.getClass().getSimpleName());
+            assertFalse(list.contains(a), list.getClass().getSimpleName());
+            assertEquals(1, list.size());
+        }
+    }
+
+    @Test
+    void sortedList_shouldMatchByComparatorWithoutEquivalence() {
+        SortedList<Money> list = new SortedList<>(Comparator.comparing(m -> m.currency));
+        list.add(new Money("EUR", 1));
+
+        assertTrue(list.contains(new Money("EUR", 2)));
+    }
+
+    @Test
+    void sortedList_rangesShouldKeepEquivalence() {
+        Money a = new Money("EUR", 1);
+        SortedList<Money> list = new SortedList<>(Comparator.comparing(m -> m.currency), Equivalence.identity());
+        list.add(a);
+        list.add(new Money("USD", 1));
+
+        SortedList<Money> head = list.headList(new Money("USD", 0));
+
+        assertTrue(head.contains(a));
+        assertFalse(head.contains(new Money("EUR", 1)));
+    }
+
+    // ===================== CONTRACT =====================
+
+    @Test
+    void equals_shouldStillUseElementEquals() {
+        LinkedList<Money> identityList = listOf(Equivalence.identity(), new Money("EUR", 1));
+        LinkedList<Money> plainList = new LinkedList<>();
+        plainList.add(new Money("EUR", 1));
+
+        assertEquals(plainList, identityList);
+        assertEquals(plainList.hashCode(), identityList.hashCode());
+    }
+
+    @Test
+    void constructor_shouldRejectNullEquivalence() {
+        assertThrows(IllegalArgumentException.class, () -> new LinkedList<>(true, null));
+    }
+}
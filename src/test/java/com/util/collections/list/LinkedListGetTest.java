@@ -7,11 +7,19 @@ import static org.junit.jupiter.api.Assertions.*;
 
 class LinkedListGetTest {
 
-    private LinkedList<Integer> list;
+    /**
+     * Creates the list under test. Contract suites for other list
+     * implementations reuse these tests by overriding this factory.
+     */
+    <E> AbstractList<E> newList(boolean isNullable) {
+        return new LinkedList<>(isNullable);
+    }
+
+    private AbstractList<Integer> list;
 
     @BeforeEach
     void setUp() {
-        list = new LinkedList<>();
+        list = newList(true);
         list.add(10);
         list.add(20);
         list.add(30);
@@ -44,14 +52,14 @@ class LinkedListGetTest {
 
     @Test
     void testGetSingleElementList() {
-        LinkedList<Integer> single = new LinkedList<>();
+        AbstractList<Integer> single = newList(true);
         single.add(99);
         assertEquals(99, single.get(0));
     }
 
     @Test
     void testGetEmptyList() {
-        LinkedList<Integer> empty = new LinkedList<>();
+        AbstractList<Integer> empty = newList(true);
         assertThrows(IndexOutOfBoundsException.class, () -> empty.get(0));
     }
 }
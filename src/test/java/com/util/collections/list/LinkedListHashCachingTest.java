@@ -0,0 +1,134 @@
+package com.util.collections.list;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LinkedListHashCachingTest {
+
+    private static LinkedList<Integer> cachedListOf(Integer... values) {
+        LinkedList<Integer> list = new LinkedList<>(true);
+        list.enableHashCaching();
+        list.addAll(Arrays.asList(values));
+        return list;
+    }
+
+    private static int expected(LinkedList<Integer> list) {
+        java.util.List<Integer> copy = new ArrayList<>();
+        list.forEach(copy::add);
+        return copy.hashCode();
+    }
+
+    // ===================== APPENDS =====================
+
+    @Test
+    void hashCode_shouldBeMaintainedOnAppend() {
+        LinkedList<Integer> list = cachedListOf(1, 2);
+        list.hashCode();
+
+        list.add(3);
+        list.add(null);
+
+        assertEquals(Arrays.asList(1, 2, 3, null).hashCode(), list.hashCode());
+    }
+
+    @Test
+    void hashCode_shouldStartFromEmptyAfterClear() {
+        LinkedList<Integer> list = cachedListOf(1, 2);
+
+        list.clear();
+        list.add(5);
+
+        assertEquals(Arrays.asList(5).hashCode(), list.hashCode());
+    }
+
+    // ===================== INVALIDATION =====================
+
+    @Test
+    void hashCode_shouldBeRecomputedAfterOtherMutations() {
+        LinkedList<Integer> list = cachedListOf(1, 2, 3, 4);
+        list.hashCode();
+
+        list.add(0, 0);
+        assertEquals(expected(list), list.hashCode());
+
+        list.add(7, 2);
+        assertEquals(expected(list), list.hashCode());
+
+        list.set(1, 8);
+        assertEquals(expected(list), list.hashCode());
+
+        list.remove(3);
+        assertEquals(expected(list), list.hashCode());
+
+        list.sort(Comparator.naturalOrder());
+        assertEquals(expected(list), list.hashCode());
+
+        list.subList(1, 3).clear();
+        assertEquals(expected(list), list.hashCode());
+
+        list.drainTo(new Integer[list.size()], 0);
+        assertEquals(1, list.hashCode());
+    }
+
+    @Test
+    void hashCode_shouldBeRecomputedAfterCursorEdits() {
+        LinkedList<Integer> list = cachedListOf(1, 2, 3);
+        list.hashCode();
+        ListIterator<Integer> it = list.listIterator();
+
+        it.next();
+        it.set(9);
+        assertEquals(expected(list), list.hashCode());
+
+        it.add(4);
+        assertEquals(expected(list), list.hashCode());
+
+        it.next();
+        it.remove();
+        assertEquals(expected(list), list.hashCode());
+    }
+
+    @Test
+    void hashCode_shouldWorkWithValueIndex() {
+        LinkedList<Integer> list = cachedListOf(1, 2, 1);
+        list.enableValueIndex();
+        list.hashCode();
+
+        list.remove(1);
+        list.add(6);
+
+        assertEquals(Arrays.asList(2, 1, 6).hashCode(), list.hashCode());
+    }
+
+    // ===================== MODE SWITCHING =====================
+
+    @Test
+    void disableHashCaching_shouldKeepResultsCorrect() {
+        LinkedList<Integer> list = cachedListOf(1, 2);
+        list.hashCode();
+
+        list.disableHashCaching();
+        list.add(3);
+
+        assertFalse(list.isHashCachingEnabled());
+        assertEquals(Arrays.asList(1, 2, 3).hashCode(), list.hashCode());
+    }
+
+    @Test
+    void equals_shouldUseCachedHashesAsShortcut() {
+        LinkedList<Integer> a = cachedListOf(1, 2, 3);
+        LinkedList<Integer> b = cachedListOf(1, 2, 4);
+        LinkedList<Integer> c = cachedListOf(1, 2, 3);
+        a.hashCode();
+        b.hashCode();
+        c.hashCode();
+
+        assertNotEquals(a, b);
+        assertEquals(a, c);
+    }
+}
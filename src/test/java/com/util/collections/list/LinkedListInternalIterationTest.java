@@ -0,0 +1,134 @@
+package com.util.collections.list;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LinkedListInternalIterationTest {
+
+    /**
+     * Creates the list under test. Contract suites for other list
+     * implementations reuse these tests by overriding this factory.
+     */
+    <E> AbstractList<E> newList(boolean isNullable) {
+        return new LinkedList<>(isNullable);
+    }
+
+    private AbstractList<Integer> listOf(int... values) {
+        AbstractList<Integer> list = newList(true);
+        for (int v : values) {
+            list.add(v);
+        }
+        return list;
+    }
+
+    // ===================== FOR EACH =====================
+
+    @Test
+    void forEach_shouldVisitElementsInOrder() {
+        java.util.List<Integer> seen = new ArrayList<>();
+
+        listOf(3, 1, 2).forEach(seen::add);
+
+        assertEquals(java.util.List.of(3, 1, 2), seen);
+    }
+
+    @Test
+    void forEach_shouldDoNothingOnEmptyList() {
+        java.util.List<Integer> seen = new ArrayList<>();
+
+        listOf().forEach(seen::add);
+
+        assertTrue(seen.isEmpty());
+    }
+
+    @Test
+    void forEachIndexed_shouldPassPositions() {
+        java.util.List<String> seen = new ArrayList<>();
+
+        listOf(7, 8, 9).forEachIndexed((v, i) -> seen.add(i + ":" + v));
+
+        assertEquals(java.util.List.of("0:7", "1:8", "2:9"), seen);
+    }
+
+    @Test
+    void forEach_shouldVisitNullElements() {
+        AbstractList<Integer> list = newList(true);
+        list.add(null);
+        list.add(1);
+        java.util.List<Integer> seen = new ArrayList<>();
+
+        list.forEach(seen::add);
+
+        assertEquals(java.util.Arrays.asList(null, 1), seen);
+    }
+
+    // ===================== FOR EACH UNTIL =====================
+
+    @Test
+    void forEachUntil_shouldStopAtFirstMatch() {
+        java.util.List<Integer> seen = new ArrayList<>();
+
+        boolean stopped = listOf(1, 2, 3, 4).forEachUntil(v -> {
+            seen.add(v);
+            return v == 2;
+        });
+
+        assertTrue(stopped);
+        assertEquals(java.util.List.of(1, 2), seen);
+    }
+
+    @Test
+    void forEachUntil_shouldReportCompletion() {
+        assertFalse(listOf(1, 2, 3).forEachUntil(v -> v > 3));
+        assertFalse(listOf().forEachUntil(v -> true));
+    }
+
+    // ===================== FOLD =====================
+
+    @Test
+    void fold_shouldAccumulateFromFirstToLast() {
+        String folded = listOf(1, 2, 3).fold("", (acc, v) -> acc + v);
+
+        assertEquals("123", folded);
+    }
+
+    @Test
+    void fold_shouldReturnIdentityForEmptyList() {
+        assertEquals(42, listOf().fold(42, Integer::sum));
+    }
+
+    // ===================== ARGUMENT CHECKS =====================
+
+    @Test
+    void internalIteration_shouldRejectNullCallbacks() {
+        AbstractList<Integer> list = listOf(1);
+
+        assertThrows(NullPointerException.class, () -> list.forEach(null));
+        assertThrows(NullPointerException.class, () -> list.forEachIndexed(null));
+        assertThrows(NullPointerException.class, () -> list.forEachUntil(null));
+        assertThrows(NullPointerException.class, () -> list.fold(0, null));
+    }
+
+    // ===================== INTERNAL CALLERS =====================
+
+    @Test
+    void containsAll_shouldAcceptListArgument() {
+        AbstractList<Integer> list = listOf(1, 2, 3);
+
+        assertTrue(list.containsAll(listOf(3, 1)));
+        assertFalse(list.containsAll(listOf(1, 4)));
+        assertTrue(list.containsAll(listOf()));
+    }
+
+    @Test
+    void toString_shouldFormatThroughInternalIteration() {
+        AbstractList<Integer> list = listOf(1, 2);
+        String name = list.getClass().getSimpleName();
+
+        assertEquals(name + "{1, 2}", list.toString());
+        assertEquals(name + "{}", listOf().toString());
+    }
+}
@@ -10,11 +10,19 @@ import static org.junit.jupiter.api.Assertions.*;
 
 class LinkedListIteratorTest {
 
-    private LinkedList<Integer> list;
+    /**
+     * Creates the list under test. Contract suites for other list
+     * implementations reuse these tests by overriding this factory.
+     */
+    <E> AbstractList<E> newList(boolean isNullable) {
+        return new LinkedList<>(isNullable);
+    }
+
+    private AbstractList<Integer> list;
 
     @BeforeEach
     void setUp() {
-        list = new LinkedList<>();
+        list = newList(true);
     }
 
     // ===================== BASIC ITERATION =====================
@@ -0,0 +1,209 @@
+package com.util.collections.list;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LinkedListListIteratorTest {
+
+    /**
+     * Creates the list under test. Contract suites for other list
+     * implementations reuse these tests by overriding this factory.
+     */
+    <E> AbstractList<E> newList(boolean isNullable) {
+        return new LinkedList<>(isNullable);
+    }
+
+    private AbstractList<Integer> listOf(int... values) {
+        AbstractList<Integer> list = newList(false);
+        for (int v : values) {
+            list.add(v);
+        }
+        return list;
+    }
+
+    // ===================== TRAVERSAL =====================
+
+    @Test
+    void next_shouldVisitInOrderAndTrackIndex() {
+        ListIterator<Integer> it = listOf(4, 5, 6).listIterator();
+
+        assertEquals(0, it.nextIndex());
+        assertEquals(4, it.next());
+        assertEquals(5, it.next());
+        assertEquals(2, it.nextIndex());
+        assertEquals(6, it.next());
+        assertFalse(it.hasNext());
+        assertEquals(3, it.nextIndex());
+        assertThrows(NoSuchElementException.class, it::next);
+    }
+
+    // ===================== SET =====================
+
+    @Test
+    void set_shouldReplaceLastReturnedElement() {
+        AbstractList<Integer> list = listOf(1, 2, 3);
+        ListIterator<Integer> it = list.listIterator();
+
+        while (it.hasNext()) {
+            int v = it.next();
+            it.set(v * 10);
+        }
+
+        assertEquals("[10, 20, 30]", contents(list));
+        assertTrue(list.contains(20));
+        assertFalse(list.contains(2));
+    }
+
+    @Test
+    void set_shouldRequireNext() {
+        ListIterator<Integer> it = listOf(1).listIterator();
+
+        assertThrows(IllegalStateException.class, () -> it.set(5));
+        it.next();
+        it.add(2);
+        assertThrows(IllegalStateException.class, () -> it.set(5));
+    }
+
+    @Test
+    void set_shouldEnforceNullPolicy() {
+        ListIterator<Integer> it = listOf(1).listIterator();
+        it.next();
+
+        assertThrows(IllegalArgumentException.class, () -> it.set(null));
+    }
+
+    // ===================== ADD =====================
+
+    @Test
+    void add_shouldInsertAfterMatchesWithoutRevisitingThem() {
+        AbstractList<Integer> list = listOf(1, 2, 3, 2);
+        ListIterator<Integer> it = list.listIterator();
+
+        while (it.hasNext()) {
+            if (it.next() == 2) {
+                it.add(99);
+            }
+        }
+
+        assertEquals("[1, 2, 99, 3, 2, 99]", contents(list));
+        assertEquals(6, list.size());
+        assertEquals(6, it.nextIndex());
+    }
+
+    @Test
+    void add_shouldInsertAtHeadAndKeepTail() {
+        AbstractList<Integer> list = listOf(5);
+        ListIterator<Integer> it = list.listIterator();
+
+        it.add(3);
+        it.add(4);
+        assertEquals(5, it.next());
+        it.add(6);
+        list.add(7);
+
+        assertEquals("[3, 4, 5, 6, 7]", contents(list));
+        assertEquals(7, list.get(4));
+    }
+
+    @Test
+    void add_shouldWorkOnEmptyList() {
+        AbstractList<Integer> list = listOf();
+        ListIterator<Integer> it = list.listIterator();
+
+        it.add(1);
+        it.add(2);
+
+        assertFalse(it.hasNext());
+        assertEquals("[1, 2]", contents(list));
+        assertThrows(IllegalArgumentException.class, () -> it.add(null));
+    }
+
+    // ===================== REMOVE =====================
+
+    @Test
+    void remove_shouldDeleteMatchesInOnePass() {
+        AbstractList<Integer> list = listOf(1, 2, 3, 4, 5, 6);
+        ListIterator<Integer> it = list.listIterator();
+
+        while (it.hasNext()) {
+            if (it.next() % 2 == 1) {
+                it.remove();
+            }
+        }
+
+        assertEquals("[2, 4, 6]", contents(list));
+        assertEquals(3, list.size());
+        assertFalse(list.contains(5));
+    }
+
+    @Test
+    void remove_shouldMaintainTailWhenLastElementRemoved() {
+        AbstractList<Integer> list = listOf(1, 2);
+        ListIterator<Integer> it = list.listIterator();
+        it.next();
+        it.next();
+
+        it.remove();
+        list.add(3);
+
+        assertEquals("[1, 3]", contents(list));
+        assertEquals(3, list.get(1));
+    }
+
+    @Test
+    void remove_shouldEmptyListAndAllowRefill() {
+        AbstractList<Integer> list = listOf(1);
+        ListIterator<Integer> it = list.listIterator();
+        it.next();
+
+        it.remove();
+
+        assertTrue(list.isEmpty());
+        assertEquals(0, it.nextIndex());
+        list.add(2);
+        assertEquals("[2]", contents(list));
+    }
+
+    @Test
+    void remove_shouldRequireNextSinceLastEdit() {
+        ListIterator<Integer> it = listOf(1, 2).listIterator();
+
+        assertThrows(IllegalStateException.class, it::remove);
+        it.next();
+        it.remove();
+        assertThrows(IllegalStateException.class, it::remove);
+    }
+
+    // ===================== MIXED EDITS =====================
+
+    @Test
+    void mixedEdits_shouldMatchPositionalEquivalent() {
+        AbstractList<Integer> list = listOf(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+        ListIterator<Integer> it = list.listIterator();
+
+        while (it.hasNext()) {
+            int v = it.next();
+            if (v % 3 == 0) {
+                it.remove();
+            } else if (v % 3 == 1) {
+                it.set(-v);
+            } else {
+                it.add(v * 100);
+            }
+        }
+
+        assertEquals("[-1, 2, 200, -4, 5, 500, -7, 8, 800]", contents(list));
+        assertEquals(9, list.size());
+        assertTrue(list.remove(500));
+        assertEquals("[-1, 2, 200, -4, 5, -7, 8, 800]", contents(list));
+    }
+
+    private static String contents(AbstractList<Integer> list) {
+        java.util.List<Integer> copy = new java.util.ArrayList<>();
+        list.forEach(copy::add);
+        return copy.toString();
+    }
+}
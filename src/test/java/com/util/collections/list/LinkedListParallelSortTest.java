@@ -0,0 +1,48 @@
+package com.util.collections.list;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LinkedListParallelSortTest {
+
+    @Test
+    void parallelSort_shouldFallBackToSequentialSort_forSmallLists() {
+        LinkedList<Integer> list = new LinkedList<>();
+        list.add(2);
+        list.add(1);
+
+        list.parallelSort(null);
+
+        assertEquals("LinkedList{1, 2}", list.toString());
+    }
+
+    @Test
+    void parallelSort_shouldSortLargeList_stablyAndFixTail() {
+        int size = LinkedList.MIN_PARALLEL_RUN * 10 + 17;
+        LinkedList<long[]> list = new LinkedList<>();
+        Random random = new Random(5);
+        for (int i = 0; i < size; i++) {
+            list.add(new long[]{random.nextInt(1_000), i});
+        }
+
+        list.parallelSort(Comparator.comparingLong(e -> e[0]));
+        list.add(new long[]{Long.MAX_VALUE, size});
+
+        long[] previous = null;
+        int seen = 0;
+        for (long[] e : list) {
+            if (previous != null) {
+                assertTrue(previous[0] < e[0] || (previous[0] == e[0] && previous[1] < e[1]));
+            }
+            previous = e;
+            seen++;
+        }
+        assertEquals(size + 1, seen);
+        assertEquals(size + 1, list.size());
+        assertEquals(size, list.get(size)[1]);
+    }
+}
@@ -6,9 +6,17 @@ import static org.junit.jupiter.api.Assertions.*;
 
 class LinkedListRemoveTest {
 
+    /**
+     * Creates the list under test. Contract suites for other list
+     * implementations reuse these tests by overriding this factory.
+     */
+    <E> AbstractList<E> newList(boolean isNullable) {
+        return new LinkedList<>(isNullable);
+    }
+
     @Test
     void remove_shouldReturnFalse_whenListIsEmpty() {
-        LinkedList<Integer> list = new LinkedList<>();
+        AbstractList<Integer> list = newList(true);
 
         assertFalse(list.remove(10));
         assertEquals(0, list.size());
@@ -17,7 +25,7 @@ class LinkedListRemoveTest {
 
     @Test
     void remove_shouldRemoveHeadElement() {
-        LinkedList<Integer> list = new LinkedList<>();
+        AbstractList<Integer> list = newList(true);
         list.add(1);
         list.add(2);
         list.add(3);
@@ -31,7 +39,7 @@ class LinkedListRemoveTest {
 
     @Test
     void remove_shouldRemoveMiddleElement() {
-        LinkedList<Integer> list = new LinkedList<>();
+        AbstractList<Integer> list = newList(true);
         list.add(1);
         list.add(2);
         list.add(3);
@@ -46,7 +54,7 @@ class LinkedListRemoveTest {
 
     @Test
     void remove_shouldRemoveTailElement_andUpdateTail() {
-        LinkedList<Integer> list = new LinkedList<>();
+        AbstractList<Integer> list = newList(true);
         list.add(1);
         list.add(2);
         list.add(3);
@@ -60,7 +68,7 @@ class LinkedListRemoveTest {
 
     @Test
     void remove_shouldHandleSingleElementList() {
-        LinkedList<Integer> list = new LinkedList<>();
+        AbstractList<Integer> list = newList(true);
         list.add(1);
 
         boolean removed = list.remove(1);
@@ -72,7 +80,7 @@ class LinkedListRemoveTest {
 
     @Test
     void remove_shouldReturnFalse_whenElementNotPresent() {
-        LinkedList<Integer> list = new LinkedList<>();
+        AbstractList<Integer> list = newList(true);
         list.add(1);
         list.add(2);
 
@@ -84,7 +92,7 @@ class LinkedListRemoveTest {
 
     @Test
     void remove_shouldRemoveOnlyFirstOccurrence() {
-        LinkedList<Integer> list = new LinkedList<>();
+        AbstractList<Integer> list = newList(true);
         list.add(1);
         list.add(2);
         list.add(1);
@@ -99,7 +107,7 @@ class LinkedListRemoveTest {
 
     @Test
     void remove_shouldRemoveNull_whenNullsAllowed() {
-        LinkedList<String> list = new LinkedList<>(true);
+        AbstractList<String> list = newList(true);
         list.add("a");
         list.add(null);
         list.add("b");
@@ -114,7 +122,7 @@ class LinkedListRemoveTest {
 
     @Test
     void remove_shouldThrowException_whenNullNotAllowed() {
-        LinkedList<String> list = new LinkedList<>(false);
+        AbstractList<String> list = newList(false);
         list.add("a");
 
         assertThrows(IllegalArgumentException.class,
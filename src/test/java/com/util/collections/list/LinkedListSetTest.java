@@ -7,11 +7,19 @@ import org.junit.jupiter.api.Test;
 
 class LinkedListSetTest {
 
-    private LinkedList<String> list;
+    /**
+     * Creates the list under test. Contract suites for other list
+     * implementations reuse these tests by overriding this factory.
+     */
+    <E> AbstractList<E> newList(boolean isNullable) {
+        return new LinkedList<>(isNullable);
+    }
+
+    private AbstractList<String> list;
 
     @BeforeEach
     void setup() {
-        list = new LinkedList<>();
+        list = newList(true);
         list.add("A");
         list.add("B");
         list.add("C");
@@ -58,7 +66,7 @@ class LinkedListSetTest {
 
     @Test
     void set_shouldThrowException_whenNullNotAllowed() {
-        LinkedList<String> nonNullableList = new LinkedList<>(false);
+        AbstractList<String> nonNullableList = newList(false);
         nonNullableList.add("A");
 
         assertThrows(IllegalArgumentException.class,
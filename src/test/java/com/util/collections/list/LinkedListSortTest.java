@@ -0,0 +1,112 @@
+package com.util.collections.list;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LinkedListSortTest {
+
+    /**
+     * Creates the list under test. Contract suites for other list
+     * implementations reuse these tests by overriding this factory.
+     */
+    <E> AbstractList<E> newList(boolean isNullable) {
+        return new LinkedList<>(isNullable);
+    }
+
+    @Test
+    void sort_shouldDoNothing_whenListIsEmpty() {
+        AbstractList<Integer> list = newList(true);
+
+        list.sort(Comparator.naturalOrder());
+
+        assertTrue(list.isEmpty());
+    }
+
+    @Test
+    void sort_shouldOrderElementsByComparator() {
+        AbstractList<Integer> list = newList(true);
+        list.add(3);
+        list.add(1);
+        list.add(2);
+
+        list.sort(Comparator.reverseOrder());
+
+        assertEquals(3, list.get(0));
+        assertEquals(2, list.get(1));
+        assertEquals(1, list.get(2));
+    }
+
+    @Test
+    void sort_shouldUseNaturalOrdering_whenComparatorIsNull() {
+        AbstractList<String> list = newList(true);
+        list.add("c");
+        list.add("a");
+        list.add("b");
+
+        list.sort(null);
+
+        assertEquals("a", list.get(0));
+        assertEquals("b", list.get(1));
+        assertEquals("c", list.get(2));
+    }
+
+    @Test
+    void sort_shouldBeStable() {
+        AbstractList<String> list = newList(true);
+        list.add("b1");
+        list.add("a1");
+        list.add("b2");
+        list.add("a2");
+        list.add("b3");
+
+        list.sort(Comparator.comparing(s -> s.charAt(0)));
+
+        assertEquals("a1", list.get(0));
+        assertEquals("a2", list.get(1));
+        assertEquals("b1", list.get(2));
+        assertEquals("b2", list.get(3));
+        assertEquals("b3", list.get(4));
+    }
+
+    @Test
+    void sort_shouldKeepTailConsistent_forSubsequentAppends() {
+        AbstractList<Integer> list = newList(true);
+        list.add(2);
+        list.add(3);
+        list.add(1);
+
+        list.sort(Comparator.naturalOrder());
+        list.add(4);
+
+        assertEquals(4, list.size());
+        assertEquals(3, list.get(2));
+        assertEquals(4, list.get(3));
+    }
+
+    @Test
+    void sort_shouldMatchReferenceSort_forRandomInput() {
+        AbstractList<Integer> list = newList(true);
+        java.util.List<Integer> reference = new ArrayList<>();
+        Random random = new Random(11);
+        for (int i = 0; i < 1_001; i++) {
+            int v = random.nextInt(100);
+            list.add(v);
+            reference.add(v);
+        }
+
+        list.sort(Comparator.naturalOrder());
+        Collections.sort(reference);
+
+        int i = 0;
+        for (Integer v : list) {
+            assertEquals(reference.get(i++), v);
+        }
+        assertEquals(reference.size(), i);
+    }
+}
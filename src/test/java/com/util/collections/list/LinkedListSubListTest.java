@@ -0,0 +1,263 @@
+package com.util.collections.list;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class LinkedListSubListTest {
+
+    /**
+     * Creates the list under test. Contract suites for other list
+     * implementations reuse these tests by overriding this factory.
+     */
+    <E> AbstractList<E> newList(boolean isNullable) {
+        return new LinkedList<>(isNullable);
+    }
+
+    private AbstractList<Integer> listOf(int... values) {
+        AbstractList<Integer> list = newList(false);
+        for (int v : values) {
+            list.add(v);
+        }
+        return list;
+    }
+
+    private static java.util.List<Integer> toJava(Iterable<Integer> iterable) {
+        java.util.List<Integer> result = new ArrayList<>();
+        iterable.forEach(result::add);
+        return result;
+    }
+
+    // ===================== ACCESS =====================
+
+    @Test
+    void subList_shouldExposeRange() {
+        AbstractList<Integer> list = listOf(0, 1, 2, 3, 4, 5);
+
+        List<Integer> view = list.subList(2, 5);
+
+        assertEquals(3, view.size());
+        assertEquals(2, view.get(0));
+        assertEquals(4, view.get(2));
+        assertEquals(java.util.List.of(2, 3, 4), toJava(view));
+    }
+
+    @Test
+    void subList_shouldAllowEmptyRange() {
+        AbstractList<Integer> list = listOf(0, 1, 2);
+
+        List<Integer> view = list.subList(3, 3);
+
+        assertTrue(view.isEmpty());
+        assertFalse(view.iterator().hasNext());
+    }
+
+    @Test
+    void subList_shouldRejectIndexOutsideView() {
+        List<Integer> view = listOf(0, 1, 2, 3).subList(1, 3);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> view.get(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> view.get(-1));
+    }
+
+    @Test
+    void subList_shouldRejectInvalidBounds() {
+        AbstractList<Integer> list = listOf(0, 1, 2);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> list.subList(-1, 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.subList(0, 4));
+        assertThrows(IllegalArgumentException.class, () -> list.subList(2, 1));
+    }
+
+    // ===================== WRITE-THROUGH =====================
+
+    @Test
+    void set_shouldWriteThroughToParent() {
+        AbstractList<Integer> list = listOf(0, 1, 2, 3);
+        List<Integer> view = list.subList(1, 3);
+
+        assertEquals(2, view.set(1, 20));
+
+        assertEquals(java.util.List.of(0, 1, 20, 3), toJava(list));
+    }
+
+    @Test
+    void add_shouldInsertAtEndOfRange() {
+        AbstractList<Integer> list = listOf(0, 1, 2, 3);
+        List<Integer> view = list.subList(1, 3);
+
+        view.add(9);
+
+        assertEquals(3, view.size());
+        assertEquals(java.util.List.of(0, 1, 2, 9, 3), toJava(list));
+    }
+
+    @Test
+    void add_shouldAppendToParentWhenRangeReachesEnd() {
+        AbstractList<Integer> list = listOf(0, 1, 2);
+        List<Integer> view = list.subList(1, 3);
+
+        view.add(3);
+        list.add(4);
+
+        assertEquals(java.util.List.of(0, 1, 2, 3, 4), toJava(list));
+        assertEquals(4, list.get(4));
+    }
+
+    @Test
+    void addAtIndex_shouldInsertAtStartOfRange() {
+        AbstractList<Integer> list = listOf(0, 1, 2);
+        List<Integer> view = list.subList(0, 2);
+
+        view.add(7, 0);
+        view.add(8, 2);
+
+        assertEquals(java.util.List.of(7, 0, 8, 1), toJava(view));
+        assertEquals(java.util.List.of(7, 0, 8, 1, 2), toJava(list));
+    }
+
+    @Test
+    void remove_shouldOnlyRemoveWithinRange() {
+        AbstractList<Integer> list = listOf(5, 1, 5, 2);
+        List<Integer> view = list.subList(1, 3);
+
+        assertTrue(view.remove(5));
+        assertFalse(view.remove(2));
+
+        assertEquals(java.util.List.of(1), toJava(view));
+        assertEquals(java.util.List.of(5, 1, 2), toJava(list));
+    }
+
+    // ===================== RANGE REMOVAL =====================
+
+    @Test
+    void clear_shouldRemoveRangeFromParent() {
+        AbstractList<Integer> list = listOf(0, 1, 2, 3, 4, 5);
+
+        list.subList(1, 4).clear();
+
+        assertEquals(3, list.size());
+        assertEquals(java.util.List.of(0, 4, 5), toJava(list));
+    }
+
+    @Test
+    void clear_shouldRemovePrefix() {
+        AbstractList<Integer> list = listOf(0, 1, 2, 3);
+
+        list.subList(0, 2).clear();
+
+        assertEquals(java.util.List.of(2, 3), toJava(list));
+        assertEquals(2, list.get(0));
+    }
+
+    @Test
+    void clear_shouldRemoveSuffixAndKeepParentAppendable() {
+        AbstractList<Integer> list = listOf(0, 1, 2, 3);
+
+        list.subList(2, 4).clear();
+        list.add(9);
+
+        assertEquals(java.util.List.of(0, 1, 9), toJava(list));
+        assertEquals(9, list.get(2));
+    }
+
+    @Test
+    void clear_shouldEmptyParentWhenViewCoversEverything() {
+        AbstractList<Integer> list = listOf(0, 1, 2);
+
+        list.subList(0, 3).clear();
+        list.add(4);
+
+        assertEquals(java.util.List.of(4), toJava(list));
+    }
+
+    @Test
+    void clear_shouldLeaveViewUsable() {
+        AbstractList<Integer> list = listOf(0, 1, 2, 3);
+        List<Integer> view = list.subList(1, 3);
+
+        view.clear();
+        view.add(7);
+
+        assertEquals(java.util.List.of(7), toJava(view));
+        assertEquals(java.util.List.of(0, 7, 3), toJava(list));
+    }
+
+    // ===================== NESTING & SORTING =====================
+
+    @Test
+    void subList_shouldNest() {
+        AbstractList<Integer> list = listOf(0, 1, 2, 3, 4, 5, 6);
+        List<Integer> outer = list.subList(1, 6);
+
+        List<Integer> inner = outer.subList(1, 3);
+        inner.clear();
+
+        assertEquals(java.util.List.of(1, 4, 5), toJava(outer));
+        assertEquals(java.util.List.of(0, 1, 4, 5, 6), toJava(list));
+    }
+
+    @Test
+    void sort_shouldOnlyReorderRange() {
+        AbstractList<Integer> list = newList(false);
+        list.add(9);
+        list.add(3);
+        list.add(1);
+        list.add(2);
+        list.add(0);
+
+        list.subList(1, 4).sort(Comparator.naturalOrder());
+
+        assertEquals(java.util.List.of(9, 1, 2, 3, 0), toJava(list));
+    }
+
+    // ===================== CONCURRENT MODIFICATION =====================
+
+    @Test
+    void outsideModification_shouldInvalidateView() {
+        AbstractList<Integer> list = listOf(0, 1, 2, 3, 4);
+        assumeTrue(list instanceof LinkedList, "only the node-based view is fail-fast");
+        List<Integer> view = list.subList(2, 4);
+        Iterator<Integer> iterator = view.iterator();
+        view.get(0);
+
+        list.remove(Integer.valueOf(1));
+
+        assertThrows(ConcurrentModificationException.class, () -> view.get(0));
+        assertThrows(ConcurrentModificationException.class, () -> view.add(9));
+        assertThrows(ConcurrentModificationException.class, view::clear);
+        assertThrows(ConcurrentModificationException.class, iterator::next);
+        assertEquals(java.util.List.of(0, 2, 3, 4), toJava(list));
+    }
+
+    @Test
+    void ownModifications_shouldKeepViewValid() {
+        AbstractList<Integer> list = listOf(0, 1, 2, 3, 4);
+        List<Integer> view = list.subList(1, 4);
+
+        view.add(7, 0);
+        view.remove(2);
+        list.set(0, 5);
+        view.subList(0, 1).clear();
+
+        assertEquals(java.util.List.of(1, 3), toJava(view));
+        assertEquals(java.util.List.of(5, 1, 3, 4), toJava(list));
+    }
+
+    @Test
+    void nullable_shouldFollowParentPolicy() {
+        AbstractList<Integer> strict = listOf(0, 1);
+        AbstractList<Integer> lenient = newList(true);
+        lenient.add(0);
+
+        assertThrows(IllegalArgumentException.class, () -> strict.subList(0, 1).add(null));
+        lenient.subList(0, 1).add(null);
+        assertNull(lenient.get(1));
+    }
+}
@@ -0,0 +1,131 @@
+package com.util.collections.list;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LinkedListToArrayTest {
+
+    /**
+     * Creates the list under test. Contract suites for other list
+     * implementations reuse these tests by overriding this factory.
+     */
+    <E> AbstractList<E> newList(boolean isNullable) {
+        return new LinkedList<>(isNullable);
+    }
+
+    private AbstractList<Integer> listOf(int... values) {
+        AbstractList<Integer> list = newList(false);
+        for (int v : values) {
+            list.add(v);
+        }
+        return list;
+    }
+
+    // ===================== OBJECT ARRAYS =====================
+
+    @Test
+    void toArray_shouldReturnExactlySizedCopy() {
+        AbstractList<Integer> list = listOf(3, 1, 2);
+
+        Object[] array = list.toArray();
+        array[0] = 99;
+
+        assertArrayEquals(new Object[]{3, 1, 2}, list.toArray());
+        assertEquals(3, list.get(0));
+    }
+
+    @Test
+    void toArray_shouldReturnEmptyArrayForEmptyList() {
+        assertEquals(0, listOf().toArray().length);
+    }
+
+    @Test
+    void toArrayWithGenerator_shouldUseTypedArray() {
+        Integer[] array = listOf(4, 5).toArray(Integer[]::new);
+
+        assertArrayEquals(new Integer[]{4, 5}, array);
+    }
+
+    @Test
+    void toArrayWithGenerator_shouldRequestExactSize() {
+        int[] requested = {-1};
+
+        listOf(1, 2, 3).toArray(n -> {
+            requested[0] = n;
+            return new Integer[n];
+        });
+
+        assertEquals(3, requested[0]);
+    }
+
+    @Test
+    void toArrayWithGenerator_shouldRejectShortArray() {
+        AbstractList<Integer> list = listOf(1, 2);
+
+        assertThrows(IllegalArgumentException.class, () -> list.toArray(n -> new Integer[1]));
+        assertThrows(NullPointerException.class, () -> list.toArray(null));
+    }
+
+    // ===================== DRAIN =====================
+
+    @Test
+    void drainTo_shouldMoveElementsAndEmptyList() {
+        AbstractList<Integer> list = listOf(1, 2, 3);
+        Integer[] dest = new Integer[5];
+
+        int moved = list.drainTo(dest, 1);
+
+        assertEquals(3, moved);
+        assertArrayEquals(new Integer[]{null, 1, 2, 3, null}, dest);
+        assertTrue(list.isEmpty());
+        assertFalse(list.contains(2));
+    }
+
+    @Test
+    void drainTo_shouldLeaveListUsable() {
+        AbstractList<Integer> list = listOf(1, 2);
+
+        list.drainTo(new Integer[2], 0);
+        list.add(7);
+
+        assertEquals(1, list.size());
+        assertEquals(7, list.get(0));
+    }
+
+    @Test
+    void drainTo_shouldRejectTooSmallDestinationWithoutModifying() {
+        AbstractList<Integer> list = listOf(1, 2, 3);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> list.drainTo(new Integer[3], 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.drainTo(new Integer[3], -1));
+        assertThrows(NullPointerException.class, () -> list.drainTo(null, 0));
+        assertEquals(3, list.size());
+    }
+
+    // ===================== PRIMITIVE EXPORT =====================
+
+    @Test
+    void toIntArray_shouldUnboxInOrder() {
+        assertArrayEquals(new int[]{3, 1, 2}, listOf(3, 1, 2).toIntArray(Integer::intValue));
+    }
+
+    @Test
+    void toLongArray_shouldApplyMapper() {
+        assertArrayEquals(new long[]{10L, 20L}, listOf(1, 2).toLongArray(v -> v * 10L));
+    }
+
+    @Test
+    void toDoubleArray_shouldApplyMapper() {
+        assertArrayEquals(new double[]{0.5, 1.0}, listOf(1, 2).toDoubleArray(v -> v / 2.0));
+    }
+
+    @Test
+    void primitiveExport_shouldReturnEmptyArraysForEmptyList() {
+        AbstractList<Integer> list = listOf();
+
+        assertEquals(0, list.toIntArray(Integer::intValue).length);
+        assertEquals(0, list.toLongArray(Integer::longValue).length);
+        assertEquals(0, list.toDoubleArray(Integer::doubleValue).length);
+    }
+}
@@ -0,0 +1,249 @@
+package com.util.collections.list;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LinkedListValueIndexTest {
+
+    private static LinkedList<Integer> indexedListOf(Integer... values) {
+        LinkedList<Integer> list = new LinkedList<>();
+        for (Integer v : values) {
+            list.add(v);
+        }
+        list.enableValueIndex();
+        return list;
+    }
+
+    // ===== LIFECYCLE =====
+
+    @Test
+    void enableValueIndex_shouldIndexExistingElements() {
+        LinkedList<Integer> list = indexedListOf(1, 2, 3);
+
+        assertTrue(list.isValueIndexEnabled());
+        assertTrue(list.contains(2));
+        assertFalse(list.contains(4));
+    }
+
+    @Test
+    void disableValueIndex_shouldFallBackToScanning() {
+        LinkedList<Integer> list = indexedListOf(1, 2, 3);
+
+        list.disableValueIndex();
+        list.add(4);
+
+        assertFalse(list.isValueIndexEnabled());
+        assertEquals(0, list.valueIndexFootprint());
+        assertTrue(list.contains(4));
+        assertTrue(list.remove(1));
+    }
+
+    // ===== REMOVE =====
+
+    @Test
+    void remove_shouldRemoveFirstOccurrenceOfDuplicates() {
+        LinkedList<Integer> list = indexedListOf(1, 2, 1, 3, 1);
+
+        assertTrue(list.remove(1));
+
+        assertEquals("LinkedList{2, 1, 3, 1}", list.toString());
+        assertTrue(list.remove(1));
+        assertEquals("LinkedList{2, 3, 1}", list.toString());
+    }
+
+    @Test
+    void remove_shouldHandleAdjacentDuplicates() {
+        LinkedList<Integer> list = indexedListOf(5, 5, 5);
+
+        assertTrue(list.remove(5));
+        assertTrue(list.remove(5));
+
+        assertEquals("LinkedList{5}", list.toString());
+        assertTrue(list.contains(5));
+        assertTrue(list.remove(5));
+        assertFalse(list.contains(5));
+        assertTrue(list.isEmpty());
+    }
+
+    @Test
+    void remove_shouldUpdateTail_whenLastElementRemoved() {
+        LinkedList<Integer> list = indexedListOf(1, 2, 3);
+
+        assertTrue(list.remove(3));
+        list.add(4);
+
+        assertEquals("LinkedList{1, 2, 4}", list.toString());
+        assertEquals(4, list.get(2));
+    }
+
+    @Test
+    void remove_shouldUpdateTail_whenSuccessorIsTail() {
+        LinkedList<Integer> list = indexedListOf(1, 2, 3);
+
+        assertTrue(list.remove(2));
+        list.add(4);
+
+        assertEquals("LinkedList{1, 3, 4}", list.toString());
+    }
+
+    @Test
+    void remove_shouldSupportNullWhenNullable() {
+        LinkedList<Integer> list = indexedListOf(1, null, 2);
+
+        assertTrue(list.contains(null));
+        assertTrue(list.remove(null));
+        assertFalse(list.contains(null));
+        assertEquals("LinkedList{1, 2}", list.toString());
+    }
+
+    @Test
+    void remove_shouldKeepCursorPositionedOnSuccessor() {
+        LinkedList<Integer> list = indexedListOf(1, 2, 3, 4);
+        ListIterator<Integer> cursor = list.listIterator();
+        cursor.next();
+        cursor.next();
+
+        assertTrue(list.remove(1));
+
+        assertEquals(3, cursor.next());
+        cursor.remove();
+        assertEquals("LinkedList{2, 4}", list.toString());
+    }
+
+    @Test
+    void remove_shouldUnlinkMatchedNodeAndInvalidateOlderSubLists() {
+        LinkedList<Integer> list = indexedListOf(1, 2, 3, 4, 5);
+        List<Integer> tail = list.subList(2, 5);
+        tail.get(0);
+
+        assertTrue(list.remove(1));
+        list.subList(1, 4).add(6, 0);
+
+        assertEquals("LinkedList{2, 6, 3, 4, 5}", list.toString());
+        assertThrows(ConcurrentModificationException.class, () -> tail.get(0));
+    }
+
+    // ===== SYNCHRONIZATION =====
+
+    @Test
+    void set_shouldReindexReplacedValue() {
+        LinkedList<Integer> list = indexedListOf(1, 2, 1);
+
+        list.set(2, 9);
+
+        assertTrue(list.contains(9));
+        assertTrue(list.remove(1));
+        assertFalse(list.contains(1));
+    }
+
+    @Test
+    void addAtIndex_shouldKeepOccurrencesInListOrder() {
+        LinkedList<Integer> list = indexedListOf(7, 0, 7);
+        list.add(8, 1);
+        list.add(8, 0);
+
+        list.set(2, 7);
+        assertTrue(list.remove(7));
+
+        assertEquals("LinkedList{8, 7, 0, 7}", list.toString());
+    }
+
+    @Test
+    void sort_shouldRebuildOccurrenceOrder() {
+        LinkedList<String> list = new LinkedList<>();
+        list.enableValueIndex();
+        list.add("b1");
+        list.add("a");
+        list.add("b2");
+
+        list.sort(Comparator.comparing(s -> s.charAt(0)));
+        list.set(0, "b2");
+
+        assertTrue(list.remove("b2"));
+        assertEquals("LinkedList{b1, b2}", list.toString());
+    }
+
+    @Test
+    void clear_shouldEmptyTheIndex() {
+        LinkedList<Integer> list = indexedListOf(1, 2);
+
+        list.clear();
+
+        assertFalse(list.contains(1));
+        assertFalse(list.remove(1));
+    }
+
+    @Test
+    void randomOperations_shouldMatchUnindexedList() {
+        Random random = new Random(7);
+        LinkedList<Integer> indexed = indexedListOf();
+        java.util.List<Integer> expected = new ArrayList<>();
+
+        for (int i = 0; i < 5_000; i++) {
+            int value = random.nextInt(20);
+            switch (random.nextInt(7)) {
+                case 0:
+                    indexed.add(value);
+                    expected.add(value);
+                    break;
+                case 1:
+                    int index = random.nextInt(expected.size() + 1);
+                    indexed.add(value, index);
+                    expected.add(index, value);
+                    break;
+                case 2:
+                    if (!expected.isEmpty()) {
+                        int at = random.nextInt(expected.size());
+                        indexed.set(at, value);
+                        expected.set(at, value);
+                    }
+                    break;
+                case 3:
+                    if (!expected.isEmpty()) {
+                        int from = random.nextInt(expected.size());
+                        int to = from + random.nextInt(Math.min(3, expected.size() - from) + 1);
+                        indexed.subList(from, to).clear();
+                        expected.subList(from, to).clear();
+                    }
+                    break;
+                case 4:
+                    if (i % 100 == 0) {
+                        indexed.sort(null);
+                        expected.sort(null);
+                    }
+                    break;
+                default:
+                    assertEquals(expected.remove(Integer.valueOf(value)), indexed.remove(value));
+            }
+            assertEquals(expected.contains(value), indexed.contains(value));
+        }
+        assertEquals(expected.size(), indexed.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), indexed.get(i));
+        }
+    }
+
+    // ===== FOOTPRINT =====
+
+    @Test
+    void valueIndexFootprint_shouldGrowWithDistinctValuesAndDuplicates() {
+        LinkedList<Integer> list = indexedListOf();
+        long empty = list.valueIndexFootprint();
+
+        for (int i = 0; i < 100; i++) {
+            list.add(i);
+        }
+        long distinct = list.valueIndexFootprint();
+        list.add(0);
+
+        assertTrue(empty > 0);
+        assertTrue(distinct >= empty + 100 * 32);
+        assertTrue(list.valueIndexFootprint() > distinct);
+    }
+}
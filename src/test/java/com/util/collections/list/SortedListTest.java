@@ -0,0 +1,192 @@
+package com.util.collections.list;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SortedListTest {
+
+    private SortedList<Integer> list;
+
+    @BeforeEach
+    void setUp() {
+        list = new SortedList<>();
+    }
+
+    // ===================== ORDERED INSERTION =====================
+
+    @Test
+    void add_shouldKeepElementsSorted() {
+        list.add(5);
+        list.add(1);
+        list.add(3);
+        list.add(3);
+
+        assertEquals("SortedList{1, 3, 3, 5}", list.toString());
+        assertEquals(4, list.size());
+    }
+
+    @Test
+    void add_shouldKeepEqualElementsInInsertionOrder() {
+        SortedList<String> byLength = new SortedList<>(Comparator.comparing(String::length));
+        byLength.add("bb");
+        byLength.add("a");
+        byLength.add("cc");
+        byLength.add("dd");
+
+        assertEquals("SortedList{a, bb, cc, dd}", byLength.toString());
+    }
+
+    @Test
+    void add_shouldRejectNull() {
+        assertThrows(IllegalArgumentException.class, () -> list.add(null));
+    }
+
+    @Test
+    void positionalMutation_shouldNotBeSupported() {
+        list.add(1);
+
+        assertThrows(UnsupportedOperationException.class, () -> list.add(0, 0));
+        assertThrows(UnsupportedOperationException.class, () -> list.set(0, 2));
+        assertThrows(UnsupportedOperationException.class, () -> list.sort(Comparator.reverseOrder()));
+        list.sort(null);
+        list.sort(Comparator.naturalOrder());
+    }
+
+    // ===================== BULK MERGE =====================
+
+    @Test
+    void addAll_shouldMergeUnsortedInput() {
+        list.addAll(Arrays.asList(10, 30, 50));
+
+        list.addAll(Arrays.asList(40, 0, 20, 60));
+
+        assertEquals("SortedList{0, 10, 20, 30, 40, 50, 60}", list.toString());
+    }
+
+    @Test
+    void addAll_shouldMergeAnotherSortedList() {
+        SortedList<Integer> other = new SortedList<>();
+        other.addAll(Arrays.asList(2, 4));
+        list.addAll(Arrays.asList(1, 3, 5));
+
+        list.addAll(other);
+
+        assertEquals("SortedList{1, 2, 3, 4, 5}", list.toString());
+    }
+
+    @Test
+    void addAll_shouldRejectNullElements_withoutModifyingList() {
+        list.add(1);
+
+        assertThrows(IllegalArgumentException.class, () -> list.addAll(Arrays.asList(2, null)));
+        assertEquals(1, list.size());
+    }
+
+    @Test
+    void addAll_shouldMatchReferenceSort_forRandomInput() {
+        Random random = new Random(9);
+        java.util.List<Integer> reference = new ArrayList<>();
+        for (int round = 0; round < 5; round++) {
+            java.util.List<Integer> batch = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                batch.add(random.nextInt(1_000));
+            }
+            list.addAll(batch);
+            reference.addAll(batch);
+        }
+        Collections.sort(reference);
+
+        assertEquals(reference.size(), list.size());
+        for (int i = 0; i < reference.size(); i++) {
+            assertEquals(reference.get(i), list.get(i));
+        }
+    }
+
+    // ===================== BINARY SEARCH =====================
+
+    @Test
+    void containsAndIndexOf_shouldUseBinarySearch() {
+        list.addAll(Arrays.asList(1, 3, 3, 5, 7));
+
+        assertTrue(list.contains(3));
+        assertFalse(list.contains(4));
+        assertFalse(list.contains(null));
+        assertEquals(1, list.indexOf(3));
+        assertEquals(4, list.indexOf(7));
+        assertEquals(-1, list.indexOf(8));
+        assertEquals(-1, list.indexOf(0));
+    }
+
+    @Test
+    void remove_shouldRemoveFirstMatchingElement() {
+        list.addAll(Arrays.asList(1, 3, 3, 5));
+
+        assertTrue(list.remove(3));
+        assertFalse(list.remove(4));
+        assertEquals("SortedList{1, 3, 5}", list.toString());
+    }
+
+    @Test
+    void removeAt_shouldReturnRemovedElement() {
+        list.addAll(Arrays.asList(1, 2, 3));
+
+        assertEquals(2, list.removeAt(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.removeAt(2));
+    }
+
+    // ===================== RANGE QUERIES =====================
+
+    @Test
+    void rangeQueries_shouldReturnMatchingElements() {
+        list.addAll(Arrays.asList(1, 3, 5, 7, 9));
+
+        assertEquals("SortedList{1, 3}", list.headList(5).toString());
+        assertEquals("SortedList{5, 7, 9}", list.tailList(4).toString());
+        assertEquals("SortedList{3, 5, 7}", list.between(2, 9).toString());
+        assertEquals("SortedList{}", list.between(4, 4).toString());
+        assertEquals("SortedList{}", list.headList(0).toString());
+    }
+
+    @Test
+    void rangeQueries_shouldReturnIndependentLists() {
+        list.addAll(Arrays.asList(1, 2, 3));
+
+        SortedList<Integer> head = list.headList(3);
+        head.add(0);
+
+        assertEquals("SortedList{0, 1, 2}", head.toString());
+        assertEquals("SortedList{1, 2, 3}", list.toString());
+    }
+
+    @Test
+    void between_shouldRejectInvertedBounds() {
+        assertThrows(IllegalArgumentException.class, () -> list.between(5, 1));
+    }
+
+    // ===================== SUBLIST VIEWS =====================
+
+    @Test
+    void subList_clear_shouldRemoveRangeAndKeepOrder() {
+        list.addAll(Arrays.asList(1, 2, 3, 4, 5));
+
+        list.subList(1, 3).clear();
+
+        assertEquals("SortedList{1, 4, 5}", list.toString());
+        assertEquals(1, list.indexOf(4));
+    }
+
+    @Test
+    void subList_add_shouldBeUnsupported() {
+        list.addAll(Arrays.asList(1, 2, 3));
+
+        assertThrows(UnsupportedOperationException.class, () -> list.subList(0, 2).add(9));
+    }
+}
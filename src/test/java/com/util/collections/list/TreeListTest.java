@@ -0,0 +1,197 @@
+package com.util.collections.list;
+
+import com.util.collections.Equivalence;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TreeListTest {
+
+    private static TreeList<Integer> rangeOf(int from, int to) {
+        TreeList<Integer> list = new TreeList<>();
+        for (int i = from; i < to; i++) {
+            list.add(i);
+        }
+        return list;
+    }
+
+    private static void assertRange(TreeList<Integer> list, int from, int to) {
+        assertEquals(to - from, list.size());
+        int expected = from;
+        for (int v : list) {
+            assertEquals(expected++, v);
+        }
+        for (int i = 0; i < list.size(); i++) {
+            assertEquals(from + i, list.get(i));
+        }
+    }
+
+    @Test
+    void removeAt_shouldReturnRemovedElement_andShiftFollowingElements() {
+        TreeList<Integer> list = rangeOf(0, 5);
+
+        assertEquals(2, list.removeAt(2));
+        assertEquals(0, list.removeAt(0));
+        assertEquals(4, list.removeAt(2));
+
+        assertEquals("TreeList{1, 3}", list.toString());
+    }
+
+    @Test
+    void removeAt_shouldRejectInvalidIndex() {
+        TreeList<Integer> list = rangeOf(0, 1);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> list.removeAt(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.removeAt(-1));
+    }
+
+    @Test
+    void split_shouldPartitionAtIndex() {
+        for (int at : new int[]{0, 1, 63, 64, 65, 500, 999, 1000}) {
+            TreeList<Integer> head = rangeOf(0, 1000);
+
+            TreeList<Integer> tail = head.split(at);
+
+            assertRange(head, 0, at);
+            assertRange(tail, at, 1000);
+        }
+    }
+
+    @Test
+    void split_shouldRejectInvalidIndex() {
+        TreeList<Integer> list = rangeOf(0, 3);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> list.split(4));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.split(-1));
+    }
+
+    @Test
+    void concat_shouldAppendAndEmptyOther() {
+        for (int[] sizes : new int[][]{{0, 10}, {10, 0}, {5, 5000}, {5000, 5}, {700, 900}}) {
+            TreeList<Integer> first = rangeOf(0, sizes[0]);
+            TreeList<Integer> second = rangeOf(sizes[0], sizes[0] + sizes[1]);
+
+            first.concat(second);
+
+            assertRange(first, 0, sizes[0] + sizes[1]);
+            assertTrue(second.isEmpty());
+        }
+    }
+
+    @Test
+    void concat_shouldRejectSelfAndWeakerNullPolicy() {
+        TreeList<Integer> strict = new TreeList<>(false);
+
+        assertThrows(IllegalArgumentException.class, () -> strict.concat(strict));
+        assertThrows(IllegalArgumentException.class, () -> strict.concat(new TreeList<>(true)));
+    }
+
+    @Test
+    void split_shouldKeepEquivalence() {
+        TreeList<String> list = new TreeList<>(true, Equivalence.onKey(String::toLowerCase));
+        list.add("a");
+        list.add("B");
+
+        TreeList<String> tail = list.split(1);
+
+        assertTrue(tail.contains("b"));
+        assertDoesNotThrow(() -> list.concat(tail));
+    }
+
+    @Test
+    void concat_shouldRejectDifferentEquivalence() {
+        TreeList<String> caseless = new TreeList<>(true, Equivalence.onKey(String::toLowerCase));
+
+        assertThrows(IllegalArgumentException.class, () -> caseless.concat(new TreeList<>()));
+        assertThrows(IllegalArgumentException.class, () -> new TreeList<String>().concat(caseless));
+    }
+
+    @Test
+    void splitThenConcat_shouldRestoreOriginalOrder() {
+        TreeList<Integer> list = rangeOf(0, 2000);
+        TreeList<Integer> middle = list.split(700);
+        TreeList<Integer> tail = middle.split(600);
+
+        list.concat(middle);
+        list.concat(tail);
+
+        assertRange(list, 0, 2000);
+    }
+
+    @Test
+    void add_shouldFillEveryChunkWhenAppending() {
+        TreeList<Integer> list = rangeOf(0, 10 * TreeList.CHUNK_CAPACITY);
+
+        assertEquals(10, list.chunkCount());
+        assertRange(list, 0, 10 * TreeList.CHUNK_CAPACITY);
+    }
+
+    @Test
+    void removeAt_shouldMergeUnderfullChunks() {
+        int capacity = TreeList.CHUNK_CAPACITY;
+        TreeList<Integer> list = rangeOf(0, 10 * capacity);
+        java.util.List<Integer> reference = new ArrayList<>(list.size());
+        list.forEach(reference::add);
+
+        // Thin every chunk down to a handful of elements
+        for (int chunk = 9; chunk >= 0; chunk--) {
+            for (int i = capacity - 1; i >= 4; i--) {
+                int index = chunk * capacity + i;
+                assertEquals(reference.remove(index), list.removeAt(index));
+            }
+        }
+
+        assertEquals(40, list.size());
+        assertTrue(list.chunkCount() <= 40 / TreeList.MIN_CHUNK_SIZE + 1, "chunks: " + list.chunkCount());
+        for (int i = 0; i < reference.size(); i++) {
+            assertEquals(reference.get(i), list.get(i));
+        }
+    }
+
+    @Test
+    void removeRange_shouldNotAccumulateSmallChunks() {
+        TreeList<Integer> list = rangeOf(0, 20_000);
+        Random random = new Random(11);
+
+        for (int round = 0; round < 200; round++) {
+            int from = random.nextInt(list.size() - 10);
+            list.subList(from, from + 1 + random.nextInt(9)).clear();
+        }
+
+        int minimumChunks = (list.size() + TreeList.CHUNK_CAPACITY - 1) / TreeList.CHUNK_CAPACITY;
+        assertTrue(list.chunkCount() <= 2 * minimumChunks + 1, "chunks: " + list.chunkCount());
+    }
+
+    @Test
+    void randomPositionalOperations_shouldMatchReferenceList() {
+        TreeList<Integer> list = new TreeList<>();
+        java.util.List<Integer> reference = new ArrayList<>();
+        Random random = new Random(7);
+
+        for (int step = 0; step < 20_000; step++) {
+            int op = random.nextInt(10);
+            if (op < 5 || reference.isEmpty()) {
+                int index = random.nextInt(reference.size() + 1);
+                list.add(step, index);
+                reference.add(index, step);
+            } else if (op < 8) {
+                int index = random.nextInt(reference.size());
+                assertEquals(reference.remove(index), list.removeAt(index));
+            } else {
+                int index = random.nextInt(reference.size());
+                assertEquals(reference.set(index, -step), list.set(index, -step));
+            }
+        }
+
+        assertEquals(reference.size(), list.size());
+        int i = 0;
+        for (Integer v : list) {
+            assertEquals(reference.get(i), v);
+            assertEquals(reference.get(i), list.get(i));
+            i++;
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package com.util.collections.map;
+
+import com.util.collections.Equivalence;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HashMapTest {
+
+    // ===== PUT / GET =====
+
+    @Test
+    void put_shouldReturnPreviousValue() {
+        HashMap<String, Integer> map = new HashMap<>();
+
+        assertNull(map.put("a", 1));
+        assertEquals(1, map.put("a", 2));
+
+        assertEquals(2, map.get("a"));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    void putIfAbsent_shouldKeepExistingValue() {
+        HashMap<String, Integer> map = new HashMap<>();
+
+        assertNull(map.putIfAbsent("a", 1));
+        assertEquals(1, map.putIfAbsent("a", 2));
+
+        assertEquals(1, map.get("a"));
+    }
+
+    @Test
+    void get_shouldReturnNullOrDefault_whenKeyIsAbsent() {
+        HashMap<String, Integer> map = new HashMap<>();
+
+        assertNull(map.get("missing"));
+        assertEquals(7, map.getOrDefault("missing", 7));
+        assertFalse(map.containsKey("missing"));
+    }
+
+    @Test
+    void nullKey_shouldBeSupported() {
+        HashMap<String, Integer> map = new HashMap<>();
+
+        map.put(null, 1);
+
+        assertTrue(map.containsKey(null));
+        assertEquals(1, map.get(null));
+        assertEquals(1, map.remove(null));
+        assertTrue(map.isEmpty());
+    }
+
+    // ===== REMOVE / CLEAR =====
+
+    @Test
+    void remove_shouldUnlinkFromCollidingChain() {
+        HashMap<Collider, Integer> map = new HashMap<>();
+        Collider a = new Collider("a");
+        Collider b = new Collider("b");
+        Collider c = new Collider("c");
+        map.put(a, 1);
+        map.put(b, 2);
+        map.put(c, 3);
+
+        assertEquals(2, map.remove(b));
+        assertNull(map.remove(b));
+
+        assertEquals(1, map.get(a));
+        assertEquals(3, map.get(c));
+        assertEquals(2, map.size());
+    }
+
+    @Test
+    void clear_shouldRemoveAllMappings() {
+        HashMap<Integer, Integer> map = new HashMap<>();
+        map.put(1, 1);
+        map.put(2, 2);
+
+        map.clear();
+
+        assertTrue(map.isEmpty());
+        assertFalse(map.containsKey(1));
+        assertFalse(map.iterator().hasNext());
+    }
+
+    // ===== RESIZE / ITERATION =====
+
+    @Test
+    void resize_shouldKeepAllMappingsReachable() {
+        HashMap<Integer, Integer> map = new HashMap<>(0);
+        for (int i = 0; i < 10_000; i++) {
+            map.put(i * 31, i);
+        }
+
+        assertEquals(10_000, map.size());
+        assertTrue(map.capacity() >= 10_000 * 4 / 3);
+        for (int i = 0; i < 10_000; i++) {
+            assertEquals(i, map.get(i * 31));
+        }
+    }
+
+    @Test
+    void iterator_shouldVisitEveryEntryOnce() {
+        HashMap<Integer, String> map = new HashMap<>();
+        for (int i = 0; i < 100; i++) {
+            map.put(i, "v" + i);
+        }
+
+        Set<Integer> seen = new HashSet<>();
+        for (Map.Entry<Integer, String> entry : map) {
+            assertEquals("v" + entry.getKey(), entry.getValue());
+            assertTrue(seen.add(entry.getKey()));
+        }
+        assertEquals(100, seen.size());
+    }
+
+    @Test
+    void entrySetValue_shouldWriteThrough() {
+        HashMap<String, Integer> map = new HashMap<>();
+        map.put("a", 1);
+
+        map.iterator().next().setValue(5);
+
+        assertEquals(5, map.get("a"));
+    }
+
+    @Test
+    void constructor_shouldRejectNegativeSize() {
+        assertThrows(IllegalArgumentException.class, () -> new HashMap<>(-1));
+    }
+
+    // ===== EQUIVALENCE =====
+
+    @Test
+    void identityEquivalence_shouldKeepEqualButDistinctKeysApart() {
+        HashMap<String, Integer> map = new HashMap<>(4, Equivalence.identity());
+        String a = new String("key");
+        String b = new String("key");
+
+        map.put(a, 1);
+        map.put(b, 2);
+
+        assertEquals(2, map.size());
+        assertEquals(1, map.get(a));
+        assertEquals(2, map.get(b));
+        assertNull(map.get("key"));
+        assertEquals(1, map.remove(a));
+        assertFalse(map.containsKey(a));
+    }
+
+    @Test
+    void keyEquivalence_shouldMatchOnExtractedKey() {
+        HashMap<String, Integer> map = new HashMap<>(4, Equivalence.onKey(String::length));
+
+        map.put("abc", 1);
+        assertEquals(1, map.put("xyz", 2));
+
+        assertEquals(1, map.size());
+        assertEquals(2, map.get("123"));
+        assertNull(map.get("ab"));
+    }
+
+    @Test
+    void equivalence_shouldKeepNullKeySupport() {
+        HashMap<String, Integer> map = new HashMap<>(4, Equivalence.onKey(String::length));
+
+        map.put(null, 1);
+        map.put("", 2);
+
+        assertEquals(1, map.get(null));
+        assertEquals(2, map.get(""));
+    }
+
+    @Test
+    void constructor_shouldRejectNullEquivalence() {
+        assertThrows(IllegalArgumentException.class, () -> new HashMap<>(4, null));
+    }
+
+    /** A key whose instances all share one hash code. */
+    private static final class Collider {
+        private final String name;
+
+        Collider(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public int hashCode() {
+            return 42;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Collider && ((Collider) o).name.equals(name);
+        }
+    }
+}
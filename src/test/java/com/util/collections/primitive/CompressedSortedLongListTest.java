@@ -0,0 +1,214 @@
+package com.util.collections.primitive;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.PrimitiveIterator;
+import java.util.Random;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompressedSortedLongListTest {
+
+    private static long[] randomSorted(Random random, int n, int maxGap) {
+        long[] values = new long[n];
+        long v = random.nextInt(1_000);
+        for (int i = 0; i < n; i++) {
+            v += random.nextInt(maxGap + 1);
+            values[i] = v;
+        }
+        return values;
+    }
+
+    private static long[] drain(PrimitiveIterator.OfLong it) {
+        LongArrayList out = new LongArrayList();
+        while (it.hasNext()) {
+            out.add(it.nextLong());
+        }
+        return out.toArray();
+    }
+
+    // ===================== ENCODING =====================
+
+    @Test
+    void roundTrip_shouldPreserveValuesAcrossBlocks() {
+        long[] values = randomSorted(new Random(42), 1_000, 50);
+
+        CompressedSortedLongList list = CompressedSortedLongList.of(values);
+
+        assertEquals(values.length, list.size());
+        assertArrayEquals(values, list.toArray());
+        assertArrayEquals(values, drain(list.iterator()));
+        for (int i = 0; i < values.length; i += 37) {
+            assertEquals(values[i], list.get(i));
+        }
+    }
+
+    @Test
+    void roundTrip_shouldHandleExtremeGapsAndDuplicates() {
+        long[] values = {Long.MIN_VALUE, Long.MIN_VALUE, -1, 0, 0, 0, 7, Long.MAX_VALUE - 1, Long.MAX_VALUE};
+
+        CompressedSortedLongList list = CompressedSortedLongList.of(values);
+
+        assertArrayEquals(values, list.toArray());
+        assertEquals(Long.MAX_VALUE, list.get(8));
+    }
+
+    @Test
+    void evenlySpacedValues_shouldNeedNoPackedBits() {
+        CompressedSortedLongList list = CompressedSortedLongList.of(LongStream.range(0, 1_280).map(i -> i * 1_000).toArray());
+
+        assertEquals(10 * 21, list.sizeInBytes());
+        assertEquals(1_279_000, list.get(1_279));
+    }
+
+    @Test
+    void denseIds_shouldCompressWellBelowEightBytesPerValue() {
+        long[] values = randomSorted(new Random(7), 100_000, 15);
+
+        CompressedSortedLongList list = CompressedSortedLongList.of(values);
+
+        assertTrue(list.sizeInBytes() < values.length, "expected under one byte per value: " + list.sizeInBytes());
+    }
+
+    @Test
+    void of_shouldRejectUnsortedInput() {
+        assertThrows(IllegalArgumentException.class, () -> CompressedSortedLongList.of(1, 3, 2));
+        assertThrows(IllegalArgumentException.class,
+                () -> CompressedSortedLongList.ofInts(LongStream.range(0, 200).mapToInt(i -> i == 150 ? 0 : (int) i).toArray()));
+    }
+
+    @Test
+    void builder_shouldNotBeReusable() {
+        CompressedSortedLongList.Builder builder = CompressedSortedLongList.builder().add(1);
+        builder.build();
+
+        assertThrows(IllegalStateException.class, () -> builder.add(2));
+        assertThrows(IllegalStateException.class, builder::build);
+    }
+
+    @Test
+    void get_shouldRejectOutOfRangeIndex() {
+        CompressedSortedLongList list = CompressedSortedLongList.ofInts(1, 2, 3);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(3));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(-1));
+    }
+
+    @Test
+    void emptyList_shouldBehave() {
+        CompressedSortedLongList list = CompressedSortedLongList.of();
+
+        assertTrue(list.isEmpty());
+        assertFalse(list.contains(0));
+        assertFalse(list.iterator().hasNext());
+        assertEquals("CompressedSortedLongList{}", list.toString());
+    }
+
+    // ===================== SEARCH =====================
+
+    @Test
+    void indexOf_shouldMatchLinearSearch() {
+        long[] values = randomSorted(new Random(3), 2_000, 6);
+        CompressedSortedLongList list = CompressedSortedLongList.of(values);
+        LongArrayList reference = LongArrayList.of(values);
+
+        for (long probe = values[0] - 2; probe <= values[values.length - 1] + 2; probe++) {
+            assertEquals(reference.indexOf(probe), list.indexOf(probe), "probe " + probe);
+        }
+    }
+
+    @Test
+    void indexOf_shouldFindDuplicatesSpanningBlockBoundary() {
+        long[] values = new long[300];
+        for (int i = 100; i < values.length; i++) {
+            values[i] = i < 200 ? 5 : 9;
+        }
+
+        CompressedSortedLongList list = CompressedSortedLongList.of(values);
+
+        assertEquals(100, list.indexOf(5));
+        assertEquals(200, list.indexOf(9));
+        assertEquals(-1, list.indexOf(6));
+    }
+
+    @Test
+    void indexOf_shouldSearchEvenlySpacedBlocks() {
+        long[] values = new long[300];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = 3L * i;
+        }
+
+        CompressedSortedLongList list = CompressedSortedLongList.of(values);
+
+        assertEquals(150, list.indexOf(450));
+        assertEquals(299, list.indexOf(897));
+        assertEquals(-1, list.indexOf(451));
+        assertEquals(-1, list.indexOf(900));
+    }
+
+    // ===================== CURSOR =====================
+
+    @Test
+    void advanceTo_shouldSkipToFirstValueAtOrAboveTarget() {
+        CompressedSortedLongList list = CompressedSortedLongList.of(LongStream.range(0, 1_000).map(i -> i * 2).toArray());
+        CompressedSortedLongList.Cursor cursor = list.cursor();
+
+        assertTrue(cursor.advanceTo(901));
+        assertEquals(902, cursor.nextLong());
+        assertTrue(cursor.advanceTo(10));
+        assertEquals(904, cursor.peek());
+        assertFalse(cursor.advanceTo(5_000));
+        assertFalse(cursor.hasNext());
+    }
+
+    // ===================== SET OPERATIONS =====================
+
+    @Test
+    void intersectionAndUnion_shouldMatchReferenceMerge() {
+        Random random = new Random(11);
+        long[] a = randomSorted(random, 3_000, 4);
+        long[] b = randomSorted(random, 500, 30);
+
+        long[] intersection = drain(CompressedSortedLongList.intersection(
+                CompressedSortedLongList.of(a), CompressedSortedLongList.of(b)));
+        long[] union = drain(CompressedSortedLongList.union(
+                CompressedSortedLongList.of(a), CompressedSortedLongList.of(b)));
+
+        assertArrayEquals(referenceMerge(a, b, true), intersection);
+        assertArrayEquals(referenceMerge(a, b, false), union);
+    }
+
+    @Test
+    void intersection_shouldKeepCommonDuplicates() {
+        CompressedSortedLongList a = CompressedSortedLongList.of(1, 2, 2, 2, 5);
+        CompressedSortedLongList b = CompressedSortedLongList.of(2, 2, 5, 6);
+
+        assertArrayEquals(new long[]{2, 2, 5}, drain(CompressedSortedLongList.intersection(a, b)));
+        assertArrayEquals(new long[]{1, 2, 2, 2, 5, 6}, drain(CompressedSortedLongList.union(a, b)));
+    }
+
+    private static long[] referenceMerge(long[] a, long[] b, boolean intersect) {
+        LongArrayList out = new LongArrayList();
+        int i = 0;
+        int j = 0;
+        while (i < a.length || j < b.length) {
+            if (j == b.length || (i < a.length && a[i] < b[j])) {
+                if (!intersect) {
+                    out.add(a[i]);
+                }
+                i++;
+            } else if (i == a.length || b[j] < a[i]) {
+                if (!intersect) {
+                    out.add(b[j]);
+                }
+                j++;
+            } else {
+                out.add(a[i]);
+                i++;
+                j++;
+            }
+        }
+        return out.toArray();
+    }
+}
@@ -0,0 +1,27 @@
+package com.util.collections.primitive;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DoubleArrayListTest {
+
+    @Test
+    void search_shouldUseNumericEquality() {
+        DoubleArrayList list = DoubleArrayList.of(1.5, -0.0, Double.NaN);
+
+        assertEquals(1, list.indexOf(0.0));
+        assertEquals(-1, list.indexOf(Double.NaN));
+        assertEquals(1, list.count(1.5));
+    }
+
+    @Test
+    void aggregates_shouldSummarizeValues() {
+        DoubleArrayList list = DoubleArrayList.of(0.5, 2.0, -1.0);
+
+        assertEquals(1.5, list.sum(), 1e-12);
+        assertEquals(-1.0, list.min());
+        assertEquals(2.0, list.max());
+        assertEquals("DoubleArrayList{0.5, 2.0}", list.filterRange(0.0, 2.0).toString());
+    }
+}
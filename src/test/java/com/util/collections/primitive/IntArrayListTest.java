@@ -0,0 +1,82 @@
+package com.util.collections.primitive;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IntArrayListTest {
+
+    @Test
+    void add_shouldGrowAndPreserveOrder() {
+        IntArrayList list = new IntArrayList(0);
+        for (int i = 0; i < 100; i++) {
+            list.add(i);
+        }
+
+        assertEquals(100, list.size());
+        assertEquals(0, list.get(0));
+        assertEquals(99, list.get(99));
+    }
+
+    @Test
+    void positionalOperations_shouldShiftValues() {
+        IntArrayList list = IntArrayList.of(1, 3);
+
+        list.add(2, 1);
+        assertEquals(3, list.set(2, 4));
+        assertEquals(1, list.removeAt(0));
+
+        assertEquals("IntArrayList{2, 4}", list.toString());
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.add(0, 3));
+    }
+
+    @Test
+    void search_shouldLocateValues() {
+        IntArrayList list = IntArrayList.of(5, 7, 5, 9);
+
+        assertTrue(list.contains(9));
+        assertFalse(list.contains(6));
+        assertEquals(0, list.indexOf(5));
+        assertEquals(-1, list.indexOf(6));
+        assertEquals(2, list.count(5));
+    }
+
+    @Test
+    void aggregates_shouldSummarizeValues() {
+        IntArrayList list = IntArrayList.of(Integer.MAX_VALUE, Integer.MAX_VALUE, -3);
+
+        assertEquals(2L * Integer.MAX_VALUE - 3, list.sum());
+        assertEquals(-3, list.min());
+        assertEquals(Integer.MAX_VALUE, list.max());
+    }
+
+    @Test
+    void aggregates_shouldRejectEmptyList() {
+        IntArrayList list = new IntArrayList();
+
+        assertEquals(0, list.sum());
+        assertThrows(NoSuchElementException.class, list::min);
+        assertThrows(NoSuchElementException.class, list::max);
+    }
+
+    @Test
+    void filterRange_shouldKeepValuesInClosedRange() {
+        IntArrayList list = IntArrayList.of(1, 5, 10, 15, 20, 5);
+
+        assertEquals("IntArrayList{5, 10, 15, 5}", list.filterRange(5, 15).toString());
+        assertEquals("IntArrayList{}", list.filterRange(30, 40).toString());
+    }
+
+    @Test
+    void clear_shouldEmptyTheList() {
+        IntArrayList list = IntArrayList.of(1, 2);
+
+        list.clear();
+
+        assertTrue(list.isEmpty());
+        assertEquals(0, list.toArray().length);
+    }
+}
@@ -0,0 +1,22 @@
+package com.util.collections.primitive;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LongArrayListTest {
+
+    @Test
+    void searchAndAggregates_shouldHandleWideValues() {
+        LongArrayList list = LongArrayList.of(Long.MAX_VALUE, 3_000_000_000L, -1L);
+        list.add(3_000_000_000L);
+
+        assertEquals(1, list.indexOf(3_000_000_000L));
+        assertEquals(2, list.count(3_000_000_000L));
+        assertEquals(-1L, list.min());
+        assertEquals(Long.MAX_VALUE, list.max());
+        assertEquals(6_000_000_000L - 1, list.sum() - Long.MAX_VALUE);
+        assertEquals("LongArrayList{3000000000, 3000000000}",
+                list.filterRange(0L, 4_000_000_000L).toString());
+    }
+}
@@ -0,0 +1,86 @@
+package com.util.collections.primitive;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks the active kernels against {@link ScalarKernels} on random data.
+ *
+ * <p>
+ * Without the {@code vector} profile both sides are scalar and the test is a
+ * self-check; with it, the vector kernels are verified against the reference.
+ * </p>
+ */
+class PrimitiveKernelsTest {
+
+    private static final PrimitiveKernels ACTIVE = PrimitiveKernels.INSTANCE;
+    private static final PrimitiveKernels REFERENCE = new ScalarKernels();
+
+    @Test
+    void intKernels_shouldMatchScalarReference() {
+        Random random = new Random(1);
+        for (int size = 1; size < 300; size += 7) {
+            int[] a = new int[size];
+            for (int i = 0; i < size; i++) {
+                a[i] = random.nextInt(64) - 32 + (random.nextInt(10) == 0 ? Integer.MAX_VALUE - 64 : 0);
+            }
+            int probe = a[random.nextInt(size)];
+            for (int from = 0; from < size; from += 13) {
+                assertEquals(REFERENCE.indexOf(a, from, size, probe), ACTIVE.indexOf(a, from, size, probe));
+            }
+            assertEquals(REFERENCE.count(a, size, probe), ACTIVE.count(a, size, probe));
+            assertEquals(REFERENCE.sum(a, size), ACTIVE.sum(a, size));
+            assertEquals(REFERENCE.min(a, size), ACTIVE.min(a, size));
+            assertEquals(REFERENCE.max(a, size), ACTIVE.max(a, size));
+            int[] expected = new int[size];
+            int[] actual = new int[size];
+            int n = REFERENCE.filterRange(a, size, -10, 10, expected);
+            assertEquals(n, ACTIVE.filterRange(a, size, -10, 10, actual));
+            for (int i = 0; i < n; i++) {
+                assertEquals(expected[i], actual[i]);
+            }
+        }
+    }
+
+    @Test
+    void longKernels_shouldMatchScalarReference() {
+        Random random = new Random(2);
+        for (int size = 1; size < 300; size += 7) {
+            long[] a = new long[size];
+            for (int i = 0; i < size; i++) {
+                a[i] = random.nextInt(64) - 32;
+            }
+            long probe = a[random.nextInt(size)];
+            assertEquals(REFERENCE.indexOf(a, 0, size, probe), ACTIVE.indexOf(a, 0, size, probe));
+            assertEquals(REFERENCE.indexOf(a, 0, size, 99L), ACTIVE.indexOf(a, 0, size, 99L));
+            assertEquals(REFERENCE.count(a, size, probe), ACTIVE.count(a, size, probe));
+            assertEquals(REFERENCE.sum(a, size), ACTIVE.sum(a, size));
+            assertEquals(REFERENCE.min(a, size), ACTIVE.min(a, size));
+            assertEquals(REFERENCE.max(a, size), ACTIVE.max(a, size));
+            long[] out = new long[size];
+            assertEquals(REFERENCE.filterRange(a, size, 0, 31, out), ACTIVE.filterRange(a, size, 0, 31, out));
+        }
+    }
+
+    @Test
+    void doubleKernels_shouldMatchScalarReference() {
+        Random random = new Random(3);
+        for (int size = 1; size < 300; size += 7) {
+            double[] a = new double[size];
+            for (int i = 0; i < size; i++) {
+                a[i] = random.nextInt(64) / 4.0 - 8;
+            }
+            double probe = a[random.nextInt(size)];
+            assertEquals(REFERENCE.indexOf(a, 0, size, probe), ACTIVE.indexOf(a, 0, size, probe));
+            assertEquals(REFERENCE.count(a, size, probe), ACTIVE.count(a, size, probe));
+            assertEquals(REFERENCE.sum(a, size), ACTIVE.sum(a, size), 1e-9);
+            assertEquals(REFERENCE.min(a, size), ACTIVE.min(a, size));
+            assertEquals(REFERENCE.max(a, size), ACTIVE.max(a, size));
+            double[] out = new double[size];
+            assertEquals(REFERENCE.filterRange(a, size, -1.5, 1.5, out), ACTIVE.filterRange(a, size, -1.5, 1.5, out));
+        }
+    }
+}
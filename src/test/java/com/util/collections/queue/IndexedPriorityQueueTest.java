@@ -0,0 +1,109 @@
+package com.util.collections.queue;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IndexedPriorityQueueTest {
+
+    @Test
+    void pollHandle_shouldReturnHandlesInKeyOrder() {
+        IndexedPriorityQueue<Integer> queue = new IndexedPriorityQueue<>(5);
+        queue.insert(0, 50);
+        queue.insert(1, 10);
+        queue.insert(2, 40);
+        queue.insert(3, 20);
+
+        assertEquals(1, queue.pollHandle());
+        assertEquals(3, queue.pollHandle());
+        assertEquals(2, queue.pollHandle());
+        assertEquals(0, queue.pollHandle());
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    void decreaseKey_shouldMoveEntryTowardsHead() {
+        IndexedPriorityQueue<Integer> queue = new IndexedPriorityQueue<>(3);
+        queue.insert(0, 10);
+        queue.insert(1, 20);
+        queue.insert(2, 30);
+
+        queue.decreaseKey(2, 5);
+
+        assertEquals(2, queue.peekHandle());
+        assertEquals(5, queue.keyOf(2));
+    }
+
+    @Test
+    void decreaseKey_shouldRejectGreaterKey() {
+        IndexedPriorityQueue<Integer> queue = new IndexedPriorityQueue<>(1);
+        queue.insert(0, 10);
+
+        assertThrows(IllegalArgumentException.class, () -> queue.decreaseKey(0, 11));
+    }
+
+    @Test
+    void changeKey_shouldMoveEntryInEitherDirection() {
+        IndexedPriorityQueue<Integer> queue = new IndexedPriorityQueue<>(3);
+        queue.insert(0, 10);
+        queue.insert(1, 20);
+        queue.insert(2, 30);
+
+        queue.changeKey(0, 40);
+
+        assertEquals(1, queue.pollHandle());
+        assertEquals(2, queue.pollHandle());
+        assertEquals(0, queue.pollHandle());
+    }
+
+    @Test
+    void remove_shouldDetachArbitraryEntry() {
+        IndexedPriorityQueue<Integer> queue = new IndexedPriorityQueue<>(4);
+        queue.insert(0, 1);
+        queue.insert(1, 2);
+        queue.insert(2, 3);
+        queue.insert(3, 4);
+
+        assertEquals(2, queue.remove(1));
+
+        assertFalse(queue.contains(1));
+        assertEquals(3, queue.size());
+        assertEquals(0, queue.pollHandle());
+        assertEquals(2, queue.pollHandle());
+        assertEquals(3, queue.pollHandle());
+    }
+
+    @Test
+    void handles_shouldBeValidated() {
+        IndexedPriorityQueue<Integer> queue = new IndexedPriorityQueue<>(2);
+        queue.insert(0, 1);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> queue.insert(2, 1));
+        assertThrows(IllegalArgumentException.class, () -> queue.insert(0, 1));
+        assertThrows(IllegalArgumentException.class, () -> queue.insert(1, null));
+        assertThrows(NoSuchElementException.class, () -> queue.keyOf(1));
+    }
+
+    @Test
+    void pollHandle_shouldThrow_whenEmpty() {
+        IndexedPriorityQueue<Integer> queue = new IndexedPriorityQueue<>(1);
+
+        assertThrows(NoSuchElementException.class, queue::pollHandle);
+    }
+
+    @Test
+    void clear_shouldReleaseAllHandles() {
+        IndexedPriorityQueue<Integer> queue = new IndexedPriorityQueue<>(2);
+        queue.insert(0, 1);
+        queue.insert(1, 2);
+
+        queue.clear();
+
+        assertTrue(queue.isEmpty());
+        assertFalse(queue.contains(0));
+        queue.insert(0, 3);
+        assertEquals(0, queue.peekHandle());
+    }
+}
@@ -0,0 +1,95 @@
+package com.util.collections.queue;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PriorityQueueTest {
+
+    @Test
+    void poll_shouldReturnElementsInNaturalOrder() {
+        PriorityQueue<Integer> queue = new PriorityQueue<>();
+        for (int v : new int[]{5, 1, 4, 2, 3}) {
+            queue.offer(v);
+        }
+
+        for (int expected = 1; expected <= 5; expected++) {
+            assertEquals(expected, queue.peek());
+            assertEquals(expected, queue.poll());
+        }
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    void poll_shouldRespectComparator() {
+        PriorityQueue<String> queue = new PriorityQueue<>(Comparator.comparing(String::length));
+        queue.offer("ccc");
+        queue.offer("a");
+        queue.offer("bb");
+
+        assertEquals("a", queue.poll());
+        assertEquals("bb", queue.poll());
+        assertEquals("ccc", queue.poll());
+    }
+
+    @Test
+    void pollAndPeek_shouldReturnNull_whenEmpty() {
+        PriorityQueue<Integer> queue = new PriorityQueue<>();
+
+        assertNull(queue.peek());
+        assertNull(queue.poll());
+    }
+
+    @Test
+    void offer_shouldRejectNull() {
+        PriorityQueue<Integer> queue = new PriorityQueue<>();
+
+        assertThrows(IllegalArgumentException.class, () -> queue.offer(null));
+        assertThrows(IllegalArgumentException.class, () -> new PriorityQueue<>(Arrays.asList(1, null)));
+    }
+
+    @Test
+    void bulkConstructor_shouldHeapifyAllElements() {
+        java.util.List<Integer> values = new ArrayList<>();
+        Random random = new Random(3);
+        for (int i = 0; i < 1_000; i++) {
+            values.add(random.nextInt(500));
+        }
+
+        PriorityQueue<Integer> queue = new PriorityQueue<>(values, Comparator.reverseOrder());
+        values.sort(Collections.reverseOrder());
+
+        assertEquals(values.size(), queue.size());
+        for (Integer expected : values) {
+            assertEquals(expected, queue.poll());
+        }
+    }
+
+    @Test
+    void iterator_shouldVisitEveryElement() {
+        PriorityQueue<Integer> queue = new PriorityQueue<>(Arrays.asList(3, 1, 2));
+
+        int sum = 0;
+        for (int v : queue) {
+            sum += v;
+        }
+
+        assertEquals(6, sum);
+    }
+
+    @Test
+    void clear_shouldEmptyTheQueue() {
+        PriorityQueue<Integer> queue = new PriorityQueue<>(Arrays.asList(3, 1, 2));
+
+        queue.clear();
+
+        assertTrue(queue.isEmpty());
+        assertNull(queue.poll());
+    }
+}
@@ -0,0 +1,178 @@
+package com.util.collections.set;
+
+import com.util.collections.list.LinkedList;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RoaringIntSetTest {
+
+    private static RoaringIntSet fill(TreeSet<Integer> reference, Random random, int n, int bound) {
+        RoaringIntSet set = new RoaringIntSet();
+        for (int i = 0; i < n; i++) {
+            int v = random.nextInt(bound) - bound / 4;
+            assertEquals(reference.add(v), set.add(v));
+        }
+        return set;
+    }
+
+    private static int[] toArray(TreeSet<Integer> reference) {
+        return reference.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    // ===================== MEMBERSHIP =====================
+
+    @Test
+    void addContainsRemove_shouldMatchReferenceAcrossContainerKinds() {
+        Random random = new Random(1);
+        TreeSet<Integer> reference = new TreeSet<>();
+        // 200k values over 2^18 fill four chunks past the array-to-bitmap threshold
+        RoaringIntSet set = fill(reference, random, 200_000, 1 << 18);
+
+        assertEquals(reference.size(), set.cardinality());
+        for (int i = 0; i < 150_000; i++) {
+            int v = random.nextInt(1 << 18) - (1 << 16);
+            assertEquals(reference.remove(v), set.remove(v));
+        }
+
+        assertEquals(reference.size(), set.cardinality());
+        assertArrayEquals(toArray(reference), set.toArray());
+        for (int v = -(1 << 16); v < 3 << 16; v += 97) {
+            assertEquals(reference.contains(v), set.contains(v));
+        }
+    }
+
+    @Test
+    void iteration_shouldFollowSignedOrder() {
+        RoaringIntSet set = RoaringIntSet.of(5, Integer.MIN_VALUE, -1, Integer.MAX_VALUE, 0, 70_000, -70_000);
+
+        assertArrayEquals(new int[]{Integer.MIN_VALUE, -70_000, -1, 0, 5, 70_000, Integer.MAX_VALUE}, set.toArray());
+        assertEquals("RoaringIntSet{-1, 0, 1}", RoaringIntSet.of(1, 0, -1).toString());
+    }
+
+    @Test
+    void remove_shouldDropEmptyContainers() {
+        RoaringIntSet set = RoaringIntSet.of(1, 1 << 20);
+
+        assertTrue(set.remove(1 << 20));
+        assertFalse(set.remove(1 << 20));
+        assertTrue(set.remove(1));
+
+        assertTrue(set.isEmpty());
+        assertEquals(0, set.toArray().length);
+        assertEquals(new RoaringIntSet(), set);
+    }
+
+    // ===================== RUN CONTAINERS =====================
+
+    @Test
+    void runOptimize_shouldShrinkConsecutiveRanges() {
+        RoaringIntSet set = new RoaringIntSet();
+        IntStream.range(0, 100_000).forEach(set::add);
+        long before = set.sizeInBytes();
+
+        assertTrue(set.runOptimize());
+
+        assertTrue(set.sizeInBytes() < before / 100, "run encoding should be tiny: " + set.sizeInBytes());
+        assertTrue(set.contains(65_535));
+        assertFalse(set.contains(100_000));
+        assertEquals(100_000, set.cardinality());
+        assertFalse(set.runOptimize());
+    }
+
+    @Test
+    void runContainers_shouldStayCorrectUnderUpdatesAndOperations() {
+        RoaringIntSet runs = new RoaringIntSet();
+        IntStream.range(0, 10_000).filter(v -> v % 1000 < 500).forEach(runs::add);
+        runs.runOptimize();
+
+        assertFalse(runs.add(10));
+        assertTrue(runs.add(600));
+        assertTrue(runs.remove(0));
+        assertFalse(runs.remove(0));
+
+        RoaringIntSet probe = RoaringIntSet.of(1, 600, 700, 9_499, 9_500);
+        assertEquals(RoaringIntSet.of(1, 600, 9_499), runs.and(probe));
+        assertEquals(5_002, runs.or(probe).cardinality());
+        assertEquals(4_997, runs.andNot(probe).cardinality());
+    }
+
+    // ===================== SET OPERATIONS =====================
+
+    @Test
+    void setOperations_shouldMatchReference() {
+        Random random = new Random(5);
+        TreeSet<Integer> ra = new TreeSet<>();
+        TreeSet<Integer> rb = new TreeSet<>();
+        RoaringIntSet a = fill(ra, random, 120_000, 1 << 19);
+        RoaringIntSet b = fill(rb, random, 3_000, 1 << 19);
+
+        TreeSet<Integer> and = new TreeSet<>(ra);
+        and.retainAll(rb);
+        TreeSet<Integer> or = new TreeSet<>(ra);
+        or.addAll(rb);
+        TreeSet<Integer> aMinusB = new TreeSet<>(ra);
+        aMinusB.removeAll(rb);
+        TreeSet<Integer> bMinusA = new TreeSet<>(rb);
+        bMinusA.removeAll(ra);
+
+        assertArrayEquals(toArray(and), a.and(b).toArray());
+        assertArrayEquals(toArray(and), b.and(a).toArray());
+        assertArrayEquals(toArray(or), a.or(b).toArray());
+        assertArrayEquals(toArray(aMinusB), a.andNot(b).toArray());
+        assertArrayEquals(toArray(bMinusA), b.andNot(a).toArray());
+        assertEquals(or.size(), a.or(b).cardinality());
+    }
+
+    @Test
+    void setOperations_shouldNotShareMutableState() {
+        RoaringIntSet a = RoaringIntSet.of(1, 2);
+        RoaringIntSet b = RoaringIntSet.of(100_000);
+
+        RoaringIntSet union = a.or(b);
+        union.add(3);
+        union.remove(100_000);
+
+        assertEquals(RoaringIntSet.of(1, 2), a);
+        assertEquals(RoaringIntSet.of(100_000), b);
+        assertThrows(IllegalArgumentException.class, () -> a.and(null));
+    }
+
+    // ===================== CONVERSION =====================
+
+    @Test
+    void listConversion_shouldRoundTrip() {
+        LinkedList<Integer> list = new LinkedList<>(true);
+        list.add(9);
+        list.add(-3);
+        list.add(9);
+
+        RoaringIntSet set = RoaringIntSet.fromList(list);
+
+        assertEquals(2, set.cardinality());
+        LinkedList<Integer> sorted = set.toList();
+        assertEquals(2, sorted.size());
+        assertEquals(-3, sorted.get(0));
+        assertEquals(9, sorted.get(1));
+
+        list.add(null);
+        assertThrows(IllegalArgumentException.class, () -> RoaringIntSet.fromList(list));
+    }
+
+    @Test
+    void equalsAndHashCode_shouldIgnoreRepresentation() {
+        RoaringIntSet a = new RoaringIntSet();
+        IntStream.range(0, 5_000).forEach(a::add);
+        RoaringIntSet b = new RoaringIntSet();
+        IntStream.range(0, 5_000).forEach(b::add);
+        b.runOptimize();
+
+        assertEquals(a, b);
+        assertEquals(a.hashCode(), b.hashCode());
+        assertNotEquals(a, RoaringIntSet.of(1));
+    }
+}
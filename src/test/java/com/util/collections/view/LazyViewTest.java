@@ -0,0 +1,181 @@
+package com.util.collections.view;
+
+import com.util.collections.list.LinkedList;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LazyViewTest {
+
+    private static LinkedList<Integer> listOf(int... values) {
+        LinkedList<Integer> list = new LinkedList<>(false);
+        for (int v : values) {
+            list.add(v);
+        }
+        return list;
+    }
+
+    private static <T> java.util.List<T> iterate(Iterable<T> iterable) {
+        java.util.List<T> result = new ArrayList<>();
+        for (T t : iterable) {
+            result.add(t);
+        }
+        return result;
+    }
+
+    // ===================== LAZINESS =====================
+
+    @Test
+    void intermediateOperations_shouldNotReadSource() {
+        AtomicInteger calls = new AtomicInteger();
+
+        LazyView<Integer> view = LazyView.of(listOf(1, 2, 3))
+                .map(v -> {
+                    calls.incrementAndGet();
+                    return v * 2;
+                })
+                .filter(v -> v > 2);
+
+        assertEquals(0, calls.get());
+        assertEquals(java.util.List.of(4, 6), iterate(view.toList()));
+        assertEquals(3, calls.get());
+    }
+
+    @Test
+    void view_shouldObserveLaterChangesToSource() {
+        LinkedList<Integer> list = listOf(1, 2);
+        LazyView<Integer> view = LazyView.of(list).map(v -> v + 10);
+
+        list.add(3);
+
+        assertEquals(java.util.List.of(11, 12, 13), iterate(view.toList()));
+    }
+
+    @Test
+    void take_shouldStopReadingSourceEarly() {
+        AtomicInteger reads = new AtomicInteger();
+
+        LinkedList<Integer> result = LazyView.of(listOf(1, 2, 3, 4, 5))
+                .map(v -> {
+                    reads.incrementAndGet();
+                    return v;
+                })
+                .take(2)
+                .toList();
+
+        assertEquals(java.util.List.of(1, 2), iterate(result));
+        assertEquals(2, reads.get());
+    }
+
+    // ===================== OPERATIONS =====================
+
+    @Test
+    void pipeline_shouldFuseAllStages() {
+        LinkedList<String> result = LazyView.of(listOf(1, 2, 3, 4, 5, 6, 7, 8))
+                .filter(v -> v % 2 == 0)
+                .skip(1)
+                .map(v -> "#" + v)
+                .take(2)
+                .toList();
+
+        assertEquals(java.util.List.of("#4", "#6"), iterate(result));
+    }
+
+    @Test
+    void takeAndSkip_shouldHandleBoundaries() {
+        LazyView<Integer> view = LazyView.of(listOf(1, 2, 3));
+
+        assertEquals(0, view.take(0).count());
+        assertEquals(3, view.take(10).count());
+        assertEquals(0, view.skip(5).count());
+        assertEquals(3, view.skip(0).count());
+        assertThrows(IllegalArgumentException.class, () -> view.take(-1));
+        assertThrows(IllegalArgumentException.class, () -> view.skip(-1));
+    }
+
+    @Test
+    void concat_shouldAppendOtherSource() {
+        LazyView<Integer> view = LazyView.of(listOf(1, 2))
+                .concat(LazyView.of(listOf(3, 4)).map(v -> v * 10))
+                .concat(java.util.List.of(5));
+
+        assertEquals(java.util.List.of(1, 2, 30, 40, 5), iterate(view.toList()));
+        assertEquals(java.util.List.of(1, 2, 30), iterate(view.take(3).toList()));
+    }
+
+    @Test
+    void take_shouldComposeWithConcat() {
+        LazyView<Integer> view = LazyView.of(listOf(1, 2)).take(2).concat(listOf(3));
+
+        assertEquals(java.util.List.of(1, 2, 3), iterate(view.toList()));
+    }
+
+    // ===================== TERMINAL OPERATIONS =====================
+
+    @Test
+    void reduce_shouldFoldInOrder() {
+        LazyView<Integer> view = LazyView.of(listOf(1, 2, 3, 4));
+
+        assertEquals(10, view.reduce(0, Integer::sum));
+        assertEquals(7, view.filter(v -> v > 5).reduce(7, Integer::sum));
+    }
+
+    @Test
+    void forEach_shouldVisitEveryElement() {
+        java.util.List<Integer> seen = new ArrayList<>();
+
+        LazyView.of(listOf(3, 1, 2)).map(v -> v * v).forEach(seen::add);
+
+        assertEquals(java.util.List.of(9, 1, 4), seen);
+    }
+
+    @Test
+    void toList_shouldPermitNullResults() {
+        LinkedList<String> result = LazyView.of(listOf(1, 2))
+                .map(v -> v == 1 ? null : "two")
+                .toList();
+
+        assertNull(result.get(0));
+        assertEquals("two", result.get(1));
+    }
+
+    // ===================== ITERATION =====================
+
+    @Test
+    void iterator_shouldMatchTerminalEvaluation() {
+        LazyView<Integer> view = LazyView.of(listOf(1, 2, 3, 4, 5, 6))
+                .filter(v -> v != 3)
+                .map(v -> v * 2)
+                .skip(1)
+                .take(3)
+                .concat(listOf(0));
+
+        assertEquals(iterate(view.toList()), iterate(view));
+        assertEquals(java.util.List.of(4, 8, 10, 0), iterate(view));
+    }
+
+    @Test
+    void iterator_shouldThrowWhenExhausted() {
+        Iterator<Integer> iterator = LazyView.of(listOf(1)).filter(v -> v > 1).iterator();
+
+        assertFalse(iterator.hasNext());
+        assertThrows(NoSuchElementException.class, iterator::next);
+    }
+
+    @Test
+    void from_shouldRejectNullArguments() {
+        assertThrows(IllegalArgumentException.class, () -> LazyView.of(null));
+        assertThrows(IllegalArgumentException.class, () -> LazyView.of(listOf(1)).map(null));
+        assertThrows(IllegalArgumentException.class, () -> LazyView.of(listOf(1)).filter(null));
+    }
+
+    @Test
+    void toString_shouldListElements() {
+        assertEquals("LazyView{2, 4}", LazyView.of(listOf(1, 2)).map(v -> v * 2).toString());
+    }
+}
@@ -0,0 +1,373 @@
+package com.util.collections.primitive;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * SIMD {@link PrimitiveKernels} implementation built on {@code jdk.incubator.vector}.
+ *
+ * <p><strong>Design Overview:</strong>
+ * Every kernel processes the largest lane-aligned prefix of its range with
+ * full-width vectors of the platform's preferred species (for example eight
+ * {@code int} lanes with AVX2) and finishes the remainder with a scalar loop.
+ * Searches stop at the first vector containing a match; aggregates keep
+ * lane-wise accumulators and reduce them once at the end.
+ *
+ * <p><strong>Availability:</strong>
+ * This class is compiled only by the {@code vector} Maven profile and can only
+ * be loaded when the JVM runs with {@code --add-modules jdk.incubator.vector}.
+ * {@link PrimitiveKernels#INSTANCE} falls back to {@link ScalarKernels} otherwise.
+ *
+ * <p><strong>Overflow:</strong>
+ * {@code int} sums widen each vector to {@code long} lanes before accumulating,
+ * so they are exact for any list size that fits in an array.
+ */
+final class VectorKernels extends PrimitiveKernels {
+
+    private static final VectorSpecies<Integer> INTS = IntVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Long> LONGS = LongVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Double> DOUBLES = DoubleVector.SPECIES_PREFERRED;
+
+    //====================== int ================================================================//
+
+    @Override
+    int indexOf(int[] a, int from, int to, int value) {
+        int i = from;
+        int bound = from + INTS.loopBound(to - from);
+        for (; i < bound; i += INTS.length()) {
+            VectorMask<Integer> match = IntVector.fromArray(INTS, a, i).eq(value);
+            if (match.anyTrue()) {
+                return i + match.firstTrue();
+            }
+        }
+        for (; i < to; i++) {
+            if (a[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    int count(int[] a, int to, int value) {
+        int n = 0;
+        int i = 0;
+        int bound = INTS.loopBound(to);
+        for (; i < bound; i += INTS.length()) {
+            n += IntVector.fromArray(INTS, a, i).eq(value).trueCount();
+        }
+        for (; i < to; i++) {
+            if (a[i] == value) {
+                n++;
+            }
+        }
+        return n;
+    }
+
+    @Override
+    long sum(int[] a, int to) {
+        LongVector acc = LongVector.zero(LONGS);
+        int parts = INTS.length() / LONGS.length();
+        int i = 0;
+        int bound = INTS.loopBound(to);
+        for (; i < bound; i += INTS.length()) {
+            IntVector v = IntVector.fromArray(INTS, a, i);
+            for (int part = 0; part < parts; part++) {
+                acc = acc.add((LongVector) v.convertShape(VectorOperators.I2L, LONGS, part));
+            }
+        }
+        long sum = acc.reduceLanes(VectorOperators.ADD);
+        for (; i < to; i++) {
+            sum += a[i];
+        }
+        return sum;
+    }
+
+    @Override
+    int min(int[] a, int to) {
+        IntVector acc = IntVector.broadcast(INTS, Integer.MAX_VALUE);
+        int i = 0;
+        int bound = INTS.loopBound(to);
+        for (; i < bound; i += INTS.length()) {
+            acc = acc.min(IntVector.fromArray(INTS, a, i));
+        }
+        int min = acc.reduceLanes(VectorOperators.MIN);
+        for (; i < to; i++) {
+            min = Math.min(min, a[i]);
+        }
+        return min;
+    }
+
+    @Override
+    int max(int[] a, int to) {
+        IntVector acc = IntVector.broadcast(INTS, Integer.MIN_VALUE);
+        int i = 0;
+        int bound = INTS.loopBound(to);
+        for (; i < bound; i += INTS.length()) {
+            acc = acc.max(IntVector.fromArray(INTS, a, i));
+        }
+        int max = acc.reduceLanes(VectorOperators.MAX);
+        for (; i < to; i++) {
+            max = Math.max(max, a[i]);
+        }
+        return max;
+    }
+
+    @Override
+    int filterRange(int[] a, int to, int lo, int hi, int[] out) {
+        int n = 0;
+        int i = 0;
+        int bound = INTS.loopBound(to);
+        for (; i < bound; i += INTS.length()) {
+            IntVector v = IntVector.fromArray(INTS, a, i);
+            VectorMask<Integer> inRange = v.compare(VectorOperators.GE, lo)
+                    .and(v.compare(VectorOperators.LE, hi));
+            if (inRange.allTrue()) {
+                v.intoArray(out, n);
+                n += INTS.length();
+            } else if (inRange.anyTrue()) {
+                for (int lane = 0; lane < INTS.length(); lane++) {
+                    if (inRange.laneIsSet(lane)) {
+                        out[n++] = a[i + lane];
+                    }
+                }
+            }
+        }
+        for (; i < to; i++) {
+            int v = a[i];
+            if (v >= lo && v <= hi) {
+                out[n++] = v;
+            }
+        }
+        return n;
+    }
+
+    //====================== long ===============================================================//
+
+    @Override
+    int indexOf(long[] a, int from, int to, long value) {
+        int i = from;
+        int bound = from + LONGS.loopBound(to - from);
+        for (; i < bound; i += LONGS.length()) {
+            VectorMask<Long> match = LongVector.fromArray(LONGS, a, i).eq(value);
+            if (match.anyTrue()) {
+                return i + match.firstTrue();
+            }
+        }
+        for (; i < to; i++) {
+            if (a[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    int count(long[] a, int to, long value) {
+        int n = 0;
+        int i = 0;
+        int bound = LONGS.loopBound(to);
+        for (; i < bound; i += LONGS.length()) {
+            n += LongVector.fromArray(LONGS, a, i).eq(value).trueCount();
+        }
+        for (; i < to; i++) {
+            if (a[i] == value) {
+                n++;
+            }
+        }
+        return n;
+    }
+
+    @Override
+    long sum(long[] a, int to) {
+        LongVector acc = LongVector.zero(LONGS);
+        int i = 0;
+        int bound = LONGS.loopBound(to);
+        for (; i < bound; i += LONGS.length()) {
+            acc = acc.add(LongVector.fromArray(LONGS, a, i));
+        }
+        long sum = acc.reduceLanes(VectorOperators.ADD);
+        for (; i < to; i++) {
+            sum += a[i];
+        }
+        return sum;
+    }
+
+    @Override
+    long min(long[] a, int to) {
+        LongVector acc = LongVector.broadcast(LONGS, Long.MAX_VALUE);
+        int i = 0;
+        int bound = LONGS.loopBound(to);
+        for (; i < bound; i += LONGS.length()) {
+            acc = acc.min(LongVector.fromArray(LONGS, a, i));
+        }
+        long min = acc.reduceLanes(VectorOperators.MIN);
+        for (; i < to; i++) {
+            min = Math.min(min, a[i]);
+        }
+        return min;
+    }
+
+    @Override
+    long max(long[] a, int to) {
+        LongVector acc = LongVector.broadcast(LONGS, Long.MIN_VALUE);
+        int i = 0;
+        int bound = LONGS.loopBound(to);
+        for (; i < bound; i += LONGS.length()) {
+            acc = acc.max(LongVector.fromArray(LONGS, a, i));
+        }
+        long max = acc.reduceLanes(VectorOperators.MAX);
+        for (; i < to; i++) {
+            max = Math.max(max, a[i]);
+        }
+        return max;
+    }
+
+    @Override
+    int filterRange(long[] a, int to, long lo, long hi, long[] out) {
+        int n = 0;
+        int i = 0;
+        int bound = LONGS.loopBound(to);
+        for (; i < bound; i += LONGS.length()) {
+            LongVector v = LongVector.fromArray(LONGS, a, i);
+            VectorMask<Long> inRange = v.compare(VectorOperators.GE, lo)
+                    .and(v.compare(VectorOperators.LE, hi));
+            if (inRange.allTrue()) {
+                v.intoArray(out, n);
+                n += LONGS.length();
+            } else if (inRange.anyTrue()) {
+                for (int lane = 0; lane < LONGS.length(); lane++) {
+                    if (inRange.laneIsSet(lane)) {
+                        out[n++] = a[i + lane];
+                    }
+                }
+            }
+        }
+        for (; i < to; i++) {
+            long v = a[i];
+            if (v >= lo && v <= hi) {
+                out[n++] = v;
+            }
+        }
+        return n;
+    }
+
+    //====================== double =============================================================//
+
+    @Override
+    int indexOf(double[] a, int from, int to, double value) {
+        int i = from;
+        int bound = from + DOUBLES.loopBound(to - from);
+        for (; i < bound; i += DOUBLES.length()) {
+            VectorMask<Double> match = DoubleVector.fromArray(DOUBLES, a, i).eq(value);
+            if (match.anyTrue()) {
+                return i + match.firstTrue();
+            }
+        }
+        for (; i < to; i++) {
+            if (a[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    int count(double[] a, int to, double value) {
+        int n = 0;
+        int i = 0;
+        int bound = DOUBLES.loopBound(to);
+        for (; i < bound; i += DOUBLES.length()) {
+            n += DoubleVector.fromArray(DOUBLES, a, i).eq(value).trueCount();
+        }
+        for (; i < to; i++) {
+            if (a[i] == value) {
+                n++;
+            }
+        }
+        return n;
+    }
+
+    @Override
+    double sum(double[] a, int to) {
+        DoubleVector acc = DoubleVector.zero(DOUBLES);
+        int i = 0;
+        int bound = DOUBLES.loopBound(to);
+        for (; i < bound; i += DOUBLES.length()) {
+            acc = acc.add(DoubleVector.fromArray(DOUBLES, a, i));
+        }
+        double sum = acc.reduceLanes(VectorOperators.ADD);
+        for (; i < to; i++) {
+            sum += a[i];
+        }
+        return sum;
+    }
+
+    @Override
+    double min(double[] a, int to) {
+        DoubleVector acc = DoubleVector.broadcast(DOUBLES, Double.POSITIVE_INFINITY);
+        int i = 0;
+        int bound = DOUBLES.loopBound(to);
+        for (; i < bound; i += DOUBLES.length()) {
+            acc = acc.min(DoubleVector.fromArray(DOUBLES, a, i));
+        }
+        double min = acc.reduceLanes(VectorOperators.MIN);
+        for (; i < to; i++) {
+            min = Math.min(min, a[i]);
+        }
+        return min;
+    }
+
+    @Override
+    double max(double[] a, int to) {
+        DoubleVector acc = DoubleVector.broadcast(DOUBLES, Double.NEGATIVE_INFINITY);
+        int i = 0;
+        int bound = DOUBLES.loopBound(to);
+        for (; i < bound; i += DOUBLES.length()) {
+            acc = acc.max(DoubleVector.fromArray(DOUBLES, a, i));
+        }
+        double max = acc.reduceLanes(VectorOperators.MAX);
+        for (; i < to; i++) {
+            max = Math.max(max, a[i]);
+        }
+        return max;
+    }
+
+    @Override
+    int filterRange(double[] a, int to, double lo, double hi, double[] out) {
+        int n = 0;
+        int i = 0;
+        int bound = DOUBLES.loopBound(to);
+        for (; i < bound; i += DOUBLES.length()) {
+            DoubleVector v = DoubleVector.fromArray(DOUBLES, a, i);
+            VectorMask<Double> inRange = v.compare(VectorOperators.GE, lo)
+                    .and(v.compare(VectorOperators.LE, hi));
+            if (inRange.allTrue()) {
+                v.intoArray(out, n);
+                n += DOUBLES.length();
+            } else if (inRange.anyTrue()) {
+                for (int lane = 0; lane < DOUBLES.length(); lane++) {
+                    if (inRange.laneIsSet(lane)) {
+                        out[n++] = a[i + lane];
+                    }
+                }
+            }
+        }
+        for (; i < to; i++) {
+            double v = a[i];
+            if (v >= lo && v <= hi) {
+                out[n++] = v;
+            }
+        }
+        return n;
+    }
+
+    @Override
+    String name() {
+        return "vector";
+    }
+}